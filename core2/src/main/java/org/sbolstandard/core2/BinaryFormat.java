@@ -0,0 +1,89 @@
+package org.sbolstandard.core2;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Constants of the binary format written by {@link BinaryTopLevelWriter} and read by {@link BinaryTopLevelReader}.
+ *
+ * @version 2.0-beta
+ */
+final class BinaryFormat {
+
+	static final byte[] MAGIC = { 'S', 'B', 'O', 'L', 'B' };
+	static final int VERSION = 1;
+
+	static final int END = 0;
+	static final int TOP_LEVEL = 1;
+
+	static final int STRING = 1;
+	static final int TEXT = 2;
+	static final int URI = 3;
+	static final int INTEGER = 4;
+	static final int DOUBLE = 5;
+	static final int TRUE = 6;
+	static final int FALSE = 7;
+	static final int NESTED = 8;
+	static final int NUCLEOTIDES = 9;
+
+	/**
+	 * The length above which a literal is written in full every time rather than entered in the string table.
+	 */
+	static final int MAX_SHARED_STRING_LENGTH = 256;
+
+	/**
+	 * The nucleotides that are packed into two bits each, in the order of their codes.
+	 */
+	static final String NUCLEOTIDES_CODES = "acgt";
+
+	static final Charset UTF8 = Charset.forName("UTF-8");
+
+	/**
+	 * The strings the string table starts out with, so that they are always written as back-references.
+	 * New entries may only be appended, since the position of an entry is its code in the format.
+	 */
+	static final List<String> PREDEFINED_STRINGS;
+
+	static {
+		Set<String> strings = new LinkedHashSet<>();
+		strings.add(Sbol2Terms.sbol2.getNamespaceURI());
+		strings.add(Sbol2Terms.dc.getNamespaceURI());
+		strings.add(Sbol2Terms.prov.getNamespaceURI());
+		strings.add(Sbol1Terms.rdf.getNamespaceURI());
+		strings.add(Sbol2Terms.sbol2.getPrefix());
+		strings.add(Sbol2Terms.dc.getPrefix());
+		strings.add(Sbol2Terms.prov.getPrefix());
+		strings.add(Sbol1Terms.rdf.getPrefix());
+		for (URI uri : Arrays.asList(
+				AccessType.publicURI, AccessType.privateURI,
+				DirectionType.in, DirectionType.out, DirectionType.inout, DirectionType.none,
+				RefinementType.merge, RefinementType.useLocal, RefinementType.useRemote, RefinementType.verifyIdentical,
+				RestrictionType.precedes, RestrictionType.sameOrientationAs, RestrictionType.oppositeOrientationAs,
+				OrientationType.inline, OrientationType.reverseComplement,
+				Sequence.IUPAC_DNA, Sequence.IUPAC_RNA, Sequence.IUPAC_PROTEIN, Sequence.SMILES)) {
+			strings.add(uri.toString());
+		}
+		PREDEFINED_STRINGS = Collections.unmodifiableList(new ArrayList<>(strings));
+	}
+
+	private BinaryFormat() {
+	}
+
+	/**
+	 * Returns {@code true} if the given elements are made only of the nucleotides in {@link #NUCLEOTIDES_CODES}.
+	 */
+	static boolean isPackable(String elements) {
+		for (int i = 0; i < elements.length(); i++) {
+			if (NUCLEOTIDES_CODES.indexOf(elements.charAt(i)) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
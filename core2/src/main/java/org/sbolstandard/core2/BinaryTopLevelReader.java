@@ -0,0 +1,207 @@
+package org.sbolstandard.core2;
+
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperties;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperty;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamespaceBinding;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NestedDocument;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocument;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Pulls top-level documents one at a time out of the binary format written by {@link BinaryTopLevelWriter}.
+ * The string and name tables are rebuilt as the stream is read, so the stream must be read from the start.
+ *
+ * @version 2.0-beta
+ */
+final class BinaryTopLevelReader {
+
+	private final DataInputStream in;
+	private final List<String> strings = new ArrayList<>(BinaryFormat.PREDEFINED_STRINGS);
+	private final List<QName> names = new ArrayList<>();
+	private final List<NamespaceBinding> namespaceBindings = new ArrayList<>();
+	private boolean finished = false;
+
+	/**
+	 * Reads the header of the given stream.
+	 *
+	 * @param in
+	 * @throws IOException if the stream does not start with a header of a version this reader understands
+	 */
+	BinaryTopLevelReader(InputStream in) throws IOException {
+		this.in = new DataInputStream(in);
+		byte[] magic = new byte[BinaryFormat.MAGIC.length];
+		this.in.readFully(magic);
+		if (!Arrays.equals(magic, BinaryFormat.MAGIC)) {
+			throw new IOException("The input is not in the binary SBOL format.");
+		}
+		int version = this.in.readUnsignedByte();
+		if (version != BinaryFormat.VERSION) {
+			throw new IOException("Unsupported version " + version + " of the binary SBOL format.");
+		}
+		for (int i = readVarint(); i > 0; i--) {
+			String namespaceURI = readString();
+			namespaceBindings.add(NamespaceBinding(namespaceURI, readString()));
+		}
+	}
+
+	/**
+	 * @return the namespace bindings of the header
+	 */
+	List<NamespaceBinding> getNamespaceBindings() {
+		return namespaceBindings;
+	}
+
+	/**
+	 * Reads the next top-level document from the stream.
+	 *
+	 * @return the next top-level document, or {@code null} once the end marker is reached
+	 * @throws IOException
+	 */
+	TopLevelDocument<QName> read() throws IOException {
+		return read(null);
+	}
+
+	/**
+	 * Reads the next top-level document of a type read with the given options, dropping all other
+	 * top-levels and, if the options say so, the {@code elements} of Sequences. Since the tables are
+	 * built as the stream is read, dropped top-levels are still decoded.
+	 *
+	 * @param options the options selecting what to read, or {@code null} to read everything
+	 * @return the next top-level document, or {@code null} once the end marker is reached
+	 * @throws IOException
+	 */
+	TopLevelDocument<QName> read(SBOLReaderOptions options) throws IOException {
+		while (!finished) {
+			int marker = in.readUnsignedByte();
+			if (marker == BinaryFormat.END) {
+				finished = true;
+				break;
+			}
+			if (marker != BinaryFormat.TOP_LEVEL) {
+				throw new IOException("Unexpected marker " + marker + " in the binary SBOL format.");
+			}
+			QName type = readName();
+			URI identity = readIdentity();
+			QName skipped = null;
+			if (options != null && options.isSkipSequenceElements() && type.equals(Sbol2Terms.Sequence.Sequence)) {
+				skipped = Sbol2Terms.Sequence.elements;
+			}
+			List<NamedProperty<QName>> properties = readProperties(skipped);
+			if (options == null || options.isTopLevelTypeRead(type)) {
+				return TopLevelDocument(type, identity, NamedProperties(properties));
+			}
+		}
+		return null;
+	}
+
+	private URI readIdentity() throws IOException {
+		return in.readUnsignedByte() == 0 ? null : URI.create(readString());
+	}
+
+	private List<NamedProperty<QName>> readProperties(QName skipped) throws IOException {
+		int count = readVarint();
+		List<NamedProperty<QName>> properties = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			QName name = readName();
+			NamedProperty<QName> property = readProperty(name);
+			if (!name.equals(skipped)) {
+				properties.add(property);
+			}
+		}
+		return properties;
+	}
+
+	private NamedProperty<QName> readProperty(QName name) throws IOException {
+		int tag = in.readUnsignedByte();
+		switch (tag) {
+		case BinaryFormat.STRING:
+			return NamedProperty(name, readString());
+		case BinaryFormat.TEXT:
+			return NamedProperty(name, readUTF8());
+		case BinaryFormat.URI:
+			return NamedProperty(name, URI.create(readString()));
+		case BinaryFormat.INTEGER:
+			int i = readVarint();
+			return NamedProperty(name, (i >>> 1) ^ -(i & 1));
+		case BinaryFormat.DOUBLE:
+			return NamedProperty(name, in.readDouble());
+		case BinaryFormat.TRUE:
+			return NamedProperty(name, true);
+		case BinaryFormat.FALSE:
+			return NamedProperty(name, false);
+		case BinaryFormat.NESTED:
+			QName type = readName();
+			URI identity = readIdentity();
+			return NamedProperty(name, NestedDocument(type, identity, NamedProperties(readProperties(null))));
+		case BinaryFormat.NUCLEOTIDES:
+			return NamedProperty(name, readNucleotides());
+		default:
+			throw new IOException("Unknown value tag " + tag + " for " + name + " in the binary SBOL format.");
+		}
+	}
+
+	private QName readName() throws IOException {
+		int index = readVarint();
+		if (index > 0) {
+			return names.get(index - 1);
+		}
+		String namespaceURI = readString();
+		String localPart = readString();
+		QName name = new QName(namespaceURI, localPart, readString());
+		names.add(name);
+		return name;
+	}
+
+	private String readString() throws IOException {
+		int index = readVarint();
+		if (index > 0) {
+			return strings.get(index - 1);
+		}
+		String string = readUTF8();
+		strings.add(string);
+		return string;
+	}
+
+	private String readUTF8() throws IOException {
+		byte[] bytes = new byte[readVarint()];
+		in.readFully(bytes);
+		return new String(bytes, BinaryFormat.UTF8);
+	}
+
+	private String readNucleotides() throws IOException {
+		int length = readVarint();
+		char[] elements = new char[length];
+		for (int i = 0; i < length; i += 4) {
+			int packed = in.readUnsignedByte();
+			for (int j = Math.min(length - i, 4) - 1; j >= 0; j--) {
+				elements[i + j] = BinaryFormat.NUCLEOTIDES_CODES.charAt((packed >> (2 * (3 - j))) & 3);
+			}
+		}
+		return new String(elements);
+	}
+
+	private int readVarint() throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable-length number in the binary SBOL format.");
+	}
+}
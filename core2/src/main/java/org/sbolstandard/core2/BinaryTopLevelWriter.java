@@ -0,0 +1,192 @@
+package org.sbolstandard.core2;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import uk.ac.ncl.intbio.core.datatree.IdentifiableDocument;
+import uk.ac.ncl.intbio.core.datatree.Literal;
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
+import uk.ac.ncl.intbio.core.datatree.NestedDocument;
+import uk.ac.ncl.intbio.core.datatree.PropertyValue;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Writes top-level documents one at a time in the binary format read by {@link BinaryTopLevelReader}.
+ * <p>
+ * The stream starts with {@link BinaryFormat#MAGIC} and the namespace bindings, followed by one record per
+ * top-level and an end marker. Every string and qualified name is written in full the first time it
+ * occurs and as a back-reference into a table afterwards; the table starts out holding the namespaces
+ * of SBOL and the URIs of the SBOL enumerations, so those are never written in full. Integers are
+ * written as variable-length numbers, and Sequence elements made only of {@code a}, {@code c},
+ * {@code g} and {@code t} are packed four nucleotides to a byte.
+ *
+ * @version 2.0-beta
+ */
+final class BinaryTopLevelWriter {
+
+	private final DataOutputStream out;
+	private final Map<String, Integer> strings = new HashMap<>();
+	private final Map<QName, Integer> names = new HashMap<>();
+
+	/**
+	 * @param out
+	 */
+	BinaryTopLevelWriter(OutputStream out) {
+		this.out = new DataOutputStream(out);
+		for (String string : BinaryFormat.PREDEFINED_STRINGS) {
+			strings.put(string, strings.size());
+		}
+	}
+
+	/**
+	 * Writes the header holding the given namespace bindings.
+	 *
+	 * @param namespaceBindings
+	 * @throws IOException
+	 */
+	void writeStart(List<NamespaceBinding> namespaceBindings) throws IOException {
+		out.write(BinaryFormat.MAGIC);
+		out.writeByte(BinaryFormat.VERSION);
+		writeVarint(namespaceBindings.size());
+		for (NamespaceBinding binding : namespaceBindings) {
+			writeString(binding.getNamespaceURI());
+			writeString(binding.getPrefix());
+		}
+	}
+
+	/**
+	 * Writes the given top-level document.
+	 *
+	 * @param topLevel
+	 * @throws IOException
+	 */
+	void write(TopLevelDocument<QName> topLevel) throws IOException {
+		out.writeByte(BinaryFormat.TOP_LEVEL);
+		writeDocument(topLevel);
+	}
+
+	/**
+	 * Writes the end marker and flushes the stream, without closing the underlying output.
+	 *
+	 * @throws IOException
+	 */
+	void writeEnd() throws IOException {
+		out.writeByte(BinaryFormat.END);
+		out.flush();
+	}
+
+	private void writeDocument(IdentifiableDocument<QName> document) throws IOException {
+		writeName(document.getType());
+		if (document.getIdentity() == null) {
+			out.writeByte(0);
+		}
+		else {
+			out.writeByte(1);
+			writeString(document.getIdentity().toString());
+		}
+		List<NamedProperty<QName>> properties = document.getProperties();
+		writeVarint(properties.size());
+		for (NamedProperty<QName> property : properties) {
+			writeName(property.getName());
+			writeValue(property.getName(), property.getValue());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void writeValue(QName name, PropertyValue<QName> value) throws IOException {
+		if (value instanceof NestedDocument) {
+			out.writeByte(BinaryFormat.NESTED);
+			writeDocument((NestedDocument<QName>) value);
+			return;
+		}
+		Object literal = ((Literal<QName>) value).getValue();
+		if (literal instanceof URI) {
+			out.writeByte(BinaryFormat.URI);
+			writeString(literal.toString());
+		}
+		else if (literal instanceof Integer) {
+			out.writeByte(BinaryFormat.INTEGER);
+			int i = (Integer) literal;
+			writeVarint((i << 1) ^ (i >> 31));
+		}
+		else if (literal instanceof Double) {
+			out.writeByte(BinaryFormat.DOUBLE);
+			out.writeDouble((Double) literal);
+		}
+		else if (literal instanceof Boolean) {
+			out.writeByte((Boolean) literal ? BinaryFormat.TRUE : BinaryFormat.FALSE);
+		}
+		else if (name.equals(Sbol2Terms.Sequence.elements) && BinaryFormat.isPackable(literal.toString())) {
+			out.writeByte(BinaryFormat.NUCLEOTIDES);
+			writeNucleotides(literal.toString());
+		}
+		else if (literal.toString().length() > BinaryFormat.MAX_SHARED_STRING_LENGTH) {
+			out.writeByte(BinaryFormat.TEXT);
+			writeUTF8(literal.toString());
+		}
+		else {
+			out.writeByte(BinaryFormat.STRING);
+			writeString(literal.toString());
+		}
+	}
+
+	private void writeName(QName name) throws IOException {
+		Integer index = names.get(name);
+		if (index != null) {
+			writeVarint(index + 1);
+			return;
+		}
+		names.put(name, names.size());
+		writeVarint(0);
+		writeString(name.getNamespaceURI());
+		writeString(name.getLocalPart());
+		writeString(name.getPrefix());
+	}
+
+	private void writeString(String string) throws IOException {
+		Integer index = strings.get(string);
+		if (index != null) {
+			writeVarint(index + 1);
+			return;
+		}
+		strings.put(string, strings.size());
+		writeVarint(0);
+		writeUTF8(string);
+	}
+
+	private void writeUTF8(String string) throws IOException {
+		byte[] bytes = string.getBytes(BinaryFormat.UTF8);
+		writeVarint(bytes.length);
+		out.write(bytes);
+	}
+
+	private void writeNucleotides(String elements) throws IOException {
+		writeVarint(elements.length());
+		for (int i = 0; i < elements.length(); i += 4) {
+			int packed = 0;
+			for (int j = i; j < i + 4; j++) {
+				packed <<= 2;
+				if (j < elements.length()) {
+					packed |= BinaryFormat.NUCLEOTIDES_CODES.indexOf(elements.charAt(j));
+				}
+			}
+			out.writeByte(packed);
+		}
+	}
+
+	private void writeVarint(int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+}
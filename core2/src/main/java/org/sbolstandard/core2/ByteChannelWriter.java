@@ -0,0 +1,166 @@
+package org.sbolstandard.core2;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A Writer that encodes characters in a given charset straight into a direct buffer and hands the buffer
+ * to a channel whenever it fills up, so that each character is copied once on its way to the channel.
+ * <p>
+ * A writer borrows the direct buffer of the thread that creates it and hands it back when it is closed,
+ * so writers created one after the other on a thread share one buffer, while a writer created on a
+ * thread whose buffer is in use allocates its own. A writer must therefore be closed on the thread that
+ * created it. Closing the writer ends the encoding and flushes it but leaves the channel open.
+ *
+ * @version 2.0-beta
+ */
+final class ByteChannelWriter extends Writer {
+
+	/**
+	 * The size in bytes of the buffer handed to the channel in one write.
+	 */
+	private static final int BUFFER_SIZE = 256 * 1024;
+
+	/**
+	 * The direct buffer of each thread that is not borrowed by an open writer.
+	 */
+	private static final ThreadLocal<ByteBuffer> BUFFERS = new ThreadLocal<>();
+
+	private final WritableByteChannel channel;
+	private final CharsetEncoder encoder;
+	private final ByteBuffer bytes;
+	private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE / 4);
+	private boolean closed = false;
+
+	/**
+	 * @param channel
+	 * @param charset
+	 */
+	ByteChannelWriter(WritableByteChannel channel, Charset charset) {
+		this.channel = channel;
+		this.encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		ByteBuffer buffer = BUFFERS.get();
+		if (buffer == null) {
+			buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		}
+		else {
+			BUFFERS.set(null);
+			buffer.clear();
+		}
+		this.bytes = buffer;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		ensureOpen();
+		if (!chars.hasRemaining()) {
+			encode(false);
+		}
+		chars.put((char) c);
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		ensureOpen();
+		while (len > 0) {
+			if (!chars.hasRemaining()) {
+				encode(false);
+			}
+			int n = Math.min(len, chars.remaining());
+			chars.put(cbuf, off, n);
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		ensureOpen();
+		while (len > 0) {
+			if (!chars.hasRemaining()) {
+				encode(false);
+			}
+			int n = Math.min(len, chars.remaining());
+			chars.put(str, off, off + n);
+			off += n;
+			len -= n;
+		}
+	}
+
+	/**
+	 * Encodes all buffered characters and writes all encoded bytes to the channel.
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		encode(false);
+		drain();
+	}
+
+	/**
+	 * Encodes the remaining characters, replacing a high surrogate that is still waiting for its low
+	 * surrogate, writes all encoded bytes to the channel and hands the buffer back to the thread,
+	 * without closing the channel.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			encode(true);
+			while (encoder.flush(bytes).isOverflow()) {
+				drain();
+			}
+			drain();
+		}
+		finally {
+			if (BUFFERS.get() == null) {
+				BUFFERS.set(bytes);
+			}
+		}
+	}
+
+	/**
+	 * Encodes the buffered characters into the byte buffer, draining it into the channel whenever it
+	 * fills up. Unless this is the end of the input, a high surrogate at the end of the characters is
+	 * kept until its low surrogate arrives.
+	 */
+	private void encode(boolean endOfInput) throws IOException {
+		chars.flip();
+		while (true) {
+			CoderResult result = encoder.encode(chars, bytes, endOfInput);
+			if (result.isOverflow()) {
+				drain();
+			}
+			else {
+				break;
+			}
+		}
+		chars.compact();
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("The writer is closed.");
+		}
+	}
+
+	private void drain() throws IOException {
+		bytes.flip();
+		while (bytes.hasRemaining()) {
+			channel.write(bytes);
+		}
+		bytes.clear();
+	}
+}
@@ -1,6 +1,7 @@
 package org.sbolstandard.core2;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -29,7 +30,7 @@ public class Collection extends TopLevel{
 		super(collection.getIdentity());
 		this.members = new HashSet<>();
 		Set<URI> newMembers = new HashSet<>();
-		for (URI member : collection.getMemberURIs()) {
+		for (URI member : collection.getMemberURIsView()) {
 			newMembers.add(member);
 		}	
 		this.setMembers(newMembers);
@@ -57,13 +58,17 @@ public class Collection extends TopLevel{
 	 *             specifies all URIs and the given {@code memberURI} is not found in them.
 	 */
 	public boolean addMember(URI memberURI) {
-		if (sbolDocument != null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (sbolDocument != null && sbolDocument.isComplete()) {
 			if (sbolDocument.getTopLevel(memberURI)==null) {
 				throw new IllegalArgumentException("Top level '" + memberURI + "' does not exist.");
 			}
 		}
-		return members.add(memberURI);
+		if (!members.add(memberURI)) {
+			return false;
+		}
+		if (sbolDocument != null) sbolDocument.getReferenceIndex().replace(this, null, memberURI);
+		return true;
 	}
 
 	/**
@@ -80,8 +85,12 @@ public class Collection extends TopLevel{
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */	
 	public boolean removeMember(URI memberURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
-		return members.remove(memberURI);
+		checkReadOnly();
+		if (!members.remove(memberURI)) {
+			return false;
+		}
+		if (sbolDocument != null) sbolDocument.getReferenceIndex().replace(this, memberURI, null);
+		return true;
 	}
 	
 	/**
@@ -97,7 +106,7 @@ public class Collection extends TopLevel{
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void setMembers(Set<URI> members) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		clearMembers();
 		for (URI member : members) {
 			addMember(member);
@@ -114,6 +123,16 @@ public class Collection extends TopLevel{
 		result.addAll(members);
 		return result;
 	}
+
+	/**
+	 * Returns a read-only view of the set of member URIs referenced by this Collection object. Unlike
+	 * {@link #getMemberURIs()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of member URIs referenced by this Collection object.
+	 */
+	public Set<URI> getMemberURIsView() {
+		return Collections.unmodifiableSet(members);
+	}
 		
 	/**
 	 * Returns the set of Member instances referenced by this Collection object.
@@ -151,7 +170,12 @@ public class Collection extends TopLevel{
 	 * @throws SBOLException if the associated SBOLDocument is not compliant 
 	 */
 	public void clearMembers() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
+		if (sbolDocument != null) {
+			for (URI member : members) {
+				sbolDocument.getReferenceIndex().replace(this, member, null);
+			}
+		}
 		members.clear();
 	}
 
@@ -186,6 +210,16 @@ public class Collection extends TopLevel{
 		return true;
 	}
 
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, members);
+		}
+		else {
+			index.remove(this, members);
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.sbolstandard.core2.abstract_classes.TopLevel#deepCopy()
 	 */
@@ -32,9 +32,9 @@ public class Component extends ComponentInstance{
 	protected Component(Component component) {
 		super(component);
 		this.mapsTos = new HashMap<>();
-		if (!component.getMapsTos().isEmpty()) {
+		if (!component.getMapsTosView().isEmpty()) {
 			List<MapsTo> mapsTos = new ArrayList<>();
-			for (MapsTo mapsTo : component.getMapsTos()) {
+			for (MapsTo mapsTo : component.getMapsTosView()) {
 				mapsTos.add(mapsTo.deepCopy());
 			}
 			this.setMapsTo(mapsTos);
@@ -98,7 +98,7 @@ public class Component extends ComponentInstance{
 	 * @return a MapsTo instance
 	 */
 	public MapsTo createMapsTo(String displayId, RefinementType refinement, URI local, URI remote) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String parentPersistentIdStr = extractPersistentId(this.getIdentity());
 		String version = this.getVersion();
 		MapsTo m = createMapsTo(createCompliantURI(parentPersistentIdStr, displayId, version),
@@ -147,7 +147,7 @@ public class Component extends ComponentInstance{
 	 *
 	 */
 	public boolean removeMapsTo(MapsTo mapsTo) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return removeChildSafely(mapsTo,mapsTos);
 	}
 
@@ -180,6 +180,16 @@ public class Component extends ComponentInstance{
 		return new HashSet<>(mapsTos.values());
 	}
 
+	/**
+	 * Returns a read-only view of the set of MapsTo instances owned by this object. Unlike
+	 * {@link #getMapsTos()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of MapsTo instances owned by this object.
+	 */
+	public Set<MapsTo> getMapsTosView() {
+		return new IdentifiedSetView<>(mapsTos);
+	}
+
 	/**
 	 * Removes all entries of this object's list of
 	 * MapsTo objects. The list will be empty after this call returns.
@@ -191,7 +201,7 @@ public class Component extends ComponentInstance{
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearMapsTos() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = mapsTos.values().toArray();
 		for (Object mapsTo : valueSetArray) {
 			removeMapsTo((MapsTo)mapsTo);
@@ -214,5 +224,24 @@ public class Component extends ComponentInstance{
 
 	void setComponentDefinition(ComponentDefinition componentDefinition) {
 		this.componentDefinition = componentDefinition;
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.setComponentDefinition(componentDefinition);
+		}
+	}
+
+	@Override
+	protected void setSBOLDocument(SBOLDocument sbolDocument) {
+		super.setSBOLDocument(sbolDocument);
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.setSBOLDocument(sbolDocument);
+		}
+	}
+
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		super.indexReferences(index, add);
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.indexReferences(index, add);
+		}
 	}
 }
@@ -5,6 +5,7 @@ import static org.sbolstandard.core2.URIcompliance.isURIcompliant;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -87,22 +88,22 @@ public class ComponentDefinition extends TopLevel {
 		this.components = new HashMap<>();
 		this.sequenceAnnotations = new HashMap<>();
 		this.sequenceConstraints = new HashMap<>();
-		for (URI type : componentDefinition.getTypes()) {
+		for (URI type : componentDefinition.getTypesView()) {
 			this.addType(URI.create(type.toString()));
 		}
-		for (URI role : componentDefinition.getRoles()) {
+		for (URI role : componentDefinition.getRolesView()) {
 			this.addRole(URI.create(role.toString()));
 		}
-		for (Component subComponent : componentDefinition.getComponents()) {
+		for (Component subComponent : componentDefinition.getComponentsView()) {
 			this.addComponent(subComponent.deepCopy());
 		}
-		for (SequenceConstraint sequenceConstraint : componentDefinition.getSequenceConstraints()) {
+		for (SequenceConstraint sequenceConstraint : componentDefinition.getSequenceConstraintsView()) {
 			this.addSequenceConstraint(sequenceConstraint.deepCopy());
 		}
-		for (SequenceAnnotation sequenceAnnotation : componentDefinition.getSequenceAnnotations()) {
+		for (SequenceAnnotation sequenceAnnotation : componentDefinition.getSequenceAnnotationsView()) {
 			this.addSequenceAnnotation(sequenceAnnotation.deepCopy());
 		}
-		this.setSequences(componentDefinition.getSequenceURIs());
+		this.setSequences(componentDefinition.getSequenceURIsView());
 	}
 
 	/**
@@ -117,7 +118,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public boolean addType(URI typeURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return types.add(typeURI);
 	}
 
@@ -133,7 +134,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeType(URI typeURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (types.size()==1 && types.contains(typeURI)) {
 			throw new IllegalArgumentException("Component definition " + this.getIdentity() + " must have at least one type.");
 		}
@@ -153,7 +154,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws IllegalArgumentException if {@code types} is {@code null} or its size is 0
 	 */
 	public void setTypes(Set<URI> types) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (types==null || types.size()==0) {
 			throw new IllegalArgumentException("Component definition " + this.getIdentity() + " must have at least one type.");
 		}
@@ -174,6 +175,16 @@ public class ComponentDefinition extends TopLevel {
 		return result;
 	}
 
+	/**
+	 * Returns a read-only view of the set of type URIs referenced by this ComponentDefinition object. Unlike
+	 * {@link #getTypes()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of type URIs referenced by this ComponentDefinition object.
+	 */
+	public Set<URI> getTypesView() {
+		return Collections.unmodifiableSet(types);
+	}
+
 	/**
 	 * Checks if the given type URI is included in this ComponentDefinition
 	 * object's set of reference type URIs.
@@ -205,7 +216,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public boolean addRole(URI roleURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return roles.add(roleURI);
 	}
 	
@@ -221,7 +232,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeRole(URI roleURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return roles.remove(roleURI);
 	}
 
@@ -237,7 +248,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void setRoles(Set<URI> roles) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		clearRoles();
 		if (roles==null) return;
 		for (URI role : roles) {
@@ -256,6 +267,16 @@ public class ComponentDefinition extends TopLevel {
 		return result;
 	}
 
+	/**
+	 * Returns a read-only view of the set of role URIs referenced by this ComponentDefinition object. Unlike
+	 * {@link #getRoles()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of role URIs referenced by this ComponentDefinition object.
+	 */
+	public Set<URI> getRolesView() {
+		return Collections.unmodifiableSet(roles);
+	}
+
 	/**
 	 * Checks if the given role URI is included in this ComponentDefinition
 	 * object's set of reference role URIs.
@@ -278,7 +299,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearRoles() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		roles.clear();
 	}
 	
@@ -304,7 +325,7 @@ public class ComponentDefinition extends TopLevel {
 	 *             	 and the given Sequence instance's URI is not found in them.
 	 */
 	public boolean addSequence(Sequence sequence) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (sbolDocument != null && sbolDocument.isComplete()) {
 			if (sbolDocument.getSequence(sequence.getIdentity())==null) {
 				throw new IllegalArgumentException("Sequence '" + sequence.getIdentity() + "' does not exist.");
@@ -321,7 +342,12 @@ public class ComponentDefinition extends TopLevel {
 	 * @return {@code true} if this set did not already contain the given Sequence instance URI.
 	 */
 	public boolean addSequence(URI sequenceURI) {
-		return sequences.add(sequenceURI);
+		if (!sequences.add(sequenceURI)) {
+			return false;
+		}
+		markChanged();
+		if (sbolDocument != null) sbolDocument.getReferenceIndex().replace(this, null, sequenceURI);
+		return true;
 	}
 	
 	/**
@@ -342,19 +368,34 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public boolean addSequence(String sequence,String version) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI sequenceURI = URIcompliance.createCompliantURI(sbolDocument.getDefaultURIprefix(),
 				TopLevel.SEQUENCE, sequence, version, sbolDocument.isTypesInURIs());
 		return addSequence(sequenceURI);
 	}
 	
 	/**
-	 * Returns the set of Sequence URIs referenced by this ComponentDefinition's object.
+	 * Returns a copy of the set of Sequence URIs referenced by this ComponentDefinition's object.
+	 * Changes to the returned set do not change this object; use {@link #addSequence(URI)} and
+	 * {@link #removeSequence(URI)} instead.
 	 * 
-	 * @return the set of Sequence URIs referenced by this ComponentDefinition's object.
+	 * @return a copy of the set of Sequence URIs referenced by this ComponentDefinition's object.
 	 */
 	public Set<URI> getSequenceURIs() {
-		return sequences;
+		Set<URI> result = new HashSet<>();
+		result.addAll(sequences);
+		return result;
+	}
+
+	/**
+	 * Returns a read-only view of the set of Sequence URIs referenced by this ComponentDefinition object. Unlike
+	 * {@link #getSequenceURIs()}, which returns a copy, this method does not copy the set, and later changes
+	 * are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Sequence URIs referenced by this ComponentDefinition object.
+	 */
+	public Set<URI> getSequenceURIsView() {
+		return Collections.unmodifiableSet(sequences);
 	}
 	
 	/**
@@ -387,7 +428,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void setSequences(Set<URI> sequences) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		clearSequences();
 		if (sequences==null) return;
 		for (URI sequence : sequences) {
@@ -409,8 +450,12 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeSequence(URI sequenceURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
-		return sequences.remove(sequenceURI);
+		checkReadOnly();
+		if (!sequences.remove(sequenceURI)) {
+			return false;
+		}
+		if (sbolDocument != null) sbolDocument.getReferenceIndex().replace(this, sequenceURI, null);
+		return true;
 	}
 	
 	/**
@@ -424,7 +469,12 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearSequences() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
+		if (sbolDocument != null) {
+			for (URI sequenceURI : sequences) {
+				sbolDocument.getReferenceIndex().replace(this, sequenceURI, null);
+			}
+		}
 		sequences.clear();
 	}
 
@@ -486,7 +536,7 @@ public class ComponentDefinition extends TopLevel {
 	 * in this ComponentDefinition object's URI.
 	 */
 	SequenceAnnotation createSequenceAnnotation(String displayId, Location location) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String URIprefix = this.getPersistentIdentity().toString();
 		String version = this.getVersion();
 		URI newSequenceAnnotationURI = createCompliantURI(URIprefix, displayId, version);
@@ -522,7 +572,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws IllegalArgumentException if the created SequenceAnnotation URI is not compliant in this ComponentDefinition object's URI.
 	 */
 	public SequenceAnnotation createSequenceAnnotation(String displayId, String locationId) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return createSequenceAnnotation(displayId,locationId,(OrientationType)null);
 	}
 
@@ -552,7 +602,7 @@ public class ComponentDefinition extends TopLevel {
      * @throws IllegalArgumentException if the created SequenceAnnotation URI is not compliant in this ComponentDefinition object's URI. 
 	 */
 	public SequenceAnnotation createSequenceAnnotation(String displayId,String locationId,OrientationType orientation) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String URIprefix = this.getPersistentIdentity().toString()+"/"+displayId;
 		String version = this.getVersion();
 		GenericLocation location = new GenericLocation(createCompliantURI(URIprefix,locationId,version));
@@ -583,7 +633,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws IllegalArgumentException if the created SequenceAnnotation URI is not compliant in this ComponentDefinition object's URI.
 	 */
 	public SequenceAnnotation createSequenceAnnotation(String displayId, String locationId, int at) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return createSequenceAnnotation(displayId,locationId,at,null);
 	}
 
@@ -615,7 +665,7 @@ public class ComponentDefinition extends TopLevel {
 	 * in this ComponentDefinition object's URI.
 	 */
 	public SequenceAnnotation createSequenceAnnotation(String displayId,String locationId,int at,OrientationType orientation) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String URIprefix = this.getPersistentIdentity().toString()+"/"+displayId;
 		String version = this.getVersion();
 		Cut location = new Cut(createCompliantURI(URIprefix,locationId,version),at);
@@ -648,7 +698,7 @@ public class ComponentDefinition extends TopLevel {
 	 * in this ComponentDefinition object's URI.
 	 */	
 	public SequenceAnnotation createSequenceAnnotation(String displayId, String locationId, int start, int end) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return createSequenceAnnotation(displayId,locationId,start,end,null);
 	}
 	
@@ -680,7 +730,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws IllegalArgumentException if the created SequenceAnnotation URI is not compliant in this ComponentDefinition object's URI.
 	 */
 	public SequenceAnnotation createSequenceAnnotation(String displayId, String locationId, int start, int end,OrientationType orientation) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String URIprefix = this.getPersistentIdentity().toString()+"/"+displayId;
 		String version = this.getVersion();
 		Location location = new Range(createCompliantURI(URIprefix,locationId,version),start,end);
@@ -714,7 +764,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeSequenceAnnotation(SequenceAnnotation sequenceAnnotation) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return removeChildSafely(sequenceAnnotation, sequenceAnnotations);
 	}
 
@@ -755,6 +805,16 @@ public class ComponentDefinition extends TopLevel {
 		return sequenceAnnotations;
 	}
 
+	/**
+	 * Returns a read-only view of the set of SequenceAnnotation instances owned by this ComponentDefinition object. Unlike
+	 * {@link #getSequenceAnnotations()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of SequenceAnnotation instances owned by this ComponentDefinition object.
+	 */
+	public Set<SequenceAnnotation> getSequenceAnnotationsView() {
+		return new IdentifiedSetView<>(sequenceAnnotations);
+	}
+
 	/**
 	 * Removes all entries of this ComponentDefinition object's list of SequenceAnnotation objects.
 	 * The list will be empty after this call returns.
@@ -769,7 +829,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearSequenceAnnotations() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = sequenceAnnotations.values().toArray();
 		for (Object sequenceAnnotation : valueSetArray) {
 			removeSequenceAnnotation((SequenceAnnotation)sequenceAnnotation);
@@ -838,7 +898,7 @@ public class ComponentDefinition extends TopLevel {
 	 */
 	public Component createComponent(String displayId, AccessType access, 
 			String componentDefinition, String version) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI componentDefinitionURI = URIcompliance.createCompliantURI(sbolDocument.getDefaultURIprefix(),
 				TopLevel.COMPONENT_DEFINITION, componentDefinition, version, sbolDocument.isTypesInURIs());
 		return createComponent(displayId,access,componentDefinitionURI);
@@ -871,7 +931,7 @@ public class ComponentDefinition extends TopLevel {
 	 *         specifies all URIs and the given {@code componentDefinitionURI} is not found in them.
 	 */
 	public Component createComponent(String displayId, AccessType access, URI componentDefinitionURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (sbolDocument != null && sbolDocument.isComplete()) {
 			if (sbolDocument.getComponentDefinition(componentDefinitionURI)==null) {
 				throw new IllegalArgumentException("Component definition '" + componentDefinitionURI + "' does not exist.");
@@ -916,7 +976,16 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException the given Component instance is referenced.
 	 */
 	public boolean removeComponent(Component component) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
+		if (sbolDocument!=null) {
+			for (Identified referrer : sbolDocument.getReferenceIndex().get(component.getIdentity())) {
+				if (isUseOfComponent(referrer, component.getIdentity())) {
+					throw new SBOLException("Cannot remove " + component.getIdentity() +
+							" since it is in use.");
+				}
+			}
+			return removeChildSafely(component, components);
+		}
 		for (SequenceAnnotation sa : sequenceAnnotations.values()) {
 			if (sa.getComponentURI().equals(component.getIdentity())) {
 				throw new SBOLException("Cannot remove " + component.getIdentity() +
@@ -934,26 +1003,37 @@ public class ComponentDefinition extends TopLevel {
 			}
 		}
 		for (Component c : components.values()) {
-			for (MapsTo mt : c.getMapsTos()) {
+			for (MapsTo mt : c.getMapsTosView()) {
 				if (mt.getLocalURI().equals(component.getIdentity())) {
 					throw new SBOLException("Cannot remove " + component.getIdentity() +
 							" since it is in use.");
 				}
 			}
 		}
-		if (sbolDocument!=null) {
-			for (ComponentDefinition cd : sbolDocument.getComponentDefinitions()) {
-				for (Component c : cd.getComponents()) {
-					for (MapsTo mt : c.getMapsTos()) {
-						if (mt.getRemoteURI().equals(component.getIdentity())) {
-							throw new SBOLException("Cannot remove " + component.getIdentity() +
-									" since it is in use.");
-						}
-					}
-				}
+		return removeChildSafely(component, components);
+	}
+
+	/**
+	 * Checks if the given object, which refers to the given Component URI, is a SequenceAnnotation,
+	 * SequenceConstraint, or local MapsTo instance of this ComponentDefinition object, or a remote
+	 * MapsTo instance of any Component instance in the associated SBOLDocument instance.
+	 */
+	private boolean isUseOfComponent(Identified referrer, URI componentURI) {
+		if (referrer instanceof SequenceAnnotation) {
+			return ((SequenceAnnotation) referrer).getComponentDefinition() == this;
+		}
+		if (referrer instanceof SequenceConstraint) {
+			return ((SequenceConstraint) referrer).getComponentDefinition() == this;
+		}
+		if (referrer instanceof MapsTo) {
+			MapsTo mapsTo = (MapsTo) referrer;
+			if (!(mapsTo.getComponentInstance() instanceof Component)) {
+				return false;
 			}
+			return (componentURI.equals(mapsTo.getLocalURI()) && mapsTo.getComponentDefinition() == this)
+					|| componentURI.equals(mapsTo.getRemoteURI());
 		}
-		return removeChildSafely(component, components);
+		return false;
 	}
 
 	/**
@@ -991,6 +1071,16 @@ public class ComponentDefinition extends TopLevel {
 		return structuralInstantiations;
 	}
 
+	/**
+	 * Returns a read-only view of the set of Component instances owned by this ComponentDefinition object. Unlike
+	 * {@link #getComponents()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Component instances owned by this ComponentDefinition object.
+	 */
+	public Set<Component> getComponentsView() {
+		return new IdentifiedSetView<>(components);
+	}
+
 	/**
 	 * Removes all entries of this ComponentDefinition object's list of Components objects.
 	 * The list will be empty after this call returns.
@@ -1005,7 +1095,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearComponents() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = components.values().toArray();
 		for (Object component : valueSetArray) {
 			removeComponent((Component)component);
@@ -1068,7 +1158,7 @@ public class ComponentDefinition extends TopLevel {
 	 */
 	public SequenceConstraint createSequenceConstraint(String displayId,
 			RestrictionType restriction, String subject, String object) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI subjectURI = URIcompliance.createCompliantURI(this.getPersistentIdentity().toString(),
 				subject, this.getVersion());
 		URI objectURI = URIcompliance.createCompliantURI(this.getPersistentIdentity().toString(),
@@ -1094,7 +1184,7 @@ public class ComponentDefinition extends TopLevel {
 	 */
 	public SequenceConstraint createSequenceConstraint(String displayId,
 			RestrictionType restriction, URI subject, URI object) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String URIprefix = this.getPersistentIdentity().toString();
 		String version = this.getVersion();
 		SequenceConstraint sc = createSequenceConstraint(createCompliantURI(URIprefix, displayId, version),
@@ -1138,7 +1228,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeSequenceConstraint(SequenceConstraint sequenceConstraint) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return removeChildSafely(sequenceConstraint,sequenceConstraints);
 	}
 
@@ -1178,6 +1268,16 @@ public class ComponentDefinition extends TopLevel {
 		return sequenceConstraints;
 	}
 
+	/**
+	 * Returns a read-only view of the set of SequenceConstraint instances owned by this ComponentDefinition object. Unlike
+	 * {@link #getSequenceConstraints()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of SequenceConstraint instances owned by this ComponentDefinition object.
+	 */
+	public Set<SequenceConstraint> getSequenceConstraintsView() {
+		return new IdentifiedSetView<>(sequenceConstraints);
+	}
+
 	/**
 	 * Removes all entries of this ComponentDefinition object's list of SequenceConstraints objects.
 	 * The list will be empty after this call returns.
@@ -1192,7 +1292,7 @@ public class ComponentDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearSequenceConstraints() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = sequenceConstraints.values().toArray();
 		for (Object sequenceConstraint : valueSetArray) {
 			removeSequenceConstraint((SequenceConstraint)sequenceConstraint);
@@ -1220,8 +1320,8 @@ public class ComponentDefinition extends TopLevel {
 			return false;
 		}
 		boolean allDescendantsCompliant = true;
-		if (!this.getSequenceConstraints().isEmpty()) {
-			for (SequenceConstraint sequenceConstraint : this.getSequenceConstraints()) {
+		if (!this.getSequenceConstraintsView().isEmpty()) {
+			for (SequenceConstraint sequenceConstraint : this.getSequenceConstraintsView()) {
 				allDescendantsCompliant = allDescendantsCompliant
 						&& isChildURIcompliant(this.getIdentity(), sequenceConstraint.getIdentity());
 				// SequenceConstraint does not have any child classes. No need to check further.
@@ -1230,16 +1330,16 @@ public class ComponentDefinition extends TopLevel {
 				}
 			}
 		}
-		if (!this.getComponents().isEmpty()) {
-			for (Component component : this.getComponents()) {
+		if (!this.getComponentsView().isEmpty()) {
+			for (Component component : this.getComponentsView()) {
 				allDescendantsCompliant = allDescendantsCompliant
 						&& isChildURIcompliant(this.getIdentity(), component.getIdentity());
 				if (!allDescendantsCompliant) { // Current component has non-compliant URI.
 					return allDescendantsCompliant;
 				}
-				if (!component.getMapsTos().isEmpty()) {
+				if (!component.getMapsTosView().isEmpty()) {
 					// Check compliance of Component's children
-					for (MapsTo mapsTo : component.getMapsTos()) {
+					for (MapsTo mapsTo : component.getMapsTosView()) {
 						allDescendantsCompliant = allDescendantsCompliant
 								&& isChildURIcompliant(component.getIdentity(), mapsTo.getIdentity());
 						if (!allDescendantsCompliant) { // Current mapsTo has non-compliant URI.
@@ -1249,14 +1349,14 @@ public class ComponentDefinition extends TopLevel {
 				}
 			}
 		}
-		if (!this.getSequenceAnnotations().isEmpty()) {
-			for (SequenceAnnotation sequenceAnnotation : this.getSequenceAnnotations()) {
+		if (!this.getSequenceAnnotationsView().isEmpty()) {
+			for (SequenceAnnotation sequenceAnnotation : this.getSequenceAnnotationsView()) {
 				allDescendantsCompliant = allDescendantsCompliant
 						&& isChildURIcompliant(this.getIdentity(), sequenceAnnotation.getIdentity());
 				if (!allDescendantsCompliant) { // Current sequence annotation has non-compliant URI.
 					return allDescendantsCompliant;
 				}
-				Set<Location> locations = sequenceAnnotation.getLocations();
+				Set<Location> locations = sequenceAnnotation.getLocationsView();
 				for (Location location : locations) {
 					if (location instanceof Range) {
 						allDescendantsCompliant = allDescendantsCompliant
@@ -1365,6 +1465,39 @@ public class ComponentDefinition extends TopLevel {
 	//		}
 	//	}
 
+	@Override
+	protected void setSBOLDocument(SBOLDocument sbolDocument) {
+		super.setSBOLDocument(sbolDocument);
+		for (Component component : components.values()) {
+			component.setSBOLDocument(sbolDocument);
+		}
+		for (SequenceAnnotation sequenceAnnotation : sequenceAnnotations.values()) {
+			sequenceAnnotation.setSBOLDocument(sbolDocument);
+		}
+		for (SequenceConstraint sequenceConstraint : sequenceConstraints.values()) {
+			sequenceConstraint.setSBOLDocument(sbolDocument);
+		}
+	}
+
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, sequences);
+		}
+		else {
+			index.remove(this, sequences);
+		}
+		for (Component component : components.values()) {
+			component.indexReferences(index, add);
+		}
+		for (SequenceAnnotation sequenceAnnotation : sequenceAnnotations.values()) {
+			sequenceAnnotation.indexReferences(index, add);
+		}
+		for (SequenceConstraint sequenceConstraint : sequenceConstraints.values()) {
+			sequenceConstraint.indexReferences(index, add);
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -1,6 +1,7 @@
 package org.sbolstandard.core2;
 
 import java.net.URI;
+import java.util.Collections;
 
 /**
  * @author Zhen Zhang
@@ -49,7 +50,7 @@ public abstract class ComponentInstance extends Identified {
 	 * @throws IllegalArgumentException if the given {@code access} argument is {@code null}
 	 */
 	public void setAccess(AccessType access) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (access==null) {
 			throw new IllegalArgumentException("Not a valid access type.");
 		}
@@ -91,7 +92,7 @@ public abstract class ComponentInstance extends Identified {
 	 *             
 	 */
 	public void setDefinition(URI definition) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (definition==null) {
 			throw new IllegalArgumentException("Component "+this.getIdentity()+" must have a definition.");
 		}
@@ -100,9 +101,20 @@ public abstract class ComponentInstance extends Identified {
 				throw new IllegalArgumentException("Component definition '" + definition + "' does not exist.");
 			}
 		}
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, this.definition, definition);
 		this.definition = definition;
 	}
 
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, Collections.singletonList(definition));
+		}
+		else {
+			index.remove(this, Collections.singletonList(definition));
+		}
+	}
+
 	protected abstract ComponentInstance deepCopy();
 
 }
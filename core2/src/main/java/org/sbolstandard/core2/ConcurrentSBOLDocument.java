@@ -0,0 +1,31 @@
+package org.sbolstandard.core2;
+
+/**
+ * An SBOLDocument to which several threads may add top-level instances, remove them, and look them up at
+ * the same time, for example to build the parts of a large design in parallel.
+ * <p>
+ * Lookups by identity do not block. Adding or removing a top-level instance holds one of a fixed number of
+ * locks, chosen by its persistent identity, while the maps of the document are updated and its references
+ * are indexed, so threads adding different top-level instances rarely wait for each other. Looking up the
+ * versions of a top-level instance holds the same lock, and looking up the referrers of a URI or changing a
+ * reference briefly holds the lock of that URI in the reference index. As in an SBOLDocument, no two top-level
+ * instances of any types share an identity, and each persistent identity maps to its latest version, however
+ * the threads interleave.
+ * <p>
+ * Each top-level instance and its children may still only be changed by one thread at a time, and settings
+ * such as {@link #setDefaultURIprefix(String)} and {@link #setComplete(boolean)} should be made before the
+ * document is shared. Iterating over the top-level instances while other threads change them does not fail,
+ * but may or may not see those changes.
+ *
+ * @version 2.0-beta
+ */
+public class ConcurrentSBOLDocument extends SBOLDocument {
+
+	/**
+	 * Creates a new ConcurrentSBOLDocument instance with the same namespaces as {@link SBOLDocument#SBOLDocument()}.
+	 */
+	public ConcurrentSBOLDocument() {
+		super(true);
+	}
+
+}
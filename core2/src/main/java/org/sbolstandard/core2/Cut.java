@@ -47,7 +47,7 @@ public class Cut extends Location{
 	 * @throws IllegalArgumentException if the given {@code at} value is less than 0
 	 */
 	public void setAt(int at) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (at<0) {
 			throw new IllegalArgumentException("Cut "+this.getIdentity()+" must have a value greater than or equal to zero.");
 		}
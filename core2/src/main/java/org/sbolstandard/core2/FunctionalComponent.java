@@ -36,9 +36,9 @@ public class FunctionalComponent extends ComponentInstance {
 		super(functionalComponent);
 		this.setDirection(functionalComponent.getDirection());
 		this.mapsTos = new HashMap<>();
-		if (!functionalComponent.getMapsTos().isEmpty()) {
+		if (!functionalComponent.getMapsTosView().isEmpty()) {
 			List<MapsTo> mapsTos = new ArrayList<>();
-			for (MapsTo mapsTo : functionalComponent.getMapsTos()) {
+			for (MapsTo mapsTo : functionalComponent.getMapsTosView()) {
 				mapsTos.add(mapsTo.deepCopy());
 			}
 			this.setMapsTo(mapsTos);
@@ -68,13 +68,29 @@ public class FunctionalComponent extends ComponentInstance {
 	 * 
 	 */
 	public void setDirection(DirectionType direction) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (direction==null) {
 			throw new NullPointerException("Not a valid direction type.");
 		}
 		this.direction = direction;
 	}
 
+	@Override
+	protected void setSBOLDocument(SBOLDocument sbolDocument) {
+		super.setSBOLDocument(sbolDocument);
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.setSBOLDocument(sbolDocument);
+		}
+	}
+
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		super.indexReferences(index, add);
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.indexReferences(index, add);
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -152,7 +168,7 @@ public class FunctionalComponent extends ComponentInstance {
 	 * @return a MapsTo instance
 	 */
 	public MapsTo createMapsTo(String displayId, RefinementType refinement, URI local, URI remote) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String parentPersistentIdStr = extractPersistentId(this.getIdentity());
 		String version = this.getVersion();
 		MapsTo m = createMapsTo(createCompliantURI(parentPersistentIdStr, displayId, version),
@@ -201,7 +217,7 @@ public class FunctionalComponent extends ComponentInstance {
 	 *
 	 */
 	public boolean removeMapsTo(MapsTo mapsTo) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return removeChildSafely(mapsTo,mapsTos);
 	}
 
@@ -234,6 +250,16 @@ public class FunctionalComponent extends ComponentInstance {
 		return new HashSet<>(mapsTos.values());
 	}
 
+	/**
+	 * Returns a read-only view of the set of MapsTo instances owned by this object. Unlike
+	 * {@link #getMapsTos()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of MapsTo instances owned by this object.
+	 */
+	public Set<MapsTo> getMapsTosView() {
+		return new IdentifiedSetView<>(mapsTos);
+	}
+
 	/**
 	 * Removes all entries of this object's list of
 	 * MapsTo objects. The list will be empty after this call returns.
@@ -245,7 +271,7 @@ public class FunctionalComponent extends ComponentInstance {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearMapsTos() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = mapsTos.values().toArray();
 		for (Object mapsTo : valueSetArray) {
 			removeMapsTo((MapsTo)mapsTo);
@@ -268,5 +294,8 @@ public class FunctionalComponent extends ComponentInstance {
 
 	void setModuleDefinition(ModuleDefinition moduleDefinition) {
 		this.moduleDefinition = moduleDefinition;
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.setModuleDefinition(moduleDefinition);
+		}
 	}
 }
@@ -54,7 +54,7 @@ public class GenericTopLevel extends TopLevel{
 	 * @throws IllegalArgumentException if the given {@code rdfType} argument is {@code null}
 	 */
 	public void setRDFType(QName rdfType) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (rdfType == null) {
 			throw new IllegalArgumentException("RDF type is a required field.");
 		}
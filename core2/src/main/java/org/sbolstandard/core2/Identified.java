@@ -2,7 +2,7 @@ package org.sbolstandard.core2;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +34,10 @@ public abstract class Identified {
 	protected SBOLDocument sbolDocument = null;
 	protected String name;
 	protected String description;
+	/**
+	 * The object this object is a child of, or {@code null} if it is a top-level or not yet added to one.
+	 */
+	Identified parent = null;
 
 	Identified(URI identity) {
 		setIdentity(identity);
@@ -229,7 +233,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */	
 	public void setWasDerivedFrom(URI wasDerivedFrom) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		this.wasDerivedFrom = wasDerivedFrom;
 
 	}
@@ -257,7 +261,7 @@ public abstract class Identified {
 	 * @return the created Annotation instance.
 	 */
 	public Annotation createAnnotation(QName qName, String literal) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Annotation annotation = new Annotation(qName,literal);
 		addAnnotation(annotation);
 		return annotation;
@@ -277,7 +281,7 @@ public abstract class Identified {
 	 * @return the created Annotation instance.
 	 */
 	public Annotation createAnnotation(QName qName, URI literal) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Annotation annotation = new Annotation(qName,literal);
 		addAnnotation(annotation);
 		return annotation;
@@ -310,7 +314,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant 
 	 */
 	public Annotation createAnnotation(QName qName,QName nestedQName, URI nestedURI, List<Annotation> annotations) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Annotation annotation = new Annotation(qName, nestedQName, nestedURI, annotations);
 		addAnnotation(annotation);
 		return annotation;
@@ -338,7 +342,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeAnnotation(Annotation annotation) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return annotations.remove(annotation);
 	}
 
@@ -372,7 +376,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant 
 	 */
 	public void clearAnnotations() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		annotations.clear();
 	}
 
@@ -397,7 +401,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void unsetWasDerivedFrom() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		wasDerivedFrom = null;
 	}
 	
@@ -408,6 +412,38 @@ public abstract class Identified {
 	protected SBOLDocument getSBOLDocument() {
 		return sbolDocument;
 	}
+
+	/**
+	 * Checks that the document this object belongs to, if any, may be edited, and counts a change to the
+	 * top-level this object belongs to. Every method that changes this object calls it first.
+	 *
+	 * @throws SBOLException if the document is not compliant
+	 */
+	void checkReadOnly() {
+		if (sbolDocument != null) sbolDocument.checkReadOnly();
+		markChanged();
+	}
+
+	/**
+	 * Counts a change to the top-level this object belongs to, if any, so that its cached fragments are
+	 * formatted again.
+	 */
+	void markChanged() {
+		Identified topLevel = this;
+		while (topLevel.parent != null) {
+			topLevel = topLevel.parent;
+		}
+		if (topLevel instanceof TopLevel) {
+			((TopLevel) topLevel).countChange();
+		}
+	}
+
+	/**
+	 * Adds the references held by this object and its child objects to the given index, or removes them
+	 * from it. Objects that refer to others override this method, as do objects with children.
+	 */
+	void indexReferences(ReferenceIndex index, boolean add) {
+	}
 	
 	/**
 	 * Provide a deep copy of this instance.
@@ -517,13 +553,29 @@ public abstract class Identified {
 						"Instance for identity `" + child.identity + "' exists for a " + typeName);
 			siblingsMap.put(child.getIdentity(), child);
 		}
-
+		child.parent = this;
+		markChanged();
+		if (sbolDocument != null) {
+			child.indexReferences(sbolDocument.getReferenceIndex(), true);
+		}
 	}
 	
 	protected final <I extends Identified> boolean removeChildSafely(Identified identified, Map<URI, I> siblingsMap) {
-		Set<Identified> objectsToRemove = new HashSet<>();
-		objectsToRemove.add(identified);
-		return siblingsMap.values().removeAll(objectsToRemove);
+		boolean changed = false;
+		Iterator<I> siblings = siblingsMap.values().iterator();
+		while (siblings.hasNext()) {
+			I sibling = siblings.next();
+			if (sibling.equals(identified)) {
+				siblings.remove();
+				if (sbolDocument != null) {
+					sibling.indexReferences(sbolDocument.getReferenceIndex(), false);
+				}
+				sibling.parent = null;
+				markChanged();
+				changed = true;
+			}
+		}
+		return changed;
 	}
 
 	/**
@@ -556,7 +608,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */	 
 	public void setName(String name) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		this.name = name;
 	}
 	
@@ -571,7 +623,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void unsetName() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		name = null;
 	}
 
@@ -605,7 +657,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void setDescription(String description) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		this.description = description;
 	}
 
@@ -620,7 +672,7 @@ public abstract class Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void unsetDescription() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		description = null;
 	}
 
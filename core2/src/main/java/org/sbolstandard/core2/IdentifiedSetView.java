@@ -0,0 +1,93 @@
+package org.sbolstandard.core2;
+
+import java.net.URI;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only view of the objects held in a map from identity to object, as kept by {@link SBOLDocument}
+ * and by objects with children.
+ * <p>
+ * Such a map also holds the latest version of each compliant object under its persistent identity, so the
+ * view skips the entries whose key is not the identity of their object, and returns each object once
+ * without hashing it. Changes to the map are visible through the view, which must not be iterated while
+ * the map is being changed. Finding the size of the view takes time in the size of the map.
+ *
+ * @version 2.0-beta
+ */
+final class IdentifiedSetView<I extends Identified> extends AbstractSet<I> {
+
+	private final Map<URI, ? extends I> map;
+
+	/**
+	 * @param map
+	 */
+	IdentifiedSetView(Map<URI, ? extends I> map) {
+		this.map = map;
+	}
+
+	@Override
+	public Iterator<I> iterator() {
+		final Iterator<? extends Map.Entry<URI, ? extends I>> entries = map.entrySet().iterator();
+		return new Iterator<I>() {
+			private I next = advance();
+
+			private I advance() {
+				while (entries.hasNext()) {
+					Map.Entry<URI, ? extends I> entry = entries.next();
+					if (entry.getKey().equals(entry.getValue().getIdentity())) {
+						return entry.getValue();
+					}
+				}
+				return null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public I next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				I result = next;
+				next = advance();
+				return result;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (Map.Entry<URI, ? extends I> entry : map.entrySet()) {
+			if (entry.getKey().equals(entry.getValue().getIdentity())) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return map.isEmpty();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof Identified)) {
+			return false;
+		}
+		I value = map.get(((Identified) o).getIdentity());
+		return value != null && value.equals(o);
+	}
+}
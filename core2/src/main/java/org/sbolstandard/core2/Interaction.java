@@ -2,6 +2,7 @@ package org.sbolstandard.core2;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -46,12 +47,12 @@ public class Interaction extends Identified {
 		this.types = new HashSet<>();
 		this.participations = new HashMap<>();
 		Set<URI> type = new HashSet<>();
-		for (URI typeElement : interaction.getTypes()) {
+		for (URI typeElement : interaction.getTypesView()) {
 			type.add(URI.create(typeElement.toString()));
 		}
 		this.setTypes(type);
 		List<Participation> participations = new ArrayList<>();
-		for (Participation participation : interaction.getParticipations()) {
+		for (Participation participation : interaction.getParticipationsView()) {
 			participations.add(participation.deepCopy());
 		}
 		this.setParticipations(participations);
@@ -69,7 +70,7 @@ public class Interaction extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public boolean addType(URI typeURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return types.add(typeURI);
 	}
 	
@@ -87,7 +88,7 @@ public class Interaction extends Identified {
 	 * {@code typeURI} before removal.
 	 */
 	public boolean removeType(URI typeURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (types.size()==1 && types.contains(typeURI)) {
 			throw new IllegalArgumentException("Interaction " + this.getIdentity() + " must have at least one type.");
 		}
@@ -107,7 +108,7 @@ public class Interaction extends Identified {
 	 * @throws IllegalArgumentException if the given {@code types} argument is either {@code null} or empty
 	 */
 	public void setTypes(Set<URI> types) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (types==null || types.size()==0) {
 			throw new IllegalArgumentException("Interaction " + this.getIdentity() + " must have at least one type.");
 		}
@@ -125,6 +126,16 @@ public class Interaction extends Identified {
 	public Set<URI> getTypes() {
 		return types;
 	}
+
+	/**
+	 * Returns a read-only view of the set of type URIs referenced by this Interaction object. Unlike
+	 * {@link #getTypes()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of type URIs referenced by this Interaction object.
+	 */
+	public Set<URI> getTypesView() {
+		return Collections.unmodifiableSet(types);
+	}
 	
 	/**
 	 * Checks if the given type URI is included in this Interaction
@@ -183,7 +194,7 @@ public class Interaction extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public Participation createParticipation(String displayId, String participantId) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI participant = URIcompliance.createCompliantURI(moduleDefinition.getPersistentIdentity().toString(), 
 				participantId, moduleDefinition.getVersion());
 		return createParticipation(displayId,participant);
@@ -211,7 +222,7 @@ public class Interaction extends Identified {
 	 * @throws IllegalStateException if this Interaction instance has non-standard compliant identity
 	 */
 	public Participation createParticipation(String displayId, URI participant) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (moduleDefinition != null) {
 			if (moduleDefinition.getFunctionalComponent(participant)==null) {
 				throw new IllegalArgumentException("Functional component '" + participant + "' does not exist.");
@@ -256,7 +267,7 @@ public class Interaction extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeParticipation(Participation participation) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return removeChildSafely(participation,participations);
 	}
 
@@ -294,6 +305,16 @@ public class Interaction extends Identified {
 		return new HashSet<>(participations.values());
 	}
 
+	/**
+	 * Returns a read-only view of the set of Participation instances owned by this Interaction object. Unlike
+	 * {@link #getParticipations()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Participation instances owned by this Interaction object.
+	 */
+	public Set<Participation> getParticipationsView() {
+		return new IdentifiedSetView<>(participations);
+	}
+
 	/**
 	 * Removes all entries of this Interaction object's list of SequenceAnnotation objects.
 	 * The list will be empty after this call returns.
@@ -308,7 +329,7 @@ public class Interaction extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearParticipations() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = participations.values().toArray();
 		for (Object participation : valueSetArray) {
 			removeParticipation((Participation)participation);
@@ -328,6 +349,21 @@ public class Interaction extends Identified {
 	}
 
 
+	@Override
+	protected void setSBOLDocument(SBOLDocument sbolDocument) {
+		super.setSBOLDocument(sbolDocument);
+		for (Participation participation : participations.values()) {
+			participation.setSBOLDocument(sbolDocument);
+		}
+	}
+
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		for (Participation participation : participations.values()) {
+			participation.indexReferences(index, add);
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -401,6 +437,9 @@ public class Interaction extends Identified {
 	 */
 	void setModuleDefinition(ModuleDefinition moduleDefinition) {
 		this.moduleDefinition = moduleDefinition;
+		for (Participation participation : participations.values()) {
+			participation.setModuleDefinition(moduleDefinition);
+		}
 	}
 	
 }
@@ -0,0 +1,198 @@
+package org.sbolstandard.core2;
+
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperties;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperty;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NestedDocument;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocument;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParsingException;
+import javax.xml.namespace.QName;
+
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Pulls top-level documents one at a time out of a JSON stream.
+ * <p>
+ * The input is the JSON written by {@link SBOLWriter}: an array holding one object per top-level,
+ * whose only key is the qualified name of its type in {@code {namespace}localPart} form. The
+ * identity of an object is kept under {@code rdf:about}, and every other key holds an array of
+ * values, each of which is a literal, an object with a single {@code rdf:resource} key, or a
+ * nested typed object. This matches the trees produced by {@code JsonIo}, but only one top-level
+ * is held in memory at a time and no {@code JsonObject} is ever built.
+ *
+ * @version 2.0-beta
+ */
+final class JSONTopLevelReader {
+
+	private static final String RDF_ABOUT = qualifiedName(Sbol1Terms.rdf.getNamespaceURI(), "about");
+	private static final String RDF_RESOURCE = qualifiedName(Sbol1Terms.rdf.getNamespaceURI(), "resource");
+
+	private final JsonParser parser;
+	private boolean finished = false;
+
+	/**
+	 * Positions the given parser inside the top-level array.
+	 *
+	 * @param parser
+	 * @throws JsonParsingException if the stream does not start with an array
+	 */
+	JSONTopLevelReader(JsonParser parser) {
+		this.parser = parser;
+		expect(Event.START_ARRAY);
+	}
+
+	/**
+	 * Reads the next top-level object from the stream.
+	 *
+	 * @return the next top-level document, or {@code null} once the end of the array is reached
+	 */
+	TopLevelDocument<QName> read() {
+		return read(null);
+	}
+
+	/**
+	 * Reads the next top-level object of a type read with the given options, passing over all
+	 * other top-levels and, if the options say so, the {@code elements} of Sequences.
+	 *
+	 * @param options the options selecting what to read, or {@code null} to read everything
+	 * @return the next top-level document, or {@code null} once the end of the array is reached
+	 */
+	TopLevelDocument<QName> read(SBOLReaderOptions options) {
+		if (finished) {
+			return null;
+		}
+		while (parser.next() == Event.START_OBJECT) {
+			expect(Event.KEY_NAME);
+			QName type = QName.valueOf(parser.getString());
+			expect(Event.START_OBJECT);
+			if (options != null && !options.isTopLevelTypeRead(type)) {
+				skipValue();
+				expect(Event.END_OBJECT);
+				continue;
+			}
+			QName skipped = null;
+			if (options != null && options.isSkipSequenceElements() && type.equals(Sbol2Terms.Sequence.Sequence)) {
+				skipped = Sbol2Terms.Sequence.elements;
+			}
+			List<NamedProperty<QName>> properties = new ArrayList<>();
+			URI identity = readObject(properties, skipped);
+			expect(Event.END_OBJECT);
+			return TopLevelDocument(type, identity, NamedProperties(properties));
+		}
+		finished = true;
+		parser.close();
+		return null;
+	}
+
+	/**
+	 * Reads the keys of the object the parser has just entered into the given list, leaving the
+	 * parser on the object's end.
+	 *
+	 * @return the {@code rdf:about} identity of the object, or {@code null} if it has none
+	 */
+	private URI readObject(List<NamedProperty<QName>> properties, QName skipped) {
+		URI identity = null;
+		while (parser.next() == Event.KEY_NAME) {
+			String key = parser.getString();
+			if (key.equals(RDF_ABOUT)) {
+				expect(Event.VALUE_STRING);
+				identity = URI.create(parser.getString());
+				continue;
+			}
+			QName name = QName.valueOf(key);
+			Event event = parser.next();
+			if (name.equals(skipped)) {
+				skipValue(event);
+			}
+			else if (event == Event.START_ARRAY) {
+				for (event = parser.next(); event != Event.END_ARRAY; event = parser.next()) {
+					properties.add(readProperty(name, event));
+				}
+			}
+			else {
+				properties.add(readProperty(name, event));
+			}
+		}
+		return identity;
+	}
+
+	/**
+	 * Reads the value starting with the given event as a property with the given name.
+	 */
+	private NamedProperty<QName> readProperty(QName name, Event event) {
+		switch (event) {
+		case VALUE_STRING:
+		case VALUE_NUMBER:
+			return NamedProperty(name, parser.getString());
+		case VALUE_TRUE:
+			return NamedProperty(name, true);
+		case VALUE_FALSE:
+			return NamedProperty(name, false);
+		case START_OBJECT:
+			expect(Event.KEY_NAME);
+			String key = parser.getString();
+			if (key.equals(RDF_RESOURCE)) {
+				expect(Event.VALUE_STRING);
+				URI resource = URI.create(parser.getString());
+				expect(Event.END_OBJECT);
+				return NamedProperty(name, resource);
+			}
+			QName type = QName.valueOf(key);
+			expect(Event.START_OBJECT);
+			List<NamedProperty<QName>> properties = new ArrayList<>();
+			URI identity = readObject(properties, null);
+			expect(Event.END_OBJECT);
+			return NamedProperty(name, NestedDocument(type, identity, NamedProperties(properties)));
+		default:
+			throw new JsonParsingException("Unexpected " + event + " in the value of " + name, parser.getLocation());
+		}
+	}
+
+	/**
+	 * Passes over the rest of the object or array the parser has just entered.
+	 */
+	private void skipValue() {
+		int depth = 1;
+		while (depth > 0) {
+			switch (parser.next()) {
+			case START_OBJECT:
+			case START_ARRAY:
+				depth++;
+				break;
+			case END_OBJECT:
+			case END_ARRAY:
+				depth--;
+				break;
+			default:
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Passes over the value starting with the given event.
+	 */
+	private void skipValue(Event event) {
+		if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+			skipValue();
+		}
+	}
+
+	private void expect(Event expected) {
+		Event event = parser.hasNext() ? parser.next() : null;
+		if (event != expected) {
+			throw new JsonParsingException("Expected " + expected + " but found " + event, parser.getLocation());
+		}
+	}
+
+	private static String qualifiedName(String namespaceURI, String localPart) {
+		return new QName(namespaceURI, localPart).toString();
+	}
+}
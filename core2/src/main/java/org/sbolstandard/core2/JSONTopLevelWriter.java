@@ -0,0 +1,172 @@
+package org.sbolstandard.core2;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.stream.JsonGenerator;
+import javax.xml.namespace.QName;
+
+import uk.ac.ncl.intbio.core.datatree.IdentifiableDocument;
+import uk.ac.ncl.intbio.core.datatree.Literal;
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NestedDocument;
+import uk.ac.ncl.intbio.core.datatree.PropertyValue;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Writes top-level documents one at a time to a JSON stream, in the layout read by {@link JSONTopLevelReader}.
+ * <p>
+ * Each top-level becomes an object in one enclosing array, whose only key is the qualified name of
+ * its type. The values of each property are gathered into one array under the property's name, in
+ * the order in which the property first occurs. Only the top-level being written is held in memory.
+ * <p>
+ * Qualified names are written straight from the tree, without first converting the tree to strings.
+ * The key of each name is built once per writer, so a writer must be used by one thread at a time.
+ *
+ * @version 2.0-beta
+ */
+final class JSONTopLevelWriter {
+
+	private static final String RDF_ABOUT = new QName(Sbol1Terms.rdf.getNamespaceURI(), "about").toString();
+	private static final String RDF_RESOURCE = new QName(Sbol1Terms.rdf.getNamespaceURI(), "resource").toString();
+
+	private final JsonGenerator generator;
+	private final Map<QName, String> keys = new HashMap<>();
+
+	/**
+	 * @param generator
+	 */
+	JSONTopLevelWriter(JsonGenerator generator) {
+		this.generator = generator;
+	}
+
+	/**
+	 * Writes the start of the enclosing array.
+	 */
+	void writeStart() {
+		generator.writeStartArray();
+	}
+
+	/**
+	 * Writes the given top-level document as the next element of the enclosing array. If {@link #writeStart()}
+	 * has not been called, the document is written as a stand-alone object.
+	 *
+	 * @param topLevel
+	 */
+	void write(TopLevelDocument<QName> topLevel) {
+		generator.writeStartObject();
+		writeDocument(topLevel);
+		generator.writeEnd();
+	}
+
+	/**
+	 * Writes the end of the enclosing array and flushes the stream.
+	 */
+	void writeEnd() {
+		generator.writeEnd();
+		flush();
+	}
+
+	/**
+	 * Flushes and releases the stream.
+	 */
+	void flush() {
+		generator.flush();
+		generator.close();
+	}
+
+	/**
+	 * Writes the start of the enclosing array straight to the given writer, for output whose
+	 * top-levels are written as separate objects.
+	 *
+	 * @param writer
+	 * @throws IOException
+	 */
+	static void writeStart(Writer writer) throws IOException {
+		writer.write("[\n");
+	}
+
+	/**
+	 * Writes the separator between two top-level objects straight to the given writer.
+	 *
+	 * @param writer
+	 * @throws IOException
+	 */
+	static void writeSeparator(Writer writer) throws IOException {
+		writer.write(",\n");
+	}
+
+	/**
+	 * Writes the end of the enclosing array straight to the given writer.
+	 *
+	 * @param writer
+	 * @throws IOException
+	 */
+	static void writeEnd(Writer writer) throws IOException {
+		writer.write("\n]\n");
+	}
+
+	/**
+	 * Writes the given document as a member, named after its type, of the object being written.
+	 */
+	private void writeDocument(IdentifiableDocument<QName> document) {
+		generator.writeStartObject(getKey(document.getType()));
+		if (document.getIdentity() != null) {
+			generator.write(RDF_ABOUT, document.getIdentity().toString());
+		}
+		Map<QName, List<PropertyValue<QName>>> properties = new LinkedHashMap<>();
+		for (NamedProperty<QName> property : document.getProperties()) {
+			List<PropertyValue<QName>> values = properties.get(property.getName());
+			if (values == null) {
+				values = new ArrayList<>();
+				properties.put(property.getName(), values);
+			}
+			values.add(property.getValue());
+		}
+		for (Map.Entry<QName, List<PropertyValue<QName>>> property : properties.entrySet()) {
+			generator.writeStartArray(getKey(property.getKey()));
+			for (PropertyValue<QName> value : property.getValue()) {
+				writeValue(value);
+			}
+			generator.writeEnd();
+		}
+		generator.writeEnd();
+	}
+
+	/**
+	 * Returns the key under which the given qualified name is written, as read back by {@link JSONTopLevelReader}.
+	 */
+	private String getKey(QName name) {
+		String key = keys.get(name);
+		if (key == null) {
+			key = name.toString();
+			keys.put(name, key);
+		}
+		return key;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void writeValue(PropertyValue<QName> value) {
+		if (value instanceof NestedDocument) {
+			generator.writeStartObject();
+			writeDocument((NestedDocument<QName>) value);
+			generator.writeEnd();
+			return;
+		}
+		Object literal = ((Literal<QName>) value).getValue();
+		if (literal instanceof URI) {
+			generator.writeStartObject();
+			generator.write(RDF_RESOURCE, literal.toString());
+			generator.writeEnd();
+		}
+		else {
+			generator.write(literal.toString());
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package org.sbolstandard.core2;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A GZIPOutputStream compressing at a given level rather than the default one.
+ *
+ * @version 2.0-beta
+ */
+final class LeveledGZIPOutputStream extends GZIPOutputStream {
+
+	/**
+	 * @param out
+	 * @param size the size in bytes of the buffer of compressed output
+	 * @param level the compression level, as accepted by {@link java.util.zip.Deflater#setLevel(int)}
+	 * @throws IOException
+	 */
+	LeveledGZIPOutputStream(OutputStream out, int size, int level) throws IOException {
+		super(out, size);
+		def.setLevel(level);
+	}
+}
@@ -56,7 +56,7 @@ public abstract class Location extends Identified{
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void setOrientation(OrientationType orientation) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		this.orientation = orientation;
 	}
 
@@ -70,7 +70,7 @@ public abstract class Location extends Identified{
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void unsetOrientation() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		orientation = null;
 	}
 	
@@ -1,6 +1,7 @@
 package org.sbolstandard.core2;
 
 import java.net.URI;
+import java.util.Arrays;
 
 import static org.sbolstandard.core2.URIcompliance.*;
 
@@ -59,7 +60,7 @@ public class MapsTo extends Identified{
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void setRefinement(RefinementType refinement) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		this.refinement = refinement;
 	}
 
@@ -103,7 +104,7 @@ public class MapsTo extends Identified{
 	 * this MapsTo object's reference ModuleDefinition instance's list of functional components.
 	 */
 	public void setLocal(URI local) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (local==null) {
 			throw new IllegalArgumentException("MapsTo "+this.getIdentity()+" must specify a local component.");
 		}
@@ -116,6 +117,7 @@ public class MapsTo extends Identified{
 				throw new IllegalArgumentException("Component '" + local + "' does not exist.");
 			}
 		}
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, this.local, local);
 		this.local = local;
 	}
 
@@ -168,7 +170,7 @@ public class MapsTo extends Identified{
 	 * this MapsTo object's parent Module instance refers to.
 	 */
 	public void setRemote(URI remote) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (remote==null) {
 			throw new IllegalArgumentException("MapsTo "+this.getIdentity()+" must specify a remote component.");
 		}
@@ -191,9 +193,20 @@ public class MapsTo extends Identified{
 				}
 			}
 		}
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, this.remote, remote);
 		this.remote = remote;
 	}
 
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, Arrays.asList(local, remote));
+		}
+		else {
+			index.remove(this, Arrays.asList(local, remote));
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -76,7 +76,7 @@ public class Model extends TopLevel {
 	 * @throws IllegalArgumentException if the given {@code source} argument is {@code null}
 	 */
 	public void setSource(URI source) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (source==null) {
 			throw new IllegalArgumentException("Model '" + this.getIdentity() + "' must specify a source location.");
 		}
@@ -105,7 +105,7 @@ public class Model extends TopLevel {
 	 * @throws IllegalArgumentException if the given {@code language} argument is {@code null}
 	 */
 	public void setLanguage(URI language) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (language==null) {
 			throw new IllegalArgumentException("Model '" + this.getIdentity() + "' must specify a language.");
 		}
@@ -134,7 +134,7 @@ public class Model extends TopLevel {
 	 * @throws IllegalArgumentException if the given {@code framework} argument is {@code null}
 	 */
 	public void setFramework(URI framework) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (framework==null) {
 			throw new IllegalArgumentException("Model '" + this.getIdentity() + "' must specify a framework.");
 		}
@@ -5,6 +5,7 @@ import static org.sbolstandard.core2.URIcompliance.extractDisplayId;
 import static org.sbolstandard.core2.URIcompliance.extractPersistentId;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -36,7 +37,7 @@ public class Module extends Identified {
 		super(module);
 		this.mapsTos = new HashMap<>();
 		this.setDefinition(module.getDefinitionURI());
-		for (MapsTo mapping : module.getMapsTos()) {
+		for (MapsTo mapping : module.getMapsTosView()) {
 			this.addMapsTo(mapping.deepCopy());
 		}
 	}
@@ -82,7 +83,7 @@ public class Module extends Identified {
 	 * its list of ModuleDefinition instances.
 	 */
 	public void setDefinition(URI definitionURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (definitionURI==null) {
 			throw new IllegalArgumentException("Module "+this.getIdentity()+" must have a definition.");
 		}
@@ -91,6 +92,7 @@ public class Module extends Identified {
 				throw new IllegalArgumentException("Module definition '" + definition + "' does not exist.");
 			}
 		}
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, definition, definitionURI);
 		this.definition = definitionURI;
 	}
 	
@@ -155,7 +157,7 @@ public class Module extends Identified {
 	 * this Module object refers to.
 	 */
 	public MapsTo createMapsTo(String displayId, RefinementType refinement, String localId, String remoteId) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI local = URIcompliance.createCompliantURI(moduleDefinition.getPersistentIdentity().toString(), 
 				localId, moduleDefinition.getVersion());
 		URI remote = URIcompliance.createCompliantURI(getDefinition().getPersistentIdentity().toString(), 
@@ -195,7 +197,7 @@ public class Module extends Identified {
 	 * this Module object refers to.
 	 */
 	public MapsTo createMapsTo(String displayId, RefinementType refinement, URI local, URI remote) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String parentPersistentIdStr = extractPersistentId(this.getIdentity());
 		String version = this.getVersion();
 		URI newMapsToURI = createCompliantURI(parentPersistentIdStr, displayId, version);
@@ -242,7 +244,7 @@ public class Module extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */	
 	public boolean removeMapsTo(MapsTo mapsTo) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return removeChildSafely(mapsTo,mapsTos);
 	}
 
@@ -275,6 +277,16 @@ public class Module extends Identified {
 		return new HashSet<>(mapsTos.values());
 	}
 
+	/**
+	 * Returns a read-only view of the set of MapsTo instances owned by this object. Unlike
+	 * {@link #getMapsTos()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of MapsTo instances owned by this object.
+	 */
+	public Set<MapsTo> getMapsTosView() {
+		return new IdentifiedSetView<>(mapsTos);
+	}
+
 	/**
 	 * Removes all entries of this Module object's list of MapsTo
 	 * instances. The set will be empty after this call returns.
@@ -286,7 +298,7 @@ public class Module extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant  
 	 */
 	public void clearMapsTos() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = mapsTos.values().toArray();
 		for (Object mapsTo : valueSetArray) {
 			removeMapsTo((MapsTo)mapsTo);
@@ -305,6 +317,27 @@ public class Module extends Identified {
 	}
 
 
+	@Override
+	protected void setSBOLDocument(SBOLDocument sbolDocument) {
+		super.setSBOLDocument(sbolDocument);
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.setSBOLDocument(sbolDocument);
+		}
+	}
+
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, Collections.singletonList(definition));
+		}
+		else {
+			index.remove(this, Collections.singletonList(definition));
+		}
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.indexReferences(index, add);
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -369,6 +402,9 @@ public class Module extends Identified {
 
 	void setModuleDefinition(ModuleDefinition moduleDefinition) {
 		this.moduleDefinition = moduleDefinition;
+		for (MapsTo mapsTo : mapsTos.values()) {
+			mapsTo.setModuleDefinition(moduleDefinition);
+		}
 	}
 
 }
@@ -5,6 +5,7 @@ import static org.sbolstandard.core2.URIcompliance.isChildURIcompliant;
 import static org.sbolstandard.core2.URIcompliance.isURIcompliant;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -45,19 +46,19 @@ public class ModuleDefinition extends TopLevel {
 		this.interactions = new HashMap<>();
 		this.functionalComponents = new HashMap<>();
 		this.models = new HashSet<>();
-		for (URI role : moduleDefinition.getRoles()) {
+		for (URI role : moduleDefinition.getRolesView()) {
 			this.addRole(role);
 		}
-		for (Module subModule : moduleDefinition.getModules()) {
+		for (Module subModule : moduleDefinition.getModulesView()) {
 			this.addModule(subModule.deepCopy());
 		}
-		for (Interaction interaction : moduleDefinition.getInteractions()) {
+		for (Interaction interaction : moduleDefinition.getInteractionsView()) {
 			this.addInteraction(interaction.deepCopy());
 		}
-		for (FunctionalComponent component : moduleDefinition.getFunctionalComponents()) {
+		for (FunctionalComponent component : moduleDefinition.getFunctionalComponentsView()) {
 			this.addFunctionalComponent(component.deepCopy());
 		}
-		this.setModels(moduleDefinition.getModelURIs());
+		this.setModels(moduleDefinition.getModelURIsView());
 	}
 
 	/**
@@ -72,8 +73,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public boolean addRole(URI roleURI) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return roles.add(roleURI);
 	}
 
@@ -89,8 +89,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeRole(URI roleURI) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return roles.remove(roleURI);
 	}
 
@@ -106,8 +105,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void setRoles(Set<URI> roles) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		clearRoles();
 		if (roles == null)
 			return;
@@ -127,6 +125,16 @@ public class ModuleDefinition extends TopLevel {
 		return result;
 	}
 
+	/**
+	 * Returns a read-only view of the set of role URIs referenced by this ModuleDefinition object. Unlike
+	 * {@link #getRoles()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of role URIs referenced by this ModuleDefinition object.
+	 */
+	public Set<URI> getRolesView() {
+		return Collections.unmodifiableSet(roles);
+	}
+
 	/**
 	 * Checks if the given role URI is included in this ModuleDefinition
 	 * object's set of reference role URIs.
@@ -149,8 +157,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearRoles() {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		roles.clear();
 	}
 
@@ -191,8 +198,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public Module createModule(String displayId, String moduleId, String version) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI module = URIcompliance.createCompliantURI(sbolDocument.getDefaultURIprefix(),
 		TopLevel.MODULE_DEFINITION, moduleId, version, sbolDocument.isTypesInURIs());
 		return createModule(displayId, module);
@@ -222,8 +228,7 @@ public class ModuleDefinition extends TopLevel {
                is not found in them.
 	 */
 	public Module createModule(String displayId, URI moduleDefinitionURI) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (sbolDocument != null && sbolDocument.isComplete()) {
 			if (sbolDocument.getModuleDefinition(moduleDefinitionURI) == null) {
 				throw new IllegalArgumentException("Module definition '" + moduleDefinitionURI
@@ -265,8 +270,7 @@ public class ModuleDefinition extends TopLevel {
 	 *             
 	 */
 	public boolean removeModule(Module module) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return removeChildSafely(module, modules);
 	}
 
@@ -303,6 +307,16 @@ public class ModuleDefinition extends TopLevel {
 		return new HashSet<>(modules.values());
 	}
 
+	/**
+	 * Returns a read-only view of the set of Module instances owned by this ModuleDefinition object. Unlike
+	 * {@link #getModules()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Module instances owned by this ModuleDefinition object.
+	 */
+	public Set<Module> getModulesView() {
+		return new IdentifiedSetView<>(modules);
+	}
+
 	/**
 	 * Removes all entries of this ModuleDefinition object's list of Module
 	 * objects. The set will be empty after this call returns.
@@ -314,8 +328,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant 
 	 */
 	public void clearModules() {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = modules.values().toArray();
 		for (Object module : valueSetArray) {
 			removeModule((Module) module);
@@ -375,8 +388,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public Interaction createInteraction(String displayId, Set<URI> types) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		String URIprefix = this.getPersistentIdentity().toString();
 		String version = this.getVersion();
 		URI newInteractionURI = createCompliantURI(URIprefix, displayId, version);
@@ -409,8 +421,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeInteraction(Interaction interaction) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return removeChildSafely(interaction, interactions);
 	}
 
@@ -448,6 +459,16 @@ public class ModuleDefinition extends TopLevel {
 		return new HashSet<>(interactions.values());
 	}
 
+	/**
+	 * Returns a read-only view of the set of Interaction instances owned by this ModuleDefinition object. Unlike
+	 * {@link #getInteractions()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Interaction instances owned by this ModuleDefinition object.
+	 */
+	public Set<Interaction> getInteractionsView() {
+		return new IdentifiedSetView<>(interactions);
+	}
+
 	/**
 	 * Removes all entries of this ModuleDefinition object's list of Instance objects.
 	 * The list will be empty after this call returns.
@@ -459,8 +480,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearInteractions() {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = interactions.values().toArray();
 		for (Object interaction : valueSetArray) {
 			removeInteraction((Interaction) interaction);
@@ -522,8 +542,7 @@ public class ModuleDefinition extends TopLevel {
 	 */
 	public FunctionalComponent createFunctionalComponent(String displayId, AccessType access,
 			String definition, String version, DirectionType direction) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI definitionURI = URIcompliance.createCompliantURI(sbolDocument.getDefaultURIprefix(),
 				TopLevel.COMPONENT_DEFINITION, definition, version, sbolDocument.isTypesInURIs());
 		return createFunctionalComponent(displayId, access, definitionURI, direction);
@@ -556,8 +575,7 @@ public class ModuleDefinition extends TopLevel {
 	 */
 	public FunctionalComponent createFunctionalComponent(String displayId, AccessType access,
 			URI fcURI, DirectionType direction) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (sbolDocument != null && sbolDocument.isComplete()) {
 			if (sbolDocument.getComponentDefinition(fcURI) == null) {
 				throw new IllegalArgumentException("Component '" + fcURI
@@ -603,10 +621,18 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException the given FunctionalComponent instance is referenced.
 	 */
 	public boolean removeFunctionalComponent(FunctionalComponent functionalComponent) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
+		if (sbolDocument != null) {
+			for (Identified referrer : sbolDocument.getReferenceIndex().get(functionalComponent.getIdentity())) {
+				if (isUseOfFunctionalComponent(referrer, functionalComponent.getIdentity())) {
+					throw new SBOLException("Cannot remove " + functionalComponent.getIdentity() +
+					" since it is in use.");
+				}
+			}
+			return removeChildSafely(functionalComponent, functionalComponents);
+		}
 		for (Interaction i : interactions.values()) {
-			for (Participation p : i.getParticipations()) {
+			for (Participation p : i.getParticipationsView()) {
 				if (p.getParticipantURI().equals(functionalComponent.getIdentity())) {
 					throw new SBOLException("Cannot remove " + functionalComponent.getIdentity() +
 					" since it is in use.");
@@ -614,7 +640,7 @@ public class ModuleDefinition extends TopLevel {
 			}
 		}
 		for (FunctionalComponent c : functionalComponents.values()) {
-			for (MapsTo mt : c.getMapsTos()) {
+			for (MapsTo mt : c.getMapsTosView()) {
 				if (mt.getLocalURI().equals(functionalComponent.getIdentity())) {
 					throw new SBOLException("Cannot remove " + functionalComponent.getIdentity() +
 					" since it is in use.");
@@ -622,27 +648,33 @@ public class ModuleDefinition extends TopLevel {
 			}
 		}
 		for (Module m : modules.values()) {
-			for (MapsTo mt : m.getMapsTos()) {
+			for (MapsTo mt : m.getMapsTosView()) {
 				if (mt.getLocalURI().equals(functionalComponent.getIdentity())) {
 					throw new SBOLException("Cannot remove " + functionalComponent.getIdentity() +
 					" since it is in use.");
 				}
 			}
 		}
-		if (sbolDocument != null) {
-			for (ModuleDefinition md : sbolDocument.getModuleDefinitions()) {
-				for (Module m : md.getModules()) {
-					for (MapsTo mt : m.getMapsTos()) {
-						if (mt.getRemoteURI().equals(functionalComponent.getIdentity())) {
-							throw new SBOLException("Cannot remove "
-									+ functionalComponent.getIdentity() +
-									" since it is in use.");
-						}
-					}
-				}
+		return removeChildSafely(functionalComponent, functionalComponents);
+	}
+
+	/**
+	 * Checks if the given object, which refers to the given FunctionalComponent URI, is a Participation
+	 * or local MapsTo instance of this ModuleDefinition object, or a remote MapsTo instance of any
+	 * Module instance in the associated SBOLDocument instance.
+	 */
+	private boolean isUseOfFunctionalComponent(Identified referrer, URI functionalComponentURI) {
+		if (referrer instanceof Participation) {
+			return ((Participation) referrer).getModuleDefinition() == this;
+		}
+		if (referrer instanceof MapsTo) {
+			MapsTo mapsTo = (MapsTo) referrer;
+			if (functionalComponentURI.equals(mapsTo.getLocalURI()) && mapsTo.getModuleDefinition() == this) {
+				return true;
 			}
+			return functionalComponentURI.equals(mapsTo.getRemoteURI()) && mapsTo.getModule() != null;
 		}
-		return removeChildSafely(functionalComponent, functionalComponents);
+		return false;
 	}
 
 	/**
@@ -680,6 +712,16 @@ public class ModuleDefinition extends TopLevel {
 		return new HashSet<>(functionalComponents.values());
 	}
 
+	/**
+	 * Returns a read-only view of the set of FunctionalComponent instances owned by this ModuleDefinition object. Unlike
+	 * {@link #getFunctionalComponents()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of FunctionalComponent instances owned by this ModuleDefinition object.
+	 */
+	public Set<FunctionalComponent> getFunctionalComponentsView() {
+		return new IdentifiedSetView<>(functionalComponents);
+	}
+
 	/**
 	 * Removes all entries of this ModuleDefinition object's list of
 	 * FunctionalComponent objects. The list will be empty after this call returns.
@@ -691,8 +733,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearFunctionalComponents() {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = functionalComponents.values().toArray();
 		for (Object functionalComponent : valueSetArray) {
 			removeFunctionalComponent((FunctionalComponent) functionalComponent);
@@ -736,8 +777,7 @@ public class ModuleDefinition extends TopLevel {
 	 *             and the given Model instance's URI is not found in them.
 	 */
 	public boolean addModel(Model model) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (sbolDocument != null && sbolDocument.isComplete()) {
 			if (sbolDocument.getModel(model.getIdentity()) == null) {
 				throw new IllegalArgumentException("Model '" + model.getIdentity()
@@ -767,8 +807,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public boolean addModel(String model, String version) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI modelURI = URIcompliance.createCompliantURI(sbolDocument.getDefaultURIprefix(),
 		TopLevel.MODEL, model, version, sbolDocument.isTypesInURIs());
 		return addModel(modelURI);
@@ -796,14 +835,17 @@ public class ModuleDefinition extends TopLevel {
 
 	 */
 	public boolean addModel(URI modelURI) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (sbolDocument != null && sbolDocument.isComplete()) {
 			if (sbolDocument.getModel(modelURI) == null) {
 				throw new IllegalArgumentException("Model '" + modelURI + "' does not exist.");
 			}
 		}
-		return models.add(modelURI);
+		if (!models.add(modelURI)) {
+			return false;
+		}
+		if (sbolDocument != null) sbolDocument.getReferenceIndex().replace(this, null, modelURI);
+		return true;
 	}
 
 	/**
@@ -820,9 +862,12 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeModel(URI modelURI) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
-		return models.remove(modelURI);
+		checkReadOnly();
+		if (!models.remove(modelURI)) {
+			return false;
+		}
+		if (sbolDocument != null) sbolDocument.getReferenceIndex().replace(this, modelURI, null);
+		return true;
 	}
 
 	/**
@@ -838,8 +883,7 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void setModels(Set<URI> models) {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
 		clearModels();
 		if (models == null)
 			return;
@@ -859,6 +903,16 @@ public class ModuleDefinition extends TopLevel {
 		return result;
 	}
 
+	/**
+	 * Returns a read-only view of the set of Model URIs referenced by this ModuleDefinition object. Unlike
+	 * {@link #getModelURIs()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Model URIs referenced by this ModuleDefinition object.
+	 */
+	public Set<URI> getModelURIsView() {
+		return Collections.unmodifiableSet(models);
+	}
+
 	/**
 	 * Returns the set of Model instances referenced by this ModuleDefinition object.
 	 * 
@@ -895,11 +949,48 @@ public class ModuleDefinition extends TopLevel {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearModels() {
-		if (sbolDocument != null)
-			sbolDocument.checkReadOnly();
+		checkReadOnly();
+		if (sbolDocument != null) {
+			for (URI modelURI : models) {
+				sbolDocument.getReferenceIndex().replace(this, modelURI, null);
+			}
+		}
 		models.clear();
 	}
 
+	@Override
+	protected void setSBOLDocument(SBOLDocument sbolDocument) {
+		super.setSBOLDocument(sbolDocument);
+		for (Module module : modules.values()) {
+			module.setSBOLDocument(sbolDocument);
+		}
+		for (Interaction interaction : interactions.values()) {
+			interaction.setSBOLDocument(sbolDocument);
+		}
+		for (FunctionalComponent functionalComponent : functionalComponents.values()) {
+			functionalComponent.setSBOLDocument(sbolDocument);
+		}
+	}
+
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, models);
+		}
+		else {
+			index.remove(this, models);
+		}
+		for (Module module : modules.values()) {
+			module.indexReferences(index, add);
+		}
+		for (Interaction interaction : interactions.values()) {
+			interaction.indexReferences(index, add);
+		}
+		for (FunctionalComponent functionalComponent : functionalComponents.values()) {
+			functionalComponent.indexReferences(index, add);
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -1140,17 +1231,17 @@ public class ModuleDefinition extends TopLevel {
 			return false;
 		}
 		boolean allDescendantsCompliant = true;
-		if (!this.getModules().isEmpty()) {
-			for (Module module : this.getModules()) {
+		if (!this.getModulesView().isEmpty()) {
+			for (Module module : this.getModulesView()) {
 				allDescendantsCompliant = allDescendantsCompliant
 				&& isChildURIcompliant(this.getIdentity(), module.getIdentity());
 				if (!allDescendantsCompliant) { // Current sequence constraint
 												// has non-compliant URI.
 					return allDescendantsCompliant;
 				}
-				if (!module.getMapsTos().isEmpty()) {
+				if (!module.getMapsTosView().isEmpty()) {
 					// Check compliance of Module's children
-					for (MapsTo mapsTo : module.getMapsTos()) {
+					for (MapsTo mapsTo : module.getMapsTosView()) {
 						allDescendantsCompliant = allDescendantsCompliant
 						&& isChildURIcompliant(module.getIdentity(), mapsTo.getIdentity());
 						if (!allDescendantsCompliant) { // Current mapsTo has
@@ -1161,17 +1252,17 @@ public class ModuleDefinition extends TopLevel {
 				}
 			}
 		}
-		if (!this.getFunctionalComponents().isEmpty()) {
-			for (FunctionalComponent functionalComponent : this.getFunctionalComponents()) {
+		if (!this.getFunctionalComponentsView().isEmpty()) {
+			for (FunctionalComponent functionalComponent : this.getFunctionalComponentsView()) {
 				allDescendantsCompliant = allDescendantsCompliant
 				&& isChildURIcompliant(this.getIdentity(), functionalComponent.getIdentity());
 				if (!allDescendantsCompliant) { // Current component has
 												// non-compliant URI.
 					return allDescendantsCompliant;
 				}
-				if (!functionalComponent.getMapsTos().isEmpty()) {
+				if (!functionalComponent.getMapsTosView().isEmpty()) {
 					// Check compliance of Component's children
-					for (MapsTo mapsTo : functionalComponent.getMapsTos()) {
+					for (MapsTo mapsTo : functionalComponent.getMapsTosView()) {
 						allDescendantsCompliant = allDescendantsCompliant
 								&& isChildURIcompliant(functionalComponent.getIdentity(),
 										mapsTo.getIdentity());
@@ -1183,15 +1274,15 @@ public class ModuleDefinition extends TopLevel {
 				}
 			}
 		}
-		if (!this.getInteractions().isEmpty()) {
-			for (Interaction interaction : this.getInteractions()) {
+		if (!this.getInteractionsView().isEmpty()) {
+			for (Interaction interaction : this.getInteractionsView()) {
 				allDescendantsCompliant = allDescendantsCompliant
 				&& isChildURIcompliant(this.getIdentity(), interaction.getIdentity());
 				if (!allDescendantsCompliant) { // Current interaction has
 												// non-compliant URI.
 					return allDescendantsCompliant;
 				}
-				for (Participation participation : interaction.getParticipations()) {
+				for (Participation participation : interaction.getParticipationsView()) {
 					allDescendantsCompliant = allDescendantsCompliant
 					&& isChildURIcompliant(interaction.getIdentity(), participation.getIdentity());
 					if (!allDescendantsCompliant) { // Current participation has
@@ -0,0 +1,563 @@
+package org.sbolstandard.core2;
+
+import static uk.ac.ncl.intbio.core.datatree.Datatree.DocumentRoot;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperties;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperty;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamespaceBinding;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamespaceBindings;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NestedDocument;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocument;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocuments;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.xml.namespace.QName;
+
+import uk.ac.ncl.intbio.core.datatree.DocumentRoot;
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Reads N-Triples, or N-Quads with the graph labels ignored, into a tree of top-level documents.
+ * <p>
+ * Every line holds one statement, so the input is split at line boundaries and the lines are
+ * parsed in chunks, on a fork/join pool if one is given. The statements are then grouped by
+ * subject, and which subjects are nested is decided from the graph alone, so the lines may come in
+ * any order. A subject becomes a nested document of the subject that refers to it through a property
+ * that holds children of its SBOL class, such as {@code sbol:sequenceAnnotation}. A subject referred
+ * to by an annotation property, and by no such property, is nested if it is a blank node, or if its
+ * type is not that of an SBOL top-level class and no {@code # @toplevel} comment names it.
+ * {@link NTriplesWriter} writes that comment for every GenericTopLevel, so that one referred to by an
+ * annotation stays a top-level document; input from tools that drop comments nests such a
+ * GenericTopLevel instead. Where the graph leaves the choice open, as when two annotations refer to
+ * the same subject, the subject is nested in the annotation whose statement its {@code rdf:type}
+ * statement directly follows, which is where {@link NTriplesWriter} puts it, and otherwise in the
+ * first one. Every other subject becomes a top-level document, in the order in which it first occurs. Namespaces and their prefixes are recovered from the {@code # @prefix} comments
+ * written by {@link NTriplesWriter}: each IRI naming a type or a property is split after the longest
+ * declared namespace it starts with, or after its last {@code #} or {@code /} if it starts with none.
+ *
+ * @version 2.0-beta
+ */
+final class NTriplesReader {
+
+	private static final String RDF_TYPE = Sbol1Terms.rdf.getNamespaceURI() + "type";
+	private static final String PREFIX_COMMENT = "# @prefix ";
+	private static final String TOP_LEVEL_COMMENT = "# @toplevel ";
+
+	/**
+	 * The number of lines parsed by one task of the fork/join pool.
+	 */
+	private static final int CHUNK_SIZE = 4096;
+
+	private static final Comparator<String> LONGEST_FIRST = new Comparator<String>() {
+		@Override
+		public int compare(String s1, String s2) {
+			return s2.length() - s1.length();
+		}
+	};
+
+	/**
+	 * One statement. Subjects and objects are kept as IRIs, or as {@code _:label} for blank nodes.
+	 */
+	private static final class Triple {
+		final String subject;
+		final String predicate;
+		final String object;
+		final boolean literal;
+
+		Triple(String subject, String predicate, String object, boolean literal) {
+			this.subject = subject;
+			this.predicate = predicate;
+			this.object = object;
+			this.literal = literal;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Triple)) {
+				return false;
+			}
+			Triple other = (Triple) obj;
+			return subject.equals(other.subject) && predicate.equals(other.predicate)
+					&& object.equals(other.object) && literal == other.literal;
+		}
+
+		@Override
+		public int hashCode() {
+			return (subject.hashCode() * 31 + predicate.hashCode()) * 31 + object.hashCode();
+		}
+	}
+
+	/**
+	 * The statements about one subject, and the statement that makes it the child of another subject.
+	 */
+	private static final class Subject {
+		final String identity;
+		final List<Triple> triples = new ArrayList<>();
+		String type;
+		Triple parent;
+		/**
+		 * Whether a property holding children of an SBOL class refers to this subject.
+		 */
+		boolean child;
+		/**
+		 * The statement on the line before the {@code rdf:type} statement of this subject.
+		 */
+		Triple preceding;
+
+		Subject(String identity) {
+			this.identity = identity;
+		}
+	}
+
+	/**
+	 * Parses a range of lines, splitting the range among the threads of a fork/join pool.
+	 */
+	private static final class ParseLinesTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<String> lines;
+		private final Triple[] triples;
+		private final int from;
+		private final int to;
+
+		ParseLinesTask(List<String> lines, Triple[] triples, int from, int to) {
+			this.lines = lines;
+			this.triples = triples;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= CHUNK_SIZE) {
+				parseLines(lines, triples, from, to);
+			}
+			else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new ParseLinesTask(lines, triples, from, middle),
+						new ParseLinesTask(lines, triples, middle, to));
+			}
+		}
+	}
+
+	private final Map<String, String> prefixes = new HashMap<>();
+	/**
+	 * The declared namespaces, longest first.
+	 */
+	private final List<String> namespaces = new ArrayList<>();
+	private final Map<String, QName> names = new HashMap<>();
+	private final Map<String, Subject> subjects = new LinkedHashMap<>();
+	/**
+	 * The subjects named by {@code # @toplevel} comments.
+	 */
+	private final Set<String> topLevels = new HashSet<>();
+
+	private NTriplesReader() {
+	}
+
+	/**
+	 * Reads all statements from the given reader.
+	 *
+	 * @param reader
+	 * @param pool the pool on which the lines are parsed, or {@code null} to parse them on the calling thread
+	 * @return the tree of top-level documents
+	 * @throws IOException
+	 * @throws SBOLException if a line is not a valid statement, or a subject has no type
+	 */
+	static DocumentRoot<QName> read(BufferedReader reader, ForkJoinPool pool) throws IOException {
+		NTriplesReader ntriples = new NTriplesReader();
+		List<String> lines = new ArrayList<>();
+		List<NamespaceBinding> bindings = new ArrayList<>();
+		for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+			if (line.startsWith(PREFIX_COMMENT)) {
+				NamespaceBinding binding = parsePrefix(line);
+				if (binding != null) {
+					bindings.add(binding);
+					ntriples.prefixes.put(binding.getNamespaceURI(), binding.getPrefix());
+				}
+			}
+			else if (line.startsWith(TOP_LEVEL_COMMENT)) {
+				ntriples.topLevels.add(new LineParser(line, lines.size() + 1).parseTopLevelComment());
+			}
+			lines.add(line);
+		}
+		ntriples.namespaces.addAll(ntriples.prefixes.keySet());
+		Collections.sort(ntriples.namespaces, LONGEST_FIRST);
+		Triple[] triples = new Triple[lines.size()];
+		if (pool == null) {
+			parseLines(lines, triples, 0, triples.length);
+		}
+		else {
+			pool.invoke(new ParseLinesTask(lines, triples, 0, triples.length));
+		}
+		return DocumentRoot(NamespaceBindings(bindings), TopLevelDocuments(ntriples.group(triples)));
+	}
+
+	/**
+	 * Groups the given statements, one per line or {@code null} for a line without a statement, by subject
+	 * and builds the top-level documents. Repeated statements are read once.
+	 */
+	private List<TopLevelDocument<QName>> group(Triple[] triples) {
+		Set<Triple> statements = new HashSet<>();
+		for (Triple triple : triples) {
+			if (triple == null || !statements.add(triple)) {
+				continue;
+			}
+			Subject subject = getSubject(triple.subject);
+			if (subject.type == null && !triple.literal && triple.predicate.equals(RDF_TYPE)) {
+				subject.type = triple.object;
+			}
+			else {
+				subject.triples.add(triple);
+			}
+		}
+		for (Subject subject : subjects.values()) {
+			QName type = subject.type == null ? null : toQName(subject.type);
+			for (Triple triple : subject.triples) {
+				Subject object = getObject(subject, triple);
+				if (object != null && Sbol2Property.isChild(type, toQName(triple.predicate))) {
+					object.parent = triple;
+					object.child = true;
+				}
+			}
+		}
+		for (int i = 0; i + 1 < triples.length; i++) {
+			Triple next = triples[i + 1];
+			if (triples[i] != null && next != null && !next.literal && next.predicate.equals(RDF_TYPE)) {
+				subjects.get(next.subject).preceding = triples[i];
+			}
+		}
+		// An object that several annotations could hold goes to the one whose statement its type follows.
+		for (Subject subject : subjects.values()) {
+			for (Triple triple : subject.triples) {
+				Subject object = getObject(subject, triple);
+				if (object != null && triple.equals(object.preceding)) {
+					nestInAnnotation(subject, triple, object);
+				}
+			}
+		}
+		for (Subject subject : subjects.values()) {
+			for (Triple triple : subject.triples) {
+				Subject object = getObject(subject, triple);
+				if (object != null) {
+					nestInAnnotation(subject, triple, object);
+				}
+			}
+		}
+		List<TopLevelDocument<QName>> topLevels = new ArrayList<>();
+		for (Subject subject : subjects.values()) {
+			if (subject.parent == null) {
+				topLevels.add(TopLevelDocument(getType(subject), getIdentity(subject),
+						NamedProperties(getProperties(subject))));
+			}
+		}
+		return topLevels;
+	}
+
+	private Subject getSubject(String identity) {
+		Subject subject = subjects.get(identity);
+		if (subject == null) {
+			subject = new Subject(identity);
+			subjects.put(identity, subject);
+		}
+		return subject;
+	}
+
+	/**
+	 * Returns the subject the given statement refers to, or {@code null} if its object is a literal, has
+	 * no statements of its own, or is the subject itself.
+	 */
+	private Subject getObject(Subject subject, Triple triple) {
+		if (triple.literal || triple.predicate.equals(RDF_TYPE)) {
+			return null;
+		}
+		Subject object = subjects.get(triple.object);
+		return object == subject ? null : object;
+	}
+
+	/**
+	 * Nests the given object in the given statement of the given subject if the statement is an annotation
+	 * that can hold it.
+	 */
+	private void nestInAnnotation(Subject subject, Triple triple, Subject object) {
+		if (object.parent == null && isNestedAnnotation(object) && !isAncestor(object, subject)
+				&& Sbol2Property.isAnnotation(subject.type == null ? null : toQName(subject.type), toQName(triple.predicate))) {
+			object.parent = triple;
+		}
+	}
+
+	/**
+	 * Tells whether the given subject, referred to by an annotation, is nested in the annotation: if it is
+	 * a blank node, or if no child property claims it and it is neither of an SBOL top-level type nor
+	 * named by a {@code # @toplevel} comment.
+	 */
+	private boolean isNestedAnnotation(Subject object) {
+		if (isBlank(object.identity)) {
+			return true;
+		}
+		return !object.child && object.type != null && !topLevels.contains(object.identity)
+				&& !Sbol2Property.isTopLevelType(toQName(object.type));
+	}
+
+	/**
+	 * Tells whether the given ancestor is the given subject or one of the subjects it is nested in, which
+	 * keeps annotations that refer to each other from nesting each other.
+	 */
+	private boolean isAncestor(Subject ancestor, Subject subject) {
+		for (Subject s = subject; s != null; s = s.parent == null ? null : subjects.get(s.parent.subject)) {
+			if (s == ancestor) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private List<NamedProperty<QName>> getProperties(Subject subject) {
+		List<NamedProperty<QName>> properties = new ArrayList<>();
+		for (Triple triple : subject.triples) {
+			QName name = toQName(triple.predicate);
+			if (triple.literal) {
+				properties.add(NamedProperty(name, triple.object));
+				continue;
+			}
+			Subject child = subjects.get(triple.object);
+			if (child != null && child.parent == triple) {
+				properties.add(NamedProperty(name, NestedDocument(getType(child), getIdentity(child),
+						NamedProperties(getProperties(child)))));
+			}
+			else {
+				properties.add(NamedProperty(name, URI.create(triple.object)));
+			}
+		}
+		return properties;
+	}
+
+	private static URI getIdentity(Subject subject) {
+		return isBlank(subject.identity) ? null : URI.create(subject.identity);
+	}
+
+	private QName getType(Subject subject) {
+		if (subject.type == null) {
+			throw new SBOLException("Subject " + subject.identity + " has no rdf:type statement.");
+		}
+		return toQName(subject.type);
+	}
+
+	/**
+	 * Splits the given IRI into the longest declared namespace it starts with and a local part, or into
+	 * a namespace ending with its last {@code #} or {@code /} and a local part if it starts with none.
+	 */
+	private QName toQName(String iri) {
+		QName name = names.get(iri);
+		if (name != null) {
+			return name;
+		}
+		String namespaceURI = null;
+		for (String namespace : namespaces) {
+			if (iri.length() > namespace.length() && iri.startsWith(namespace)) {
+				namespaceURI = namespace;
+				break;
+			}
+		}
+		if (namespaceURI == null) {
+			namespaceURI = iri.substring(0, Math.max(iri.lastIndexOf('#'), iri.lastIndexOf('/')) + 1);
+		}
+		String prefix = prefixes.get(namespaceURI);
+		name = new QName(namespaceURI, iri.substring(namespaceURI.length()), prefix == null ? "" : prefix);
+		names.put(iri, name);
+		return name;
+	}
+
+	private static boolean isBlank(String node) {
+		return node.startsWith("_:");
+	}
+
+	private static NamespaceBinding parsePrefix(String line) {
+		int colon = line.indexOf(':', PREFIX_COMMENT.length());
+		int start = line.indexOf('<', colon);
+		int end = line.indexOf('>', start);
+		if (colon < 0 || start < 0 || end < 0) {
+			return null;
+		}
+		return NamespaceBinding(line.substring(start + 1, end), line.substring(PREFIX_COMMENT.length(), colon).trim());
+	}
+
+	private static void parseLines(List<String> lines, Triple[] triples, int from, int to) {
+		for (int i = from; i < to; i++) {
+			triples[i] = new LineParser(lines.get(i), i + 1).parse();
+		}
+	}
+
+	/**
+	 * Parses one line into a statement.
+	 */
+	private static final class LineParser {
+		private final String line;
+		private final int lineNumber;
+		private int position = 0;
+
+		LineParser(String line, int lineNumber) {
+			this.line = line;
+			this.lineNumber = lineNumber;
+		}
+
+		/**
+		 * @return the statement on the line, or {@code null} if the line is blank or a comment
+		 */
+		Triple parse() {
+			skipWhitespace();
+			if (position == line.length() || line.charAt(position) == '#') {
+				return null;
+			}
+			String subject = parseNode();
+			skipWhitespace();
+			String predicate = parseIRI();
+			skipWhitespace();
+			boolean literal = position < line.length() && line.charAt(position) == '"';
+			String object = literal ? parseLiteral() : parseNode();
+			skipWhitespace();
+			if (position < line.length() && line.charAt(position) != '.') {
+				parseNode();
+				skipWhitespace();
+			}
+			expect('.');
+			skipWhitespace();
+			if (position < line.length() && line.charAt(position) != '#') {
+				throw error("unexpected text after the end of the statement");
+			}
+			return new Triple(subject, predicate, object, literal);
+		}
+
+		/**
+		 * @return the IRI named by the {@code # @toplevel} comment on the line
+		 */
+		String parseTopLevelComment() {
+			position = TOP_LEVEL_COMMENT.length();
+			skipWhitespace();
+			return parseIRI();
+		}
+
+		private String parseNode() {
+			if (line.startsWith("_:", position)) {
+				int start = position;
+				while (position < line.length() && !isWhitespace(line.charAt(position))) {
+					position++;
+				}
+				if (line.charAt(position - 1) == '.') {
+					position--;
+				}
+				return line.substring(start, position);
+			}
+			return parseIRI();
+		}
+
+		private String parseIRI() {
+			expect('<');
+			StringBuilder iri = new StringBuilder();
+			while (position < line.length() && line.charAt(position) != '>') {
+				char c = line.charAt(position++);
+				if (c == '\\') {
+					unescape(iri);
+				}
+				else {
+					iri.append(c);
+				}
+			}
+			expect('>');
+			return iri.toString();
+		}
+
+		private String parseLiteral() {
+			expect('"');
+			StringBuilder literal = new StringBuilder();
+			while (position < line.length() && line.charAt(position) != '"') {
+				char c = line.charAt(position++);
+				if (c == '\\') {
+					unescape(literal);
+				}
+				else {
+					literal.append(c);
+				}
+			}
+			expect('"');
+			if (line.startsWith("^^", position)) {
+				position += 2;
+				parseIRI();
+			}
+			else if (position < line.length() && line.charAt(position) == '@') {
+				while (position < line.length() && !isWhitespace(line.charAt(position)) && line.charAt(position) != '.') {
+					position++;
+				}
+			}
+			return literal.toString();
+		}
+
+		private void unescape(StringBuilder value) {
+			if (position == line.length()) {
+				throw error("incomplete escape sequence");
+			}
+			char c = line.charAt(position++);
+			switch (c) {
+			case 't': value.append('\t'); break;
+			case 'b': value.append('\b'); break;
+			case 'n': value.append('\n'); break;
+			case 'r': value.append('\r'); break;
+			case 'f': value.append('\f'); break;
+			case '"': value.append('"'); break;
+			case '\'': value.append('\''); break;
+			case '\\': value.append('\\'); break;
+			case 'u': value.appendCodePoint(parseHex(4)); break;
+			case 'U': value.appendCodePoint(parseHex(8)); break;
+			default: throw error("unknown escape sequence \\" + c);
+			}
+		}
+
+		private int parseHex(int length) {
+			if (position + length > line.length()) {
+				throw error("incomplete escape sequence");
+			}
+			try {
+				return Integer.parseInt(line.substring(position, position += length), 16);
+			}
+			catch (NumberFormatException e) {
+				throw error("invalid escape sequence");
+			}
+		}
+
+		private void expect(char expected) {
+			if (position == line.length() || line.charAt(position) != expected) {
+				throw error("expected '" + expected + "'");
+			}
+			position++;
+		}
+
+		private void skipWhitespace() {
+			while (position < line.length() && isWhitespace(line.charAt(position))) {
+				position++;
+			}
+		}
+
+		private static boolean isWhitespace(char c) {
+			return c == ' ' || c == '\t';
+		}
+
+		private SBOLException error(String message) {
+			return new SBOLException("Line " + lineNumber + ", column " + (position + 1) + ": " + message + ".");
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package org.sbolstandard.core2;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import uk.ac.ncl.intbio.core.datatree.IdentifiableDocument;
+import uk.ac.ncl.intbio.core.datatree.Literal;
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
+import uk.ac.ncl.intbio.core.datatree.NestedDocument;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Writes top-level documents one at a time as N-Triples, to be read by {@link NTriplesReader}.
+ * <p>
+ * Each top-level document is written as a block that starts with a blank line, followed by an
+ * {@code rdf:type} statement and one statement per property. A nested document is referred to by its
+ * identity, or by a blank node if it has none, and its own statements directly follow the statement
+ * that refers to it. Literals are written as plain strings. The layout is only for the reader of the
+ * file: {@link NTriplesReader} tells nested documents from references by the properties and types
+ * alone, so the lines may be sorted, shuffled or merged with those of other files. Before the block, a
+ * {@code # @prefix} comment declares each namespace of the document that is not declared yet, so that
+ * the reader can split every IRI back into the namespace and the local part it was made of, and a
+ * top-level document whose type is not that of an SBOL top-level class, which is a GenericTopLevel, is
+ * named by a {@code # @toplevel} comment, so that the reader does not nest it in an annotation that
+ * refers to it. Since every block stands on its own, the output of separate writers can be concatenated
+ * in any grouping.
+ *
+ * @version 2.0-beta
+ */
+final class NTriplesWriter {
+
+	private static final String RDF_TYPE = "<" + Sbol1Terms.rdf.getNamespaceURI() + "type>";
+
+	private final Writer writer;
+	/**
+	 * The prefix of each declared namespace.
+	 */
+	private final Map<String, String> prefixes = new HashMap<>();
+	private final Set<String> usedPrefixes = new HashSet<>();
+	private String blankNodePrefix;
+	private int blankNodes;
+
+	/**
+	 * @param writer
+	 * @param namespaceBindings the namespace bindings already declared in the output
+	 */
+	NTriplesWriter(Writer writer, List<NamespaceBinding> namespaceBindings) {
+		this.writer = writer;
+		for (NamespaceBinding binding : namespaceBindings) {
+			prefixes.put(binding.getNamespaceURI(), binding.getPrefix());
+			usedPrefixes.add(binding.getPrefix());
+		}
+	}
+
+	/**
+	 * Writes the statements of the given top-level document.
+	 *
+	 * @param topLevel
+	 * @param index the position of the top-level in the output, which keeps the labels of its blank nodes
+	 * apart from those of other top-levels
+	 * @throws IOException
+	 */
+	void write(TopLevelDocument<QName> topLevel, int index) throws IOException {
+		blankNodePrefix = "_:b" + index + "_";
+		blankNodes = 0;
+		Map<String, String> namespaces = new LinkedHashMap<>();
+		addNamespaces(topLevel, namespaces);
+		for (Map.Entry<String, String> namespace : namespaces.entrySet()) {
+			if (!prefixes.containsKey(namespace.getKey())) {
+				writePrefix(writer, declare(namespace.getKey(), namespace.getValue()), namespace.getKey());
+			}
+		}
+		writer.write('\n');
+		String node = getNode(topLevel);
+		if (!Sbol2Property.isTopLevelType(topLevel.getType())) {
+			writer.write("# @toplevel " + node + "\n");
+		}
+		writeDocument(topLevel, node);
+	}
+
+	/**
+	 * Flushes the stream, without closing the underlying output.
+	 *
+	 * @throws IOException
+	 */
+	void flush() throws IOException {
+		writer.flush();
+	}
+
+	/**
+	 * Writes the given namespace bindings as {@code # @prefix} comments, from which {@link NTriplesReader}
+	 * recovers the prefixes.
+	 *
+	 * @param writer
+	 * @param namespaceBindings
+	 * @throws IOException
+	 */
+	static void writeStart(Writer writer, List<NamespaceBinding> namespaceBindings) throws IOException {
+		for (NamespaceBinding binding : namespaceBindings) {
+			writePrefix(writer, binding.getPrefix(), binding.getNamespaceURI());
+		}
+	}
+
+	private static void writePrefix(Writer writer, String prefix, String namespaceURI) throws IOException {
+		writer.write("# @prefix " + prefix + ": <" + escapeIRI(namespaceURI) + "> .\n");
+	}
+
+	/**
+	 * Adds the namespace and the prefix of the type and of every property name of the given document
+	 * and of its nested documents to the given map.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void addNamespaces(IdentifiableDocument<QName> document, Map<String, String> namespaces) {
+		addNamespace(document.getType(), namespaces);
+		for (NamedProperty<QName> property : document.getProperties()) {
+			addNamespace(property.getName(), namespaces);
+			if (property.getValue() instanceof NestedDocument) {
+				addNamespaces((NestedDocument<QName>) property.getValue(), namespaces);
+			}
+		}
+	}
+
+	private static void addNamespace(QName name, Map<String, String> namespaces) {
+		if (!namespaces.containsKey(name.getNamespaceURI())) {
+			namespaces.put(name.getNamespaceURI(), name.getPrefix());
+		}
+	}
+
+	/**
+	 * Declares the given namespace under the given prefix or, if that is empty or already declared for
+	 * another namespace, under a prefix made from the namespace.
+	 *
+	 * @return the prefix of the namespace
+	 */
+	private String declare(String namespaceURI, String prefix) {
+		if (prefix.isEmpty() || usedPrefixes.contains(prefix)) {
+			prefix = "ns" + Integer.toHexString(namespaceURI.hashCode());
+		}
+		prefixes.put(namespaceURI, prefix);
+		usedPrefixes.add(prefix);
+		return prefix;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void writeDocument(IdentifiableDocument<QName> document, String subject) throws IOException {
+		writeStatement(subject, RDF_TYPE, toIRI(document.getType()));
+		for (NamedProperty<QName> property : document.getProperties()) {
+			String predicate = toIRI(property.getName());
+			if (property.getValue() instanceof NestedDocument) {
+				NestedDocument<QName> nested = (NestedDocument<QName>) property.getValue();
+				String object = getNode(nested);
+				writeStatement(subject, predicate, object);
+				writeDocument(nested, object);
+				continue;
+			}
+			Object literal = ((Literal<QName>) property.getValue()).getValue();
+			if (literal instanceof URI) {
+				writeStatement(subject, predicate, "<" + escapeIRI(literal.toString()) + ">");
+			}
+			else {
+				writeStatement(subject, predicate, "\"" + escapeLiteral(literal.toString()) + "\"");
+			}
+		}
+	}
+
+	private void writeStatement(String subject, String predicate, String object) throws IOException {
+		writer.write(subject);
+		writer.write(' ');
+		writer.write(predicate);
+		writer.write(' ');
+		writer.write(object);
+		writer.write(" .\n");
+	}
+
+	private String getNode(IdentifiableDocument<QName> document) {
+		if (document.getIdentity() == null) {
+			return blankNodePrefix + blankNodes++;
+		}
+		return "<" + escapeIRI(document.getIdentity().toString()) + ">";
+	}
+
+	private static String toIRI(QName name) {
+		return "<" + escapeIRI(name.getNamespaceURI() + name.getLocalPart()) + ">";
+	}
+
+	private static String escapeIRI(String iri) {
+		StringBuilder escaped = null;
+		for (int i = 0; i < iri.length(); i++) {
+			char c = iri.charAt(i);
+			if (c <= ' ' || "<>\"{}|^`\\".indexOf(c) >= 0) {
+				if (escaped == null) {
+					escaped = new StringBuilder(iri.substring(0, i));
+				}
+				escaped.append(String.format("\\u%04X", (int) c));
+			}
+			else if (escaped != null) {
+				escaped.append(c);
+			}
+		}
+		return escaped == null ? iri : escaped.toString();
+	}
+
+	private static String escapeLiteral(String literal) {
+		StringBuilder escaped = new StringBuilder(literal.length());
+		for (int i = 0; i < literal.length(); i++) {
+			char c = literal.charAt(i);
+			switch (c) {
+			case '\\': escaped.append("\\\\"); break;
+			case '"': escaped.append("\\\""); break;
+			case '\n': escaped.append("\\n"); break;
+			case '\r': escaped.append("\\r"); break;
+			default: escaped.append(c); break;
+			}
+		}
+		return escaped.toString();
+	}
+}
@@ -4,6 +4,7 @@ import java.net.URI;
 
 import static org.sbolstandard.core2.URIcompliance.*;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -32,7 +33,7 @@ public class Participation extends Identified {
 	private Participation(Participation participation) {
 		super(participation);
 		roles = new HashSet<>();
-		for (URI role : participation.getRoles()) {
+		for (URI role : participation.getRolesView()) {
 			roles.add(role);
 		}		
 		this.setRoles(roles);
@@ -73,15 +74,26 @@ public class Participation extends Identified {
 	 * given {@code participant} URI is not found in its list of FunctionalComponent instances.
 	 */
 	public void setParticipant(URI participant) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (participant == null) {
 			throw new IllegalArgumentException("Participation is required to have a participant.");
 		}
 		if (moduleDefinition != null && moduleDefinition.getFunctionalComponent(participant)==null) {
 			throw new IllegalArgumentException("Functional component '" + participant + "' does not exist.");
 		}
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, this.participant, participant);
 		this.participant = participant;
 	}
+
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, Collections.singletonList(participant));
+		}
+		else {
+			index.remove(this, Collections.singletonList(participant));
+		}
+	}
 	
 	/**
 	 * Adds the given role URI to this Participation's set of role URIs.
@@ -95,7 +107,7 @@ public class Participation extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public boolean addRole(URI roleURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return roles.add(roleURI);
 	}
 	
@@ -111,7 +123,7 @@ public class Participation extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public boolean removeRole(URI roleURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		return roles.remove(roleURI);
 	}
 	
@@ -127,7 +139,7 @@ public class Participation extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */
 	public void setRoles(Set<URI> roles) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		clearRoles();
 		if (roles==null) return;
 		for (URI role : roles) {
@@ -143,6 +155,16 @@ public class Participation extends Identified {
 	public Set<URI> getRoles() {
 		return roles;
 	}
+
+	/**
+	 * Returns a read-only view of the set of role URIs referenced by this Participation object. Unlike
+	 * {@link #getRoles()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of role URIs referenced by this Participation object.
+	 */
+	public Set<URI> getRolesView() {
+		return Collections.unmodifiableSet(roles);
+	}
 	
 	/**
 	 * Checks if the given role URI is included in this Participation
@@ -166,7 +188,7 @@ public class Participation extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void clearRoles() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		roles.clear();
 	}
 
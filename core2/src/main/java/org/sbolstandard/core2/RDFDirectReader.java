@@ -0,0 +1,683 @@
+package org.sbolstandard.core2;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Builds SBOL 2.0 objects straight from the StAX events of an RDF/XML stream.
+ * <p>
+ * Unlike {@link SBOLReader#readRDF(java.io.InputStream)}, no {@code DocumentRoot} tree is built
+ * for the input: the properties of each object are read into local variables and the object is
+ * created and registered exactly as the tree-based parser would do it. Only annotations, which
+ * are kept as trees in the data model anyway, go through {@link RDFTopLevelReader}.
+ *
+ * @version 2.0-beta
+ */
+final class RDFDirectReader {
+
+	private static final String RDF_NS = Sbol1Terms.rdf.getNamespaceURI();
+
+	private final RDFTopLevelReader topLevelReader;
+	private final XMLStreamReader xmlReader;
+	private final SBOLReaderOptions options;
+
+	/**
+	 * @param topLevelReader the reader that has consumed the {@code rdf:RDF} start tag of {@code xmlReader}
+	 * @param xmlReader
+	 * @param options the options selecting the top-levels and properties to read
+	 */
+	RDFDirectReader(RDFTopLevelReader topLevelReader, XMLStreamReader xmlReader, SBOLReaderOptions options) {
+		this.topLevelReader = topLevelReader;
+		this.xmlReader = xmlReader;
+		this.options = options;
+	}
+
+	/**
+	 * Reads all remaining top-level elements of the types selected by the options into the given SBOLDocument.
+	 *
+	 * @param SBOLDoc
+	 * @throws XMLStreamException
+	 */
+	void read(SBOLDocument SBOLDoc) throws XMLStreamException {
+		while (xmlReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			QName type = xmlReader.getName();
+			if (!options.isTopLevelTypeRead(type))
+				topLevelReader.skipElement();
+			else if (type.equals(Sbol2Terms.Collection.Collection))
+				readCollection(SBOLDoc);
+			else if (type.equals(Sbol2Terms.ModuleDefinition.ModuleDefinition))
+				readModuleDefinition(SBOLDoc);
+			else if (type.equals(Sbol2Terms.Model.Model))
+				readModel(SBOLDoc);
+			else if (type.equals(Sbol2Terms.Sequence.Sequence))
+				readSequence(SBOLDoc);
+			else if (type.equals(Sbol2Terms.ComponentDefinition.ComponentDefinition))
+				readComponentDefinition(SBOLDoc);
+			else
+				readGenericTopLevel(SBOLDoc, type);
+		}
+		xmlReader.close();
+	}
+
+	/**
+	 * Holds the properties shared by all Identified and Documented objects while the
+	 * element of an object is read.
+	 */
+	private final class IdentifiedProperties {
+		final URI identity;
+		URI persistentIdentity = null;
+		String version = null;
+		String displayId = null;
+		String name = null;
+		String description = null;
+		URI wasDerivedFrom = null;
+		final List<Annotation> annotations = new ArrayList<>();
+
+		IdentifiedProperties() {
+			this.identity = topLevelReader.readAbout();
+		}
+
+		/**
+		 * Reads the property element the reader is positioned on, which is either a property
+		 * common to all objects or an annotation.
+		 */
+		void read(Sbol2Property property) throws XMLStreamException {
+			switch (property) {
+			case PERSISTENT_IDENTITY:
+				persistentIdentity = readURI();
+				break;
+			case VERSION:
+				version = readValue();
+				break;
+			case DISPLAY_ID:
+				displayId = readValue();
+				break;
+			case TITLE:
+				name = readValue();
+				break;
+			case DESCRIPTION:
+				description = readValue();
+				break;
+			case WAS_DERIVED_FROM:
+				wasDerivedFrom = readURI();
+				break;
+			default:
+				annotations.add(new Annotation(topLevelReader.readProperty()));
+				break;
+			}
+		}
+
+		void setIdentified(Identified identified) {
+			if (persistentIdentity != null)
+				identified.setPersistentIdentity(persistentIdentity);
+			if (version != null)
+				identified.setVersion(version);
+			if (displayId != null)
+				identified.setDisplayId(displayId);
+			if (name != null)
+				identified.setName(name);
+			if (description != null)
+				identified.setDescription(description);
+			if (wasDerivedFrom != null)
+				identified.setWasDerivedFrom(wasDerivedFrom);
+			if (!annotations.isEmpty())
+				identified.setAnnotations(annotations);
+		}
+	}
+
+	/**
+	 * Advances to the next property element of the current object.
+	 *
+	 * @return the name of the property, or {@code null} at the end tag of the object
+	 */
+	private QName nextProperty() throws XMLStreamException {
+		if (xmlReader.nextTag() == XMLStreamConstants.END_ELEMENT)
+			return null;
+		return xmlReader.getName();
+	}
+
+	/**
+	 * Returns the {@code rdf:resource} or the text of the current property element,
+	 * leaving the reader on its end tag.
+	 */
+	private String readValue() throws XMLStreamException {
+		String resource = xmlReader.getAttributeValue(RDF_NS, "resource");
+		if (resource != null) {
+			xmlReader.nextTag();
+			return resource;
+		}
+		return xmlReader.getElementText();
+	}
+
+	private URI readURI() throws XMLStreamException {
+		return URI.create(readValue());
+	}
+
+	/**
+	 * Positions the reader on the typed node nested in the current property element.
+	 */
+	private QName enterNested() throws XMLStreamException {
+		xmlReader.nextTag();
+		return xmlReader.getName();
+	}
+
+	/**
+	 * Moves the reader from the end tag of a nested typed node to the end tag of its property element.
+	 */
+	private void exitNested() throws XMLStreamException {
+		xmlReader.nextTag();
+	}
+
+	private ComponentDefinition readComponentDefinition(SBOLDocument SBOLDoc) throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		URI structure = null;
+		Set<URI> type = new HashSet<>();
+		Set<URI> roles = new HashSet<>();
+		List<Component> components = new ArrayList<>();
+		List<SequenceAnnotation> sequenceAnnotations = new ArrayList<>();
+		List<SequenceConstraint> sequenceConstraints = new ArrayList<>();
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.COMPONENT_DEFINITION_PROPERTIES, property);
+			switch (sbol2Property) {
+			case TYPE:
+				type.add(readURI());
+				break;
+			case ROLE:
+				roles.add(readURI());
+				break;
+			case COMPONENT:
+				enterNested();
+				components.add(readComponent());
+				exitNested();
+				break;
+			case SEQUENCE:
+				structure = readURI();
+				break;
+			case SEQUENCE_ANNOTATION:
+				enterNested();
+				sequenceAnnotations.add(readSequenceAnnotation());
+				exitNested();
+				break;
+			case SEQUENCE_CONSTRAINT:
+				enterNested();
+				sequenceConstraints.add(readSequenceConstraint());
+				exitNested();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		ComponentDefinition c = SBOLDoc.createComponentDefinition(identified.identity, type);
+		c.setRoles(roles);
+		if (structure != null)
+			c.addSequence(structure);
+		if (!components.isEmpty())
+			c.setComponents(components);
+		if (!sequenceAnnotations.isEmpty())
+			c.setSequenceAnnotations(sequenceAnnotations);
+		if (!sequenceConstraints.isEmpty())
+			c.setSequenceConstraints(sequenceConstraints);
+		identified.setIdentified(c);
+		return c;
+	}
+
+	private SequenceConstraint readSequenceConstraint() throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		RestrictionType restriction = null;
+		URI subject = null;
+		URI object = null;
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.SEQUENCE_CONSTRAINT_PROPERTIES, property);
+			switch (sbol2Property) {
+			case RESTRICTION:
+				restriction = RestrictionType.convertToRestrictionType(readURI());
+				break;
+			case SUBJECT:
+				subject = readURI();
+				break;
+			case OBJECT:
+				object = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		SequenceConstraint s = new SequenceConstraint(identified.identity, restriction, subject, object);
+		identified.setIdentified(s);
+		return s;
+	}
+
+	private SequenceAnnotation readSequenceAnnotation() throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		URI componentURI = null;
+		List<Location> locations = new ArrayList<>();
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.SEQUENCE_ANNOTATION_PROPERTIES, property);
+			switch (sbol2Property) {
+			case LOCATION:
+				locations.add(readLocation(enterNested()));
+				exitNested();
+				break;
+			case COMPONENT:
+				componentURI = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		SequenceAnnotation s = new SequenceAnnotation(identified.identity, locations);
+		if (componentURI != null)
+			s.setComponent(componentURI);
+		identified.setIdentified(s);
+		return s;
+	}
+
+	private Location readLocation(QName type) throws XMLStreamException {
+		Map<QName, Sbol2Property> properties;
+		if (type.equals(Sbol2Terms.Range.Range)) {
+			properties = Sbol2Property.RANGE_PROPERTIES;
+		}
+		else if (type.equals(Sbol2Terms.Cut.Cut)) {
+			properties = Sbol2Property.CUT_PROPERTIES;
+		}
+		else if (type.equals(Sbol2Terms.GenericLocation.GenericLocation)) {
+			properties = Sbol2Property.GENERIC_LOCATION_PROPERTIES;
+		}
+		else {
+			throw new SBOLException("Location of type " + type + " is not a Range, Cut, or GenericLocation.");
+		}
+
+		IdentifiedProperties identified = new IdentifiedProperties();
+		Integer start = null;
+		Integer end = null;
+		Integer at = null;
+		URI orientation = null;
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(properties, property);
+			switch (sbol2Property) {
+			case START:
+				start = Integer.parseInt(readValue());
+				break;
+			case END:
+				end = Integer.parseInt(readValue());
+				break;
+			case AT:
+				at = Integer.parseInt(readValue());
+				break;
+			case ORIENTATION:
+				orientation = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		Location l;
+		if (type.equals(Sbol2Terms.Range.Range)) {
+			if (start == null || end == null) {
+				throw new SBOLException("Range " + identified.identity + " has no start or no end.");
+			}
+			l = new Range(identified.identity, start, end);
+		}
+		else if (type.equals(Sbol2Terms.Cut.Cut)) {
+			if (at == null) {
+				throw new SBOLException("Cut " + identified.identity + " has no at.");
+			}
+			l = new Cut(identified.identity, at);
+		}
+		else {
+			l = new GenericLocation(identified.identity);
+		}
+		if (orientation != null)
+			l.setOrientation(OrientationType.convertToOrientationType(orientation));
+		identified.setIdentified(l);
+		return l;
+	}
+
+	private Component readComponent() throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		URI subComponentURI = null;
+		AccessType access = null;
+		List<MapsTo> mapsTo = new ArrayList<>();
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.COMPONENT_PROPERTIES, property);
+			switch (sbol2Property) {
+			case ACCESS:
+				access = AccessType.convertToAccessType(readURI());
+				break;
+			case MAPS_TO:
+				enterNested();
+				mapsTo.add(readMapsTo());
+				exitNested();
+				break;
+			case DEFINITION:
+				subComponentURI = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		Component c = new Component(identified.identity, access, subComponentURI);
+		if (!mapsTo.isEmpty())
+			c.setMapsTo(mapsTo);
+		identified.setIdentified(c);
+		return c;
+	}
+
+	private GenericTopLevel readGenericTopLevel(SBOLDocument SBOLDoc, QName type) throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			identified.read(Sbol2Property.lookup(Sbol2Property.GENERIC_TOP_LEVEL_PROPERTIES, property));
+		}
+		GenericTopLevel t = SBOLDoc.createGenericTopLevel(identified.identity, type);
+		identified.setIdentified(t);
+		return t;
+	}
+
+	private Model readModel(SBOLDocument SBOLDoc) throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		URI source = null;
+		URI language = null;
+		URI framework = null;
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.MODEL_PROPERTIES, property);
+			switch (sbol2Property) {
+			case SOURCE:
+				source = readURI();
+				break;
+			case LANGUAGE:
+				language = readURI();
+				break;
+			case FRAMEWORK:
+				framework = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		Model m = SBOLDoc.createModel(identified.identity, source, language, framework);
+		identified.setIdentified(m);
+		return m;
+	}
+
+	private Collection readCollection(SBOLDocument SBOLDoc) throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		Set<URI> members = new HashSet<>();
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.COLLECTION_PROPERTIES, property);
+			switch (sbol2Property) {
+			case MEMBER:
+				members.add(readURI());
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		Collection c = SBOLDoc.createCollection(identified.identity);
+		if (!members.isEmpty())
+			c.setMembers(members);
+		identified.setIdentified(c);
+		return c;
+	}
+
+	private ModuleDefinition readModuleDefinition(SBOLDocument SBOLDoc) throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		Set<URI> roles = new HashSet<>();
+		Set<URI> models = new HashSet<>();
+		List<FunctionalComponent> functionalComponents = new ArrayList<>();
+		List<Interaction> interactions = new ArrayList<>();
+		List<Module> subModules = new ArrayList<>();
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.MODULE_DEFINITION_PROPERTIES, property);
+			switch (sbol2Property) {
+			case ROLE:
+				roles.add(readURI());
+				break;
+			case MODULE:
+				enterNested();
+				subModules.add(readModule());
+				exitNested();
+				break;
+			case INTERACTION:
+				enterNested();
+				interactions.add(readInteraction());
+				exitNested();
+				break;
+			case FUNCTIONAL_COMPONENT:
+				enterNested();
+				functionalComponents.add(readFunctionalComponent());
+				exitNested();
+				break;
+			case MODEL:
+				models.add(readURI());
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		ModuleDefinition moduleDefinition = SBOLDoc.createModuleDefinition(identified.identity);
+		if (!roles.isEmpty())
+			moduleDefinition.setRoles(roles);
+		if (!functionalComponents.isEmpty())
+			moduleDefinition.setFunctionalComponents(functionalComponents);
+		if (!interactions.isEmpty())
+			moduleDefinition.setInteractions(interactions);
+		if (!models.isEmpty())
+			moduleDefinition.setModels(models);
+		if (!subModules.isEmpty())
+			moduleDefinition.setModules(subModules);
+		identified.setIdentified(moduleDefinition);
+		return moduleDefinition;
+	}
+
+	private Module readModule() throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		URI definitionURI = null;
+		List<MapsTo> mappings = new ArrayList<>();
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.MODULE_PROPERTIES, property);
+			switch (sbol2Property) {
+			case MAPS_TO:
+				enterNested();
+				mappings.add(readMapsTo());
+				exitNested();
+				break;
+			case DEFINITION:
+				definitionURI = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		Module submodule = new Module(identified.identity, definitionURI);
+		if (!mappings.isEmpty())
+			submodule.setMapsTos(mappings);
+		identified.setIdentified(submodule);
+		return submodule;
+	}
+
+	private MapsTo readMapsTo() throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		URI remote = null;
+		RefinementType refinement = null;
+		URI local = null;
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.MAPS_TO_PROPERTIES, property);
+			switch (sbol2Property) {
+			case REFINEMENT:
+				refinement = RefinementType.convertToRefinementType(readURI());
+				break;
+			case REMOTE:
+				remote = readURI();
+				break;
+			case LOCAL:
+				local = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		MapsTo map = new MapsTo(identified.identity, refinement, local, remote);
+		identified.setIdentified(map);
+		return map;
+	}
+
+	private Interaction readInteraction() throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		Set<URI> type = new HashSet<>();
+		List<Participation> participations = new ArrayList<>();
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.INTERACTION_PROPERTIES, property);
+			switch (sbol2Property) {
+			case TYPE:
+				type.add(readURI());
+				break;
+			case PARTICIPATION:
+				enterNested();
+				participations.add(readParticipation());
+				exitNested();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		Interaction i = new Interaction(identified.identity, type);
+		if (!participations.isEmpty())
+			i.setParticipations(participations);
+		identified.setIdentified(i);
+		return i;
+	}
+
+	private Participation readParticipation() throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		Set<URI> roles = new HashSet<>();
+		URI participant = null;
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.PARTICIPATION_PROPERTIES, property);
+			switch (sbol2Property) {
+			case ROLE:
+				roles.add(readURI());
+				break;
+			case PARTICIPANT:
+				participant = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		Participation p = new Participation(identified.identity, participant);
+		if (!roles.isEmpty())
+			p.setRoles(roles);
+		identified.setIdentified(p);
+		return p;
+	}
+
+	private FunctionalComponent readFunctionalComponent() throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		AccessType access = null;
+		DirectionType direction = null;
+		URI functionalComponentURI = null;
+		List<MapsTo> mappings = new ArrayList<>();
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.FUNCTIONAL_COMPONENT_PROPERTIES, property);
+			switch (sbol2Property) {
+			case ACCESS:
+				access = AccessType.convertToAccessType(readURI());
+				break;
+			case DIRECTION:
+				direction = DirectionType.convertToDirectionType(readURI());
+				break;
+			case MAPS_TO:
+				enterNested();
+				mappings.add(readMapsTo());
+				exitNested();
+				break;
+			case DEFINITION:
+				functionalComponentURI = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		FunctionalComponent fc = new FunctionalComponent(identified.identity, access, functionalComponentURI, direction);
+		if (!mappings.isEmpty())
+			fc.setMapsTo(mappings);
+		identified.setIdentified(fc);
+		return fc;
+	}
+
+	private Sequence readSequence(SBOLDocument SBOLDoc) throws XMLStreamException {
+		IdentifiedProperties identified = new IdentifiedProperties();
+		String elements = options.isSkipSequenceElements() ? "" : null;
+		URI encoding = null;
+
+		for (QName property = nextProperty(); property != null; property = nextProperty()) {
+			Sbol2Property sbol2Property = Sbol2Property.lookup(Sbol2Property.SEQUENCE_PROPERTIES, property);
+			switch (sbol2Property) {
+			case ELEMENTS:
+				if (options.isSkipSequenceElements())
+					topLevelReader.skipElement();
+				else
+					elements = readValue();
+				break;
+			case ENCODING:
+				encoding = readURI();
+				break;
+			default:
+				identified.read(sbol2Property);
+				break;
+			}
+		}
+
+		Sequence sequence = SBOLDoc.createSequence(identified.identity, elements, encoding);
+		identified.setIdentified(sequence);
+		return sequence;
+	}
+}
@@ -0,0 +1,197 @@
+package org.sbolstandard.core2;
+
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperties;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperty;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamespaceBinding;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NestedDocument;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocument;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
+import uk.ac.ncl.intbio.core.datatree.NestedDocument;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Pulls top-level documents one at a time out of an RDF/XML stream.
+ * <p>
+ * Only the typed-node subset of RDF/XML written by {@link SBOLWriter} is understood: every child
+ * of {@code rdf:RDF} is a top-level element identified by {@code rdf:about}, and each of its
+ * property elements carries either an {@code rdf:resource} attribute, a text value, or one nested
+ * typed node. This matches the trees produced by {@code RdfIo}, but only one top-level is held
+ * in memory at a time.
+ *
+ * @version 2.0-beta
+ */
+final class RDFTopLevelReader {
+
+	private static final String RDF_NS = Sbol1Terms.rdf.getNamespaceURI();
+
+	private final XMLStreamReader xmlReader;
+	private final List<NamespaceBinding> namespaceBindings = new ArrayList<>();
+	private boolean finished = false;
+
+	/**
+	 * Positions the given reader on the {@code rdf:RDF} root element and records its namespace bindings.
+	 *
+	 * @param xmlReader
+	 * @throws XMLStreamException if the stream does not start with an {@code rdf:RDF} element
+	 */
+	RDFTopLevelReader(XMLStreamReader xmlReader) throws XMLStreamException {
+		this.xmlReader = xmlReader;
+		int event = xmlReader.getEventType();
+		while (event != XMLStreamConstants.START_ELEMENT && xmlReader.hasNext()) {
+			event = xmlReader.next();
+		}
+		if (event != XMLStreamConstants.START_ELEMENT
+				|| !RDF_NS.equals(xmlReader.getNamespaceURI())
+				|| !"RDF".equals(xmlReader.getLocalName())) {
+			throw new XMLStreamException("Expected an rdf:RDF root element", xmlReader.getLocation());
+		}
+		for (int i = 0; i < xmlReader.getNamespaceCount(); i++) {
+			String prefix = xmlReader.getNamespacePrefix(i);
+			namespaceBindings.add(NamespaceBinding(xmlReader.getNamespaceURI(i), prefix == null ? "" : prefix));
+		}
+	}
+
+	/**
+	 * Returns the namespace bindings declared on the {@code rdf:RDF} root element.
+	 *
+	 * @return the namespace bindings declared on the root element
+	 */
+	List<NamespaceBinding> getNamespaceBindings() {
+		return namespaceBindings;
+	}
+
+	/**
+	 * Reads the next top-level element from the stream.
+	 *
+	 * @return the next top-level document, or {@code null} once the end of {@code rdf:RDF} is reached
+	 * @throws XMLStreamException
+	 */
+	TopLevelDocument<QName> read() throws XMLStreamException {
+		return read(null);
+	}
+
+	/**
+	 * Reads the next top-level element of a type read with the given options, passing over the
+	 * elements of all other top-levels and, if the options say so, the {@code elements} of Sequences.
+	 *
+	 * @param options the options selecting what to read, or {@code null} to read everything
+	 * @return the next top-level document, or {@code null} once the end of {@code rdf:RDF} is reached
+	 * @throws XMLStreamException
+	 */
+	TopLevelDocument<QName> read(SBOLReaderOptions options) throws XMLStreamException {
+		if (finished) {
+			return null;
+		}
+		while (xmlReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			QName type = xmlReader.getName();
+			if (options != null && !options.isTopLevelTypeRead(type)) {
+				skipElement();
+				continue;
+			}
+			URI identity = readAbout();
+			QName skipped = null;
+			if (options != null && options.isSkipSequenceElements() && type.equals(Sbol2Terms.Sequence.Sequence)) {
+				skipped = Sbol2Terms.Sequence.elements;
+			}
+			return TopLevelDocument(type, identity, NamedProperties(readProperties(skipped)));
+		}
+		finished = true;
+		xmlReader.close();
+		return null;
+	}
+
+	URI readAbout() {
+		String about = xmlReader.getAttributeValue(RDF_NS, "about");
+		return about == null ? null : URI.create(about);
+	}
+
+	/**
+	 * Reads the property elements of the node element the reader is positioned on,
+	 * leaving the reader on the node's end tag.
+	 */
+	List<NamedProperty<QName>> readProperties() throws XMLStreamException {
+		return readProperties(null);
+	}
+
+	/**
+	 * Reads the property elements of the node element the reader is positioned on, passing over
+	 * the elements of properties with the given name, and leaving the reader on the node's end tag.
+	 */
+	private List<NamedProperty<QName>> readProperties(QName skipped) throws XMLStreamException {
+		List<NamedProperty<QName>> properties = new ArrayList<>();
+		while (xmlReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			if (xmlReader.getName().equals(skipped)) {
+				skipElement();
+			}
+			else {
+				properties.add(readProperty());
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Passes over the element the reader is positioned on, leaving the reader on its end tag.
+	 * The text and attributes of the element and its descendants are never materialized.
+	 */
+	void skipElement() throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = xmlReader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			}
+			else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Reads the property element the reader is positioned on, leaving the reader on its end tag.
+	 */
+	NamedProperty<QName> readProperty() throws XMLStreamException {
+		QName name = xmlReader.getName();
+		String resource = xmlReader.getAttributeValue(RDF_NS, "resource");
+		if (resource != null) {
+			xmlReader.nextTag();
+			return NamedProperty(name, URI.create(resource));
+		}
+		StringBuilder text = new StringBuilder();
+		NestedDocument<QName> nested = null;
+		int event = xmlReader.next();
+		while (event != XMLStreamConstants.END_ELEMENT) {
+			switch (event) {
+			case XMLStreamConstants.START_ELEMENT:
+				QName type = xmlReader.getName();
+				URI identity = readAbout();
+				nested = NestedDocument(type, identity, NamedProperties(readProperties()));
+				break;
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.CDATA:
+			case XMLStreamConstants.SPACE:
+			case XMLStreamConstants.ENTITY_REFERENCE:
+				text.append(xmlReader.getText());
+				break;
+			default:
+				break;
+			}
+			event = xmlReader.next();
+		}
+		if (nested != null) {
+			return NamedProperty(name, nested);
+		}
+		return NamedProperty(name, text.toString());
+	}
+}
@@ -0,0 +1,196 @@
+package org.sbolstandard.core2;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import uk.ac.ncl.intbio.core.datatree.IdentifiableDocument;
+import uk.ac.ncl.intbio.core.datatree.Literal;
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
+import uk.ac.ncl.intbio.core.datatree.NestedDocument;
+import uk.ac.ncl.intbio.core.datatree.PropertyValue;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Writes top-level documents one at a time to an RDF/XML stream.
+ * <p>
+ * The output is the typed-node subset of RDF/XML understood by {@link RDFTopLevelReader}: every
+ * top-level becomes a child of {@code rdf:RDF} identified by {@code rdf:about}, and each of its
+ * properties becomes a property element holding an {@code rdf:resource} attribute, a text value,
+ * or one nested typed node. Only the top-level being written is held in memory.
+ *
+ * @version 2.0-beta
+ */
+final class RDFTopLevelWriter {
+
+	private static final QName RDF = new QName(Sbol1Terms.rdf.getNamespaceURI(), "RDF", Sbol1Terms.rdf.getPrefix());
+	private static final String RDF_NS = Sbol1Terms.rdf.getNamespaceURI();
+
+	private final XMLStreamWriter xmlWriter;
+	private final Map<String, String> prefixes;
+
+	/**
+	 * @param xmlWriter
+	 * @param namespaceBindings the namespace bindings declared on the {@code rdf:RDF} element
+	 */
+	RDFTopLevelWriter(XMLStreamWriter xmlWriter, List<NamespaceBinding> namespaceBindings) {
+		this.xmlWriter = xmlWriter;
+		this.prefixes = getPrefixes(namespaceBindings);
+	}
+
+	/**
+	 * Starts the document and writes the {@code rdf:RDF} start tag declaring the namespace bindings.
+	 *
+	 * @param encoding the encoding to declare, or {@code null} for none
+	 * @throws XMLStreamException
+	 */
+	void writeStart(String encoding) throws XMLStreamException {
+		if (encoding == null) {
+			xmlWriter.writeStartDocument();
+		}
+		else {
+			xmlWriter.writeStartDocument(encoding, "1.0");
+		}
+		xmlWriter.writeStartElement(RDF.getPrefix(), RDF.getLocalPart(), RDF_NS);
+		for (Map.Entry<String, String> prefix : prefixes.entrySet()) {
+			xmlWriter.writeNamespace(prefix.getValue(), prefix.getKey());
+		}
+	}
+
+	/**
+	 * Writes the given top-level document as a child of {@code rdf:RDF}. If {@link #writeStart(String)} has
+	 * not been called, the document is written as a stand-alone fragment that uses the namespace
+	 * prefixes of the bindings without declaring them.
+	 *
+	 * @param topLevel
+	 * @throws XMLStreamException
+	 */
+	void write(TopLevelDocument<QName> topLevel) throws XMLStreamException {
+		writeDocument(topLevel);
+	}
+
+	/**
+	 * Writes the {@code rdf:RDF} end tag and flushes the stream, without closing the underlying output.
+	 *
+	 * @throws XMLStreamException
+	 */
+	void writeEnd() throws XMLStreamException {
+		xmlWriter.writeEndElement();
+		xmlWriter.writeEndDocument();
+		flush();
+	}
+
+	/**
+	 * Flushes and releases the stream, without closing the underlying output.
+	 *
+	 * @throws XMLStreamException
+	 */
+	void flush() throws XMLStreamException {
+		xmlWriter.flush();
+		xmlWriter.close();
+	}
+
+	/**
+	 * Writes the XML declaration and the {@code rdf:RDF} start tag declaring the given namespace bindings
+	 * straight to the given writer, for output whose top-levels are written as separate fragments.
+	 *
+	 * @param writer
+	 * @param namespaceBindings
+	 * @param encoding the encoding to declare, or {@code null} for none
+	 * @throws IOException
+	 */
+	static void writeStart(Writer writer, List<NamespaceBinding> namespaceBindings, String encoding) throws IOException {
+		Map<String, String> prefixes = getPrefixes(namespaceBindings);
+		writer.write(encoding == null ? "<?xml version=\"1.0\" ?>\n<"
+				: "<?xml version=\"1.0\" encoding=\"" + escapeAttribute(encoding) + "\"?>\n<");
+		writer.write(RDF.getPrefix() + ":" + RDF.getLocalPart());
+		for (Map.Entry<String, String> prefix : prefixes.entrySet()) {
+			writer.write(prefix.getValue().isEmpty() ? " xmlns=\"" : " xmlns:" + prefix.getValue() + "=\"");
+			writer.write(escapeAttribute(prefix.getKey()));
+			writer.write("\"");
+		}
+		writer.write(">\n");
+	}
+
+	/**
+	 * Writes the {@code rdf:RDF} end tag straight to the given writer.
+	 *
+	 * @param writer
+	 * @throws IOException
+	 */
+	static void writeEnd(Writer writer) throws IOException {
+		writer.write("\n</" + RDF.getPrefix() + ":" + RDF.getLocalPart() + ">\n");
+	}
+
+	/**
+	 * Maps the namespace of {@code rdf} and of each of the given bindings to its prefix.
+	 */
+	private static Map<String, String> getPrefixes(List<NamespaceBinding> namespaceBindings) {
+		Map<String, String> prefixes = new HashMap<>();
+		prefixes.put(RDF_NS, RDF.getPrefix());
+		for (NamespaceBinding binding : namespaceBindings) {
+			prefixes.put(binding.getNamespaceURI(), binding.getPrefix());
+		}
+		return prefixes;
+	}
+
+	private static String escapeAttribute(String value) {
+		return value.replace("&", "&amp;").replace("<", "&lt;").replace("\"", "&quot;");
+	}
+
+	private void writeDocument(IdentifiableDocument<QName> document) throws XMLStreamException {
+		writeStartElement(document.getType());
+		if (document.getIdentity() != null) {
+			xmlWriter.writeAttribute(RDF.getPrefix(), RDF_NS, "about", document.getIdentity().toString());
+		}
+		for (NamedProperty<QName> property : document.getProperties()) {
+			writeProperty(property);
+		}
+		xmlWriter.writeEndElement();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void writeProperty(NamedProperty<QName> property) throws XMLStreamException {
+		PropertyValue<QName> value = property.getValue();
+		if (value instanceof NestedDocument) {
+			writeStartElement(property.getName());
+			writeDocument((NestedDocument<QName>) value);
+			xmlWriter.writeEndElement();
+			return;
+		}
+		Object literal = ((Literal<QName>) value).getValue();
+		if (literal instanceof URI) {
+			writeEmptyElement(property.getName());
+			xmlWriter.writeAttribute(RDF.getPrefix(), RDF_NS, "resource", literal.toString());
+		}
+		else {
+			writeStartElement(property.getName());
+			xmlWriter.writeCharacters(literal.toString());
+			xmlWriter.writeEndElement();
+		}
+	}
+
+	private void writeStartElement(QName name) throws XMLStreamException {
+		String prefix = prefixes.get(name.getNamespaceURI());
+		xmlWriter.writeStartElement(prefix == null ? name.getPrefix() : prefix, name.getLocalPart(), name.getNamespaceURI());
+		if (prefix == null) {
+			xmlWriter.writeNamespace(name.getPrefix(), name.getNamespaceURI());
+		}
+	}
+
+	private void writeEmptyElement(QName name) throws XMLStreamException {
+		String prefix = prefixes.get(name.getNamespaceURI());
+		xmlWriter.writeEmptyElement(prefix == null ? name.getPrefix() : prefix, name.getLocalPart(), name.getNamespaceURI());
+		if (prefix == null) {
+			xmlWriter.writeNamespace(name.getPrefix(), name.getNamespaceURI());
+		}
+	}
+}
@@ -43,7 +43,7 @@ public class Range extends Location{
 	 * the {@code end} value of this Range object.
 	 */ 
 	public void setStart(int value) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (value<=0) {
 			throw new IllegalArgumentException("Range "+this.getIdentity()+" must have a start greater than zero.");
 		}
@@ -85,7 +85,7 @@ public class Range extends Location{
 	 * the {@code start} value of this Range object.
 	 */ 
 	public void setEnd(int value) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (value<=0) {
 			throw new IllegalArgumentException("Range "+this.getIdentity()+" must have an end greater than zero.");
 		}
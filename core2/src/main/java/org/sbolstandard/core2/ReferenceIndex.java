@@ -0,0 +1,235 @@
+package org.sbolstandard.core2;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps each URI referred to by the objects of a document to the objects that refer to it, so that
+ * checking whether an object is in use before removing it takes time in the number of its references
+ * rather than in the size of the document.
+ * <p>
+ * An object is indexed from the time it is added to the document, directly or through its parent,
+ * until it is removed again; changes to the references of an object that is not indexed are ignored.
+ * Objects are told apart by reference, since their {@code equals} and {@code hashCode} methods compare
+ * their mutable content.
+ * <p>
+ * A concurrent index may be used by several threads at the same time. Its maps are concurrent, and the
+ * referrers of each URI are updated and read under their own lock, so threads only wait for each other
+ * while they change the referrers of the same URI. Any other index takes no locks.
+ *
+ * @version 2.0-beta
+ */
+final class ReferenceIndex {
+
+	/**
+	 * The objects that refer to one URI, each with the number of times it refers to it.
+	 */
+	private static final class Referrers {
+		final Map<Identified, Integer> counts = new IdentityHashMap<>();
+		/**
+		 * Whether these referrers have been taken out of the index, after which a thread that still
+		 * holds them must look the URI up again.
+		 */
+		boolean removed;
+
+		void increment(Identified referrer) {
+			Integer count = counts.get(referrer);
+			counts.put(referrer, count == null ? 1 : count + 1);
+		}
+
+		/**
+		 * @return {@code true} if no object refers to the URI any more
+		 */
+		boolean decrement(Identified referrer) {
+			Integer count = counts.get(referrer);
+			if (count == null) {
+				return false;
+			}
+			if (count > 1) {
+				counts.put(referrer, count - 1);
+				return false;
+			}
+			counts.remove(referrer);
+			return counts.isEmpty();
+		}
+	}
+
+	/**
+	 * Wraps an object so that it is compared by reference in a concurrent set.
+	 */
+	private static final class IdentityKey {
+		private final Identified object;
+
+		IdentityKey(Identified object) {
+			this.object = object;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof IdentityKey && ((IdentityKey) obj).object == object;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(object);
+		}
+	}
+
+	private final boolean concurrent;
+	private final Map<URI, Referrers> referrers;
+	/**
+	 * The indexed objects, or their {@link IdentityKey}s if the index is concurrent.
+	 */
+	private final Set<Object> indexed;
+
+	/**
+	 * @param concurrent whether the index may be used by several threads at the same time
+	 */
+	ReferenceIndex(boolean concurrent) {
+		this.concurrent = concurrent;
+		if (concurrent) {
+			referrers = new ConcurrentHashMap<>();
+			indexed = Collections.newSetFromMap(new ConcurrentHashMap<Object, Boolean>());
+		}
+		else {
+			referrers = new HashMap<>();
+			indexed = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		}
+	}
+
+	/**
+	 * Starts indexing the given object, which refers to the given URIs. Does nothing if the object is
+	 * already indexed.
+	 *
+	 * @param referrer
+	 * @param references the URIs the object refers to, of which {@code null} ones are skipped
+	 */
+	void add(Identified referrer, Iterable<URI> references) {
+		if (!indexed.add(key(referrer))) {
+			return;
+		}
+		for (URI reference : references) {
+			increment(reference, referrer);
+		}
+	}
+
+	/**
+	 * Stops indexing the given object, which refers to the given URIs. Does nothing if the object is
+	 * not indexed.
+	 *
+	 * @param referrer
+	 * @param references the URIs the object refers to, of which {@code null} ones are skipped
+	 */
+	void remove(Identified referrer, Iterable<URI> references) {
+		if (!indexed.remove(key(referrer))) {
+			return;
+		}
+		for (URI reference : references) {
+			decrement(reference, referrer);
+		}
+	}
+
+	/**
+	 * Records that the given object, if it is indexed, no longer refers to one URI but to another.
+	 *
+	 * @param referrer
+	 * @param oldReference the URI no longer referred to, or {@code null} if none
+	 * @param newReference the URI now referred to, or {@code null} if none
+	 */
+	void replace(Identified referrer, URI oldReference, URI newReference) {
+		if (!indexed.contains(key(referrer))) {
+			return;
+		}
+		decrement(oldReference, referrer);
+		increment(newReference, referrer);
+	}
+
+	/**
+	 * @param reference
+	 * @return the indexed objects that refer to the given URI, as a read-only view that follows later
+	 * changes if the index is not concurrent, or as a new set otherwise
+	 */
+	Set<Identified> get(URI reference) {
+		Referrers entry = referrers.get(reference);
+		if (!concurrent) {
+			return entry == null ? Collections.<Identified>emptySet() : Collections.unmodifiableSet(entry.counts.keySet());
+		}
+		Set<Identified> result = Collections.newSetFromMap(new IdentityHashMap<Identified, Boolean>());
+		if (entry != null) {
+			synchronized (entry) {
+				result.addAll(entry.counts.keySet());
+			}
+		}
+		return result;
+	}
+
+	private Object key(Identified referrer) {
+		return concurrent ? new IdentityKey(referrer) : referrer;
+	}
+
+	private void increment(URI reference, Identified referrer) {
+		if (reference == null) {
+			return;
+		}
+		if (!concurrent) {
+			Referrers entry = referrers.get(reference);
+			if (entry == null) {
+				entry = new Referrers();
+				referrers.put(reference, entry);
+			}
+			entry.increment(referrer);
+			return;
+		}
+		ConcurrentMap<URI, Referrers> map = (ConcurrentMap<URI, Referrers>) referrers;
+		while (true) {
+			Referrers entry = map.get(reference);
+			if (entry == null) {
+				Referrers created = new Referrers();
+				entry = map.putIfAbsent(reference, created);
+				if (entry == null) {
+					entry = created;
+				}
+			}
+			synchronized (entry) {
+				if (!entry.removed) {
+					entry.increment(referrer);
+					return;
+				}
+			}
+		}
+	}
+
+	private void decrement(URI reference, Identified referrer) {
+		if (reference == null) {
+			return;
+		}
+		if (!concurrent) {
+			Referrers entry = referrers.get(reference);
+			if (entry != null && entry.decrement(referrer)) {
+				referrers.remove(reference);
+			}
+			return;
+		}
+		while (true) {
+			Referrers entry = referrers.get(reference);
+			if (entry == null) {
+				return;
+			}
+			synchronized (entry) {
+				if (!entry.removed) {
+					if (entry.decrement(referrer)) {
+						entry.removed = true;
+						referrers.remove(reference);
+					}
+					return;
+				}
+			}
+		}
+	}
+}
@@ -4,11 +4,12 @@ import static uk.ac.ncl.intbio.core.datatree.Datatree.NamespaceBinding;
 
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.namespace.QName;
 
 import static org.sbolstandard.core2.URIcompliance.*;
-import static org.sbolstandard.core2.Version.*;
 import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
 
 /**
@@ -23,13 +24,36 @@ import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
 
 public class SBOLDocument {
 
-	private HashMap<URI, GenericTopLevel> genericTopLevels;
-	private HashMap<URI, Collection> collections;
-	private HashMap<URI, ComponentDefinition> componentDefinitions;
-	private HashMap<URI, Model> models;
-	private HashMap<URI, ModuleDefinition> moduleDefinitions;
-	private HashMap<URI, Sequence> sequences;
-	private HashMap<URI, NamespaceBinding> nameSpaces;
+	/**
+	 * The number of locks that adding and removing top-level instances of a concurrent document is spread over.
+	 */
+	private static final int LOCK_STRIPES = 64;
+
+	private Map<URI, GenericTopLevel> genericTopLevels;
+	private Map<URI, Collection> collections;
+	private Map<URI, ComponentDefinition> componentDefinitions;
+	private Map<URI, Model> models;
+	private Map<URI, ModuleDefinition> moduleDefinitions;
+	private Map<URI, Sequence> sequences;
+	private Map<URI, NamespaceBinding> nameSpaces;
+	/**
+	 * The top-level instances of all types, under the same identities and persistent identities as in 
+	 * the map of their type, so that any of them can be found or checked for with a single lookup.
+	 */
+	private Map<URI, TopLevel> topLevels;
+	/**
+	 * The versions of the compliant top-level instances, sorted per persistent identity.
+	 */
+	private VersionIndex versions;
+	/**
+	 * The objects of this document that refer to each URI, for checking whether an object is in use.
+	 */
+	private ReferenceIndex references;
+	/**
+	 * The locks held while adding or removing a top-level instance, chosen by its persistent identity, 
+	 * or {@code null} if this document is not shared between threads.
+	 */
+	private Object[] locks;
 	private String defaultURIprefix;
 	private boolean complete = false;
 	private boolean compliant = true;
@@ -41,13 +65,33 @@ public class SBOLDocument {
 	 * and {@link Sbol2Terms#prov}.
 	 */
 	public SBOLDocument() {
-		genericTopLevels = new HashMap<>();
-		collections = new HashMap<>();
-		componentDefinitions = new HashMap<>();
-		models = new HashMap<>();
-		moduleDefinitions = new HashMap<>();
-		sequences = new HashMap<>();
-		nameSpaces = new HashMap<>();
+		this(false);
+	}
+
+	/**
+	 * Creates a new SBOLDocument instance as described in {@link #SBOLDocument()}, whose top-level instances
+	 * may be added, removed, and looked up by several threads at the same time if {@code concurrent} is
+	 * {@code true}.
+	 * 
+	 * @param concurrent
+	 */
+	SBOLDocument(boolean concurrent) {
+		genericTopLevels = newMap(concurrent);
+		collections = newMap(concurrent);
+		componentDefinitions = newMap(concurrent);
+		models = newMap(concurrent);
+		moduleDefinitions = newMap(concurrent);
+		sequences = newMap(concurrent);
+		topLevels = newMap(concurrent);
+		versions = new VersionIndex(concurrent);
+		references = new ReferenceIndex(concurrent);
+		if (concurrent) {
+			locks = new Object[LOCK_STRIPES];
+			for (int i = 0; i < locks.length; i++) {
+				locks[i] = new Object();
+			}
+		}
+		nameSpaces = newMap(concurrent);
 		nameSpaces.put(URI.create(Sbol2Terms.sbol2.getNamespaceURI()), Sbol2Terms.sbol2);
 		nameSpaces.put(URI.create(Sbol1Terms.rdf.getNamespaceURI()), Sbol1Terms.rdf);
 		nameSpaces.put(URI.create(Sbol2Terms.dc.getNamespaceURI()), Sbol2Terms.dc);
@@ -192,8 +236,7 @@ public class SBOLDocument {
 	 * Appends the specified {@code ModuleDefinition} object to the end of the list of module definitions.
 	 */
 	void addModuleDefinition(ModuleDefinition newModuleDefinition) {
-		addTopLevel(newModuleDefinition, moduleDefinitions, "moduleDefinition",
-                collections, componentDefinitions, genericTopLevels, models, sequences);
+		addTopLevel(newModuleDefinition, moduleDefinitions, "moduleDefinition");
 	}
 	
 	/**
@@ -214,12 +257,10 @@ public class SBOLDocument {
 	public boolean removeModuleDefinition(ModuleDefinition moduleDefinition) {
 		checkReadOnly();
 		if (complete) {
-			for (ModuleDefinition md : moduleDefinitions.values()) {
-				for (Module m : md.getModules()) {
-					if (m.getDefinitionURI().equals(moduleDefinition.getIdentity())) {
-						throw new SBOLException("Cannot remove " + moduleDefinition.getIdentity() + 
-								" since it is in use.");
-					}
+			for (Identified referrer : references.get(moduleDefinition.getIdentity())) {
+				if (referrer instanceof Module) {
+					throw new SBOLException("Cannot remove " + moduleDefinition.getIdentity() + 
+							" since it is in use.");
 				}
 			}
 		}
@@ -270,6 +311,16 @@ public class SBOLDocument {
 		return moduleDefinitions;
 	}
 
+	/**
+	 * Returns a read-only view of the set of ModuleDefinition instances owned by this SBOLDocument object. Unlike
+	 * {@link #getModuleDefinitions()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of ModuleDefinition instances owned by this SBOLDocument object.
+	 */
+	public Set<ModuleDefinition> getModuleDefinitionsView() {
+		return new IdentifiedSetView<>(moduleDefinitions);
+	}
+
 	/**
 	 * Removes all entries in the list of ModuleDefinition instances 
 	 * owned by this SBOLDocument object. The list will be empty after this call returns.
@@ -433,8 +484,7 @@ public class SBOLDocument {
 	 * Appends the specified {@code newCollection} object to the end of the list of collections.
 	 */
 	void addCollection(Collection collection) {
-		addTopLevel(collection, collections, "collection",
-                componentDefinitions, genericTopLevels, models, moduleDefinitions, sequences);
+		addTopLevel(collection, collections, "collection");
 	}
 
 	/**
@@ -499,6 +549,16 @@ public class SBOLDocument {
 		return collections;
 	}
 
+	/**
+	 * Returns a read-only view of the set of Collection instances owned by this SBOLDocument object. Unlike
+	 * {@link #getCollections()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Collection instances owned by this SBOLDocument object.
+	 */
+	public Set<Collection> getCollectionsView() {
+		return new IdentifiedSetView<>(collections);
+	}
+
 	/**
 	 * Removes all entries in the list of Collection instances 
 	 * owned by this SBOLDocument object. The list will be empty after this call returns.
@@ -672,8 +732,7 @@ public class SBOLDocument {
 	 * Appends the specified <code>model</code> to the end of the list of models.
 	 */
 	void addModel(Model newModel) {
-		addTopLevel(newModel, models, "model",
-                collections, componentDefinitions, genericTopLevels, moduleDefinitions, sequences);
+		addTopLevel(newModel, models, "model");
 	}
 
 	/**
@@ -694,8 +753,8 @@ public class SBOLDocument {
 	public boolean removeModel(Model model) {
 		checkReadOnly();
 		if (complete) {
-			for (ModuleDefinition md : moduleDefinitions.values()) {
-				if (md.containsModel(model.getIdentity())) {
+			for (Identified referrer : references.get(model.getIdentity())) {
+				if (referrer instanceof ModuleDefinition) {
 					throw new SBOLException("Cannot remove " + model.getIdentity() + 
 								" since it is in use.");
 				}
@@ -748,6 +807,16 @@ public class SBOLDocument {
 		models.addAll(this.models.values());
 		return models;
 	}
+
+	/**
+	 * Returns a read-only view of the set of Model instances owned by this SBOLDocument object. Unlike
+	 * {@link #getModels()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Model instances owned by this SBOLDocument object.
+	 */
+	public Set<Model> getModelsView() {
+		return new IdentifiedSetView<>(models);
+	}
 	
 	/**
 	 * Removes all entries in the list of Model instances 
@@ -915,8 +984,7 @@ public class SBOLDocument {
 	 * Appends the specified element to the end of the list of component definitions.
 	 */
 	void addComponentDefinition(ComponentDefinition newComponentDefinition) {
-		addTopLevel(newComponentDefinition, componentDefinitions, "componentDefinition",
-                collections, genericTopLevels, models, moduleDefinitions, sequences);
+		addTopLevel(newComponentDefinition, componentDefinitions, "componentDefinition");
 	}
 
 	/**
@@ -940,20 +1008,10 @@ public class SBOLDocument {
 	public boolean removeComponentDefinition(ComponentDefinition componentDefinition) {
 		checkReadOnly();
 		if (complete) {
-			for (ComponentDefinition cd : componentDefinitions.values()) {
-				for (Component c : cd.getComponents()) {
-					if (c.getDefinitionURI().equals(componentDefinition.getIdentity())) {
-						throw new SBOLException("Cannot remove " + componentDefinition.getIdentity() + 
-								" since it is in use.");
-					}
-				}
-			}
-			for (ModuleDefinition md : moduleDefinitions.values()) {
-				for (FunctionalComponent c : md.getFunctionalComponents()) {
-					if (c.getDefinitionURI().equals(componentDefinition.getIdentity())) {
-						throw new SBOLException("Cannot remove " + componentDefinition.getIdentity() + 
-								" since it is in use.");
-					}
+			for (Identified referrer : references.get(componentDefinition.getIdentity())) {
+				if (referrer instanceof ComponentInstance) {
+					throw new SBOLException("Cannot remove " + componentDefinition.getIdentity() + 
+							" since it is in use.");
 				}
 			}
 		}
@@ -1005,6 +1063,16 @@ public class SBOLDocument {
 		return components;
 	}
 
+	/**
+	 * Returns a read-only view of the set of ComponentDefinition instances owned by this SBOLDocument object. Unlike
+	 * {@link #getComponentDefinitions()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of ComponentDefinition instances owned by this SBOLDocument object.
+	 */
+	public Set<ComponentDefinition> getComponentDefinitionsView() {
+		return new IdentifiedSetView<>(componentDefinitions);
+	}
+
 	/**
 	 * Removes all entries in the list of ComponentDefinition instances 
 	 * owned by this SBOLDocument object. The list will be empty after this call returns.
@@ -1510,8 +1578,7 @@ public class SBOLDocument {
 	 * Appends the specified <code>sequence</code> to the end of the list of sequences.
 	 */
 	void addSequence(Sequence newSequence) {
-		addTopLevel(newSequence, sequences, "sequence",
-                collections, componentDefinitions, genericTopLevels, models, moduleDefinitions);
+		addTopLevel(newSequence, sequences, "sequence");
 	}
 
 	/**
@@ -1532,8 +1599,8 @@ public class SBOLDocument {
 	public boolean removeSequence(Sequence sequence) {
 		checkReadOnly();
 		if (complete) {
-			for (ComponentDefinition cd : componentDefinitions.values()) {
-				if (cd.containsSequence(sequence.getIdentity())) {
+			for (Identified referrer : references.get(sequence.getIdentity())) {
+				if (referrer instanceof ComponentDefinition) {
 					throw new SBOLException("Cannot remove " + sequence.getIdentity() + 
 							" since it is in use.");
 				}
@@ -1587,6 +1654,16 @@ public class SBOLDocument {
 		return structures;
 	}
 
+	/**
+	 * Returns a read-only view of the set of Sequence instances owned by this SBOLDocument object. Unlike
+	 * {@link #getSequences()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Sequence instances owned by this SBOLDocument object.
+	 */
+	public Set<Sequence> getSequencesView() {
+		return new IdentifiedSetView<>(sequences);
+	}
+
 	/**
 	 * Removes all entries in the list of Sequence instances 
 	 * owned by this SBOLDocument object. The list will be empty after this call returns.
@@ -1754,8 +1831,7 @@ public class SBOLDocument {
 	 * Appends the specified {@code TopLevel} object to the end of the list of topLevels.
 	 */
 	void addGenericTopLevel(GenericTopLevel newGenericTopLevel) {
-		addTopLevel(newGenericTopLevel, genericTopLevels, "genericTopLevel",
-                collections, componentDefinitions, models, moduleDefinitions, sequences);
+		addTopLevel(newGenericTopLevel, genericTopLevels, "genericTopLevel");
 	}
 	
 	/**
@@ -1819,6 +1895,16 @@ public class SBOLDocument {
 		topLevels.addAll(this.genericTopLevels.values());
 		return topLevels;
 	}
+
+	/**
+	 * Returns a read-only view of the set of GenericTopLevel instances owned by this SBOLDocument object. Unlike
+	 * {@link #getGenericTopLevels()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of GenericTopLevel instances owned by this SBOLDocument object.
+	 */
+	public Set<GenericTopLevel> getGenericTopLevelsView() {
+		return new IdentifiedSetView<>(genericTopLevels);
+	}
 	
 	/**
 	 * Removes all entries in the list of GenericTopLevel instances 
@@ -1850,31 +1936,43 @@ public class SBOLDocument {
 	 * @return the matching top-level instance if present, or {@code null} otherwise.      
 	 */
 	public TopLevel getTopLevel(URI topLevelURI) {
-		TopLevel topLevel = collections.get(topLevelURI);
-		if (topLevel!=null) {
-			return topLevel;
-		}
-		topLevel = moduleDefinitions.get(topLevelURI);
-		if (topLevel!=null) {
-			return topLevel;
-		}
-		topLevel = models.get(topLevelURI);
-		if (topLevel!=null) {
-			return topLevel;
-		}
-		topLevel = componentDefinitions.get(topLevelURI);
-		if (topLevel!=null) {
-			return topLevel;
-		}
-		topLevel = sequences.get(topLevelURI);
-		if (topLevel!=null) {
-			return topLevel;
+		return topLevels.get(topLevelURI);
+	}
+
+	/**
+	 * Returns all versions of the top-level instance with the given {@code persistentIdentity} in this
+	 * SBOLDocument object, from the oldest to the latest.
+	 * 
+	 * @param persistentIdentity
+	 * @return the versions of the matching top-level instance, or an empty list if there are none.
+	 */
+	public List<TopLevel> getTopLevelVersions(URI persistentIdentity) {
+		Object lock = lockFor(persistentIdentity);
+		if (lock == null) {
+			return versions.getVersions(persistentIdentity);
 		}
-		topLevel = genericTopLevels.get(topLevelURI);
-		if (topLevel!=null) {
-			return topLevel;
+		synchronized (lock) {
+			return versions.getVersions(persistentIdentity);
 		}
-		return null;
+	}
+
+	/**
+	 * Returns the objects in this SBOLDocument object that refer to the given {@code uri}: the Collection
+	 * instances that have it as a member, the ComponentDefinition instances that have it as a sequence,
+	 * the ModuleDefinition instances that have it as a model, and the Component, FunctionalComponent,
+	 * Module, MapsTo, Participation, SequenceAnnotation, and SequenceConstraint instances that refer to it.
+	 * 
+	 * @param uri
+	 * @return the objects that refer to the given {@code uri}, or an empty set if there are none.
+	 */
+	public Set<Identified> getReferrers(URI uri) {
+		Set<Identified> referrers = Collections.newSetFromMap(new IdentityHashMap<Identified, Boolean>());
+		referrers.addAll(references.get(uri));
+		return referrers;
+	}
+
+	ReferenceIndex getReferenceIndex() {
+		return references;
 	}
 
 	/**
@@ -2049,6 +2147,45 @@ public class SBOLDocument {
 		return true;
 	}
 
+	/**
+	 * @return an empty map, which may be used by several threads at the same time if {@code concurrent}
+	 * is {@code true}
+	 */
+	private static <V> Map<URI, V> newMap(boolean concurrent) {
+		if (concurrent) {
+			return new ConcurrentHashMap<URI, V>();
+		}
+		return new HashMap<URI, V>();
+	}
+
+	/**
+	 * Maps the given {@code key} to the given {@code value} unless it is already mapped, in one step if the 
+	 * given {@code map} is concurrent.
+	 * 
+	 * @return the value the given {@code key} was already mapped to, or {@code null} if there was none
+	 */
+	private static <V> V putIfAbsent(Map<URI, V> map, URI key, V value) {
+		if (map instanceof ConcurrentMap) {
+			return ((ConcurrentMap<URI, V>) map).putIfAbsent(key, value);
+		}
+		V existing = map.get(key);
+		if (existing == null) {
+			map.put(key, value);
+		}
+		return existing;
+	}
+
+	/**
+	 * @return the lock to hold while adding or removing the top-level instances under the given {@code uri},
+	 * or {@code null} if this document is not concurrent
+	 */
+	private Object lockFor(URI uri) {
+		if (locks == null) {
+			return null;
+		}
+		return locks[(uri.hashCode() & Integer.MAX_VALUE) % locks.length];
+	}
+
 	private void validateIdentityData(String displayId, String version) {
 		validateIdVersion(displayId, version);
 		if (defaultURIprefix == null) {
@@ -2056,42 +2193,79 @@ public class SBOLDocument {
 		}
 	}
 
-	@SafeVarargs
-	private final <TL extends TopLevel> void addTopLevel(TL newTopLevel, Map<URI, TL> instancesMap, String typeName, Map<URI, ? extends Identified> ... maps) {
+	private final <TL extends TopLevel> void addTopLevel(TL newTopLevel, Map<URI, TL> instancesMap, String typeName) {
 		if (newTopLevel.checkDescendantsURIcompliance()) {
 			URI persistentId = URI.create(extractPersistentId(newTopLevel.getIdentity()));
-			if (keyExistsInAnyMap(persistentId, maps))
-				throw new IllegalArgumentException(
-						"Instance for identity `" + newTopLevel.identity +
-								"' and persistent identity `" + persistentId + "' exists for a non-" + typeName);
-		   	if (instancesMap.containsKey(newTopLevel.getIdentity()))
-				throw new IllegalArgumentException(
-						"Instance for identity `" + newTopLevel.identity +
-								"' and persistent identity `" + persistentId + "' already exists for a " + typeName);
-
-			instancesMap.put(newTopLevel.getIdentity(), newTopLevel);
-			Identified latest = instancesMap.get(persistentId);
-			if (latest == null) {
-				instancesMap.put(persistentId, newTopLevel);
+			String version = extractVersion(newTopLevel.getIdentity());
+			Object lock = lockFor(persistentId);
+			if (lock == null) {
+				addCompliantTopLevel(newTopLevel, persistentId, version, instancesMap, typeName);
+			}
+			else {
+				synchronized (lock) {
+					addCompliantTopLevel(newTopLevel, persistentId, version, instancesMap, typeName);
+				}
+			}
+		}
+		else {
+			Object lock = lockFor(newTopLevel.getIdentity());
+			if (lock == null) {
+				addNonCompliantTopLevel(newTopLevel, instancesMap, typeName);
 			}
 			else {
-				if (isFirstVersionNewer(
-						extractVersion(newTopLevel.getIdentity()),
-						extractVersion(latest.getIdentity()))){
-					instancesMap.put(persistentId, newTopLevel);
+				synchronized (lock) {
+					addNonCompliantTopLevel(newTopLevel, instancesMap, typeName);
 				}
 			}
 		}
-		else { // Only check if sequence's URI exists in all maps.
-			if (keyExistsInAnyMap(newTopLevel.getIdentity()))
+	}
+
+	/**
+	 * Adds the given compliant {@code newTopLevel} as a version of the given {@code persistentId}, whose
+	 * lock must be held if this document is concurrent. Its identity is claimed in the map of all 
+	 * top-level instances in one step, so that no other top-level instance is added under it meanwhile,
+	 * and its references are indexed before the lock is released.
+	 */
+	private <TL extends TopLevel> void addCompliantTopLevel(TL newTopLevel, URI persistentId, String version,
+			Map<URI, TL> instancesMap, String typeName) {
+		if (topLevels.containsKey(persistentId) && !instancesMap.containsKey(persistentId))
+			throw new IllegalArgumentException(
+					"Instance for identity `" + newTopLevel.identity +
+							"' and persistent identity `" + persistentId + "' exists for a non-" + typeName);
+		if (putIfAbsent(topLevels, newTopLevel.getIdentity(), newTopLevel) != null) {
+			if (!instancesMap.containsKey(newTopLevel.getIdentity()))
 				throw new IllegalArgumentException(
-						"Instance for identity `" + newTopLevel.identity + "' exists for a non-" + typeName);
-			if (instancesMap.containsKey(newTopLevel.getIdentity()))
+						"Instance for identity `" + newTopLevel.identity +
+								"' and persistent identity `" + persistentId + "' exists for a non-" + typeName);
+			throw new IllegalArgumentException(
+					"Instance for identity `" + newTopLevel.identity +
+							"' and persistent identity `" + persistentId + "' already exists for a " + typeName);
+		}
+		instancesMap.put(newTopLevel.getIdentity(), newTopLevel);
+		TopLevel latest = versions.add(persistentId, version, newTopLevel);
+		instancesMap.put(persistentId, instancesMap.get(latest.getIdentity()));
+		topLevels.put(persistentId, latest);
+		newTopLevel.setSBOLDocument(this);
+		newTopLevel.indexReferences(references, true);
+	}
+
+	/**
+	 * Adds the given non-compliant {@code newTopLevel}, the lock of whose identity must be held if this 
+	 * document is concurrent. Only checks if its identity exists in all maps. Its references are indexed
+	 * before the lock is released.
+	 */
+	private <TL extends TopLevel> void addNonCompliantTopLevel(TL newTopLevel, Map<URI, TL> instancesMap, 
+			String typeName) {
+		if (putIfAbsent(topLevels, newTopLevel.getIdentity(), newTopLevel) != null) {
+			if (!instancesMap.containsKey(newTopLevel.getIdentity()))
 				throw new IllegalArgumentException(
-						"Instance for identity `" + newTopLevel.identity + "' exists for a " + typeName);
-			instancesMap.put(newTopLevel.getIdentity(), newTopLevel);
+						"Instance for identity `" + newTopLevel.identity + "' exists for a non-" + typeName);
+			throw new IllegalArgumentException(
+					"Instance for identity `" + newTopLevel.identity + "' exists for a " + typeName);
 		}
+		instancesMap.put(newTopLevel.getIdentity(), newTopLevel);
 		newTopLevel.setSBOLDocument(this);
+		newTopLevel.indexReferences(references, true);
 	}
 	
 	/**
@@ -2105,30 +2279,55 @@ public class SBOLDocument {
 	 */
 	private final <TL extends TopLevel> boolean removeTopLevel(TopLevel topLevel, Map<URI, TL> instancesMap) {
 		if (complete) {
-			for (Collection c : collections.values()) {
-				if (c.containsMember(topLevel.getIdentity())) {
+			for (Identified referrer : references.get(topLevel.getIdentity())) {
+				if (referrer instanceof Collection) {
 					throw new SBOLException("Cannot remove " + topLevel.getIdentity() + 
 							" since it is in use.");
 				}
 			}
 		}
-		Set<TopLevel> setToRemove = new HashSet<>();
-		setToRemove.add(topLevel);
-		boolean changed = instancesMap.values().removeAll(setToRemove);
-		URI latestVersion = null;
-		for (TL tl : instancesMap.values()) {
-			if (topLevel.getPersistentIdentity().toString().equals(tl.getPersistentIdentity().toString())) {
-				if (latestVersion==null) {
-					latestVersion = tl.getIdentity();
-				} else if (isFirstVersionNewer(extractVersion(tl.getIdentity()),extractVersion(latestVersion))) {
-					latestVersion = tl.getIdentity();
+		URI identity = topLevel.getIdentity();
+		while (true) {
+			URI persistentId = versions.getPersistentId(identity);
+			Object lock = lockFor(persistentId == null ? identity : persistentId);
+			if (lock == null) {
+				return removeTopLevel(topLevel, persistentId, instancesMap);
+			}
+			synchronized (lock) {
+				// The top-level may have been added under the lock of its persistent identity meanwhile.
+				if (Objects.equals(persistentId, versions.getPersistentId(identity))) {
+					return removeTopLevel(topLevel, persistentId, instancesMap);
 				}
 			}
 		}
-		if (latestVersion != null) {
-			instancesMap.put(topLevel.getPersistentIdentity(),instancesMap.get(latestVersion));
+	}
+
+	/**
+	 * Removes the given {@code topLevel}, which was added under the given {@code persistentId}, and whose
+	 * lock must be held if this document is concurrent.
+	 */
+	private <TL extends TopLevel> boolean removeTopLevel(TopLevel topLevel, URI persistentId, 
+			Map<URI, TL> instancesMap) {
+		URI identity = topLevel.getIdentity();
+		TL existing = instancesMap.get(identity);
+		if (existing == null || !existing.equals(topLevel)) {
+			return false;
+		}
+		instancesMap.remove(identity);
+		topLevels.remove(identity);
+		existing.indexReferences(references, false);
+		if (persistentId != null) {
+			TopLevel latest = versions.remove(identity);
+			if (latest == null) {
+				instancesMap.remove(persistentId);
+				topLevels.remove(persistentId);
+			}
+			else {
+				instancesMap.put(persistentId, instancesMap.get(latest.getIdentity()));
+				topLevels.put(persistentId, latest);
+			}
 		}
-		return changed;
+		return true;
 	}
 
 	/**
@@ -0,0 +1,110 @@
+package org.sbolstandard.core2;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
+
+/**
+ * Keeps the serialized form of each top-level of a document between writes, so that writing the document
+ * again only formats the top-levels that have changed.
+ * <p>
+ * Pass the same cache to {@link SBOLWriter#writeRDF(SBOLDocument, java.io.OutputStream, SBOLFragmentCache)}
+ * or {@link SBOLWriter#writeJSON(SBOLDocument, java.io.OutputStream, SBOLFragmentCache)} each time a document
+ * is saved. Along with each fragment, the cache keeps the top-level it was formatted from and the number
+ * of changes made to that top-level so far. A fragment is reused only for the same top-level instance
+ * with the same number of changes, so a change to the top-level or to any object nested in it, made
+ * through the methods of those objects, causes it to be formatted again, while checking an unchanged
+ * top-level takes constant time. Changes made directly to a list returned by {@link Identified#getAnnotations()}
+ * are not counted. Fragments of top-levels that are no longer in the document are dropped, and all
+ * fragments of a format are dropped when the namespace bindings of the document or the indentation of
+ * the output change.
+ * <p>
+ * A cache may be used by one write at a time.
+ *
+ * @version 2.0-beta
+ */
+public final class SBOLFragmentCache {
+
+	private static final class Fragment {
+		final TopLevel topLevel;
+		final long changes;
+		final String text;
+
+		Fragment(TopLevel topLevel, long changes, String text) {
+			this.topLevel = topLevel;
+			this.changes = changes;
+			this.text = text;
+		}
+	}
+
+	private final Map<SBOLWriter.Format, Map<URI, Fragment>> fragments = new EnumMap<>(SBOLWriter.Format.class);
+	private final Map<SBOLWriter.Format, List<String>> namespaceBindings = new EnumMap<>(SBOLWriter.Format.class);
+
+	/**
+	 * Creates an empty cache.
+	 */
+	public SBOLFragmentCache() {
+		for (SBOLWriter.Format format : SBOLWriter.Format.values()) {
+			fragments.put(format, new ConcurrentHashMap<URI, Fragment>());
+		}
+	}
+
+	/**
+	 * Drops all fragments.
+	 */
+	public void clear() {
+		for (Map<URI, Fragment> formatFragments : fragments.values()) {
+			formatFragments.clear();
+		}
+		namespaceBindings.clear();
+	}
+
+	/**
+	 * Prepares the cache for writing the given top-levels in the given format, dropping the fragments of
+	 * all other top-levels, and all fragments if the given namespace bindings or indentation differ from
+	 * those of the previous write.
+	 */
+	void retain(SBOLWriter.Format format, List<TopLevel> topLevels, List<NamespaceBinding> bindings, boolean pretty) {
+		List<String> bindingKeys = new ArrayList<>();
+		bindingKeys.add(pretty ? "pretty" : "compact");
+		for (NamespaceBinding binding : bindings) {
+			bindingKeys.add(binding.getPrefix() + " " + binding.getNamespaceURI());
+		}
+		Map<URI, Fragment> formatFragments = fragments.get(format);
+		if (!bindingKeys.equals(namespaceBindings.put(format, bindingKeys))) {
+			formatFragments.clear();
+			return;
+		}
+		Set<URI> identities = new HashSet<>();
+		for (TopLevel topLevel : topLevels) {
+			identities.add(topLevel.getIdentity());
+		}
+		formatFragments.keySet().retainAll(identities);
+	}
+
+	/**
+	 * @return the fragment formatted from the given top-level, or {@code null} if there is none or the
+	 * top-level has changed since
+	 */
+	String get(SBOLWriter.Format format, TopLevel topLevel) {
+		Fragment fragment = fragments.get(format).get(topLevel.getIdentity());
+		if (fragment == null || fragment.topLevel != topLevel || fragment.changes != topLevel.getChangeCount()) {
+			return null;
+		}
+		return fragment.text;
+	}
+
+	/**
+	 * Stores the given fragment formatted from the given top-level.
+	 */
+	void put(SBOLWriter.Format format, TopLevel topLevel, String text) {
+		fragments.get(format).put(topLevel.getIdentity(), new Fragment(topLevel, topLevel.getChangeCount(), text));
+	}
+}
@@ -0,0 +1,55 @@
+package org.sbolstandard.core2;
+
+import java.io.File;
+
+/**
+ * The outcome of reading one file in a batch read by {@link SBOLReader#readAll(java.util.List, SBOLReaderOptions, java.util.concurrent.ExecutorService)}:
+ * either the converted SBOLDocument or the error that stopped the file from being read.
+ *
+ * @version 2.0-beta
+ */
+public final class SBOLReadResult {
+
+	private final File file;
+	private final SBOLDocument document;
+	private final Throwable error;
+
+	SBOLReadResult(File file, SBOLDocument document, Throwable error) {
+		this.file = file;
+		this.document = document;
+		this.error = error;
+	}
+
+	/**
+	 * @return the file that was read
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return the converted SBOLDocument, or {@code null} if the file could not be read
+	 */
+	public SBOLDocument getDocument() {
+		return document;
+	}
+
+	/**
+	 * @return the error that stopped the file from being read, or {@code null} if it was read
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	/**
+	 * @return {@code true} if the file was read without error
+	 */
+	public boolean isSuccessful() {
+		return error == null;
+	}
+
+	@Override
+	public String toString() {
+		return file + (error == null ? ": read" : ": " + error);
+	}
+}
@@ -1,28 +1,43 @@
 package org.sbolstandard.core2;
 
+import static uk.ac.ncl.intbio.core.datatree.Datatree.DocumentRoot;
 import static uk.ac.ncl.intbio.core.datatree.Datatree.NamespaceBinding;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamespaceBindings;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocuments;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
 import java.net.URI;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.GZIPInputStream;
 
 import javax.json.Json;
-import javax.json.JsonReader;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 
 import uk.ac.intbio.core.io.turtle.TurtleIo;
@@ -33,9 +48,6 @@ import uk.ac.ncl.intbio.core.datatree.NamedProperty;
 import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
 import uk.ac.ncl.intbio.core.datatree.NestedDocument;
 import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
-import uk.ac.ncl.intbio.core.io.IoReader;
-import uk.ac.ncl.intbio.core.io.json.JsonIo;
-import uk.ac.ncl.intbio.core.io.json.StringifyQName;
 import uk.ac.ncl.intbio.core.io.rdf.RdfIo;
 
 import static org.sbolstandard.core2.URIcompliance.*;
@@ -84,18 +96,76 @@ public class SBOLReader
 		}
 	} //end of SBOLPair class
 
-	private static String URIPrefix	= null;
-	private static String version = "";
-	private static boolean typesInURI = false;
+	/**
+	 * Converts a range of top-level documents into TopLevel instances, splitting the range 
+	 * in half until it holds at most {@link #THRESHOLD} documents.
+	 */
+	private static class ParseTopLevelsTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private static final int THRESHOLD = 8;
+
+		private final List<TopLevelDocument<QName>> topLevelDocs;
+		private final TopLevel[] topLevels;
+		private final int from;
+		private final int to;
+		private final SBOLReaderOptions options;
+
+		ParseTopLevelsTask(List<TopLevelDocument<QName>> topLevelDocs, TopLevel[] topLevels, int from, int to,
+				SBOLReaderOptions options)
+		{
+			this.topLevelDocs = topLevelDocs;
+			this.topLevels = topLevels;
+			this.from = from;
+			this.to = to;
+			this.options = options;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (to - from <= THRESHOLD)
+			{
+				for (int i = from; i < to; i++)
+				{
+					topLevels[i] = parseTopLevel(new SBOLDocument(), topLevelDocs.get(i), options);
+				}
+			}
+			else
+			{
+				int middle = (from + to) >>> 1;
+				invokeAll(new ParseTopLevelsTask(topLevelDocs, topLevels, from, middle, options),
+						new ParseTopLevelsTask(topLevelDocs, topLevels, middle, to, options));
+			}
+		}
+	} //end of ParseTopLevelsTask class
+
+	/**
+	 * The number of bytes or characters buffered between an input stream and the parsers.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The size in bytes from which files are mapped into memory rather than read through a buffer.
+	 */
+	private static final long MAPPED_FILE_THRESHOLD = 1024 * 1024;
+
+	/**
+	 * The options used by the read methods that do not take an {@link SBOLReaderOptions} argument.
+	 * Each read takes one snapshot of this field, so changing the defaults never affects a read in progress.
+	 */
+	private static volatile SBOLReaderOptions defaultOptions = new SBOLReaderOptions();
+	private static ForkJoinPool forkJoinPool = null;
+	private static ExecutorService executorService = null;
 
 	/**
 	 * Set the specified authority as the prefix to all member's identity
 	 * 
 	 *  @param URIprefix
 	 */	
-	public static void setURIPrefix(String URIprefix)
+	public static synchronized void setURIPrefix(String URIprefix)
 	{
-		SBOLReader.URIPrefix = URIprefix;
+		defaultOptions = defaultOptions.withURIPrefix(URIprefix);
 	}
 
 	/**
@@ -103,9 +173,9 @@ public class SBOLReader
 	 * 
 	 * @param version
 	 */	
-	public static void setVersion(String version)
+	public static synchronized void setVersion(String version)
 	{
-		SBOLReader.version = version;
+		defaultOptions = defaultOptions.withVersion(version);
 	}
 	
 	/**
@@ -113,11 +183,57 @@ public class SBOLReader
 	 * 
 	 * @param typesInURI
 	 */
-	public static void setTypesInURI(boolean typesInURI)
+	public static synchronized void setTypesInURI(boolean typesInURI)
+	{
+		defaultOptions = defaultOptions.withTypesInURI(typesInURI);
+	}
+
+	/**
+	 * Sets whether top-level objects are converted concurrently on a fork-join pool with one 
+	 * worker per available processor. The converted objects are always added to the resulting 
+	 * SBOLDocument in the order in which they appear in the input.
+	 * 
+	 * @param parallel
+	 */
+	public static synchronized void setParallel(boolean parallel)
+	{
+		defaultOptions = defaultOptions.withParallel(parallel);
+	}
+
+	/**
+	 * Sets whether RDF input is converted straight from the XML stream into SBOL objects, 
+	 * without first building the intermediate tree of the whole document. Input in the 
+	 * SBOL 1.1 format is always converted through the tree.
+	 * 
+	 * @param directRDF
+	 */
+	public static synchronized void setDirectRDF(boolean directRDF)
 	{
-		SBOLReader.typesInURI = typesInURI;
+		defaultOptions = defaultOptions.withDirectRDF(directRDF);
 	}
 	
+	/**
+	 * Returns the options used by the read methods that do not take an {@link SBOLReaderOptions} argument,
+	 * as set by {@link #setURIPrefix(String)}, {@link #setVersion(String)}, {@link #setTypesInURI(boolean)},
+	 * {@link #setParallel(boolean)} and {@link #setDirectRDF(boolean)}.
+	 * 
+	 * @return the current default options
+	 */
+	public static SBOLReaderOptions getDefaultOptions()
+	{
+		return defaultOptions;
+	}
+
+	/**
+	 * Sets the options used by the read methods that do not take an {@link SBOLReaderOptions} argument.
+	 * 
+	 * @param options
+	 */
+	public static synchronized void setDefaultOptions(SBOLReaderOptions options)
+	{
+		defaultOptions = options;
+	}
+
 	/**
 	 * Takes in the given RDF filename and converts the file to an SBOLDocument.
 	 * <p>
@@ -176,6 +292,34 @@ public class SBOLReader
 		return readTurtle(new File(fileName));
 	}
 
+	/**
+	 * Takes in the given filename of a file in the binary format and converts the file to an SBOLDocument.
+	 * <p>
+	 * This method calls {@link #readBinary(File)}.
+	 * 
+	 * @param fileName
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readBinary(String fileName) throws Throwable
+	{
+		return readBinary(new File(fileName));
+	}
+
+	/**
+	 * Takes in the given N-Triples filename and converts the file to an SBOLDocument.
+	 * <p>
+	 * This method calls {@link #readNTriples(File)}.
+	 * 
+	 * @param fileName
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readNTriples(String fileName) throws Throwable
+	{
+		return readNTriples(new File(fileName));
+	}
+
 	/**
 	 * Takes in the given JSON file and converts the file to an SBOLDocument.
 	 * <p>
@@ -187,229 +331,1016 @@ public class SBOLReader
 	 */
 	public static SBOLDocument readJSON(File file) throws Throwable
 	{
-		FileInputStream stream 	   = new FileInputStream(file);
-		BufferedInputStream buffer = new BufferedInputStream(stream);
+		return readJSON(file, defaultOptions);
+	}
 
-		return readJSON(buffer);
+	/**
+	 * Takes in the given JSON file and converts the file to an SBOLDocument using the given options.
+	 * <p>
+	 * A file of 1 MB or more is mapped into memory, unless {@link SBOLReaderOptions#isMemoryMapped()} is {@code false}.
+	 * 
+	 * @param file
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readJSON(File file, SBOLReaderOptions options) throws Throwable
+	{
+		InputStream stream = open(file, options);
+		try
+		{
+			return readJSON(stream, options);
+		}
+		finally
+		{
+			stream.close();
+		}
 	}
 	
 	/**
 	 * Takes in the given RDF file and converts the file to an SBOLDocument.
 	 * 
-	 * @param file
-	 * @return the converted SBOLDocument instance
-	 * @throws Throwable
+	 * @param file
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument read(File file) throws Throwable
+	{
+		return read(file, defaultOptions);
+	}
+
+	/**
+	 * Takes in the given RDF file and converts the file to an SBOLDocument using the given options.
+	 * <p>
+	 * A file of 1 MB or more is mapped into memory, unless {@link SBOLReaderOptions#isMemoryMapped()} is {@code false}.
+	 * 
+	 * @param file
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument read(File file, SBOLReaderOptions options) throws Throwable
+	{
+		InputStream stream = open(file, options);
+		try
+		{
+			return read(stream, options);
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Takes in the given RDF file and converts the file to an SBOLDocument.
+	 * <p>
+	 * This method calls {@link #readRDF(InputStream)}.
+	 * 
+	 * @param file
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readRDF(File file) throws Throwable
+	{
+		return readRDF(file, defaultOptions);
+	}
+
+	/**
+	 * Takes in the given RDF file and converts the file to an SBOLDocument using the given options.
+	 * <p>
+	 * A file of 1 MB or more is mapped into memory, unless {@link SBOLReaderOptions#isMemoryMapped()} is {@code false}.
+	 * 
+	 * @param file
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readRDF(File file, SBOLReaderOptions options) throws Throwable
+	{
+		InputStream stream = open(file, options);
+		try
+		{
+			return readRDF(stream, options);
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Takes in the given Turtle file and converts the file to an SBOLDocument
+	 * <p>
+	 * This method calls {@link #readTurtle(InputStream)} 
+	 * @param file
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readTurtle(File file) throws Throwable
+	{
+		return readTurtle(file, defaultOptions);
+	}
+
+	/**
+	 * Takes in the given Turtle file and converts the file to an SBOLDocument using the given options.
+	 * <p>
+	 * A file of 1 MB or more is mapped into memory, unless {@link SBOLReaderOptions#isMemoryMapped()} is {@code false}.
+	 * 
+	 * @param file
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readTurtle(File file, SBOLReaderOptions options) throws Throwable
+	{
+		InputStream stream = open(file, options);
+		try
+		{
+			return readTurtle(stream, options);
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Takes in the given file in the binary format and converts the file to an SBOLDocument.
+	 * <p>
+	 * This method calls {@link #readBinary(InputStream)}.
+	 * 
+	 * @param file
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readBinary(File file) throws Throwable
+	{
+		return readBinary(file, defaultOptions);
+	}
+
+	/**
+	 * Takes in the given file in the binary format and converts the file to an SBOLDocument using the given options.
+	 * <p>
+	 * A file of 1 MB or more is mapped into memory, unless {@link SBOLReaderOptions#isMemoryMapped()} is {@code false}.
+	 * 
+	 * @param file
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readBinary(File file, SBOLReaderOptions options) throws Throwable
+	{
+		InputStream stream = open(file, options);
+		try
+		{
+			return readBinary(stream, options);
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Takes in the given N-Triples file and converts the file to an SBOLDocument.
+	 * <p>
+	 * This method calls {@link #readNTriples(InputStream)}.
+	 * 
+	 * @param file
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readNTriples(File file) throws Throwable
+	{
+		return readNTriples(file, defaultOptions);
+	}
+
+	/**
+	 * Takes in the given N-Triples file and converts the file to an SBOLDocument using the given options.
+	 * <p>
+	 * A file of 1 MB or more is mapped into memory, unless {@link SBOLReaderOptions#isMemoryMapped()} is {@code false}.
+	 * 
+	 * @param file
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Throwable
+	 */
+	public static SBOLDocument readNTriples(File file, SBOLReaderOptions options) throws Throwable
+	{
+		InputStream stream = open(file, options);
+		try
+		{
+			return readNTriples(stream, options);
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Takes in a given JSON InputStream and converts the file to an SBOLDocument.
+	 * <p>
+	 * The stream is decoded as UTF-8 and fed to an event-based JSON parser through a bounded buffer.
+	 * Top-level objects are converted one at a time as they are parsed, so neither the raw text nor 
+	 * a tree of the whole document is ever held in memory.
+	 *
+	 * @param in
+	 * @return the converted SBOLDocument instance
+	 * @throws Exception 
+	 */
+	public static SBOLDocument readJSON(InputStream in) throws Exception
+	{
+		return readJSON(in, defaultOptions);
+	}
+
+	/**
+	 * Takes in a given JSON InputStream and converts the file to an SBOLDocument using the given options, 
+	 * independently of the defaults set on this class. Reads with different options may run concurrently.
+	 *
+	 * @param in
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Exception
+	 */
+	public static SBOLDocument readJSON(InputStream in, SBOLReaderOptions options) throws Exception
+	{
+		SBOLDocument SBOLDoc     = new SBOLDocument();
+		try
+		{
+			JSONTopLevelReader reader = new JSONTopLevelReader(Json.createParser(createReader(in)));
+			TopLevelDocument<QName> first = reader.read();
+			if (first != null && first.getType().getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
+			{
+				return readV1(readDocumentRoot(first, reader, null), options);
+			}
+			if (options.isParallel())
+			{
+				readTopLevelDocs(SBOLDoc, readDocumentRoot(first, reader, options), options);
+			}
+			else
+			{
+				for (TopLevelDocument<QName> topLevel = first; topLevel != null; topLevel = reader.read(options))
+				{
+					if (options.isTopLevelTypeRead(topLevel.getType()))
+						parseTopLevel(SBOLDoc, topLevel, options);
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+		if (options.isValidate())
+		{
+			try {
+				SBOLValidate.validateCompliance(SBOLDoc);
+			} catch (SBOLException e) {
+				SBOLDoc.setCompliant(false);
+			}
+		}
+		return SBOLDoc;
+	}
+	
+	/**
+	 * Takes in a given RDF InputStream and converts the file to an SBOLDocument.
+	 * <p>
+	 * The stream is handed directly to the StAX parser, so the raw text is never held 
+	 * in memory as a whole.
+	 * 
+	 * @param in
+	 * @return the converted SBOLDocument instance 
+	 */
+	public static SBOLDocument read(InputStream in)
+	{
+		return read(in, defaultOptions);
+	}
+
+	/**
+	 * Takes in a given RDF InputStream and converts the file to an SBOLDocument using the given options, 
+	 * independently of the defaults set on this class. Reads with different options may run concurrently.
+	 *
+	 * @param in
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 */
+	public static SBOLDocument read(InputStream in, SBOLReaderOptions options)
+	{
+		SBOLDocument SBOLDoc     = new SBOLDocument();
+		try
+		{
+			if (options.isDirectRDF())
+			{
+				return readRDFDirect(SBOLDoc, in, options);
+			}
+			DocumentRoot<QName> document = readRDF(createXMLStreamReader(in));
+
+			for (NamespaceBinding n : document.getNamespaceBindings())
+			{
+				if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
+				{
+					return readV1(document, options);
+				}
+				SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
+				//				SBOLDoc.addNamespaceBinding(URI.create(n.getNamespaceURI()), n.getPrefix());
+			}
+
+			readTopLevelDocs(SBOLDoc, document, options);
+
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+
+		return SBOLDoc;
+	}
+
+	/**
+	 * Takes in a given RDF InputStream and converts the file to an SBOLDocument.
+	 * <p>
+	 * The stream is handed directly to the StAX parser, so the raw text is never held 
+	 * in memory as a whole.
+	 * 
+	 * @param in
+	 * @return the converted SBOLDocument instance
+	 * @throws Exception 
+	 * @throws IOException
+	 */
+	public static SBOLDocument readRDF(InputStream in) throws Exception
+	{
+		return readRDF(in, defaultOptions);
+	}
+
+	/**
+	 * Takes in a given RDF InputStream and converts the file to an SBOLDocument using the given options, 
+	 * independently of the defaults set on this class. Reads with different options may run concurrently.
+	 *
+	 * @param in
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Exception
+	 */
+	public static SBOLDocument readRDF(InputStream in, SBOLReaderOptions options) throws Exception
+	{
+		SBOLDocument SBOLDoc     = new SBOLDocument();
+
+		try
+		{
+			if (options.isDirectRDF())
+			{
+				SBOLDocument converted = readRDFDirect(SBOLDoc, in, options);
+				if (converted != SBOLDoc)
+				{
+					return converted;
+				}
+			}
+			else
+			{
+				DocumentRoot<QName> document = readRDF(createXMLStreamReader(in));
+				for (NamespaceBinding n : document.getNamespaceBindings())
+				{
+					if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
+					{
+						return readV1(document, options);
+					}
+					SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
+					//				SBOLDoc.addNamespaceBinding(URI.create(n.getNamespaceURI()), n.getPrefix());
+				}
+				readTopLevelDocs(SBOLDoc, document, options);
+			}
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+		if (options.isValidate())
+		{
+			try {
+				SBOLValidate.validateCompliance(SBOLDoc);
+			} catch (SBOLException e) {
+				SBOLDoc.setCompliant(false);
+			}
+		}
+		return SBOLDoc;
+	}
+
+	/**
+	 * Takes in a given Turtle InputStream and converts the file to an SBOLDocument.
+	 * <p>
+	 * The stream is decoded as UTF-8 and fed to the Turtle parser through a bounded buffer,
+	 * so the raw text is never held in memory as a whole.
+	 *
+	 * @param in
+	 * @return the converted SBOLDocument instance
+	 * @throws Exception
+	 */
+	public static SBOLDocument readTurtle(InputStream in) throws Exception
+	{
+		return readTurtle(in, defaultOptions);
+	}
+
+	/**
+	 * Takes in a given Turtle InputStream and converts the file to an SBOLDocument using the given options, 
+	 * independently of the defaults set on this class. Reads with different options may run concurrently.
+	 *
+	 * @param in
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Exception
+	 */
+	public static SBOLDocument readTurtle(InputStream in, SBOLReaderOptions options) throws Exception
+	{
+		SBOLDocument SBOLDoc     = new SBOLDocument();
+
+		try
+		{
+			DocumentRoot<QName> document = readTurtle(createReader(in));
+			for (NamespaceBinding n : document.getNamespaceBindings())
+			{
+				if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
+				{
+					return readV1(document, options);
+				}
+				SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
+				//				SBOLDoc.addNamespaceBinding(URI.create(n.getNamespaceURI()), n.getPrefix());
+
+			}
+			readTopLevelDocs(SBOLDoc, document, options);
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+		if (options.isValidate())
+		{
+			try {
+				SBOLValidate.validateCompliance(SBOLDoc);
+			} catch (SBOLException e) {
+				SBOLDoc.setCompliant(false);
+			}
+		}
+		return SBOLDoc;
+	}
+
+	/**
+	 * Takes in a given InputStream in the binary format written by {@link SBOLWriter#writeBinary(SBOLDocument, OutputStream)} 
+	 * and converts it to an SBOLDocument.
+	 * <p>
+	 * Top-level objects are converted one at a time as they are decoded, so no tree of the whole
+	 * document is held in memory unless {@link #setParallel(boolean)} is on.
+	 *
+	 * @param in
+	 * @return the converted SBOLDocument instance
+	 * @throws IOException if the stream is not in the binary format
+	 */
+	public static SBOLDocument readBinary(InputStream in) throws IOException
+	{
+		return readBinary(in, defaultOptions);
+	}
+
+	/**
+	 * Takes in a given InputStream in the binary format and converts it to an SBOLDocument using the given 
+	 * options, independently of the defaults set on this class. Reads with different options may run 
+	 * concurrently.
+	 *
+	 * @param in
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws IOException if the stream is not in the binary format
+	 */
+	public static SBOLDocument readBinary(InputStream in, SBOLReaderOptions options) throws IOException
+	{
+		SBOLDocument SBOLDoc     = new SBOLDocument();
+
+		BinaryTopLevelReader reader = new BinaryTopLevelReader(buffer(in));
+		for (NamespaceBinding n : reader.getNamespaceBindings())
+		{
+			SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
+		}
+		if (options.isParallel())
+		{
+			List<TopLevelDocument<QName>> topLevels = new ArrayList<>();
+			for (TopLevelDocument<QName> topLevel = reader.read(options); topLevel != null; topLevel = reader.read(options))
+			{
+				topLevels.add(topLevel);
+			}
+			readTopLevelDocs(SBOLDoc, DocumentRoot(NamespaceBindings(), TopLevelDocuments(topLevels)), options);
+		}
+		else
+		{
+			for (TopLevelDocument<QName> topLevel = reader.read(options); topLevel != null; topLevel = reader.read(options))
+			{
+				parseTopLevel(SBOLDoc, topLevel, options);
+			}
+		}
+		if (options.isValidate())
+		{
+			try {
+				SBOLValidate.validateCompliance(SBOLDoc);
+			} catch (SBOLException e) {
+				SBOLDoc.setCompliant(false);
+			}
+		}
+		return SBOLDoc;
+	}
+
+	/**
+	 * Takes in a given N-Triples or N-Quads InputStream and converts the file to an SBOLDocument.
+	 * Graph labels of N-Quads are ignored.
+	 * <p>
+	 * The statements are grouped by subject into top-level objects and the objects nested in them, 
+	 * using the {@code # @prefix} comments written by {@link SBOLWriter#writeNTriples(SBOLDocument, OutputStream)} 
+	 * to recover the namespace prefixes. If {@link #setParallel(boolean)} is on, the input is split at 
+	 * line boundaries and the chunks are parsed on multiple cores.
+	 *
+	 * @param in
+	 * @return the converted SBOLDocument instance
+	 * @throws Exception
+	 */
+	public static SBOLDocument readNTriples(InputStream in) throws Exception
+	{
+		return readNTriples(in, defaultOptions);
+	}
+
+	/**
+	 * Takes in a given N-Triples or N-Quads InputStream and converts the file to an SBOLDocument using the 
+	 * given options, independently of the defaults set on this class. Reads with different options may run 
+	 * concurrently.
+	 *
+	 * @param in
+	 * @param options
+	 * @return the converted SBOLDocument instance
+	 * @throws Exception
+	 */
+	public static SBOLDocument readNTriples(InputStream in, SBOLReaderOptions options) throws Exception
+	{
+		SBOLDocument SBOLDoc     = new SBOLDocument();
+
+		DocumentRoot<QName> document = NTriplesReader.read(createReader(in), 
+				options.isParallel() ? getForkJoinPool() : null);
+		for (NamespaceBinding n : document.getNamespaceBindings())
+		{
+			SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
+		}
+		readTopLevelDocs(SBOLDoc, document, options);
+		if (options.isValidate())
+		{
+			try {
+				SBOLValidate.validateCompliance(SBOLDoc);
+			} catch (SBOLException e) {
+				SBOLDoc.setCompliant(false);
+			}
+		}
+		return SBOLDoc;
+	}
+
+	/**
+	 * Returns an iterator over the top-levels of the given RDF InputStream that parses 
+	 * one top-level at a time, so that memory use does not grow with the size of the input.
+	 * <p>
+	 * Each returned TopLevel is parsed exactly as {@link #readRDF(InputStream)} would parse it, 
+	 * but it belongs to its own single-element SBOLDocument instead of one document holding the 
+	 * whole input. No document-wide validation is performed. Input in the SBOL 1.1 format is 
+	 * converted as a whole by {@link #readRDF(InputStream)}, and its top-levels are returned 
+	 * from the converted document.
+	 * <p>
+	 * The given stream is not closed by this method or by the returned iterator.
+	 *
+	 * @param in
+	 * @return an iterator over the top-levels of the given stream
+	 * @throws Exception if the stream does not start with an RDF document 
+	 */
+	public static Iterator<TopLevel> iterate(InputStream in) throws Exception
+	{
+		return iterate(in, defaultOptions);
+	}
+
+	/**
+	 * Returns an iterator over the top-levels of the given RDF InputStream, as {@link #iterate(InputStream)} does, 
+	 * converting input in the SBOL 1.1 format with the given options. Top-levels of types not selected by
+	 * {@link SBOLReaderOptions#withTopLevelTypes(java.util.Set)}, and skipped Sequence elements, are passed 
+	 * over in the XML stream without being parsed.
+	 *
+	 * @param in
+	 * @param options
+	 * @return an iterator over the top-levels of the given stream
+	 * @throws Exception if the stream does not start with an RDF document 
+	 */
+	public static Iterator<TopLevel> iterate(InputStream in, final SBOLReaderOptions options) throws Exception
+	{
+		final RDFTopLevelReader reader = new RDFTopLevelReader(createXMLStreamReader(in));
+		for (NamespaceBinding n : reader.getNamespaceBindings())
+		{
+			if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
+			{
+				SBOLDocument SBOLDoc = readV1(readDocumentRoot(reader), options);
+				List<TopLevel> converted = new ArrayList<>();
+				converted.addAll(SBOLDoc.getCollectionsView());
+				converted.addAll(SBOLDoc.getSequencesView());
+				converted.addAll(SBOLDoc.getComponentDefinitionsView());
+				converted.addAll(SBOLDoc.getGenericTopLevelsView());
+				return converted.iterator();
+			}
+		}
+		return new Iterator<TopLevel>()
+		{
+			private TopLevel next = null;
+
+			@Override
+			public boolean hasNext()
+			{
+				if (next == null)
+				{
+					TopLevelDocument<QName> topLevel;
+					try
+					{
+						topLevel = reader.read(options);
+					}
+					catch (XMLStreamException e)
+					{
+						throw new SBOLException(e);
+					}
+					if (topLevel != null)
+					{
+						SBOLDocument SBOLDoc = new SBOLDocument();
+						for (NamespaceBinding n : reader.getNamespaceBindings())
+						{
+							SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
+						}
+						next = parseTopLevel(SBOLDoc, topLevel, options);
+					}
+				}
+				return next != null;
+			}
+
+			@Override
+			public TopLevel next()
+			{
+				if (!hasNext())
+					throw new NoSuchElementException();
+				TopLevel topLevel = next;
+				next = null;
+				return topLevel;
+			}
+
+			@Override
+			public void remove()
+			{
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/**
+	 * Starts reading the given file on a shared pool with one thread per available processor,
+	 * using the current default options.
+	 * 
+	 * @param file
+	 * @return a Future holding the converted SBOLDocument, or the error that stopped the file from being read
+	 * @see #readAsync(File, SBOLReaderOptions, ExecutorService)
+	 */
+	public static Future<SBOLDocument> readAsync(File file)
+	{
+		return readAsync(file, defaultOptions, getExecutorService());
+	}
+
+	/**
+	 * Starts reading the given file on the given executor with the given options. The format of the 
+	 * file is chosen from its name: files ending in {@code .json} are read by {@link #readJSON(File, SBOLReaderOptions)},
+	 * files ending in {@code .ttl} by {@link #readTurtle(File, SBOLReaderOptions)}, files ending in {@code .nt} 
+	 * or {@code .nq} by {@link #readNTriples(File, SBOLReaderOptions)}, files ending in {@code .sbolb} by 
+	 * {@link #readBinary(File, SBOLReaderOptions)}, and all other files by {@link #readRDF(File, SBOLReaderOptions)}.
+	 * A trailing {@code .gz} is ignored, since compressed input of any format is detected and 
+	 * decompressed as it is read.
+	 * 
+	 * @param file
+	 * @param options
+	 * @param executor
+	 * @return a Future holding the converted SBOLDocument, or the error that stopped the file from being read
+	 */
+	public static Future<SBOLDocument> readAsync(final File file, final SBOLReaderOptions options, ExecutorService executor)
+	{
+		return executor.submit(new Callable<SBOLDocument>()
+		{
+			@Override
+			public SBOLDocument call() throws Exception
+			{
+				return readFile(file, options);
+			}
+		});
+	}
+
+	/**
+	 * Reads the given files concurrently on a shared pool with one thread per available processor.
+	 * 
+	 * @param files
+	 * @param options
+	 * @return the outcome of reading each file, in the order of the given files
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for the reads
+	 * @see #readAll(List, SBOLReaderOptions, ExecutorService)
 	 */
-	public static SBOLDocument read(File file) throws Throwable
+	public static List<SBOLReadResult> readAll(List<File> files, SBOLReaderOptions options) throws InterruptedException
 	{
-		FileInputStream stream 	   = new FileInputStream(file);
-		BufferedInputStream buffer = new BufferedInputStream(stream);
-
-		return read(buffer);
+		return readAll(files, options, getExecutorService());
 	}
 
 	/**
-	 * Takes in the given RDF file and converts the file to an SBOLDocument.
-	 * <p>
-	 * This method calls {@link #readRDF(InputStream)}.
+	 * Reads the given files concurrently on the given executor, each as {@link #readAsync(File, SBOLReaderOptions, ExecutorService)}
+	 * does, and waits for all of them to finish. A file that cannot be read does not stop the others; 
+	 * its error is kept in its result instead.
 	 * 
-	 * @param file
-	 * @return the converted SBOLDocument instance
-	 * @throws Throwable
+	 * @param files
+	 * @param options
+	 * @param executor
+	 * @return the outcome of reading each file, in the order of the given files
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for the reads
 	 */
-	public static SBOLDocument readRDF(File file) throws Throwable
+	public static List<SBOLReadResult> readAll(List<File> files, SBOLReaderOptions options, ExecutorService executor)
+			throws InterruptedException
 	{
-		FileInputStream stream     = new FileInputStream(file);
-		BufferedInputStream buffer = new BufferedInputStream(stream);
-		return readRDF(buffer);
+		List<Future<SBOLDocument>> futures = new ArrayList<>(files.size());
+		for (File file : files)
+		{
+			futures.add(readAsync(file, options, executor));
+		}
+		List<SBOLReadResult> results = new ArrayList<>(files.size());
+		for (int i = 0; i < files.size(); i++)
+		{
+			try
+			{
+				results.add(new SBOLReadResult(files.get(i), futures.get(i).get(), null));
+			}
+			catch (ExecutionException e)
+			{
+				results.add(new SBOLReadResult(files.get(i), null, e.getCause()));
+			}
+		}
+		return results;
 	}
 
 	/**
-	 * Takes in the given Turtle file and converts the file to an SBOLDocument
-	 * <p>
-	 * This method calls {@link #readTurtle(InputStream)} 
-	 * @param file
+	 * Reads all shards listed in the given manifest file into one SBOLDocument, using the current default options.
+	 * 
+	 * @param manifest
 	 * @return the converted SBOLDocument instance
-	 * @throws Throwable
+	 * @throws Exception
+	 * @see #readShards(SBOLShardManifest, List, SBOLReaderOptions)
 	 */
-	public static SBOLDocument readTurtle(File file) throws Throwable
+	public static SBOLDocument readShards(File manifest) throws Exception
 	{
-		FileInputStream stream 	   = new FileInputStream(file);
-		BufferedInputStream buffer = new BufferedInputStream(stream);
-
-		return readTurtle(buffer);
+		SBOLShardManifest shardManifest = SBOLShardManifest.read(manifest);
+		return readShards(shardManifest, shardManifest.getShards(), defaultOptions);
 	}
 
 	/**
-	 * Takes in a given JSON InputStream and converts the file to an SBOLDocument
-	 *
-	 * @param in
+	 * Reads the given shards of a document written by {@link SBOLWriter#writeRDFShards(SBOLDocument, File, SBOLShardOptions)}
+	 * or the like into one SBOLDocument using the given options. The shards are parsed concurrently on a 
+	 * shared pool with one thread per available processor, and their top-levels are then converted in the 
+	 * order of the given shards.
+	 * 
+	 * @param manifest
+	 * @param shards the shards to read, which may be any subset of the shards of the manifest
+	 * @param options
 	 * @return the converted SBOLDocument instance
-	 * @throws Exception 
+	 * @throws Exception
 	 */
-	public static SBOLDocument readJSON(InputStream in) throws Exception
+	public static SBOLDocument readShards(SBOLShardManifest manifest, List<SBOLShardManifest.Shard> shards,
+			final SBOLReaderOptions options) throws Exception
 	{
-		Scanner scanner = new Scanner(in, "UTF-8");
-		String inputStreamString = scanner.useDelimiter("\\A").next();
-		SBOLDocument SBOLDoc     = new SBOLDocument();
-		try
+		final SBOLWriter.Format format = manifest.getFormat();
+		List<Future<DocumentRoot<QName>>> futures = new ArrayList<>(shards.size());
+		for (final SBOLShardManifest.Shard shard : shards)
 		{
-			DocumentRoot<QName> document = readJSON(new StringReader(inputStreamString));
-
-			for (NamespaceBinding n : document.getNamespaceBindings())
+			futures.add(getExecutorService().submit(new Callable<DocumentRoot<QName>>()
 			{
-				if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
+				@Override
+				public DocumentRoot<QName> call() throws Exception
 				{
-					scanner.close();
-					return readV1(document);
+					return readShard(shard.getFile(), format, options);
 				}
+			}));
+		}
+		SBOLDocument SBOLDoc     = new SBOLDocument();
+		for (Future<DocumentRoot<QName>> future : futures)
+		{
+			DocumentRoot<QName> document;
+			try
+			{
+				document = future.get();
+			}
+			catch (ExecutionException e)
+			{
+				if (e.getCause() instanceof Exception)
+					throw (Exception) e.getCause();
+				throw new SBOLException(e.getCause());
+			}
+			for (NamespaceBinding n : document.getNamespaceBindings())
+			{
 				SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
-				//				SBOLDoc.addNamespaceBinding(URI.create(n.getNamespaceURI()), n.getPrefix());
 			}
-
-			readTopLevelDocs(SBOLDoc, document);
-
+			readTopLevelDocs(SBOLDoc, document, options);
 		}
-		catch (IOException e)
+		if (options.isValidate())
 		{
-			scanner.close();
-			e.printStackTrace();
-		}
-		scanner.close();
-		try {
-			SBOLValidate.validateCompliance(SBOLDoc);
-		} catch (SBOLException e) {
-			SBOLDoc.setCompliant(false);
+			try {
+				SBOLValidate.validateCompliance(SBOLDoc);
+			} catch (SBOLException e) {
+				SBOLDoc.setCompliant(false);
+			}
 		}
 		return SBOLDoc;
 	}
-	
+
 	/**
-	 * Takes in a given RDF InputStream and converts the file to an SBOLDocument.
-	 * 
-	 * @param in
-	 * @return the converted SBOLDocument instance 
+	 * Parses the given shard file in the given format into a DocumentRoot.
 	 */
-	public static SBOLDocument read(InputStream in)
+	private static DocumentRoot<QName> readShard(File file, SBOLWriter.Format format, SBOLReaderOptions options)
+			throws Exception
 	{
-		Scanner scanner = new Scanner(in, "UTF-8");
-		String inputStreamString = scanner.useDelimiter("\\A").next();
-		SBOLDocument SBOLDoc     = new SBOLDocument();
+		InputStream in = open(file, options);
 		try
 		{
-			DocumentRoot<QName> document = readRDF(new StringReader(inputStreamString));
-
-			for (NamespaceBinding n : document.getNamespaceBindings())
+			switch (format)
 			{
-				if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
-				{
-					scanner.close();
-					return readV1(document);
-				}
-				SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
-				//				SBOLDoc.addNamespaceBinding(URI.create(n.getNamespaceURI()), n.getPrefix());
+			case JSON:
+				JSONTopLevelReader reader = new JSONTopLevelReader(Json.createParser(createReader(in)));
+				return readDocumentRoot(reader.read(options), reader, options);
+			case NTRIPLES:
+				return NTriplesReader.read(createReader(in), null);
+			default:
+				return readRDF(createXMLStreamReader(in));
 			}
+		}
+		finally
+		{
+			in.close();
+		}
+	}
 
-			readTopLevelDocs(SBOLDoc, document);
-
+	/**
+	 * Reads the given file in the format given by its name.
+	 */
+	private static SBOLDocument readFile(File file, SBOLReaderOptions options) throws Exception
+	{
+		String name = file.getName().toLowerCase();
+		if (name.endsWith(".gz"))
+			name = name.substring(0, name.length() - ".gz".length());
+		try
+		{
+			if (name.endsWith(".json"))
+				return readJSON(file, options);
+			else if (name.endsWith(".ttl"))
+				return readTurtle(file, options);
+			else if (name.endsWith(".nt") || name.endsWith(".nq"))
+				return readNTriples(file, options);
+			else if (name.endsWith(".sbolb"))
+				return readBinary(file, options);
+			else
+				return readRDF(file, options);
 		}
-		catch (Exception e)
+		catch (Exception | Error e)
 		{
-			scanner.close();
-			e.printStackTrace();
+			throw e;
 		}
+		catch (Throwable t)
+		{
+			throw new SBOLException(t);
+		}
+	}
 
-		scanner.close();
+	/**
+	 * Reads the given RDF InputStream into the given SBOLDocument with {@link RDFDirectReader}.
+	 * 
+	 * @return the given SBOLDocument, or the converted SBOLDocument if the input is in the SBOL 1.1 format 
+	 */
+	private static SBOLDocument readRDFDirect(SBOLDocument SBOLDoc, InputStream in, SBOLReaderOptions options)
+			throws XMLStreamException
+	{
+		XMLStreamReader xmlReader = createXMLStreamReader(in);
+		RDFTopLevelReader reader = new RDFTopLevelReader(xmlReader);
+		for (NamespaceBinding n : reader.getNamespaceBindings())
+		{
+			if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
+			{
+				return readV1(readDocumentRoot(reader), options);
+			}
+			SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
+		}
+		new RDFDirectReader(reader, xmlReader, options).read(SBOLDoc);
 		return SBOLDoc;
 	}
 
 	/**
-	 * Takes in a given RDF InputStream and converts the file to an SBOLDocument.
-	 * 
-	 * @param in
-	 * @return the converted SBOLDocument instance
-	 * @throws Exception 
-	 * @throws IOException
+	 * Reads the remaining top-levels of the given reader into a DocumentRoot.
 	 */
-	public static SBOLDocument readRDF(InputStream in) throws Exception
+	private static DocumentRoot<QName> readDocumentRoot(RDFTopLevelReader reader) throws XMLStreamException
 	{
-		Scanner scanner = new Scanner(in, "UTF-8");
-		String inputStreamString = scanner.useDelimiter("\\A").next();
-		SBOLDocument SBOLDoc     = new SBOLDocument();
+		List<TopLevelDocument<QName>> topLevels = new ArrayList<>();
+		for (TopLevelDocument<QName> topLevel = reader.read(); topLevel != null; topLevel = reader.read())
+		{
+			topLevels.add(topLevel);
+		}
+		return DocumentRoot(NamespaceBindings(reader.getNamespaceBindings()), TopLevelDocuments(topLevels));
+	}
 
-		try
+	/**
+	 * Reads the given top-level and the remaining top-levels of the given JSON reader into a DocumentRoot.
+	 */
+	private static DocumentRoot<QName> readDocumentRoot(TopLevelDocument<QName> first, JSONTopLevelReader reader,
+			SBOLReaderOptions options)
+	{
+		List<TopLevelDocument<QName>> topLevels = new ArrayList<>();
+		for (TopLevelDocument<QName> topLevel = first; topLevel != null; topLevel = reader.read(options))
 		{
-			DocumentRoot<QName> document = readRDF(new StringReader(inputStreamString));
-			for (NamespaceBinding n : document.getNamespaceBindings())
+			topLevels.add(topLevel);
+		}
+		return DocumentRoot(NamespaceBindings(), TopLevelDocuments(topLevels));
+	}
+
+	/**
+	 * Opens the given file for reading. If the options allow it, a file of at least 
+	 * {@link #MAPPED_FILE_THRESHOLD} bytes is mapped into memory; any other file is read 
+	 * through a buffer of {@link #BUFFER_SIZE} bytes.
+	 */
+	private static InputStream open(File file, SBOLReaderOptions options) throws IOException
+	{
+		FileInputStream stream = new FileInputStream(file);
+		long size = file.length();
+		if (options.isMemoryMapped() && size >= MAPPED_FILE_THRESHOLD && size <= Integer.MAX_VALUE)
+		{
+			try
 			{
-				if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
-				{
-					scanner.close();
-					return readV1(document);
-				}
-				SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
-				//				SBOLDoc.addNamespaceBinding(URI.create(n.getNamespaceURI()), n.getPrefix());
+				return new ByteBufferInputStream(stream.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size));
+			}
+			finally
+			{
+				stream.close();
 			}
-			readTopLevelDocs(SBOLDoc, document);
 		}
-		catch (IOException e)
+		return buffer(stream);
+	}
+
+	/**
+	 * Wraps the given stream in a buffer of {@link #BUFFER_SIZE} bytes, unless it is already buffered.
+	 * If the stream starts with the gzip magic bytes, it is decompressed on the fly as it is read.
+	 */
+	private static InputStream buffer(InputStream in) throws IOException
+	{
+		if (!(in instanceof BufferedInputStream || in instanceof ByteArrayInputStream
+				|| in instanceof ByteBufferInputStream))
+			in = new BufferedInputStream(in, BUFFER_SIZE);
+		if (!isGZIP(in))
+			return in;
+		return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+	}
+
+	/**
+	 * Tells whether the given stream, which must support marks, starts with the gzip magic bytes, 
+	 * without consuming them.
+	 */
+	private static boolean isGZIP(InputStream in) throws IOException
+	{
+		in.mark(2);
+		try
 		{
-			scanner.close();
-			e.printStackTrace();
+			int b1 = in.read();
+			int b2 = in.read();
+			return b1 != -1 && b2 != -1 && ((b2 << 8) | b1) == GZIPInputStream.GZIP_MAGIC;
 		}
-		scanner.close();
-		try {
-			SBOLValidate.validateCompliance(SBOLDoc);
-		} catch (SBOLException e) {
-			SBOLDoc.setCompliant(false);
+		finally
+		{
+			in.reset();
 		}
-		return SBOLDoc;
 	}
 
 	/**
-	 * Takes in a given Turtle InputStream and converts the file to an SBOLDocument
-	 *
-	 * @param in
-	 * @return the converted SBOLDocument instance
-	 * @throws Exception
+	 * Creates a UTF-8 decoding reader over the given stream, decompressed if needed, that holds at most 
+	 * {@link #BUFFER_SIZE} characters at a time.
 	 */
-	public static SBOLDocument readTurtle(InputStream in) throws Exception
+	private static BufferedReader createReader(InputStream in) throws IOException
 	{
-		Scanner scanner = new Scanner(in, "UTF-8");
-		String inputStreamString = scanner.useDelimiter("\\A").next();
-		SBOLDocument SBOLDoc     = new SBOLDocument();
+		return new BufferedReader(new InputStreamReader(buffer(in), "UTF-8"), BUFFER_SIZE);
+	}
 
+	/**
+	 * Creates a StAX reader pulling directly from the given stream, decompressed if needed. The parser 
+	 * detects the encoding from the XML declaration.
+	 */
+	private static XMLStreamReader createXMLStreamReader(InputStream in) throws XMLStreamException
+	{
 		try
 		{
-			DocumentRoot<QName> document = readTurtle(new StringReader(inputStreamString));
-			for (NamespaceBinding n : document.getNamespaceBindings())
-			{
-				if (n.getNamespaceURI().equals(Sbol1Terms.sbol1.getNamespaceURI()))
-				{
-					scanner.close();
-					return readV1(document);
-				}
-				SBOLDoc.addNamespaceBinding(NamespaceBinding(n.getNamespaceURI(), n.getPrefix()));
-				//				SBOLDoc.addNamespaceBinding(URI.create(n.getNamespaceURI()), n.getPrefix());
-
-			}
-			readTopLevelDocs(SBOLDoc, document);
+			return XMLInputFactory.newInstance().createXMLStreamReader(buffer(in));
 		}
 		catch (IOException e)
 		{
-			scanner.close();
-			e.printStackTrace();
-		}
-		scanner.close();
-		try {
-			SBOLValidate.validateCompliance(SBOLDoc);
-		} catch (SBOLException e) {
-			SBOLDoc.setCompliant(false);
+			throw new XMLStreamException(e);
 		}
-		return SBOLDoc;
 	}
 
-	private static SBOLDocument readV1(DocumentRoot<QName> document)
+	private static SBOLDocument readV1(DocumentRoot<QName> document, SBOLReaderOptions options)
 	{
 		SBOLDocument SBOLDoc = new SBOLDocument();
 		for (NamespaceBinding n : document.getNamespaceBindings())
@@ -427,27 +1358,20 @@ public class SBOLReader
 		}
 		SBOLDoc.addNamespaceBinding(NamespaceBinding(Sbol2Terms.prov.getNamespaceURI(),
 				Sbol2Terms.prov.getPrefix()));
-		readTopLevelDocsV1(SBOLDoc, document);
-		try {
-			SBOLValidate.validateCompliance(SBOLDoc);
-		} catch (SBOLException e) {
-			SBOLDoc.setCompliant(false);
+		readTopLevelDocsV1(SBOLDoc, document, options);
+		if (options.isValidate())
+		{
+			try {
+				SBOLValidate.validateCompliance(SBOLDoc);
+			} catch (SBOLException e) {
+				SBOLDoc.setCompliant(false);
+			}
 		}
 		return SBOLDoc;
 	}
 
-	private static DocumentRoot<QName> readJSON(Reader stream) throws Exception
-	{
-		JsonReader reader 		  = Json.createReaderFactory(Collections.<String, Object> emptyMap()).createReader(stream);
-		JsonIo jsonIo 	  		  = new JsonIo();
-		IoReader<String> ioReader = jsonIo.createIoReader(reader.read());
-		DocumentRoot<String> root = ioReader.read();
-		return StringifyQName.string2qname.mapDR(root);
-	}
-
-	private static DocumentRoot<QName> readRDF(Reader reader) throws Exception
+	private static DocumentRoot<QName> readRDF(XMLStreamReader xmlReader) throws Exception
 	{
-		XMLStreamReader xmlReader = XMLInputFactory.newInstance().createXMLStreamReader(reader);
 		RdfIo rdfIo 			  = new RdfIo();
 		return rdfIo.createIoReader(xmlReader).read();
 	}
@@ -458,16 +1382,17 @@ public class SBOLReader
 		return turtleIo.createIoReader(reader).read();
 	}
 
-	private static void readTopLevelDocsV1(SBOLDocument SBOLDoc, DocumentRoot<QName> document)
+	private static void readTopLevelDocsV1(SBOLDocument SBOLDoc, DocumentRoot<QName> document,
+			SBOLReaderOptions options)
 	{
 		for (TopLevelDocument<QName> topLevel : document.getTopLevelDocuments())
 		{
 			if (topLevel.getType().equals(Sbol1Terms.DNAComponent.DNAComponent))
-				parseDnaComponentV1(SBOLDoc, topLevel);
+				parseDnaComponentV1(SBOLDoc, topLevel, options);
 			else if (topLevel.getType().equals(Sbol1Terms.DNASequence.DNASequence))
-				parseDnaSequenceV1(SBOLDoc, topLevel);
+				parseDnaSequenceV1(SBOLDoc, topLevel, options);
 			else if (topLevel.getType().equals(Sbol1Terms.Collection.Collection))
-				parseCollectionV1(SBOLDoc, topLevel);
+				parseCollectionV1(SBOLDoc, topLevel, options);
 			else
 			{
 				parseGenericTopLevel(SBOLDoc, topLevel);
@@ -475,27 +1400,98 @@ public class SBOLReader
 		}
 	}
 
-	private static void readTopLevelDocs(SBOLDocument SBOLDoc, DocumentRoot<QName> document)
+	private static void readTopLevelDocs(SBOLDocument SBOLDoc, DocumentRoot<QName> document,
+			SBOLReaderOptions options)
+	{
+		if (options.isParallel())
+		{
+			readTopLevelDocsInParallel(SBOLDoc, document, options);
+			return;
+		}
+		for (TopLevelDocument<QName> topLevel : document.getTopLevelDocuments())
+		{
+			if (options.isTopLevelTypeRead(topLevel.getType()))
+				parseTopLevel(SBOLDoc, topLevel, options);
+		}
+	}
+
+	/**
+	 * Converts the top-level documents concurrently, each into its own single-element SBOLDocument, 
+	 * and then adds the resulting TopLevel instances to the given SBOLDocument in document order.
+	 */
+	private static void readTopLevelDocsInParallel(SBOLDocument SBOLDoc, DocumentRoot<QName> document,
+			SBOLReaderOptions options)
 	{
+		List<TopLevelDocument<QName>> topLevelDocs = new ArrayList<>();
 		for (TopLevelDocument<QName> topLevel : document.getTopLevelDocuments())
 		{
-			if (topLevel.getType().equals(Sbol2Terms.Collection.Collection))
-				parseCollections(SBOLDoc, topLevel);
-			else if (topLevel.getType().equals(Sbol2Terms.ModuleDefinition.ModuleDefinition))
-				parseModuleDefinition(SBOLDoc, topLevel);
-			else if (topLevel.getType().equals(Sbol2Terms.Model.Model))
-				parseModels(SBOLDoc, topLevel);
-			else if (topLevel.getType().equals(Sbol2Terms.Sequence.Sequence))
-				parseSequences(SBOLDoc, topLevel);
-			else if (topLevel.getType().equals(Sbol2Terms.ComponentDefinition.ComponentDefinition))
-				parseComponentDefinitions(SBOLDoc, topLevel);
+			if (options.isTopLevelTypeRead(topLevel.getType()))
+				topLevelDocs.add(topLevel);
+		}
+		TopLevel[] topLevels = new TopLevel[topLevelDocs.size()];
+		getForkJoinPool().invoke(new ParseTopLevelsTask(topLevelDocs, topLevels, 0, topLevels.length, options));
+		for (TopLevel topLevel : topLevels)
+		{
+			if (topLevel instanceof Collection)
+				SBOLDoc.addCollection((Collection) topLevel);
+			else if (topLevel instanceof ModuleDefinition)
+				SBOLDoc.addModuleDefinition((ModuleDefinition) topLevel);
+			else if (topLevel instanceof Model)
+				SBOLDoc.addModel((Model) topLevel);
+			else if (topLevel instanceof Sequence)
+				SBOLDoc.addSequence((Sequence) topLevel);
+			else if (topLevel instanceof ComponentDefinition)
+				SBOLDoc.addComponentDefinition((ComponentDefinition) topLevel);
 			else
-				parseGenericTopLevel(SBOLDoc, topLevel);
+				SBOLDoc.addGenericTopLevel((GenericTopLevel) topLevel);
+		}
+	}
+
+	private static synchronized ForkJoinPool getForkJoinPool()
+	{
+		if (forkJoinPool == null)
+			forkJoinPool = new ForkJoinPool();
+		return forkJoinPool;
+	}
+
+	private static synchronized ExecutorService getExecutorService()
+	{
+		if (executorService == null)
+		{
+			executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+					new ThreadFactory()
+					{
+						@Override
+						public Thread newThread(Runnable runnable)
+						{
+							Thread thread = new Thread(runnable, "SBOLReader");
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
 		}
+		return executorService;
+	}
+
+	private static TopLevel parseTopLevel(SBOLDocument SBOLDoc, TopLevelDocument<QName> topLevel,
+			SBOLReaderOptions options)
+	{
+		if (topLevel.getType().equals(Sbol2Terms.Collection.Collection))
+			return parseCollections(SBOLDoc, topLevel);
+		else if (topLevel.getType().equals(Sbol2Terms.ModuleDefinition.ModuleDefinition))
+			return parseModuleDefinition(SBOLDoc, topLevel);
+		else if (topLevel.getType().equals(Sbol2Terms.Model.Model))
+			return parseModels(SBOLDoc, topLevel);
+		else if (topLevel.getType().equals(Sbol2Terms.Sequence.Sequence))
+			return parseSequences(SBOLDoc, topLevel, options);
+		else if (topLevel.getType().equals(Sbol2Terms.ComponentDefinition.ComponentDefinition))
+			return parseComponentDefinitions(SBOLDoc, topLevel);
+		else
+			return parseGenericTopLevel(SBOLDoc, topLevel);
 	}
 
 	private static ComponentDefinition parseDnaComponentV1(
-			SBOLDocument SBOLDoc, IdentifiableDocument<QName> componentDef)
+			SBOLDocument SBOLDoc, IdentifiableDocument<QName> componentDef, SBOLReaderOptions options)
 	{
 		String displayId   = null;
 		String name 	   = null;
@@ -524,10 +1520,10 @@ public class SBOLReader
 			{
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
 				displayId = fixDisplayId(displayId);
-				if (URIPrefix != null ) //TODO: check version set
+				if (options.getURIPrefix() != null ) //TODO: check version set
 				{
-					persIdentity = createCompliantURI(URIPrefix,TopLevel.COMPONENT_DEFINITION,displayId,"",typesInURI).toString();
-					identity = createCompliantURI(URIPrefix,TopLevel.COMPONENT_DEFINITION,displayId,version,typesInURI);
+					persIdentity = createCompliantURI(options.getURIPrefix(),TopLevel.COMPONENT_DEFINITION,displayId,"",options.isTypesInURI()).toString();
+					identity = createCompliantURI(options.getURIPrefix(),TopLevel.COMPONENT_DEFINITION,displayId,options.getVersion(),options.isTypesInURI());
 				}
 			}
 			else if (namedProperty.getName().equals(Sbol1Terms.DNAComponent.name))
@@ -546,12 +1542,12 @@ public class SBOLReader
 			{
 				SequenceAnnotation sa = parseSequenceAnnotationV1(SBOLDoc,
 						((NestedDocument<QName>) namedProperty.getValue()),
-						precedePairs, persIdentity, ++sa_num);
+						precedePairs, persIdentity, ++sa_num, options);
 
 				sequenceAnnotations.add(sa);
 				// TODO: if version then + "/" + version, else skip version
 
-				URI component_identity    = createCompliantURI(persIdentity,"component" + ++component_num,version);
+				URI component_identity    = createCompliantURI(persIdentity,"component" + ++component_num,options.getVersion());
 				AccessType access 		  = AccessType.PUBLIC;
 				URI instantiatedComponent = sa.getComponentURI();
 				URI originalURI 		  = ((NestedDocument<QName>) namedProperty.getValue()).getIdentity();
@@ -563,14 +1559,14 @@ public class SBOLReader
 				if (!persIdentity.equals("")) {
 					component.setPersistentIdentity(createCompliantURI(persIdentity,"component" + ++component_num,""));
 					component.setDisplayId("component"+component_num);
-					component.setVersion(version);
+					component.setVersion(options.getVersion());
 				}
 				components.add(component);
 			}
 			else if (namedProperty.getName().equals(Sbol1Terms.DNAComponent.dnaSequence))
 			{
 				seq_identity = parseDnaSequenceV1(SBOLDoc,
-						(NestedDocument<QName>) namedProperty.getValue()).getIdentity();
+						(NestedDocument<QName>) namedProperty.getValue(), options).getIdentity();
 			}
 			else
 			{
@@ -585,7 +1581,7 @@ public class SBOLReader
 
 		for (SBOLPair pair : precedePairs)
 		{
-			URI sc_identity    			= createCompliantURI(persIdentity,"sequenceConstraint" + ++sc_number,version);
+			URI sc_identity    			= createCompliantURI(persIdentity,"sequenceConstraint" + ++sc_number,options.getVersion());
 			URI restrictionURI 			= Sbol2Terms.DnaComponentV1URI.restriction;
 			RestrictionType restriction = RestrictionType.convertToRestrictionType(restrictionURI);
 
@@ -606,9 +1602,9 @@ public class SBOLReader
 
 			SequenceConstraint sc = new SequenceConstraint(sc_identity, restriction, subject, object);
 			if (!persIdentity.equals("")) {
-				sc.setPersistentIdentity(createCompliantURI(persIdentity,"sequenceConstraint"+sc_number,version));
+				sc.setPersistentIdentity(createCompliantURI(persIdentity,"sequenceConstraint"+sc_number,options.getVersion()));
 				sc.setDisplayId("sequenceConstraint"+sc_number);
-				sc.setVersion(version);
+				sc.setVersion(options.getVersion());
 			}
 			sequenceConstraints.add(sc);
 		}
@@ -619,7 +1615,7 @@ public class SBOLReader
 			c = SBOLDoc.createComponentDefinition(identity, type);
 			if (!persIdentity.equals("")) {
 				c.setPersistentIdentity(URI.create(persIdentity));
-				c.setVersion(version);
+				c.setVersion(options.getVersion());
 			}
 			if(roles != null)
 				c.setRoles(roles);
@@ -645,7 +1641,8 @@ public class SBOLReader
 		return c;
 	}
 
-	private static Sequence parseDnaSequenceV1(SBOLDocument SBOLDoc, IdentifiableDocument<QName> topLevel)
+	private static Sequence parseDnaSequenceV1(SBOLDocument SBOLDoc, IdentifiableDocument<QName> topLevel,
+			SBOLReaderOptions options)
 	{
 		String elements    = null;
 		String displayId   = null;
@@ -656,14 +1653,14 @@ public class SBOLReader
 		URI encoding 	   = Sbol2Terms.SequenceURI.DnaSequenceV1;
 		List<Annotation> annotations = new ArrayList<>();
 
-		if (URIPrefix != null)
+		if (options.getURIPrefix() != null)
 		{
 			if (topLevel.getIdentity().toString().lastIndexOf('/') != -1)
 			{
 				displayId = topLevel.getIdentity().toString().substring(topLevel.getIdentity().toString().lastIndexOf('/') + 1);
 				displayId = fixDisplayId(displayId);
-				identity = createCompliantURI(URIPrefix,TopLevel.SEQUENCE,displayId,version,typesInURI);
-				persistentIdentity = createCompliantURI(URIPrefix,TopLevel.SEQUENCE,displayId,"",typesInURI);
+				identity = createCompliantURI(options.getURIPrefix(),TopLevel.SEQUENCE,displayId,options.getVersion(),options.isTypesInURI());
+				persistentIdentity = createCompliantURI(options.getURIPrefix(),TopLevel.SEQUENCE,displayId,"",options.isTypesInURI());
 			}
 		}
 
@@ -676,9 +1673,9 @@ public class SBOLReader
 			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
 			{
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-				if (URIPrefix != null)
+				if (options.getURIPrefix() != null)
 				{
-					identity = createCompliantURI(URIPrefix,TopLevel.SEQUENCE,displayId,version,typesInURI);
+					identity = createCompliantURI(options.getURIPrefix(),TopLevel.SEQUENCE,displayId,options.getVersion(),options.isTypesInURI());
 				}
 			}
 			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
@@ -700,7 +1697,7 @@ public class SBOLReader
 			sequence = SBOLDoc.createSequence(identity, elements, encoding);
 			if(persistentIdentity!=null) {
 				sequence.setPersistentIdentity(persistentIdentity);
-				sequence.setVersion(version);
+				sequence.setVersion(options.getVersion());
 			}
 			if(identity != topLevel.getIdentity())
 				sequence.setWasDerivedFrom(topLevel.getIdentity());
@@ -725,7 +1722,8 @@ public class SBOLReader
 		return displayId;
 	}
 
-	private static Collection parseCollectionV1(SBOLDocument SBOLDoc, IdentifiableDocument<QName> topLevel)
+	private static Collection parseCollectionV1(SBOLDocument SBOLDoc, IdentifiableDocument<QName> topLevel,
+			SBOLReaderOptions options)
 	{
 		URI identity 	   = topLevel.getIdentity();
 		URI persistentIdentity = null;
@@ -742,10 +1740,10 @@ public class SBOLReader
 			{
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
 				displayId = fixDisplayId(displayId);
-				if (URIPrefix != null)
+				if (options.getURIPrefix() != null)
 				{
-					identity = createCompliantURI(URIPrefix,TopLevel.COLLECTION,displayId,version,typesInURI);
-					persistentIdentity = createCompliantURI(URIPrefix,TopLevel.COLLECTION,displayId,"",typesInURI);
+					identity = createCompliantURI(options.getURIPrefix(),TopLevel.COLLECTION,displayId,options.getVersion(),options.isTypesInURI());
+					persistentIdentity = createCompliantURI(options.getURIPrefix(),TopLevel.COLLECTION,displayId,"",options.isTypesInURI());
 				}
 			}
 			else if (namedProperty.getName().equals(Sbol1Terms.Collection.name))
@@ -759,7 +1757,7 @@ public class SBOLReader
 			else if (namedProperty.getName().equals(Sbol1Terms.Collection.component))
 			{
 				members.add(parseDnaComponentV1(SBOLDoc,
-						(NestedDocument<QName>) namedProperty.getValue()).getIdentity());
+						(NestedDocument<QName>) namedProperty.getValue(), options).getIdentity());
 			}
 			else
 			{
@@ -770,7 +1768,7 @@ public class SBOLReader
 		Collection c = SBOLDoc.createCollection(identity);
 		if (persistentIdentity!=null) {
 			c.setPersistentIdentity(persistentIdentity);
-			c.setVersion(version);
+			c.setVersion(options.getVersion());
 		}
 		if(identity != topLevel.getIdentity())
 			c.setWasDerivedFrom(topLevel.getIdentity());
@@ -789,7 +1787,7 @@ public class SBOLReader
 
 	private static SequenceAnnotation parseSequenceAnnotationV1(
 			SBOLDocument SBOLDoc, NestedDocument<QName> sequenceAnnotation,
-			List<SBOLPair> precedePairs, String parentURI, int sa_num)
+			List<SBOLPair> precedePairs, String parentURI, int sa_num, SBOLReaderOptions options)
 	{
 		Integer start 	 = null;
 		Integer end 	 = null;
@@ -799,10 +1797,10 @@ public class SBOLReader
 		String persIdentity = "";
 		List<Annotation> annotations = new ArrayList<>();
 
-		if (URIPrefix != null)
+		if (options.getURIPrefix() != null)
 		{
 			persIdentity = createCompliantURI(parentURI,"annotation"+sa_num,"").toString();
-			identity = createCompliantURI(parentURI,"annotation"+sa_num,version);
+			identity = createCompliantURI(parentURI,"annotation"+sa_num,options.getVersion());
 		}
 		for (NamedProperty<QName> namedProperty : sequenceAnnotation.getProperties())
 		{
@@ -823,7 +1821,7 @@ public class SBOLReader
 			else if (namedProperty.getName().equals(Sbol1Terms.SequenceAnnotations.subComponent))
 			{
 				componentURI = parseDnaComponentV1(SBOLDoc,
-						(NestedDocument<QName>) namedProperty.getValue()).getIdentity();
+						(NestedDocument<QName>) namedProperty.getValue(), options).getIdentity();
 			}
 			else if (namedProperty.getName().equals(Sbol1Terms.SequenceAnnotations.precedes))
 			{
@@ -842,12 +1840,12 @@ public class SBOLReader
 
 		if (start != null && end != null) // create SequenceAnnotation & Component
 		{
-			URI range_identity = createCompliantURI(persIdentity,"range",version);
+			URI range_identity = createCompliantURI(persIdentity,"range",options.getVersion());
 			location = new Range(range_identity, start, end);
 			if (!persIdentity.equals("")) {
 				location.setPersistentIdentity(createCompliantURI(persIdentity,"range",""));
 				location.setDisplayId("range");
-				location.setVersion(version);
+				location.setVersion(options.getVersion());
 			}
 			if (strand != null)
 			{
@@ -863,12 +1861,12 @@ public class SBOLReader
 		}
 		else
 		{
-			URI dummyGenericLoc_id = createCompliantURI(persIdentity,"genericLocation",version);
+			URI dummyGenericLoc_id = createCompliantURI(persIdentity,"genericLocation",options.getVersion());
 			location = new GenericLocation(dummyGenericLoc_id);
 			if (!persIdentity.equals("")) {
 				location.setPersistentIdentity(createCompliantURI(persIdentity,"genericLocation",""));
 				location.setDisplayId("genericLocation");
-				location.setVersion(version);
+				location.setVersion(options.getVersion());
 			}
 			if (strand != null)
 			{
@@ -889,7 +1887,7 @@ public class SBOLReader
 		if(!persIdentity.equals("")) {
 			s.setPersistentIdentity(URI.create(persIdentity));
 			s.setDisplayId("annotation" + sa_num);
-			s.setVersion(version);
+			s.setVersion(options.getVersion());
 		}
 		if(identity != sequenceAnnotation.getIdentity())
 			s.setWasDerivedFrom(sequenceAnnotation.getIdentity());
@@ -921,57 +1919,47 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : topLevel.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
+			switch (Sbol2Property.lookup(Sbol2Property.COMPONENT_DEFINITION_PROPERTIES, namedProperty.getName()))
 			{
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
-			{
+				break;
+			case PERSISTENT_IDENTITY:
 				persistentIdentity  = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ComponentDefinition.type))
-			{
+				break;
+			case TYPE:
 				type.add(URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Model.roles))
-			{
+				break;
+			case ROLE:
 				roles.add(URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ComponentDefinition.hasComponent))
-			{
+				break;
+			case COMPONENT:
 				components.add(parseSubComponent(((NestedDocument<QName>) namedProperty.getValue())));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ComponentDefinition.hasSequence))
-			{
+				break;
+			case SEQUENCE:
 				structure = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ComponentDefinition.hasSequenceAnnotations))
-			{
+				break;
+			case SEQUENCE_ANNOTATION:
 				sequenceAnnotations.add(parseSequenceAnnotation((NestedDocument<QName>) namedProperty.getValue()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ComponentDefinition.hasSequenceConstraints))
-			{
+				break;
+			case SEQUENCE_CONSTRAINT:
 				sequenceConstraints.add(parseSequenceConstraint(((NestedDocument<QName>) namedProperty.getValue())));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1019,45 +2007,39 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : sequenceConstraints.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.SEQUENCE_CONSTRAINT_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty
 						.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(
-					Sbol2Terms.SequenceConstraint.restriction))
-			{
+				break;
+			case RESTRICTION:
 				restriction = RestrictionType
 						.convertToRestrictionType(URI
 								.create(((Literal<QName>) namedProperty
 										.getValue()).getValue().toString()));
 
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.SequenceConstraint.hasSubject))
-			{
+				break;
+			case SUBJECT:
 				subject = URI
 						.create(((Literal<QName>) namedProperty.getValue())
 								.getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.SequenceConstraint.hasObject))
-			{
+				break;
+			case OBJECT:
 				object = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1090,42 +2072,36 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : sequenceAnnotation.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.SEQUENCE_ANNOTATION_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Location.Location))
-			{
+				break;
+			case LOCATION:
 				location = parseLocation((NestedDocument<QName>) namedProperty.getValue());
 				locations.add(location);
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.SequenceAnnotation.hasComponent))
-			{
+				break;
+			case COMPONENT:
 				componentURI = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1193,29 +2169,26 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : typeGenLoc.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.GenericLocation.orientation))
+			switch (Sbol2Property.lookup(Sbol2Property.GENERIC_LOCATION_PROPERTIES, namedProperty.getName()))
 			{
+			case ORIENTATION:
 				orientation = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
-			{
+				break;
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1248,34 +2221,30 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : typeCut.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.CUT_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			} 
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Cut.at))
-			{
+				break;
+			case AT:
 				String temp = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
 				at 			= Integer.parseInt(temp);
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Cut.orientation))
-			{
+				break;
+			case ORIENTATION:
 				orientation = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1316,39 +2285,34 @@ public class SBOLReader
 		for (NamedProperty<QName> namedProperty : typeRange.getProperties())
 		{
 			String temp;
-			if (namedProperty.getName().equals(Sbol2Terms.Range.start))
+			switch (Sbol2Property.lookup(Sbol2Property.RANGE_PROPERTIES, namedProperty.getName()))
 			{
+			case START:
 				temp  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
 				start = Integer.parseInt(temp);
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
-			{
+				break;
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Range.end))
-			{
+				break;
+			case END:
 				temp = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
 				end  = Integer.parseInt(temp);
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Range.orientation))
-			{
+				break;
+			case ORIENTATION:
 				orientation = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1384,47 +2348,40 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : subComponents.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.COMPONENT_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ComponentInstance.access))
-			{
+				break;
+			case ACCESS:
 				access = AccessType.convertToAccessType(URI
 						.create(((Literal<QName>) namedProperty.getValue())
 								.getValue().toString()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Module.hasMapsTo))
-			{
+				break;
+			case MAPS_TO:
 				mapsTo.add(parseMapsTo((NestedDocument<QName>) namedProperty.getValue()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ComponentInstance.hasComponentDefinition))
-			{
+				break;
+			case DEFINITION:
 				subComponentURI = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1467,33 +2424,29 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : topLevel.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.GENERIC_TOP_LEVEL_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1531,45 +2484,38 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : topLevel.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.MODEL_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Model.source))
-			{
+				break;
+			case SOURCE:
 				source = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Model.language))
-			{
+				break;
+			case LANGUAGE:
 				language = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Model.framework))
-			{
+				break;
+			case FRAMEWORK:
 				framework = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1605,37 +2551,32 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : topLevel.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.COLLECTION_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Collection.hasMembers))
-			{
+				break;
+			case MEMBER:
 				members.add(URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1678,53 +2619,44 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : topLevel.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.MODULE_DEFINITION_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ModuleDefinition.roles))
-			{
+				break;
+			case ROLE:
 				roles.add(URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ModuleDefinition.hasModule))
-			{
+				break;
+			case MODULE:
 				subModules.add(parseSubModule(((NestedDocument<QName>) namedProperty.getValue())));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ModuleDefinition.hasInteractions))
-			{
+				break;
+			case INTERACTION:
 				interactions.add(parseInteraction(((NestedDocument<QName>) namedProperty.getValue())));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ModuleDefinition.hasfunctionalComponent))
-			{
+				break;
+			case FUNCTIONAL_COMPONENT:
 				functionalComponents.add(parseFunctionalComponents((NestedDocument<QName>) namedProperty.getValue()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.ModuleDefinition.hasModels))
-			{
+				break;
+			case MODEL:
 				models.add(URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1770,41 +2702,35 @@ public class SBOLReader
 
 		for (NamedProperty<QName> namedProperty : module.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.MODULE_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Module.hasMapsTo))
-			{
+				break;
+			case MAPS_TO:
 				mappings.add(parseMapsTo((NestedDocument<QName>) namedProperty.getValue()));
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Module.hasDefinition))
-			{
+				break;
+			case DEFINITION:
 				definitionURI = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -1842,38 +2768,33 @@ public class SBOLReader
 
 		for (NamedProperty<QName> m : mappings.getProperties())
 		{
-			if (m.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.MAPS_TO_PROPERTIES, m.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) m.getValue()).getValue().toString());
-			}
-			else if (m.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) m.getValue()).getValue().toString();
-			}
-			else if (m.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) m.getValue()).getValue().toString();
-			}
-			else if (m.getName().equals(Sbol2Terms.MapsTo.refinement))
-			{
+				break;
+			case REFINEMENT:
 				refinement = RefinementType.convertToRefinementType(URI
 						.create(((Literal<QName>) m.getValue()).getValue().toString()));
-			}
-			else if (m.getName().equals(Sbol2Terms.MapsTo.hasRemote))
-			{
+				break;
+			case REMOTE:
 				remote = URI.create(((Literal<QName>) m.getValue()).getValue().toString());
-			}
-			else if (m.getName().equals(Sbol2Terms.MapsTo.hasLocal))
-			{
+				break;
+			case LOCAL:
 				local = URI.create(((Literal<QName>) m.getValue()).getValue().toString());
-			}
-			else if (m.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) m.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(m));
+				break;
 			}
 		}
 
@@ -1906,41 +2827,35 @@ public class SBOLReader
 
 		for (NamedProperty<QName> i : interaction.getProperties())
 		{
-			if (i.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.INTERACTION_PROPERTIES, i.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) i.getValue()).getValue().toString());
-			}
-			else if (i.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) i.getValue()).getValue().toString();
-			}
-			else if (i.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) i.getValue()).getValue().toString();
-			}
-			else if (i.getName().equals(Sbol2Terms.Interaction.type))
-			{
+				break;
+			case TYPE:
 				type.add(URI.create(((Literal<QName>) i.getValue()).getValue().toString()));
-			}
-			else if (i.getName().equals(Sbol2Terms.Interaction.hasParticipations))
-			{
+				break;
+			case PARTICIPATION:
 				participations.add(parseParticipation((NestedDocument<QName>) i.getValue()));
-			}
-			else if (i.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) i.getValue()).getValue().toString();
-			}
-			else if (i.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) i.getValue()).getValue().toString();
-			}
-			else if (i.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) i.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(i));
+				break;
 			}
 		}
 
@@ -1976,34 +2891,30 @@ public class SBOLReader
 
 		for (NamedProperty<QName> p : participation.getProperties())
 		{
-			if (p.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.PARTICIPATION_PROPERTIES, p.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) p.getValue()).getValue().toString());
-			}
-			else if (p.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) p.getValue()).getValue().toString();
-			}
-			else if (p.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) p.getValue()).getValue().toString();
-			}
-			else if (p.getName().equals(Sbol2Terms.Participation.role))
-			{
+				break;
+			case ROLE:
 				roles.add(URI.create(((Literal<QName>) p.getValue()).getValue()
 						.toString()));
-			}
-			else if (p.getName().equals(Sbol2Terms.Participation.hasParticipant))
-			{
+				break;
+			case PARTICIPANT:
 				participant = URI.create(((Literal<QName>) p.getValue()).getValue().toString());
-			}
-			else if (p.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) p.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(p));
+				break;
 			}
 		}
 
@@ -2041,55 +2952,46 @@ public class SBOLReader
 
 		for (NamedProperty<QName> f : functionalComponent.getProperties())
 		{
-			if (f.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.FUNCTIONAL_COMPONENT_PROPERTIES, f.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) f.getValue()).getValue().toString());
-			}
-			else if (f.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) f.getValue()).getValue().toString();
-			}
-			else if (f.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) f.getValue()).getValue().toString();
-			}
-			else if (f.getName().equals(Sbol2Terms.ComponentInstance.access))
-			{
+				break;
+			case ACCESS:
 				access = AccessType.convertToAccessType(URI
 						.create(((Literal<QName>) f.getValue()).getValue()
 								.toString()));
-			}
-			else if (f.getName().equals(Sbol2Terms.FunctionalComponent.direction))
-			{
+				break;
+			case DIRECTION:
 				direction = DirectionType
 						.convertToDirectionType(URI.create(((Literal<QName>) f
 								.getValue()).getValue().toString()));
-			}
-			else if (f.getName().equals(Sbol2Terms.ComponentInstance.hasMapsTo))
-			{
+				break;
+			case MAPS_TO:
 				mappings.add(parseMapsTo((NestedDocument<QName>) f.getValue()));
-			}
-			else if (f.getName().equals(Sbol2Terms.ComponentInstance.hasComponentDefinition))
-			{
+				break;
+			case DEFINITION:
 				functionalComponentURI = URI.create(((Literal<QName>) f.getValue()).getValue().toString());
-			}
-			else if (f.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) f.getValue()).getValue().toString();
-			}
-			else if (f.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) f.getValue()).getValue().toString();
-			}
-			else if (f.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) f.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(f));
+				break;
 			}
-
 		}
 		FunctionalComponent fc = new FunctionalComponent(
 				functionalComponent.getIdentity(), access,
@@ -2113,55 +3015,51 @@ public class SBOLReader
 		return fc;
 	}
 
-	private static Sequence parseSequences(SBOLDocument SBOLDoc, TopLevelDocument<QName> topLevel)
+	private static Sequence parseSequences(SBOLDocument SBOLDoc, TopLevelDocument<QName> topLevel,
+			SBOLReaderOptions options)
 	{
 		URI persistentIdentity = null;
 		String version 		   = null;
 		String displayId 	   = null;
 		String name 		   = null;
 		String description 	   = null;
-		String elements 	   = null;
+		String elements 	   = options.isSkipSequenceElements() ? "" : null;
 		URI encoding 		   = null;
 		URI wasDerivedFrom 	   = null;
 		List<Annotation> annotations = new ArrayList<>();
 
 		for (NamedProperty<QName> namedProperty : topLevel.getProperties())
 		{
-			if (namedProperty.getName().equals(Sbol2Terms.Identified.persistentIdentity))
+			switch (Sbol2Property.lookup(Sbol2Property.SEQUENCE_PROPERTIES, namedProperty.getName()))
 			{
+			case PERSISTENT_IDENTITY:
 				persistentIdentity = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.version))
-			{
+				break;
+			case VERSION:
 				version  = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.displayId))
-			{
+				break;
+			case DISPLAY_ID:
 				displayId = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Sequence.elements))
-			{
-				elements = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Sequence.encoding))
-			{
+				break;
+			case ELEMENTS:
+				if (!options.isSkipSequenceElements())
+					elements = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
+				break;
+			case ENCODING:
 				encoding = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.title))
-			{
+				break;
+			case TITLE:
 				name = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Documented.description))
-			{
+				break;
+			case DESCRIPTION:
 				description = ((Literal<QName>) namedProperty.getValue()).getValue().toString();
-			}
-			else if (namedProperty.getName().equals(Sbol2Terms.Identified.wasDerivedFrom))
-			{
+				break;
+			case WAS_DERIVED_FROM:
 				wasDerivedFrom = URI.create(((Literal<QName>) namedProperty.getValue()).getValue().toString());
-			}
-			else
-			{
+				break;
+			default:
 				annotations.add(new Annotation(namedProperty));
+				break;
 			}
 		}
 
@@ -0,0 +1,240 @@
+package org.sbolstandard.core2;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Immutable settings for a single read by {@link SBOLReader}.
+ * <p>
+ * Each {@code with} method returns a copy of this object with one setting changed, so an instance can be
+ * shared freely between threads reading different documents at the same time.
+ * <p>
+ * The URI prefix, version and types-in-URI settings are only used when converting input in the
+ * SBOL 1.1 format, where they determine the compliant URIs given to the converted objects.
+ *
+ * @version 2.0-beta
+ */
+public final class SBOLReaderOptions {
+
+	private final String URIPrefix;
+	private final String version;
+	private final boolean typesInURI;
+	private final boolean validate;
+	private final boolean parallel;
+	private final boolean directRDF;
+	private final Set<QName> topLevelTypes;
+	private final boolean skipSequenceElements;
+	private final boolean memoryMapped;
+
+	/**
+	 * Creates reader options with no URI prefix, an empty version, no types in URIs,
+	 * validation enabled, sequential conversion, RDF read through the intermediate tree,
+	 * every top-level object read in full, and large files mapped into memory.
+	 */
+	public SBOLReaderOptions() {
+		this(null, "", false, true, false, false, null, false, true);
+	}
+
+	private SBOLReaderOptions(String URIPrefix, String version, boolean typesInURI, boolean validate,
+			boolean parallel, boolean directRDF, Set<QName> topLevelTypes, boolean skipSequenceElements,
+			boolean memoryMapped) {
+		this.URIPrefix = URIPrefix;
+		this.version = version;
+		this.typesInURI = typesInURI;
+		this.validate = validate;
+		this.parallel = parallel;
+		this.directRDF = directRDF;
+		this.topLevelTypes = topLevelTypes;
+		this.skipSequenceElements = skipSequenceElements;
+		this.memoryMapped = memoryMapped;
+	}
+
+	/**
+	 * Returns a copy of these options with the given authority as the prefix to all converted SBOL 1.1 objects' identities.
+	 *
+	 * @param URIPrefix
+	 * @return a copy of these options with the given URI prefix
+	 */
+	public SBOLReaderOptions withURIPrefix(String URIPrefix) {
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				topLevelTypes, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * Returns a copy of these options with the given version for all converted SBOL 1.1 objects.
+	 *
+	 * @param version
+	 * @return a copy of these options with the given version
+	 */
+	public SBOLReaderOptions withVersion(String version) {
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				topLevelTypes, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * Returns a copy of these options that includes or omits the object types in the identities of
+	 * converted SBOL 1.1 objects.
+	 *
+	 * @param typesInURI
+	 * @return a copy of these options with the given types-in-URI setting
+	 */
+	public SBOLReaderOptions withTypesInURI(boolean typesInURI) {
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				topLevelTypes, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not check the compliance of the document read.
+	 * An SBOLDocument that fails the check is marked as not compliant.
+	 *
+	 * @param validate
+	 * @return a copy of these options with the given validation setting
+	 */
+	public SBOLReaderOptions withValidate(boolean validate) {
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				topLevelTypes, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not convert top-level objects concurrently.
+	 *
+	 * @param parallel
+	 * @return a copy of these options with the given parallel setting
+	 * @see SBOLReader#setParallel(boolean)
+	 */
+	public SBOLReaderOptions withParallel(boolean parallel) {
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				topLevelTypes, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not convert RDF input straight from the XML stream.
+	 *
+	 * @param directRDF
+	 * @return a copy of these options with the given direct RDF setting
+	 * @see SBOLReader#setDirectRDF(boolean)
+	 */
+	public SBOLReaderOptions withDirectRDF(boolean directRDF) {
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				topLevelTypes, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * Returns a copy of these options that only reads the top-level objects of the given types, such as
+	 * {@code Sbol2Terms.ComponentDefinition.ComponentDefinition}. The elements of all other top-level objects
+	 * are passed over without being converted. A type that is not an SBOL 2.0 class selects the
+	 * GenericTopLevel objects of that type.
+	 * <p>
+	 * Input in the SBOL 1.1 format is always converted as a whole.
+	 *
+	 * @param topLevelTypes the qualified names of the top-level types to read, or {@code null} to read all of them
+	 * @return a copy of these options with the given top-level types
+	 */
+	public SBOLReaderOptions withTopLevelTypes(Set<QName> topLevelTypes) {
+		Set<QName> types = topLevelTypes == null ? null : Collections.unmodifiableSet(new HashSet<>(topLevelTypes));
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				types, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not skip the {@code elements} property of
+	 * Sequence objects. A Sequence read with its elements skipped has an empty {@code elements} property.
+	 * <p>
+	 * When RDF input is read straight from the XML stream (see {@link #withDirectRDF(boolean)}) or through
+	 * {@link SBOLReader#iterate(java.io.InputStream, SBOLReaderOptions)}, skipped elements are passed over
+	 * without ever being turned into strings.
+	 *
+	 * @param skipSequenceElements
+	 * @return a copy of these options with the given skip-sequence-elements setting
+	 */
+	public SBOLReaderOptions withSkipSequenceElements(boolean skipSequenceElements) {
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				topLevelTypes, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not map large files into memory when reading
+	 * from a {@link java.io.File}. A mapped file is decoded straight out of the operating system's page
+	 * cache instead of being copied through a heap buffer.
+	 *
+	 * @param memoryMapped
+	 * @return a copy of these options with the given memory-mapped setting
+	 */
+	public SBOLReaderOptions withMemoryMapped(boolean memoryMapped) {
+		return new SBOLReaderOptions(URIPrefix, version, typesInURI, validate, parallel, directRDF,
+				topLevelTypes, skipSequenceElements, memoryMapped);
+	}
+
+	/**
+	 * @return the prefix to all converted SBOL 1.1 objects' identities, or {@code null} to keep their identities
+	 */
+	public String getURIPrefix() {
+		return URIPrefix;
+	}
+
+	/**
+	 * @return the version of all converted SBOL 1.1 objects
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return {@code true} if object types are included in the identities of converted SBOL 1.1 objects
+	 */
+	public boolean isTypesInURI() {
+		return typesInURI;
+	}
+
+	/**
+	 * @return {@code true} if the compliance of the document read is checked
+	 */
+	public boolean isValidate() {
+		return validate;
+	}
+
+	/**
+	 * @return {@code true} if top-level objects are converted concurrently
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * @return {@code true} if RDF input is converted straight from the XML stream
+	 */
+	public boolean isDirectRDF() {
+		return directRDF;
+	}
+
+	/**
+	 * @return the qualified names of the top-level types that are read, or {@code null} if all of them are read
+	 */
+	public Set<QName> getTopLevelTypes() {
+		return topLevelTypes;
+	}
+
+	/**
+	 * @return {@code true} if the {@code elements} property of Sequence objects is skipped
+	 */
+	public boolean isSkipSequenceElements() {
+		return skipSequenceElements;
+	}
+
+	/**
+	 * @return {@code true} if large files are mapped into memory
+	 */
+	public boolean isMemoryMapped() {
+		return memoryMapped;
+	}
+
+	/**
+	 * Returns {@code true} if top-level objects of the given type are read with these options.
+	 */
+	boolean isTopLevelTypeRead(QName type) {
+		return topLevelTypes == null || topLevelTypes.contains(type);
+	}
+}
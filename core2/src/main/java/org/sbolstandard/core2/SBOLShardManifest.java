@@ -0,0 +1,213 @@
+package org.sbolstandard.core2;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+/**
+ * The list of shards a document was split into by {@link SBOLWriter#writeRDFShards(SBOLDocument, File, SBOLShardOptions)}
+ * and the like, as kept in a small JSON file next to the shards.
+ * <p>
+ * Each shard is a complete document of its own. Any subset of the shards can be read into one SBOLDocument
+ * with {@link SBOLReader#readShards(SBOLShardManifest, List, SBOLReaderOptions)}.
+ *
+ * @version 2.0-beta
+ */
+public final class SBOLShardManifest {
+
+	/**
+	 * One file holding part of a sharded document.
+	 */
+	public static final class Shard {
+
+		private final File file;
+		private final String group;
+		private final long size;
+		private final int topLevelCount;
+
+		Shard(File file, String group, long size, int topLevelCount) {
+			this.file = file;
+			this.group = group;
+			this.size = size;
+			this.topLevelCount = topLevelCount;
+		}
+
+		/**
+		 * @return the file holding this shard
+		 */
+		public File getFile() {
+			return file;
+		}
+
+		/**
+		 * @return the group of top-level objects this shard is part of, as set by {@link SBOLShardOptions#withGrouping(SBOLShardOptions.Grouping)}
+		 */
+		public String getGroup() {
+			return group;
+		}
+
+		/**
+		 * @return the size of this shard, counted in characters of the serialized top-level objects
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * @return the number of top-level objects in this shard
+		 */
+		public int getTopLevelCount() {
+			return topLevelCount;
+		}
+
+		@Override
+		public String toString() {
+			return file.getName() + " (" + topLevelCount + " top-levels)";
+		}
+	}
+
+	private final SBOLWriter.Format format;
+	private final List<Shard> shards;
+
+	SBOLShardManifest(SBOLWriter.Format format, List<Shard> shards) {
+		this.format = format;
+		this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+	}
+
+	/**
+	 * Reads the manifest in the given file. The files of the shards are looked up in the directory of the manifest.
+	 *
+	 * @param file
+	 * @return the manifest
+	 * @throws IOException if the file cannot be read or is not a shard manifest
+	 */
+	public static SBOLShardManifest read(File file) throws IOException {
+		File directory = file.getAbsoluteFile().getParentFile();
+		Reader reader = new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8"));
+		try {
+			JsonParser parser = Json.createParser(reader);
+			SBOLWriter.Format format = null;
+			List<Shard> shards = new ArrayList<>();
+			expect(parser, Event.START_OBJECT);
+			for (Event event = parser.next(); event != Event.END_OBJECT; event = parser.next()) {
+				String key = parser.getString();
+				if (key.equals("format")) {
+					expect(parser, Event.VALUE_STRING);
+					format = SBOLWriter.Format.valueOf(parser.getString());
+				}
+				else if (key.equals("shards")) {
+					expect(parser, Event.START_ARRAY);
+					for (event = parser.next(); event == Event.START_OBJECT; event = parser.next()) {
+						shards.add(readShard(parser, directory));
+					}
+				}
+				else {
+					throw new IOException("Unexpected key " + key + " in shard manifest " + file);
+				}
+			}
+			if (format == null) {
+				throw new IOException("No format in shard manifest " + file);
+			}
+			return new SBOLShardManifest(format, shards);
+		}
+		catch (JsonException | IllegalArgumentException e) {
+			throw new IOException("Invalid shard manifest " + file, e);
+		}
+		finally {
+			reader.close();
+		}
+	}
+
+	private static Shard readShard(JsonParser parser, File directory) throws IOException {
+		Map<String, String> values = new HashMap<>();
+		for (Event event = parser.next(); event != Event.END_OBJECT; event = parser.next()) {
+			String key = parser.getString();
+			parser.next();
+			values.put(key, parser.getString());
+		}
+		if (!values.containsKey("file") || !values.containsKey("group") || !values.containsKey("size")
+				|| !values.containsKey("topLevels")) {
+			throw new IOException("Incomplete shard " + values + " in shard manifest");
+		}
+		return new Shard(new File(directory, values.get("file")), values.get("group"),
+				Long.parseLong(values.get("size")), Integer.parseInt(values.get("topLevels")));
+	}
+
+	private static void expect(JsonParser parser, Event expected) throws IOException {
+		Event event = parser.next();
+		if (event != expected) {
+			throw new IOException("Expected " + expected + " in shard manifest, found " + event);
+		}
+	}
+
+	/**
+	 * Writes this manifest to the given file, naming the files of the shards relative to its directory.
+	 */
+	void write(File file) throws IOException {
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), Charset.forName("UTF-8"));
+		try {
+			Map<String, Object> config = new HashMap<>();
+			config.put(JsonGenerator.PRETTY_PRINTING, true);
+			JsonGenerator generator = Json.createGeneratorFactory(config).createGenerator(writer);
+			generator.writeStartObject();
+			generator.write("format", format.name());
+			generator.writeStartArray("shards");
+			for (Shard shard : shards) {
+				generator.writeStartObject();
+				generator.write("file", shard.getFile().getName());
+				generator.write("group", shard.getGroup());
+				generator.write("size", shard.getSize());
+				generator.write("topLevels", shard.getTopLevelCount());
+				generator.writeEnd();
+			}
+			generator.writeEnd();
+			generator.writeEnd();
+			generator.flush();
+		}
+		finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * @return the shards, in the order they were written
+	 */
+	public List<Shard> getShards() {
+		return shards;
+	}
+
+	/**
+	 * @param group
+	 * @return the shards of the given group, in the order they were written
+	 */
+	public List<Shard> getShards(String group) {
+		List<Shard> groupShards = new ArrayList<>();
+		for (Shard shard : shards) {
+			if (shard.getGroup().equals(group)) {
+				groupShards.add(shard);
+			}
+		}
+		return groupShards;
+	}
+
+	SBOLWriter.Format getFormat() {
+		return format;
+	}
+}
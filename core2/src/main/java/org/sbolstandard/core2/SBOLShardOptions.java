@@ -0,0 +1,107 @@
+package org.sbolstandard.core2;
+
+/**
+ * Immutable settings for splitting a document into shards with {@link SBOLWriter#writeRDFShards(SBOLDocument, java.io.File, SBOLShardOptions)}
+ * and the like.
+ * <p>
+ * Top-level objects are first grouped as set by {@link #withGrouping(Grouping)}, and each group is then
+ * split into as many shards as it takes to keep every shard under the maximum size. A ComponentDefinition is
+ * always written to the same shard as the Sequences it refers to, so a shard may exceed the maximum size
+ * when a single ComponentDefinition and its Sequences do.
+ *
+ * @version 2.0-beta
+ */
+public final class SBOLShardOptions {
+
+	/**
+	 * The ways in which top-level objects can be grouped before the groups are split by size.
+	 */
+	public enum Grouping {
+		/**
+		 * All top-level objects form one group.
+		 */
+		NONE,
+		/**
+		 * Top-level objects are grouped by their class, such as ComponentDefinition or Model.
+		 */
+		TYPE,
+		/**
+		 * Top-level objects are grouped by the part of their persistent identity, or of their identity if
+		 * they have none, that precedes the last {@code /} or {@code #}.
+		 */
+		URI_PREFIX
+	}
+
+	private final long maxSize;
+	private final Grouping grouping;
+
+	/**
+	 * Creates shard options with no grouping and a maximum shard size of 64M characters.
+	 */
+	public SBOLShardOptions() {
+		this(64L * 1024 * 1024, Grouping.NONE);
+	}
+
+	private SBOLShardOptions(long maxSize, Grouping grouping) {
+		this.maxSize = maxSize;
+		this.grouping = grouping;
+	}
+
+	/**
+	 * Returns a copy of these options with the given maximum shard size, counted in characters of the
+	 * serialized top-level objects.
+	 *
+	 * @param maxSize
+	 * @return a copy of these options with the given maximum size
+	 * @throws IllegalArgumentException if the given size is not positive
+	 */
+	public SBOLShardOptions withMaxSize(long maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Invalid shard size " + maxSize);
+		}
+		return new SBOLShardOptions(maxSize, grouping);
+	}
+
+	/**
+	 * Returns a copy of these options with the given grouping of top-level objects.
+	 *
+	 * @param grouping
+	 * @return a copy of these options with the given grouping
+	 */
+	public SBOLShardOptions withGrouping(Grouping grouping) {
+		if (grouping == null) {
+			throw new IllegalArgumentException("Grouping must not be null");
+		}
+		return new SBOLShardOptions(maxSize, grouping);
+	}
+
+	/**
+	 * @return the maximum shard size, counted in characters of the serialized top-level objects
+	 */
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the grouping of top-level objects
+	 */
+	public Grouping getGrouping() {
+		return grouping;
+	}
+
+	/**
+	 * Returns the name of the group the given top-level belongs to with these options.
+	 */
+	String getGroup(TopLevel topLevel) {
+		switch (grouping) {
+		case TYPE:
+			return topLevel.getClass().getSimpleName();
+		case URI_PREFIX:
+			String uri = (topLevel.isSetPersistentIdentity() ? topLevel.getPersistentIdentity()
+					: topLevel.getIdentity()).toString();
+			return uri.substring(0, Math.max(0, Math.max(uri.lastIndexOf('/'), uri.lastIndexOf('#'))));
+		default:
+			return "";
+		}
+	}
+}
@@ -40,27 +40,27 @@ public class SBOLValidate {
 	 * in the given {@code sbolDocument} contain a non-compliant URI.
 	 */
 	public static void validateCompliance(SBOLDocument sbolDocument) {
-		for (Collection collection : sbolDocument.getCollections()) {
+		for (Collection collection : sbolDocument.getCollectionsView()) {
 			if (!collection.checkDescendantsURIcompliance()) 
 				throw new SBOLException("Collection contains non-compliant URI",collection);
 		}
-		for (Sequence sequence : sbolDocument.getSequences()) {
+		for (Sequence sequence : sbolDocument.getSequencesView()) {
 			if (!sequence.checkDescendantsURIcompliance()) 
 				throw new SBOLException("Sequence contains non-compliant URI",sequence);
 		}
-		for (ComponentDefinition componentDefinition : sbolDocument.getComponentDefinitions()) {
+		for (ComponentDefinition componentDefinition : sbolDocument.getComponentDefinitionsView()) {
 			if (!componentDefinition.checkDescendantsURIcompliance()) 
 				throw new SBOLException("Component definition contains non-compliant URI",componentDefinition);
 		}
-		for (ModuleDefinition moduleDefinition : sbolDocument.getModuleDefinitions()) {
+		for (ModuleDefinition moduleDefinition : sbolDocument.getModuleDefinitionsView()) {
 			if (!moduleDefinition.checkDescendantsURIcompliance()) 	
 				throw new SBOLException("Module definition contains non-compliant URI",moduleDefinition);
 		}
-		for (Model model : sbolDocument.getModels()) {
+		for (Model model : sbolDocument.getModelsView()) {
 			if (!model.checkDescendantsURIcompliance()) 
 				throw new SBOLException("Model contains non-compliant URI",model);
 		}
-		for (GenericTopLevel genericTopLevel : sbolDocument.getGenericTopLevels()) {
+		for (GenericTopLevel genericTopLevel : sbolDocument.getGenericTopLevelsView()) {
 			if (!genericTopLevel.checkDescendantsURIcompliance()) 
 				throw new SBOLException("Generic top level contains non-compliant URI",genericTopLevel);
 		}
@@ -74,15 +74,15 @@ public class SBOLValidate {
 	 * or ModuleDefinition is not in the given {@code sbolDocument}
 	 */
 	public static void validateCompleteness(SBOLDocument sbolDocument) {
-		for (Collection collection : sbolDocument.getCollections()) {
+		for (Collection collection : sbolDocument.getCollectionsView()) {
 			if (!collection.isComplete()) 
 				throw new SBOLException("Collection is not complete",collection);
 		}
-		for (ComponentDefinition componentDefinition : sbolDocument.getComponentDefinitions()) {
+		for (ComponentDefinition componentDefinition : sbolDocument.getComponentDefinitionsView()) {
 			if (!componentDefinition.isComplete()) 
 				throw new SBOLException("Component definition is not complete",componentDefinition);
 		}
-		for (ModuleDefinition moduleDefinition : sbolDocument.getModuleDefinitions()) {
+		for (ModuleDefinition moduleDefinition : sbolDocument.getModuleDefinitionsView()) {
 			if (!moduleDefinition.isComplete()) 	
 				throw new SBOLException("Module definition is not complete",moduleDefinition);
 		}
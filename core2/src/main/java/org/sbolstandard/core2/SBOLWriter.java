@@ -9,24 +9,42 @@ import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocument;
 import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocuments;
 
 import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URI;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.Deflater;
 
 import javanet.staxutils.IndentingXMLStreamWriter;
 
 import javax.json.Json;
+import javax.json.JsonException;
 import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
 import javax.xml.namespace.QName;
 import javax.xml.stream.FactoryConfigurationError;
 import javax.xml.stream.XMLOutputFactory;
@@ -35,13 +53,12 @@ import javax.xml.stream.XMLStreamWriter;
 
 import uk.ac.intbio.core.io.turtle.TurtleIo;
 import uk.ac.ncl.intbio.core.datatree.DocumentRoot;
+import uk.ac.ncl.intbio.core.datatree.IdentifiableDocument;
 import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
 import uk.ac.ncl.intbio.core.datatree.NestedDocument;
 import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
 import uk.ac.ncl.intbio.core.io.CoreIoException;
-import uk.ac.ncl.intbio.core.io.json.JsonIo;
-import uk.ac.ncl.intbio.core.io.json.StringifyQName;
-import uk.ac.ncl.intbio.core.io.rdf.RdfIo;
 
 /**
  * @author Zhen Zhang
@@ -59,6 +76,299 @@ public class SBOLWriter {
 	 * TODO: not all isSet() for the members are called.
 	 */
 
+	/**
+	 * The formats whose top-levels can be formatted as separate fragments.
+	 */
+	enum Format { RDF, JSON, NTRIPLES }
+
+	/**
+	 * Formats a range of top-levels into RDF/XML, JSON or N-Triples fragments, splitting the range among the
+	 * threads of a fork/join pool. Each fragment is written to its own slot, so the fragments can
+	 * be concatenated in the order of the top-levels. Fragments found in the cache, if any, are reused.
+	 */
+	private static class FormatTopLevelsTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private static final int THRESHOLD = 8;
+
+		private final List<TopLevel> topLevels;
+		private final String[] fragments;
+		private final int offset;
+		private final int from;
+		private final int to;
+		private final Format format;
+		private final List<NamespaceBinding> namespaceBindings;
+		private final SBOLFragmentCache cache;
+		private final SBOLWriterOptions options;
+
+		/**
+		 * @param offset the index of the top-level whose fragment goes first in {@code fragments}
+		 */
+		FormatTopLevelsTask(List<TopLevel> topLevels, String[] fragments, int offset, int from, int to, Format format,
+				List<NamespaceBinding> namespaceBindings, SBOLFragmentCache cache, SBOLWriterOptions options)
+		{
+			this.topLevels = topLevels;
+			this.fragments = fragments;
+			this.offset = offset;
+			this.from = from;
+			this.to = to;
+			this.format = format;
+			this.namespaceBindings = namespaceBindings;
+			this.cache = cache;
+			this.options = options;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (to - from <= THRESHOLD)
+			{
+				for (int i = from; i < to; i++)
+				{
+					fragments[i - offset] = formatFragment(topLevels.get(i), i, format, namespaceBindings, cache, options);
+				}
+			}
+			else
+			{
+				int middle = (from + to) >>> 1;
+				invokeAll(new FormatTopLevelsTask(topLevels, fragments, offset, from, middle, format, namespaceBindings,
+						cache, options),
+						new FormatTopLevelsTask(topLevels, fragments, offset, middle, to, format, namespaceBindings,
+						cache, options));
+			}
+		}
+	} //end of FormatTopLevelsTask class
+
+	/**
+	 * The number of top-levels formatted before their fragments are written out, which
+	 * bounds the number of fragments held in memory at once.
+	 */
+	private static final int PARALLEL_BATCH_SIZE = 1024;
+
+	private static final JsonGeneratorFactory PRETTY_JSON_GENERATOR_FACTORY = createJSONGeneratorFactory(true);
+	private static final JsonGeneratorFactory COMPACT_JSON_GENERATOR_FACTORY = createJSONGeneratorFactory(false);
+
+	/**
+	 * The options used by the write methods that do not take an {@link SBOLWriterOptions} argument.
+	 * Each write takes one snapshot of this field, so changing the defaults never affects a write in progress.
+	 */
+	private static volatile SBOLWriterOptions defaultOptions = new SBOLWriterOptions();
+	private static ForkJoinPool forkJoinPool = null;
+	private static ExecutorService executorService = null;
+	private static XMLOutputFactory xmlOutputFactory = null;
+
+	/**
+	 * Sets whether the top-levels of a document are formatted in parallel when it is written
+	 * in RDF, JSON or N-Triples format. The fragments are always written in the same order as a sequential
+	 * write, under a single header holding the namespace bindings of the document.
+	 * 
+	 * @param parallel
+	 */
+	public static synchronized void setParallel(boolean parallel)
+	{
+		defaultOptions = defaultOptions.withParallel(parallel);
+	}
+
+	/**
+	 * Sets the level, from 0 (no compression) to 9 (best compression), at which files whose names end 
+	 * in {@code .gz} are compressed with gzip, or -1 for the default level of {@link Deflater}.
+	 * 
+	 * @param level
+	 */
+	public static synchronized void setCompressionLevel(int level)
+	{
+		defaultOptions = defaultOptions.withCompressionLevel(level);
+	}
+
+	/**
+	 * Sets the size in bytes of the buffer through which files whose names end in {@code .gz} are compressed.
+	 * 
+	 * @param size
+	 */
+	public static synchronized void setCompressionBufferSize(int size)
+	{
+		defaultOptions = defaultOptions.withCompressionBufferSize(size);
+	}
+
+	/**
+	 * Returns the options used by the write methods that do not take an {@link SBOLWriterOptions} argument,
+	 * as set by {@link #setParallel(boolean)}, {@link #setCompressionLevel(int)} and 
+	 * {@link #setCompressionBufferSize(int)}.
+	 * 
+	 * @return the current default options
+	 */
+	public static SBOLWriterOptions getDefaultOptions()
+	{
+		return defaultOptions;
+	}
+
+	/**
+	 * Sets the options used by the write methods that do not take an {@link SBOLWriterOptions} argument.
+	 * 
+	 * @param options
+	 */
+	public static synchronized void setDefaultOptions(SBOLWriterOptions options)
+	{
+		defaultOptions = options;
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in RDF format.
+	 * @param doc
+	 * @param file
+	 * @throws FileNotFoundException
+	 */
+	public static void write(SBOLDocument doc, File file) throws FileNotFoundException{
+		writeRDF(doc, file, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in RDF format.
+	 * @param doc
+	 * @param out
+	 * @throws XMLStreamException
+	 * @throws FactoryConfigurationError
+	 * @throws CoreIoException
+	 */
+	public static void write(SBOLDocument doc, OutputStream out)
+			throws XMLStreamException, FactoryConfigurationError, CoreIoException
+	{
+		writeRDF(doc, out, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
+	 * file name in RDF format
+	 * @param doc
+	 * @param filename
+	 * @throws FileNotFoundException
+	 */
+	public static void write(SBOLDocument doc, String filename) throws FileNotFoundException
+	{
+		write(doc, new File(filename));
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in JSON format.
+	 * @param doc
+	 * @param file
+	 * @throws FileNotFoundException
+	 */
+	public static void writeJSON(SBOLDocument doc, File file) throws FileNotFoundException{
+		writeJSON(doc, file, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in JSON format, using the given options.
+	 * @param doc
+	 * @param file
+	 * @param options
+	 * @throws FileNotFoundException
+	 */
+	public static void writeJSON(SBOLDocument doc, File file, SBOLWriterOptions options) throws FileNotFoundException{
+		OutputStream buffer = createOutputStream(file, options);
+		try
+		{
+			writeJSON(doc, buffer, options);
+		}
+		catch (FactoryConfigurationError  e) { }
+		catch (Throwable e) { e.printStackTrace();}
+		finally
+		{
+			try { buffer.close(); }
+			catch (IOException e) { }
+		}
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in JSON format.
+	 * @param doc
+	 * @param out
+	 * @throws FactoryConfigurationError
+	 * @throws Exception
+	 */
+	public static void writeJSON(SBOLDocument doc, OutputStream out)
+			throws FactoryConfigurationError, Exception {
+
+		writeJSON(doc, out, defaultOptions);
+
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in JSON format, using the given options.
+	 * @param doc
+	 * @param out
+	 * @param options
+	 */
+	public static void writeJSON(SBOLDocument doc, OutputStream out, SBOLWriterOptions options)
+	{
+		writeJSON(createWriter(out, options), doc, null, options);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in JSON format, reusing the fragments kept in the given cache for top-levels that have not changed since 
+	 * the cache was last used, and keeping the fragments of this write in the cache.
+	 * @param doc
+	 * @param out
+	 * @param cache
+	 */
+	public static void writeJSON(SBOLDocument doc, OutputStream out, SBOLFragmentCache cache)
+	{
+		SBOLWriterOptions options = defaultOptions;
+		writeJSON(createWriter(out, options), doc, cache, options);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given channel
+	 * in JSON format, encoded as UTF-8, through a reusable direct buffer. The channel is not closed.
+	 * @param doc
+	 * @param channel
+	 */
+	public static void writeJSON(SBOLDocument doc, WritableByteChannel channel)
+	{
+		writeJSON(doc, channel, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given channel
+	 * in JSON format, using the given options, through a reusable direct buffer. The channel is not closed.
+	 * @param doc
+	 * @param channel
+	 * @param options
+	 */
+	public static void writeJSON(SBOLDocument doc, WritableByteChannel channel, SBOLWriterOptions options)
+	{
+		ByteChannelWriter stream = new ByteChannelWriter(channel, options.getCharset());
+		writeJSON(stream, doc, null, options);
+		try
+		{
+			stream.close();
+		}
+		catch (IOException e)
+		{
+			throw new JsonException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
+	 * file name in JSON format
+	 * @param doc
+	 * @param filename
+	 * @throws FileNotFoundException
+	 */
+	public static void writeJSON(SBOLDocument doc, String filename) throws FileNotFoundException
+	{
+		writeJSON(doc, new File(filename));
+	}
+
 	/**
 	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
 	 * in RDF format.
@@ -66,252 +376,1114 @@ public class SBOLWriter {
 	 * @param file
 	 * @throws FileNotFoundException
 	 */
-	public static void write(SBOLDocument doc, File file) throws FileNotFoundException{
-		FileOutputStream stream = new FileOutputStream(file);
-		BufferedOutputStream buffer = new BufferedOutputStream(stream);
-		try
+	public static void writeRDF(SBOLDocument doc, File file) throws FileNotFoundException
+	{
+		writeRDF(doc, file, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in RDF format, using the given options.
+	 * @param doc
+	 * @param file
+	 * @param options
+	 * @throws FileNotFoundException
+	 */
+	public static void writeRDF(SBOLDocument doc, File file, SBOLWriterOptions options) throws FileNotFoundException
+	{
+		OutputStream buffer = createOutputStream(file, options);
+		try
+		{
+			writeRDF(doc, buffer, options);
+		}
+		catch (XMLStreamException e) { }
+		catch (FactoryConfigurationError  e) { }
+		finally
+		{
+			try { buffer.close(); }
+			catch (IOException e) { }
+		}
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in RDF format.
+	 * @param doc
+	 * @param out
+	 * @throws XMLStreamException
+	 * @throws FactoryConfigurationError
+	 * @throws CoreIoException
+	 */
+	public static void writeRDF(SBOLDocument doc, OutputStream out)
+			throws XMLStreamException, FactoryConfigurationError, CoreIoException
+	{
+		writeRDF(doc, out, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in RDF format, using the given options.
+	 * @param doc
+	 * @param out
+	 * @param options
+	 * @throws XMLStreamException
+	 * @throws FactoryConfigurationError
+	 */
+	public static void writeRDF(SBOLDocument doc, OutputStream out, SBOLWriterOptions options)
+			throws XMLStreamException, FactoryConfigurationError
+	{
+		writeRDF(createWriter(out, options), doc, null, options);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in RDF format, reusing the fragments kept in the given cache for top-levels that have not changed since 
+	 * the cache was last used, and keeping the fragments of this write in the cache.
+	 * @param doc
+	 * @param out
+	 * @param cache
+	 * @throws XMLStreamException
+	 * @throws FactoryConfigurationError
+	 */
+	public static void writeRDF(SBOLDocument doc, OutputStream out, SBOLFragmentCache cache)
+			throws XMLStreamException, FactoryConfigurationError
+	{
+		SBOLWriterOptions options = defaultOptions;
+		writeRDF(createWriter(out, options), doc, cache, options);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given channel
+	 * in RDF format, encoded as UTF-8.
+	 * <p>
+	 * The characters are encoded straight into a reusable direct buffer, which is handed to the channel 
+	 * in large writes, so this is faster than writing to an OutputStream. The channel is not closed.
+	 * @param doc
+	 * @param channel
+	 * @throws XMLStreamException
+	 * @throws FactoryConfigurationError
+	 */
+	public static void writeRDF(SBOLDocument doc, WritableByteChannel channel)
+			throws XMLStreamException, FactoryConfigurationError
+	{
+		writeRDF(doc, channel, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given channel
+	 * in RDF format, using the given options, through a reusable direct buffer. The channel is not closed.
+	 * @param doc
+	 * @param channel
+	 * @param options
+	 * @throws XMLStreamException
+	 * @throws FactoryConfigurationError
+	 */
+	public static void writeRDF(SBOLDocument doc, WritableByteChannel channel, SBOLWriterOptions options)
+			throws XMLStreamException, FactoryConfigurationError
+	{
+		ByteChannelWriter stream = new ByteChannelWriter(channel, options.getCharset());
+		writeRDF(stream, doc, null, options);
+		try
+		{
+			stream.close();
+		}
+		catch (IOException e)
+		{
+			throw new XMLStreamException(e);
+		}
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
+	 * file name in RDF format
+	 * @param doc
+	 * @param filename
+	 * @throws FileNotFoundException
+	 */
+	public static void writeRDF(SBOLDocument doc, String filename) throws FileNotFoundException
+	{
+		writeRDF(doc, new File(filename));
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in the binary format.
+	 * @param doc
+	 * @param file
+	 * @throws IOException
+	 */
+	public static void writeBinary(SBOLDocument doc, File file) throws IOException
+	{
+		writeBinary(doc, file, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in the binary format, using the given options.
+	 * @param doc
+	 * @param file
+	 * @param options
+	 * @throws IOException
+	 */
+	public static void writeBinary(SBOLDocument doc, File file, SBOLWriterOptions options) throws IOException
+	{
+		OutputStream stream = createOutputStream(file, options);
+		try
+		{
+			writeBinary(doc, stream, options);
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in the binary format read by {@link SBOLReader#readBinary(InputStream)}. The format keeps strings and 
+	 * URIs in a table with back-references, and stores positions as variable-length integers and DNA 
+	 * elements as two bits per nucleotide, so it is much smaller and faster to read than RDF/XML.
+	 * @param doc
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void writeBinary(SBOLDocument doc, OutputStream out) throws IOException
+	{
+		writeBinary(doc, out, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in the binary format, using the given options. Only the namespace settings of the options apply to
+	 * the contents of the stream.
+	 * @param doc
+	 * @param out
+	 * @param options
+	 * @throws IOException
+	 */
+	public static void writeBinary(SBOLDocument doc, OutputStream out, SBOLWriterOptions options) throws IOException
+	{
+		List<TopLevel> topLevels = getTopLevels(doc);
+		BinaryTopLevelWriter writer = new BinaryTopLevelWriter(out);
+		writer.writeStart(getNamespaceBindings(doc, topLevels, options));
+		for (TopLevel topLevel : topLevels)
+		{
+			writer.write(formatTopLevel(topLevel));
+		}
+		writer.writeEnd();
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
+	 * file name in the binary format
+	 * @param doc
+	 * @param filename
+	 * @throws IOException
+	 */
+	public static void writeBinary(SBOLDocument doc, String filename) throws IOException
+	{
+		writeBinary(doc, new File(filename));
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in N-Triples format.
+	 * @param doc
+	 * @param file
+	 * @throws IOException
+	 */
+	public static void writeNTriples(SBOLDocument doc, File file) throws IOException
+	{
+		writeNTriples(doc, file, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in N-Triples format, using the given options.
+	 * @param doc
+	 * @param file
+	 * @param options
+	 * @throws IOException
+	 */
+	public static void writeNTriples(SBOLDocument doc, File file, SBOLWriterOptions options) throws IOException
+	{
+		OutputStream stream = createOutputStream(file, options);
+		try
+		{
+			writeNTriples(doc, stream, options);
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in N-Triples format, encoded as UTF-8. Every statement is written on its own line, so the output can be
+	 * split at line boundaries and read back in parallel by {@link SBOLReader#readNTriples(InputStream)}.
+	 * @param doc
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void writeNTriples(SBOLDocument doc, OutputStream out) throws IOException
+	{
+		writeNTriples(doc, out, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in N-Triples format, using the given options.
+	 * @param doc
+	 * @param out
+	 * @param options
+	 * @throws IOException
+	 */
+	public static void writeNTriples(SBOLDocument doc, OutputStream out, SBOLWriterOptions options) throws IOException
+	{
+		writeNTriples(createWriter(out, options), doc, options);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given channel
+	 * in N-Triples format, encoded as UTF-8, through a reusable direct buffer. The channel is not closed.
+	 * @param doc
+	 * @param channel
+	 * @throws IOException
+	 */
+	public static void writeNTriples(SBOLDocument doc, WritableByteChannel channel) throws IOException
+	{
+		writeNTriples(doc, channel, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given channel
+	 * in N-Triples format, using the given options, through a reusable direct buffer. The channel is not closed.
+	 * @param doc
+	 * @param channel
+	 * @param options
+	 * @throws IOException
+	 */
+	public static void writeNTriples(SBOLDocument doc, WritableByteChannel channel, SBOLWriterOptions options)
+			throws IOException
+	{
+		ByteChannelWriter stream = new ByteChannelWriter(channel, options.getCharset());
+		writeNTriples(stream, doc, options);
+		stream.close();
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
+	 * file name in N-Triples format
+	 * @param doc
+	 * @param filename
+	 * @throws IOException
+	 */
+	public static void writeNTriples(SBOLDocument doc, String filename) throws IOException
+	{
+		writeNTriples(doc, new File(filename));
+	}
+
+	/**
+	 * Splits a given SBOLDocument into shards as set by the given options, writes the shards concurrently 
+	 * in RDF format to files next to the given manifest file, and writes the list of shards to the manifest
+	 * file. The shards are named after the manifest file, up to its first {@code .}, followed by their 
+	 * position. Shards of the same name left over from an earlier write with more shards are deleted.
+	 * @param doc
+	 * @param manifest
+	 * @param options
+	 * @return the list of shards written
+	 * @throws IOException
+	 */
+	public static SBOLShardManifest writeRDFShards(SBOLDocument doc, File manifest, SBOLShardOptions options)
+			throws IOException
+	{
+		return writeRDFShards(doc, manifest, options, defaultOptions);
+	}
+
+	/**
+	 * Splits a given SBOLDocument into shards as set by the given shard options, and writes them with the
+	 * given writer options as {@link #writeRDFShards(SBOLDocument, File, SBOLShardOptions)} does. The shards
+	 * are always written concurrently, whatever the parallel setting of the writer options.
+	 * @param doc
+	 * @param manifest
+	 * @param options
+	 * @param writerOptions
+	 * @return the list of shards written
+	 * @throws IOException
+	 */
+	public static SBOLShardManifest writeRDFShards(SBOLDocument doc, File manifest, SBOLShardOptions options,
+			SBOLWriterOptions writerOptions) throws IOException
+	{
+		return writeShards(doc, manifest, options, Format.RDF, writerOptions);
+	}
+
+	/**
+	 * Splits a given SBOLDocument into shards as set by the given options, and writes them in JSON format 
+	 * as {@link #writeRDFShards(SBOLDocument, File, SBOLShardOptions)} does.
+	 * @param doc
+	 * @param manifest
+	 * @param options
+	 * @return the list of shards written
+	 * @throws IOException
+	 */
+	public static SBOLShardManifest writeJSONShards(SBOLDocument doc, File manifest, SBOLShardOptions options)
+			throws IOException
+	{
+		return writeJSONShards(doc, manifest, options, defaultOptions);
+	}
+
+	/**
+	 * Splits a given SBOLDocument into shards as set by the given shard options, and writes them with the
+	 * given writer options as {@link #writeJSONShards(SBOLDocument, File, SBOLShardOptions)} does. The shards
+	 * are always written concurrently, whatever the parallel setting of the writer options.
+	 * @param doc
+	 * @param manifest
+	 * @param options
+	 * @param writerOptions
+	 * @return the list of shards written
+	 * @throws IOException
+	 */
+	public static SBOLShardManifest writeJSONShards(SBOLDocument doc, File manifest, SBOLShardOptions options,
+			SBOLWriterOptions writerOptions) throws IOException
+	{
+		return writeShards(doc, manifest, options, Format.JSON, writerOptions);
+	}
+
+	/**
+	 * Splits a given SBOLDocument into shards as set by the given options, and writes them in N-Triples 
+	 * format as {@link #writeRDFShards(SBOLDocument, File, SBOLShardOptions)} does.
+	 * @param doc
+	 * @param manifest
+	 * @param options
+	 * @return the list of shards written
+	 * @throws IOException
+	 */
+	public static SBOLShardManifest writeNTriplesShards(SBOLDocument doc, File manifest, SBOLShardOptions options)
+			throws IOException
+	{
+		return writeNTriplesShards(doc, manifest, options, defaultOptions);
+	}
+
+	/**
+	 * Splits a given SBOLDocument into shards as set by the given shard options, and writes them with the
+	 * given writer options as {@link #writeNTriplesShards(SBOLDocument, File, SBOLShardOptions)} does. The shards
+	 * are always written concurrently, whatever the parallel setting of the writer options.
+	 * @param doc
+	 * @param manifest
+	 * @param options
+	 * @param writerOptions
+	 * @return the list of shards written
+	 * @throws IOException
+	 */
+	public static SBOLShardManifest writeNTriplesShards(SBOLDocument doc, File manifest, SBOLShardOptions options,
+			SBOLWriterOptions writerOptions) throws IOException
+	{
+		return writeShards(doc, manifest, options, Format.NTRIPLES, writerOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in Turtle format.
+	 * @param doc
+	 * @param file
+	 * @throws Throwable
+	 */
+	public static void writeTurtle(SBOLDocument doc, File file) throws Throwable{
+		writeTurtle(doc, file, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
+	 * in Turtle format, using the given options.
+	 * @param doc
+	 * @param file
+	 * @param options
+	 * @throws Throwable
+	 */
+	public static void writeTurtle(SBOLDocument doc, File file, SBOLWriterOptions options) throws Throwable{
+		OutputStream buffer = createOutputStream(file, options);
+		try
+		{
+			writeTurtle(doc, buffer, options);
+		}
+		catch (XMLStreamException e) { }
+		catch (FactoryConfigurationError  e) { }
+		catch (CoreIoException e) { }
+		finally
+		{
+			try { buffer.close(); }
+			catch (IOException e) { }
+		}
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in Turtle format.
+	 * @param doc
+	 * @param out
+	 * @throws FactoryConfigurationError
+	 * @throws Exception
+	 */
+	public static void writeTurtle(SBOLDocument doc, OutputStream out)
+			throws FactoryConfigurationError, Exception
+	{
+		writeTurtle(doc, out, defaultOptions);
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
+	 * in Turtle format, using the given options.
+	 * @param doc
+	 * @param out
+	 * @param options
+	 * @throws FactoryConfigurationError
+	 * @throws Exception
+	 */
+	public static void writeTurtle(SBOLDocument doc, OutputStream out, SBOLWriterOptions options)
+			throws FactoryConfigurationError, Exception
+	{
+		writeTurtle(createWriter(out, options),
+				DocumentRoot( NamespaceBindings(getNamespaceBindings(doc, getTopLevels(doc), options)),
+						TopLevelDocuments(getTopLevelDocument(doc))));
+	}
+
+	/**
+	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
+	 * file name in Turtle format
+	 * @param doc
+	 * @param filename
+	 * @throws Throwable
+	 */
+	public static void writeTurtle(SBOLDocument doc, String filename) throws Throwable
+	{
+		writeTurtle(doc, new File(filename));
+	}
+
+	/**
+	 * Writes the top-levels of the given document one at a time, so that at most one top-level
+	 * is held in memory as a tree, unless they are written as fragments in parallel or through a cache.
+	 */
+	private static void writeJSON(Writer stream, SBOLDocument doc, SBOLFragmentCache cache, SBOLWriterOptions options)
+	{
+		if (options.isParallel() || cache != null)
+		{
+			writeJSONFragments(stream, doc, cache, options);
+			return;
+		}
+		JSONTopLevelWriter writer = new JSONTopLevelWriter(getJSONGeneratorFactory(options).createGenerator(stream));
+		writer.writeStart();
+		for (TopLevel topLevel : getTopLevels(doc))
+		{
+			writer.write(formatTopLevel(topLevel));
+		}
+		writer.writeEnd();
+	}
+
+	/**
+	 * Writes the top-levels of the given document one at a time, so that at most one top-level
+	 * is held in memory as a tree, unless they are written as fragments in parallel or through a cache.
+	 */
+	private static void writeRDF(Writer stream, SBOLDocument doc, SBOLFragmentCache cache, SBOLWriterOptions options)
+			throws XMLStreamException, FactoryConfigurationError
+	{
+		if (options.isParallel() || cache != null)
+		{
+			writeRDFFragments(stream, doc, cache, options);
+			return;
+		}
+		List<TopLevel> topLevels = getTopLevels(doc);
+		RDFTopLevelWriter writer = new RDFTopLevelWriter(createXMLStreamWriter(stream, options),
+				getNamespaceBindings(doc, topLevels, options));
+		writer.writeStart(options.getXMLEncoding());
+		for (TopLevel topLevel : topLevels)
+		{
+			writer.write(formatTopLevel(topLevel));
+		}
+		writer.writeEnd();
+	}
+
+	/**
+	 * Writes the top-levels of the given document one at a time, or in parallel batches if the
+	 * options say so, after comments holding the namespace bindings.
+	 */
+	private static void writeNTriples(Writer stream, SBOLDocument doc, SBOLWriterOptions options) throws IOException
+	{
+		List<TopLevel> topLevels = getTopLevels(doc);
+		List<NamespaceBinding> namespaceBindings = getNamespaceBindings(doc, topLevels, options);
+		NTriplesWriter.writeStart(stream, namespaceBindings);
+		if (options.isParallel())
+		{
+			for (int from = 0; from < topLevels.size(); from += PARALLEL_BATCH_SIZE)
+			{
+				for (String fragment : formatFragments(topLevels, from, Format.NTRIPLES, namespaceBindings, null, options))
+				{
+					stream.write(fragment);
+				}
+			}
+			stream.flush();
+			return;
+		}
+		NTriplesWriter writer = new NTriplesWriter(stream, namespaceBindings);
+		for (int i = 0; i < topLevels.size(); i++)
+		{
+			writer.write(formatTopLevel(topLevels.get(i)), i);
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Formats the top-levels of the given document as fragments, one batch at a time, and writes the
+	 * fragments of each batch in order under one {@code rdf:RDF} element.
+	 */
+	private static void writeRDFFragments(Writer stream, SBOLDocument doc, SBOLFragmentCache cache,
+			SBOLWriterOptions options) throws XMLStreamException
+	{
+		List<TopLevel> topLevels = getTopLevels(doc);
+		List<NamespaceBinding> namespaceBindings = getNamespaceBindings(doc, topLevels, options);
+		if (cache != null)
+			cache.retain(Format.RDF, topLevels, namespaceBindings, options.isPretty());
+		try
+		{
+			RDFTopLevelWriter.writeStart(stream, namespaceBindings, options.getXMLEncoding());
+			for (int from = 0; from < topLevels.size(); from += PARALLEL_BATCH_SIZE)
+			{
+				for (String fragment : formatFragments(topLevels, from, Format.RDF, namespaceBindings, cache, options))
+				{
+					stream.write(fragment);
+					stream.write("\n");
+				}
+			}
+			RDFTopLevelWriter.writeEnd(stream);
+			stream.flush();
+		}
+		catch (IOException e)
+		{
+			throw new XMLStreamException(e);
+		}
+	}
+
+	/**
+	 * Formats the top-levels of the given document as fragments, one batch at a time, and writes the
+	 * fragments of each batch in order into one JSON array.
+	 */
+	private static void writeJSONFragments(Writer stream, SBOLDocument doc, SBOLFragmentCache cache,
+			SBOLWriterOptions options)
+	{
+		List<TopLevel> topLevels = getTopLevels(doc);
+		if (cache != null)
+			cache.retain(Format.JSON, topLevels, doc.getNamespaceBindings(), options.isPretty());
+		try
+		{
+			JSONTopLevelWriter.writeStart(stream);
+			for (int from = 0; from < topLevels.size(); from += PARALLEL_BATCH_SIZE)
+			{
+				String[] fragments = formatFragments(topLevels, from, Format.JSON, doc.getNamespaceBindings(), cache, options);
+				for (int i = 0; i < fragments.length; i++)
+				{
+					if (from + i > 0)
+						JSONTopLevelWriter.writeSeparator(stream);
+					stream.write(fragments[i]);
+				}
+			}
+			JSONTopLevelWriter.writeEnd(stream);
+			stream.flush();
+		}
+		catch (IOException e)
+		{
+			throw new JsonException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Measures the fragments of all top-levels of the given document, one batch at a time on the fork/join
+	 * pool, assigns the top-levels to shards by size, and then formats and writes each shard to its own
+	 * file on the executor before writing the manifest. Each shard holds only one fragment at a time, and
+	 * files left over from an earlier write of the same manifest with more shards are deleted.
+	 */
+	private static SBOLShardManifest writeShards(SBOLDocument doc, File manifestFile, SBOLShardOptions options,
+			final Format format, final SBOLWriterOptions writerOptions) throws IOException
+	{
+		List<List<TopLevel>> units = getShardUnits(doc);
+		final List<TopLevel> topLevels = new ArrayList<>();
+		for (List<TopLevel> unit : units)
+		{
+			topLevels.addAll(unit);
+		}
+		final List<NamespaceBinding> namespaceBindings = getNamespaceBindings(doc, topLevels, writerOptions);
+		SBOLWriterOptions parallelOptions = writerOptions.withParallel(true);
+		long[] fragmentSizes = new long[topLevels.size()];
+		for (int from = 0; from < topLevels.size(); from += PARALLEL_BATCH_SIZE)
+		{
+			String[] fragments = formatFragments(topLevels, from, format, namespaceBindings, null, parallelOptions);
+			for (int i = 0; i < fragments.length; i++)
+			{
+				fragmentSizes[from + i] = fragments[i].length();
+			}
+		}
+
+		List<String> groups = new ArrayList<>();
+		List<List<Integer>> shardFragments = new ArrayList<>();
+		List<Long> sizes = new ArrayList<>();
+		Map<String, Integer> openShards = new HashMap<>();
+		int index = 0;
+		for (List<TopLevel> unit : units)
+		{
+			String group = options.getGroup(unit.get(0));
+			long size = 0;
+			for (int i = index; i < index + unit.size(); i++)
+			{
+				size += fragmentSizes[i];
+			}
+			Integer shard = openShards.get(group);
+			if (shard == null || sizes.get(shard) + size > options.getMaxSize())
+			{
+				shard = groups.size();
+				openShards.put(group, shard);
+				groups.add(group);
+				shardFragments.add(new ArrayList<Integer>());
+				sizes.add(0L);
+			}
+			for (int i = index; i < index + unit.size(); i++)
+			{
+				shardFragments.get(shard).add(i);
+			}
+			sizes.set(shard, sizes.get(shard) + size);
+			index += unit.size();
+		}
+
+		File directory = manifestFile.getAbsoluteFile().getParentFile();
+		String name = manifestFile.getName();
+		String base = name.indexOf('.') > 0 ? name.substring(0, name.indexOf('.')) : name;
+		String extension = format == Format.JSON ? ".json" : format == Format.NTRIPLES ? ".nt" : ".xml";
+		List<SBOLShardManifest.Shard> shards = new ArrayList<>();
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int i = 0; i < groups.size(); i++)
+		{
+			final File file = new File(directory, base + "-" + i + extension);
+			final List<Integer> shardIndexes = shardFragments.get(i);
+			shards.add(new SBOLShardManifest.Shard(file, groups.get(i), sizes.get(i), shardIndexes.size()));
+			tasks.add(new Callable<Void>()
+			{
+				@Override
+				public Void call() throws IOException
+				{
+					writeShard(file, format, namespaceBindings, topLevels, shardIndexes, writerOptions);
+					return null;
+				}
+			});
+		}
+		try
+		{
+			for (Future<Void> future : getExecutorService().invokeAll(tasks))
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+			throw new SBOLException(e.getCause());
+		}
+		for (int i = groups.size(); ; i++)
+		{
+			File stale = new File(directory, base + "-" + i + extension);
+			if (!stale.exists())
+				break;
+			if (!stale.delete())
+				throw new IOException("Cannot delete the stale shard " + stale);
+		}
+		SBOLShardManifest manifest = new SBOLShardManifest(format, shards);
+		manifest.write(manifestFile);
+		return manifest;
+	}
+
+	/**
+	 * Returns the top-levels of the given document in the units that must not be split among shards: 
+	 * each ComponentDefinition along with the Sequences it refers to that are not already in the unit 
+	 * of another ComponentDefinition, and each other top-level alone.
+	 */
+	private static List<List<TopLevel>> getShardUnits(SBOLDocument doc)
+	{
+		List<List<TopLevel>> units = new ArrayList<>();
+		Set<URI> claimed = new HashSet<>();
+		for (ComponentDefinition componentDefinition : doc.getComponentDefinitionsView())
 		{
-			write(doc, buffer);
+			List<TopLevel> unit = new ArrayList<>();
+			unit.add(componentDefinition);
+			for (URI sequenceURI : componentDefinition.getSequenceURIsView())
+			{
+				Sequence sequence = doc.getSequence(sequenceURI);
+				if (sequence != null && claimed.add(sequence.getIdentity()))
+					unit.add(sequence);
+			}
+			units.add(unit);
 		}
-		catch (XMLStreamException e) { }
-		catch (FactoryConfigurationError  e) { }
-		catch (CoreIoException e) { }
-		finally
+		for (TopLevel topLevel : getTopLevels(doc))
+		{
+			if (!(topLevel instanceof ComponentDefinition) && !claimed.contains(topLevel.getIdentity()))
+				units.add(Collections.singletonList(topLevel));
+		}
+		return units;
+	}
+
+	/**
+	 * Formats the top-levels at the given indexes one at a time and writes them as a complete document in
+	 * the given format to the given file.
+	 */
+	private static void writeShard(File file, Format format, List<NamespaceBinding> namespaceBindings,
+			List<TopLevel> topLevels, List<Integer> indexes, SBOLWriterOptions options) throws IOException
+	{
+		Writer stream = createWriter(createOutputStream(file, options), options);
+		try
 		{
-			try
+			if (format == Format.JSON)
 			{
-				try
+				JSONTopLevelWriter.writeStart(stream);
+				for (int i = 0; i < indexes.size(); i++)
 				{
-					stream.close();
+					if (i > 0)
+						JSONTopLevelWriter.writeSeparator(stream);
+					int index = indexes.get(i);
+					stream.write(formatFragment(topLevels.get(index), index, format, namespaceBindings, options));
 				}
-				finally { buffer.close(); }
+				JSONTopLevelWriter.writeEnd(stream);
 			}
-			catch (IOException e) { }
+			else if (format == Format.NTRIPLES)
+			{
+				NTriplesWriter.writeStart(stream, namespaceBindings);
+				for (int index : indexes)
+				{
+					stream.write(formatFragment(topLevels.get(index), index, format, namespaceBindings, options));
+				}
+			}
+			else
+			{
+				RDFTopLevelWriter.writeStart(stream, namespaceBindings, options.getXMLEncoding());
+				for (int index : indexes)
+				{
+					stream.write(formatFragment(topLevels.get(index), index, format, namespaceBindings, options));
+					stream.write("\n");
+				}
+				RDFTopLevelWriter.writeEnd(stream);
+			}
+		}
+		finally
+		{
+			stream.close();
 		}
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
-	 * in RDF format.
-	 * @param doc
-	 * @param out
-	 * @throws XMLStreamException
-	 * @throws FactoryConfigurationError
-	 * @throws CoreIoException
+	 * Formats the batch of top-levels starting at the given index into fragments, in parallel if
+	 * the options say so.
 	 */
-	public static void write(SBOLDocument doc, OutputStream out)
-			throws XMLStreamException, FactoryConfigurationError, CoreIoException
+	private static String[] formatFragments(List<TopLevel> topLevels, int from, Format format,
+			List<NamespaceBinding> namespaceBindings, SBOLFragmentCache cache, SBOLWriterOptions options)
 	{
-		writeRDF(new OutputStreamWriter(out),
-				DocumentRoot( NamespaceBindings(doc.getNamespaceBindings()),
-						TopLevelDocuments(getTopLevelDocument(doc))));
+		int to = Math.min(from + PARALLEL_BATCH_SIZE, topLevels.size());
+		String[] fragments = new String[to - from];
+		if (options.isParallel())
+		{
+			getForkJoinPool().invoke(new FormatTopLevelsTask(topLevels, fragments, from, from, to, format,
+					namespaceBindings, cache, options));
+		}
+		else
+		{
+			for (int i = from; i < to; i++)
+			{
+				fragments[i - from] = formatFragment(topLevels.get(i), i, format, namespaceBindings, cache, options);
+			}
+		}
+		return fragments;
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
-	 * file name in RDF format
-	 * @param doc
-	 * @param filename
-	 * @throws FileNotFoundException
+	 * Returns the fragment of the given top-level in the given format from the cache, or formats the
+	 * top-level, at the given position in the output, and stores the fragment in the cache.
 	 */
-	public static void write(SBOLDocument doc, String filename) throws FileNotFoundException
+	private static String formatFragment(TopLevel topLevel, int index, Format format,
+			List<NamespaceBinding> namespaceBindings, SBOLFragmentCache cache, SBOLWriterOptions options)
 	{
-		write(doc, new File(filename));
+		String fragment = cache == null ? null : cache.get(format, topLevel);
+		if (fragment == null)
+		{
+			fragment = formatFragment(topLevel, index, format, namespaceBindings, options);
+			if (cache != null)
+				cache.put(format, topLevel, fragment);
+		}
+		return fragment;
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
-	 * in JSON format.
-	 * @param doc
-	 * @param file
-	 * @throws FileNotFoundException
+	 * Formats the given top-level, at the given position in the output, as a fragment in the given format.
 	 */
-	public static void writeJSON(SBOLDocument doc, File file) throws FileNotFoundException{
-		FileOutputStream stream = new FileOutputStream(file);
-		BufferedOutputStream buffer = new BufferedOutputStream(stream);
+	private static String formatFragment(TopLevel topLevel, int index, Format format,
+			List<NamespaceBinding> namespaceBindings, SBOLWriterOptions options)
+	{
+		switch (format)
+		{
+		case JSON:
+			return formatJSONFragment(topLevel, options);
+		case NTRIPLES:
+			return formatNTriplesFragment(topLevel, index, namespaceBindings);
+		default:
+			return formatRDFFragment(topLevel, namespaceBindings, options);
+		}
+	}
+
+	/**
+	 * Formats the given top-level as an RDF/XML fragment that uses, without declaring, the prefixes
+	 * of the given namespace bindings.
+	 */
+	private static String formatRDFFragment(TopLevel topLevel, List<NamespaceBinding> namespaceBindings,
+			SBOLWriterOptions options)
+	{
+		StringWriter fragment = new StringWriter();
 		try
 		{
-			writeJSON(doc, buffer);
+			RDFTopLevelWriter writer = new RDFTopLevelWriter(createXMLStreamWriter(fragment, options), namespaceBindings);
+			writer.write(formatTopLevel(topLevel));
+			writer.flush();
 		}
-		catch (XMLStreamException e) { }
-		catch (FactoryConfigurationError  e) { }
-		catch (CoreIoException e) { }
-		catch (Throwable e) { e.printStackTrace();}
-		finally
+		catch (XMLStreamException e)
 		{
-			try
-			{
-				try { stream.close(); }
-				finally { buffer.close(); }
-			}
-			catch (IOException e) { }
+			throw new SBOLException(e);
 		}
+		return fragment.toString();
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
-	 * in JSON format.
-	 * @param doc
-	 * @param out
-	 * @throws FactoryConfigurationError
-	 * @throws Exception
+	 * Formats the given top-level as a stand-alone JSON object.
 	 */
-	public static void writeJSON(SBOLDocument doc, OutputStream out)
-			throws FactoryConfigurationError, Exception {
-
-		writeJSON(new OutputStreamWriter(out),
-				DocumentRoot( NamespaceBindings(doc.getNamespaceBindings()),
-						TopLevelDocuments(getTopLevelDocument(doc))));
-
+	private static String formatJSONFragment(TopLevel topLevel, SBOLWriterOptions options)
+	{
+		StringWriter fragment = new StringWriter();
+		JSONTopLevelWriter writer = new JSONTopLevelWriter(getJSONGeneratorFactory(options).createGenerator(fragment));
+		writer.write(formatTopLevel(topLevel));
+		writer.flush();
+		return fragment.toString();
 	}
 
 	/**
-	 * * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
-	 * file name in JSON format
-	 * @param doc
-	 * @param filename
-	 * @throws FileNotFoundException
+	 * Formats the given top-level, at the given position in the output, as N-Triples that declare the
+	 * namespaces it uses beyond those of the given namespace bindings.
 	 */
-	public static void writeJSON(SBOLDocument doc, String filename) throws FileNotFoundException
+	private static String formatNTriplesFragment(TopLevel topLevel, int index, List<NamespaceBinding> namespaceBindings)
 	{
-		writeJSON(doc, new File(filename));
+		StringWriter fragment = new StringWriter();
+		try
+		{
+			new NTriplesWriter(fragment, namespaceBindings).write(formatTopLevel(topLevel), index);
+		}
+		catch (IOException e)
+		{
+			throw new SBOLException(e);
+		}
+		return fragment.toString();
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
-	 * in RDF format.
-	 * @param doc
-	 * @param file
-	 * @throws FileNotFoundException
+	 * Opens the given file for writing through a buffer of the size given by the options. If the name of 
+	 * the file ends in {@code .gz}, the output is compressed with gzip at the level given by the options. 
+	 * A failure to write the gzip header is reported as a FileNotFoundException, like a failure to open 
+	 * the file.
 	 */
-	public static void writeRDF(SBOLDocument doc, File file) throws FileNotFoundException
+	private static OutputStream createOutputStream(File file, SBOLWriterOptions options) throws FileNotFoundException
 	{
 		FileOutputStream stream = new FileOutputStream(file);
-		BufferedOutputStream buffer = new BufferedOutputStream(stream);
+		if (!file.getName().toLowerCase().endsWith(".gz"))
+			return new BufferedOutputStream(stream, options.getBufferSize());
 		try
 		{
-			writeRDF(doc, buffer);
+			return new BufferedOutputStream(new LeveledGZIPOutputStream(stream, options.getCompressionBufferSize(),
+					options.getCompressionLevel()), options.getBufferSize());
 		}
-		catch (XMLStreamException e) { }
-		catch (FactoryConfigurationError  e) { }
-		catch (CoreIoException e) { }
-		finally
+		catch (IOException e)
 		{
-			try
-			{
-				try
-				{
-					stream.close();
-				}
-				finally { buffer.close(); }
-			}
-			catch (IOException e) { }
+			try { stream.close(); }
+			catch (IOException e1) { }
+			throw (FileNotFoundException) new FileNotFoundException(e.getMessage()).initCause(e);
 		}
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
-	 * in RDF format.
-	 * @param doc
-	 * @param out
-	 * @throws XMLStreamException
-	 * @throws FactoryConfigurationError
-	 * @throws CoreIoException
+	 * Creates a writer encoding characters with the charset of the options, which gathers characters
+	 * in a buffer of the size given by the options before encoding them.
 	 */
-	public static void writeRDF(SBOLDocument doc, OutputStream out)
-			throws XMLStreamException, FactoryConfigurationError, CoreIoException
+	private static Writer createWriter(OutputStream out, SBOLWriterOptions options)
 	{
-		writeRDF(new OutputStreamWriter(out),
-				DocumentRoot( NamespaceBindings(doc.getNamespaceBindings()),
-						TopLevelDocuments(getTopLevelDocument(doc))));
+		return new BufferedWriter(new OutputStreamWriter(out, options.getCharset()), options.getBufferSize());
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
-	 * file name in RDF format
-	 * @param doc
-	 * @param filename
-	 * @throws FileNotFoundException
+	 * Creates an XML stream writer over the given writer with the factory of the options, indenting
+	 * its output if the options say so.
 	 */
-	public static void writeRDF(SBOLDocument doc, String filename) throws FileNotFoundException
+	private static XMLStreamWriter createXMLStreamWriter(Writer stream, SBOLWriterOptions options)
+			throws XMLStreamException
 	{
-		writeRDF(doc, new File(filename));
+		XMLOutputFactory factory = options.getXMLOutputFactory();
+		XMLStreamWriter xmlWriter = (factory == null ? getXMLOutputFactory() : factory).createXMLStreamWriter(stream);
+		return options.isPretty() ? new IndentingXMLStreamWriter(xmlWriter) : xmlWriter;
+	}
+
+	private static JsonGeneratorFactory getJSONGeneratorFactory(SBOLWriterOptions options)
+	{
+		return options.isPretty() ? PRETTY_JSON_GENERATOR_FACTORY : COMPACT_JSON_GENERATOR_FACTORY;
+	}
+
+	private static JsonGeneratorFactory createJSONGeneratorFactory(boolean pretty)
+	{
+		Map<String, Object> config = new HashMap<>();
+		if (pretty)
+			config.put(JsonGenerator.PRETTY_PRINTING, true);
+		return Json.createGeneratorFactory(config);
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output file
-	 * in Turtle format.
-	 * @param doc
-	 * @param file
-	 * @throws Throwable
+	 * Returns the namespace bindings to declare when writing the given top-levels of the given document:
+	 * all those of the document, or only those of SBOL, Dublin Core, PROV and RDF and of the annotations
+	 * and GenericTopLevel types of the top-levels if the options say so.
 	 */
-	public static void writeTurtle(SBOLDocument doc, File file) throws Throwable{
-		FileOutputStream stream 	= new FileOutputStream(file);
-		BufferedOutputStream buffer = new BufferedOutputStream(stream);
-		try
+	private static List<NamespaceBinding> getNamespaceBindings(SBOLDocument doc, List<TopLevel> topLevels,
+			SBOLWriterOptions options)
+	{
+		if (!options.isMinimalNamespaces())
+			return doc.getNamespaceBindings();
+		Set<String> namespaces = new HashSet<>();
+		namespaces.add(Sbol2Terms.sbol2.getNamespaceURI());
+		namespaces.add(Sbol2Terms.dc.getNamespaceURI());
+		namespaces.add(Sbol2Terms.prov.getNamespaceURI());
+		namespaces.add(Sbol1Terms.rdf.getNamespaceURI());
+		for (TopLevel topLevel : topLevels)
 		{
-			writeTurtle(doc, buffer);
+			addNamespaces(topLevel, namespaces);
 		}
-		catch (XMLStreamException e) { }
-		catch (FactoryConfigurationError  e) { }
-		catch (CoreIoException e) { }
-		finally
+		List<NamespaceBinding> namespaceBindings = new ArrayList<>();
+		for (NamespaceBinding binding : doc.getNamespaceBindings())
 		{
-			try
-			{
-				try { stream.close(); }
-				finally { buffer.close(); }
-			}
-			catch (IOException e) { }
+			if (namespaces.contains(binding.getNamespaceURI()))
+				namespaceBindings.add(binding);
 		}
+		return namespaceBindings;
 	}
 
 	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output stream
-	 * in Turtle format.
-	 * @param doc
-	 * @param out
-	 * @throws FactoryConfigurationError
-	 * @throws Exception
+	 * Adds the namespaces of the annotations of the given object and of its children, and the namespace
+	 * of its type if it is a GenericTopLevel. All other properties are in the namespaces of SBOL, Dublin
+	 * Core, PROV and RDF, so the object does not need to be formatted.
 	 */
-	public static void writeTurtle(SBOLDocument doc, OutputStream out)
-			throws FactoryConfigurationError, Exception
+	@SuppressWarnings("unchecked")
+	private static void addNamespaces(Identified identified, Set<String> namespaces)
 	{
-		writeTurtle(new OutputStreamWriter(out),
-				DocumentRoot( NamespaceBindings(doc.getNamespaceBindings()),
-						TopLevelDocuments(getTopLevelDocument(doc))));
+		for (Annotation annotation : identified.getAnnotations())
+		{
+			namespaces.add(annotation.getQName().getNamespaceURI());
+			if (annotation.getValue().getValue() instanceof NestedDocument)
+				addNamespaces((NestedDocument<QName>) annotation.getValue().getValue(), namespaces);
+		}
+		if (identified instanceof GenericTopLevel)
+		{
+			namespaces.add(((GenericTopLevel) identified).getRDFType().getNamespaceURI());
+		}
+		else if (identified instanceof ComponentDefinition)
+		{
+			ComponentDefinition componentDefinition = (ComponentDefinition) identified;
+			addNamespaces(componentDefinition.getSequenceAnnotationsView(), namespaces);
+			addNamespaces(componentDefinition.getSequenceConstraintsView(), namespaces);
+			addNamespaces(componentDefinition.getComponentsView(), namespaces);
+		}
+		else if (identified instanceof SequenceAnnotation)
+		{
+			addNamespaces(((SequenceAnnotation) identified).getLocationsView(), namespaces);
+		}
+		else if (identified instanceof Component)
+		{
+			addNamespaces(((Component) identified).getMapsTosView(), namespaces);
+		}
+		else if (identified instanceof ModuleDefinition)
+		{
+			ModuleDefinition moduleDefinition = (ModuleDefinition) identified;
+			addNamespaces(moduleDefinition.getModulesView(), namespaces);
+			addNamespaces(moduleDefinition.getInteractionsView(), namespaces);
+			addNamespaces(moduleDefinition.getFunctionalComponentsView(), namespaces);
+		}
+		else if (identified instanceof Module)
+		{
+			addNamespaces(((Module) identified).getMapsTosView(), namespaces);
+		}
+		else if (identified instanceof FunctionalComponent)
+		{
+			addNamespaces(((FunctionalComponent) identified).getMapsTosView(), namespaces);
+		}
+		else if (identified instanceof Interaction)
+		{
+			addNamespaces(((Interaction) identified).getParticipationsView(), namespaces);
+		}
 	}
 
-	/**
-	 * Serializes a given SBOLDocument and outputs the data from the serialization to the given output
-	 * file name in Turtle format
-	 * @param doc
-	 * @param filename
-	 * @throws Throwable
-	 */
-	public static void writeTurtle(SBOLDocument doc, String filename) throws Throwable
+	private static void addNamespaces(Set<? extends Identified> children, Set<String> namespaces)
 	{
-		writeTurtle(doc, new File(filename));
+		for (Identified child : children)
+		{
+			addNamespaces(child, namespaces);
+		}
 	}
 
-	private static void writeJSON(Writer stream, DocumentRoot<QName> document) throws Exception
+	@SuppressWarnings("unchecked")
+	private static void addNamespaces(IdentifiableDocument<QName> document, Set<String> namespaces)
 	{
-		HashMap<String, Object> config = new HashMap<>();
-		config.put(JsonGenerator.PRETTY_PRINTING, true);
-		JsonGenerator writer = Json.createGeneratorFactory(config).createGenerator(stream);
-		JsonIo jsonIo = new JsonIo();
-		jsonIo.createIoWriter(writer).write(StringifyQName.qname2string.mapDR(document));
-		writer.flush();
-		writer.close();
+		namespaces.add(document.getType().getNamespaceURI());
+		for (NamedProperty<QName> property : document.getProperties())
+		{
+			namespaces.add(property.getName().getNamespaceURI());
+			if (property.getValue() instanceof NestedDocument)
+				addNamespaces((NestedDocument<QName>) property.getValue(), namespaces);
+		}
+	}
+
+	private static synchronized XMLOutputFactory getXMLOutputFactory()
+	{
+		if (xmlOutputFactory == null)
+			xmlOutputFactory = XMLOutputFactory.newInstance();
+		return xmlOutputFactory;
 	}
 
-	private static void writeRDF(Writer stream, DocumentRoot<QName> document) throws XMLStreamException, FactoryConfigurationError, CoreIoException
+	private static synchronized ForkJoinPool getForkJoinPool()
 	{
-		XMLStreamWriter xmlWriter = new IndentingXMLStreamWriter(XMLOutputFactory.newInstance().createXMLStreamWriter(stream));
-		RdfIo rdfIo = new RdfIo();
-		rdfIo.createIoWriter(xmlWriter).write(document);
-		xmlWriter.flush();
-		xmlWriter.close();
+		if (forkJoinPool == null)
+			forkJoinPool = new ForkJoinPool();
+		return forkJoinPool;
+	}
+
+	/**
+	 * Returns the pool on which shards are written, whose threads may block on file I/O without taking
+	 * threads from the fork/join pool.
+	 */
+	private static synchronized ExecutorService getExecutorService()
+	{
+		if (executorService == null)
+		{
+			executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+					new ThreadFactory()
+					{
+						@Override
+						public Thread newThread(Runnable runnable)
+						{
+							Thread thread = new Thread(runnable, "SBOLWriter");
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+		}
+		return executorService;
 	}
 
 	private static void writeTurtle(Writer stream, DocumentRoot<QName> document) throws Exception
@@ -322,22 +1494,19 @@ public class SBOLWriter {
 		printWriter.flush();
 	}
 
-	private static void formatCollections (Set<Collection> collections, List<TopLevelDocument<QName>> topLevelDoc)
+	private static TopLevelDocument<QName> formatCollection(Collection c)
 	{
-		for(Collection c : collections)
+		List<NamedProperty<QName>> list = new ArrayList<>();
+		formatCommonTopLevelData(list, c);
+		if(!c.getMemberURIsView().isEmpty())//(c.isSetMembers())
 		{
-			List<NamedProperty<QName>> list = new ArrayList<>();
-			formatCommonTopLevelData(list, c);
-			if(!c.getMemberURIs().isEmpty())//(c.isSetMembers())
+			for (URI member : c.getMemberURIsView())
 			{
-				for (URI member : c.getMemberURIs())
-				{
-					list.add(NamedProperty(Sbol2Terms.Collection.hasMembers, member));
-				}
+				list.add(NamedProperty(Sbol2Terms.Collection.hasMembers, member));
 			}
-
-			topLevelDoc.add(TopLevelDocument(Sbol2Terms.Collection.Collection, c.getIdentity(), NamedProperties(list)));
 		}
+
+		return TopLevelDocument(Sbol2Terms.Collection.Collection, c.getIdentity(), NamedProperties(list));
 	}
 
 	private static void formatCommonDocumentedData (List<NamedProperty<QName>> list, Identified d)
@@ -374,38 +1543,34 @@ public class SBOLWriter {
 		formatCommonDocumentedData(list,t);
 	}
 
-	private static void formatComponentDefinitions (Set<ComponentDefinition> componentDefinitions, List<TopLevelDocument<QName>> topLevelDoc)
+	private static TopLevelDocument<QName> formatComponentDefinition(ComponentDefinition c)
 	{
+		List<NamedProperty<QName>> list = new ArrayList<>();
 
-		for(ComponentDefinition c : componentDefinitions)
+		formatCommonTopLevelData(list,c);
+		if(c.getTypesView() != null)
 		{
-			List<NamedProperty<QName>> list = new ArrayList<>();
-
-			formatCommonTopLevelData(list,c);
-			if(c.getTypes() != null)
+			for(URI types : c.getTypesView())
 			{
-				for(URI types : c.getTypes())
-				{
-					list.add(NamedProperty(Sbol2Terms.ComponentDefinition.type, types));
-				}
+				list.add(NamedProperty(Sbol2Terms.ComponentDefinition.type, types));
 			}
+		}
 
-			if(c.getRoles() != null)
+		if(c.getRolesView() != null)
+		{
+			for (URI roles : c.getRolesView())
 			{
-				for (URI roles : c.getRoles())
-				{
-					list.add(NamedProperty(Sbol2Terms.ComponentDefinition.roles, roles));
-				}
+				list.add(NamedProperty(Sbol2Terms.ComponentDefinition.roles, roles));
 			}
+		}
 
-			formatComponents(c.getComponents(),list);
-			formatSequenceAnnotations(c.getSequenceAnnotations(),list);
-			formatSequenceConstraints(c.getSequenceConstraints(),list);
-			for(URI sUri: c.getSequenceURIs())
-				formatSequence(sUri, list);
+		formatComponents(c.getComponentsView(),list);
+		formatSequenceAnnotations(c.getSequenceAnnotationsView(),list);
+		formatSequenceConstraints(c.getSequenceConstraintsView(),list);
+		for(URI sUri: c.getSequenceURIsView())
+			formatSequence(sUri, list);
 
-			topLevelDoc.add(TopLevelDocument(Sbol2Terms.ComponentDefinition.ComponentDefinition, c.getIdentity(), NamedProperties(list)));
-		}
+		return TopLevelDocument(Sbol2Terms.ComponentDefinition.ComponentDefinition, c.getIdentity(), NamedProperties(list));
 	}
 
 	/**
@@ -428,9 +1593,9 @@ public class SBOLWriter {
 				list.add(NamedProperty(Sbol2Terms.ComponentInstance.access, AccessType.convertToURI(f.getAccess())));
 			if(f.getDirection() != null)
 				list.add(NamedProperty(Sbol2Terms.FunctionalComponent.direction, DirectionType.convertToURI(f.getDirection())));
-			if(!f.getMapsTos().isEmpty())
+			if(!f.getMapsTosView().isEmpty())
 			{
-				List<NestedDocument<QName>> referenceList = getMapsTo(f.getMapsTos());
+				List<NestedDocument<QName>> referenceList = getMapsTo(f.getMapsTosView());
 
 				for(NestedDocument<QName> n : referenceList)
 				{
@@ -457,14 +1622,14 @@ public class SBOLWriter {
 			List<NamedProperty<QName>> list = new ArrayList<>();
 			formatCommonDocumentedData(list, i);
 
-			if(i.getTypes() != null)
+			if(i.getTypesView() != null)
 			{
-				for(URI type : i.getTypes())
+				for(URI type : i.getTypesView())
 				{
 					list.add(NamedProperty(Sbol2Terms.Interaction.type, type));
 				}
 			}
-			List<NestedDocument<QName>> participantList = formatParticipations(i.getParticipations());
+			List<NestedDocument<QName>> participantList = formatParticipations(i.getParticipationsView());
 			for(NestedDocument<QName> n : participantList)
 			{
 				list.add(NamedProperty(Sbol2Terms.Interaction.hasParticipations, n));
@@ -476,23 +1641,20 @@ public class SBOLWriter {
 		}
 	}
 
-	private static void formatModels (Set<Model> models, List<TopLevelDocument<QName>> topLevelDoc)
+	private static TopLevelDocument<QName> formatModel(Model m)
 	{
-		for(Model m : models)
-		{
-			List<NamedProperty<QName>> list = new ArrayList<>();
+		List<NamedProperty<QName>> list = new ArrayList<>();
 
-			formatCommonTopLevelData(list,m);
+		formatCommonTopLevelData(list,m);
 
-			if(m.getSource() != null)
-				list.add(NamedProperty(Sbol2Terms.Model.source, m.getSource()));
-			if(m.getLanguage() != null)
-				list.add(NamedProperty(Sbol2Terms.Model.language, m.getLanguage()));
-			if(m.getFramework() != null)
-				list.add(NamedProperty(Sbol2Terms.Model.framework, m.getFramework()));
+		if(m.getSource() != null)
+			list.add(NamedProperty(Sbol2Terms.Model.source, m.getSource()));
+		if(m.getLanguage() != null)
+			list.add(NamedProperty(Sbol2Terms.Model.language, m.getLanguage()));
+		if(m.getFramework() != null)
+			list.add(NamedProperty(Sbol2Terms.Model.framework, m.getFramework()));
 
-			topLevelDoc.add(TopLevelDocument(Sbol2Terms.Model.Model, m.getIdentity(), NamedProperties(list)));
-		}
+		return TopLevelDocument(Sbol2Terms.Model.Model, m.getIdentity(), NamedProperties(list));
 	}
 
 	private static void formatModelProperties(Set<URI> models, List<NamedProperty<QName>> list)
@@ -519,9 +1681,9 @@ public class SBOLWriter {
 
 			if(m.getDefinitionURI() != null)
 				list.add(NamedProperty(Sbol2Terms.Module.hasDefinition, m.getDefinitionURI()));
-			if(!m.getMapsTos().isEmpty())
+			if(!m.getMapsTosView().isEmpty())
 			{
-				List<NestedDocument<QName>> referenceList = getMapsTo(m.getMapsTos());
+				List<NestedDocument<QName>> referenceList = getMapsTo(m.getMapsTosView());
 				for(NestedDocument<QName> n : referenceList)
 				{
 					list.add(NamedProperty(Sbol2Terms.Module.hasMapsTo, n));
@@ -534,27 +1696,24 @@ public class SBOLWriter {
 		}
 	}
 
-	private static void formatModuleDefinitions(Set<ModuleDefinition> module, List<TopLevelDocument<QName>> topLevelDoc)
+	private static TopLevelDocument<QName> formatModuleDefinition(ModuleDefinition m)
 	{
-		for (ModuleDefinition m : module)
+		List<NamedProperty<QName>> list = new ArrayList<>();
+		formatCommonTopLevelData(list,m);
+		if(m.getRolesView() != null)
 		{
-			List<NamedProperty<QName>> list = new ArrayList<>();
-			formatCommonTopLevelData(list,m);
-			if(m.getRoles() != null)
+			for (URI role : m.getRolesView())
 			{
-				for (URI role : m.getRoles())
-				{
-					list.add(NamedProperty(Sbol2Terms.ModuleDefinition.roles, role));
-				}
+				list.add(NamedProperty(Sbol2Terms.ModuleDefinition.roles, role));
 			}
+		}
 
-			formatFunctionalComponents(m.getFunctionalComponents(),list);
-			formatInteractions(m.getInteractions(),list);
-			formatModelProperties(m.getModelURIs(),list);
-			formatModule(m.getModules(),list);
+		formatFunctionalComponents(m.getFunctionalComponentsView(),list);
+		formatInteractions(m.getInteractionsView(),list);
+		formatModelProperties(m.getModelURIsView(),list);
+		formatModule(m.getModulesView(),list);
 
-			topLevelDoc.add(TopLevelDocument(Sbol2Terms.ModuleDefinition.ModuleDefinition, m.getIdentity(), NamedProperties(list)));
-		}
+		return TopLevelDocument(Sbol2Terms.ModuleDefinition.ModuleDefinition, m.getIdentity(), NamedProperties(list));
 	}
 
 	private static List<NestedDocument<QName>> formatParticipations(Set<Participation> participations)
@@ -566,8 +1725,8 @@ public class SBOLWriter {
 			List<NamedProperty<QName>> list = new ArrayList<>();
 			formatCommonIdentifiedData(list, p);
 
-			if(p.getRoles() != null)
-				for(URI r : p.getRoles())
+			if(p.getRolesView() != null)
+				for(URI r : p.getRolesView())
 					list.add(NamedProperty(Sbol2Terms.Participation.role, r));
 			if(p.getParticipantURI() != null)
 				list.add(NamedProperty(Sbol2Terms.Participation.hasParticipant, p.getParticipantURI()));
@@ -592,7 +1751,7 @@ public class SBOLWriter {
 			List<NamedProperty<QName>> list = new ArrayList<>();
 
 			formatCommonDocumentedData(list, s);
-			for (Location location : s.getLocations()) {
+			for (Location location : s.getLocationsView()) {
 				list.add(getLocation(location));
 			}
 			if(s.getComponentURI() != null)
@@ -627,21 +1786,17 @@ public class SBOLWriter {
 
 	}
 
-	private static void formatSequences (Set<Sequence> sequences, List<TopLevelDocument<QName>> topLevelDoc)
+	private static TopLevelDocument<QName> formatSequence(Sequence s)
 	{
-		for(Sequence s : sequences)
-		{
-			List<NamedProperty<QName>> list = new ArrayList<>();
+		List<NamedProperty<QName>> list = new ArrayList<>();
 
-			formatCommonTopLevelData(list, s);
-			if(s.getElements() != null)
-				list.add(NamedProperty(Sbol2Terms.Sequence.elements, s.getElements()));
-			if(s.getEncoding() != null)
-				list.add(NamedProperty(Sbol2Terms.Sequence.encoding, s.getEncoding()));
-
-			topLevelDoc.add(TopLevelDocument(Sbol2Terms.Sequence.Sequence, s.getIdentity(), NamedProperties(list)));
-		}
+		formatCommonTopLevelData(list, s);
+		if(s.getElements() != null)
+			list.add(NamedProperty(Sbol2Terms.Sequence.elements, s.getElements()));
+		if(s.getEncoding() != null)
+			list.add(NamedProperty(Sbol2Terms.Sequence.encoding, s.getEncoding()));
 
+		return TopLevelDocument(Sbol2Terms.Sequence.Sequence, s.getIdentity(), NamedProperties(list));
 	}
 
 	private static void formatComponents(Set<Component> components,
@@ -656,9 +1811,9 @@ public class SBOLWriter {
 				list.add(NamedProperty(Sbol2Terms.ComponentInstance.access, AccessType.convertToURI(s.getAccess())));
 			if(s.getDefinitionURI() != null)
 				list.add(NamedProperty(Sbol2Terms.ComponentInstance.hasComponentDefinition, s.getDefinitionURI()));
-			if(s.getMapsTos() != null)
+			if(s.getMapsTosView() != null)
 			{
-				List<NestedDocument<QName>> referenceList = getMapsTo(s.getMapsTos());
+				List<NestedDocument<QName>> referenceList = getMapsTo(s.getMapsTosView());
 				for(NestedDocument<QName> n : referenceList)
 				{
 					list.add(NamedProperty(Sbol2Terms.ComponentInstance.hasMapsTo, n));
@@ -670,14 +1825,11 @@ public class SBOLWriter {
 		}
 	}
 
-	private static void formatGenericTopLevel(Set<GenericTopLevel> topLevels, List<TopLevelDocument<QName>> topLevelDoc)
+	private static TopLevelDocument<QName> formatGenericTopLevel(GenericTopLevel t)
 	{
-		for(GenericTopLevel t : topLevels)
-		{
-			List<NamedProperty<QName>> list = new ArrayList<>();
-			formatCommonTopLevelData(list, t);
-			topLevelDoc.add(TopLevelDocument(t.getRDFType(), t.getIdentity(), NamedProperties(list)));
-		}
+		List<NamedProperty<QName>> list = new ArrayList<>();
+		formatCommonTopLevelData(list, t);
+		return TopLevelDocument(t.getRDFType(), t.getIdentity(), NamedProperties(list));
 	}
 
 	private static NamedProperty<QName> getLocation(Location location)
@@ -744,13 +1896,44 @@ public class SBOLWriter {
 
 	private static List<TopLevelDocument<QName>> getTopLevelDocument(SBOLDocument doc) {
 		List<TopLevelDocument<QName>> topLevelDoc = new ArrayList<>();
-		formatCollections(doc.getCollections(), topLevelDoc);
-		formatModuleDefinitions(doc.getModuleDefinitions(), topLevelDoc);
-		formatModels(doc.getModels(), topLevelDoc);
-		formatComponentDefinitions(doc.getComponentDefinitions(), topLevelDoc);
-		formatSequences(doc.getSequences(), topLevelDoc);
-		formatGenericTopLevel(doc.getGenericTopLevels(), topLevelDoc);
+		for (TopLevel topLevel : getTopLevels(doc))
+		{
+			topLevelDoc.add(formatTopLevel(topLevel));
+		}
 		return topLevelDoc;
 	}
 
+	/**
+	 * Returns the top-levels of the given document in the order in which they are written.
+	 */
+	private static List<TopLevel> getTopLevels(SBOLDocument doc) {
+		List<TopLevel> topLevels = new ArrayList<>();
+		topLevels.addAll(doc.getCollectionsView());
+		topLevels.addAll(doc.getModuleDefinitionsView());
+		topLevels.addAll(doc.getModelsView());
+		topLevels.addAll(doc.getComponentDefinitionsView());
+		topLevels.addAll(doc.getSequencesView());
+		topLevels.addAll(doc.getGenericTopLevelsView());
+		return topLevels;
+	}
+
+	/**
+	 * Builds the tree of properties of the given top-level alone.
+	 */
+	static TopLevelDocument<QName> formatTopLevel(TopLevel topLevel)
+	{
+		if (topLevel instanceof Collection)
+			return formatCollection((Collection) topLevel);
+		else if (topLevel instanceof ModuleDefinition)
+			return formatModuleDefinition((ModuleDefinition) topLevel);
+		else if (topLevel instanceof Model)
+			return formatModel((Model) topLevel);
+		else if (topLevel instanceof ComponentDefinition)
+			return formatComponentDefinition((ComponentDefinition) topLevel);
+		else if (topLevel instanceof Sequence)
+			return formatSequence((Sequence) topLevel);
+		else
+			return formatGenericTopLevel((GenericTopLevel) topLevel);
+	}
+
 }
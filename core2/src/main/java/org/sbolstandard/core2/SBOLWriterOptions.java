@@ -0,0 +1,228 @@
+package org.sbolstandard.core2;
+
+import java.nio.charset.Charset;
+import java.util.zip.Deflater;
+
+import javax.xml.stream.XMLOutputFactory;
+
+/**
+ * Immutable settings for a single write by {@link SBOLWriter}.
+ * <p>
+ * Each {@code with} method returns a copy of this object with one setting changed, so an instance can be
+ * shared freely between threads writing different documents at the same time.
+ * <p>
+ * The default settings produce the same output as earlier versions of {@link SBOLWriter}. For transfer
+ * between programs, compact output without indentation is noticeably smaller and faster to write.
+ *
+ * @version 2.0-beta
+ */
+public final class SBOLWriterOptions {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private final boolean pretty;
+	private final Charset charset;
+	private final int bufferSize;
+	private final boolean minimalNamespaces;
+	private final XMLOutputFactory xmlOutputFactory;
+	private final boolean parallel;
+	private final int compressionLevel;
+	private final int compressionBufferSize;
+
+	/**
+	 * Creates writer options with indented output encoded as UTF-8, buffers of 64K, every namespace
+	 * binding of the document declared, the default XMLOutputFactory, sequential formatting, and the
+	 * default gzip compression level.
+	 */
+	public SBOLWriterOptions() {
+		this(true, UTF8, 64 * 1024, false, null, false, Deflater.DEFAULT_COMPRESSION, 64 * 1024);
+	}
+
+	private SBOLWriterOptions(boolean pretty, Charset charset, int bufferSize, boolean minimalNamespaces,
+			XMLOutputFactory xmlOutputFactory, boolean parallel, int compressionLevel, int compressionBufferSize) {
+		this.pretty = pretty;
+		this.charset = charset;
+		this.bufferSize = bufferSize;
+		this.minimalNamespaces = minimalNamespaces;
+		this.xmlOutputFactory = xmlOutputFactory;
+		this.parallel = parallel;
+		this.compressionLevel = compressionLevel;
+		this.compressionBufferSize = compressionBufferSize;
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not indent RDF/XML and JSON output. Compact output
+	 * holds the same data without the whitespace between elements.
+	 *
+	 * @param pretty
+	 * @return a copy of these options with the given pretty-printing setting
+	 */
+	public SBOLWriterOptions withPretty(boolean pretty) {
+		return new SBOLWriterOptions(pretty, charset, bufferSize, minimalNamespaces, xmlOutputFactory, parallel,
+				compressionLevel, compressionBufferSize);
+	}
+
+	/**
+	 * Returns a copy of these options that encodes text output with the given charset. RDF/XML output
+	 * declares its encoding when it is not UTF-8; the readers of the other text formats of {@link SBOLReader}
+	 * expect UTF-8.
+	 *
+	 * @param charset
+	 * @return a copy of these options with the given charset
+	 */
+	public SBOLWriterOptions withCharset(Charset charset) {
+		if (charset == null) {
+			throw new IllegalArgumentException("Charset must not be null");
+		}
+		return new SBOLWriterOptions(pretty, charset, bufferSize, minimalNamespaces, xmlOutputFactory, parallel,
+				compressionLevel, compressionBufferSize);
+	}
+
+	/**
+	 * Returns a copy of these options with the given size in bytes of the buffer between the serializer
+	 * and the output.
+	 *
+	 * @param bufferSize
+	 * @return a copy of these options with the given buffer size
+	 */
+	public SBOLWriterOptions withBufferSize(int bufferSize) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Invalid buffer size " + bufferSize);
+		}
+		return new SBOLWriterOptions(pretty, charset, bufferSize, minimalNamespaces, xmlOutputFactory, parallel,
+				compressionLevel, compressionBufferSize);
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not leave out the namespace bindings of the
+	 * document that none of its objects use. Finding the namespaces in use takes one extra pass over
+	 * the document.
+	 *
+	 * @param minimalNamespaces
+	 * @return a copy of these options with the given namespace minimization setting
+	 */
+	public SBOLWriterOptions withMinimalNamespaces(boolean minimalNamespaces) {
+		return new SBOLWriterOptions(pretty, charset, bufferSize, minimalNamespaces, xmlOutputFactory, parallel,
+				compressionLevel, compressionBufferSize);
+	}
+
+	/**
+	 * Returns a copy of these options that creates its XML stream writers with the given factory, such as
+	 * that of a faster StAX implementation than the one found by {@link XMLOutputFactory#newInstance()}.
+	 * The factory must not be reconfigured while it is in use.
+	 *
+	 * @param xmlOutputFactory the factory, or {@code null} for the default one
+	 * @return a copy of these options with the given XMLOutputFactory
+	 */
+	public SBOLWriterOptions withXMLOutputFactory(XMLOutputFactory xmlOutputFactory) {
+		return new SBOLWriterOptions(pretty, charset, bufferSize, minimalNamespaces, xmlOutputFactory, parallel,
+				compressionLevel, compressionBufferSize);
+	}
+
+	/**
+	 * Returns a copy of these options that does or does not format top-level objects concurrently.
+	 *
+	 * @param parallel
+	 * @return a copy of these options with the given parallel setting
+	 * @see SBOLWriter#setParallel(boolean)
+	 */
+	public SBOLWriterOptions withParallel(boolean parallel) {
+		return new SBOLWriterOptions(pretty, charset, bufferSize, minimalNamespaces, xmlOutputFactory, parallel,
+				compressionLevel, compressionBufferSize);
+	}
+
+	/**
+	 * Returns a copy of these options with the given gzip compression level for files whose names end in
+	 * {@code .gz}.
+	 *
+	 * @param compressionLevel from 0 (no compression) to 9 (best compression), or -1 for the default level
+	 * @return a copy of these options with the given compression level
+	 * @see SBOLWriter#setCompressionLevel(int)
+	 */
+	public SBOLWriterOptions withCompressionLevel(int compressionLevel) {
+		if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+			throw new IllegalArgumentException("Invalid compression level " + compressionLevel);
+		}
+		return new SBOLWriterOptions(pretty, charset, bufferSize, minimalNamespaces, xmlOutputFactory, parallel,
+				compressionLevel, compressionBufferSize);
+	}
+
+	/**
+	 * Returns a copy of these options with the given size in bytes of the buffer through which files whose
+	 * names end in {@code .gz} are compressed.
+	 *
+	 * @param compressionBufferSize
+	 * @return a copy of these options with the given compression buffer size
+	 * @see SBOLWriter#setCompressionBufferSize(int)
+	 */
+	public SBOLWriterOptions withCompressionBufferSize(int compressionBufferSize) {
+		if (compressionBufferSize <= 0) {
+			throw new IllegalArgumentException("Invalid buffer size " + compressionBufferSize);
+		}
+		return new SBOLWriterOptions(pretty, charset, bufferSize, minimalNamespaces, xmlOutputFactory, parallel,
+				compressionLevel, compressionBufferSize);
+	}
+
+	/**
+	 * @return {@code true} if RDF/XML and JSON output is indented
+	 */
+	public boolean isPretty() {
+		return pretty;
+	}
+
+	/**
+	 * @return the charset of text output
+	 */
+	public Charset getCharset() {
+		return charset;
+	}
+
+	/**
+	 * @return the size in bytes of the buffer between the serializer and the output
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * @return {@code true} if namespace bindings that no object uses are left out
+	 */
+	public boolean isMinimalNamespaces() {
+		return minimalNamespaces;
+	}
+
+	/**
+	 * @return the factory of XML stream writers, or {@code null} for the default one
+	 */
+	public XMLOutputFactory getXMLOutputFactory() {
+		return xmlOutputFactory;
+	}
+
+	/**
+	 * @return {@code true} if top-level objects are formatted concurrently
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * @return the gzip compression level, or -1 for the default level
+	 */
+	public int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	/**
+	 * @return the size in bytes of the buffer through which output is compressed
+	 */
+	public int getCompressionBufferSize() {
+		return compressionBufferSize;
+	}
+
+	/**
+	 * Returns the encoding to declare in RDF/XML output, or {@code null} for UTF-8, which needs no declaration.
+	 */
+	String getXMLEncoding() {
+		return charset.equals(UTF8) ? null : charset.name();
+	}
+}
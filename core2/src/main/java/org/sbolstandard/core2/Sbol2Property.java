@@ -0,0 +1,264 @@
+package org.sbolstandard.core2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+/**
+ * The properties understood by the SBOL 2.0 readers, together with one dispatch table per SBOL class
+ * that maps the qualified name of each of its properties to the corresponding constant.
+ * <p>
+ * A reader looks up each property name once in the table of the object being read and switches on
+ * the result, instead of comparing the name against every term of {@link Sbol2Terms} in turn.
+ * Names missing from a table map to {@link #ANNOTATION}.
+ *
+ * @version 2.0-beta
+ */
+enum Sbol2Property {
+	PERSISTENT_IDENTITY, VERSION, DISPLAY_ID, TITLE, DESCRIPTION, WAS_DERIVED_FROM,
+	TYPE, ROLE, ACCESS, DIRECTION, DEFINITION, MAPS_TO,
+	COMPONENT, SEQUENCE, SEQUENCE_ANNOTATION, SEQUENCE_CONSTRAINT,
+	RESTRICTION, SUBJECT, OBJECT,
+	LOCATION, START, END, AT, ORIENTATION,
+	MEMBER, SOURCE, LANGUAGE, FRAMEWORK,
+	MODULE, INTERACTION, FUNCTIONAL_COMPONENT, MODEL,
+	REFINEMENT, REMOTE, LOCAL,
+	PARTICIPATION, PARTICIPANT,
+	ELEMENTS, ENCODING,
+	/**
+	 * Any property that is not part of the SBOL class being read, which is kept as an Annotation.
+	 */
+	ANNOTATION;
+
+	static final Map<QName, Sbol2Property> COMPONENT_DEFINITION_PROPERTIES = documented()
+			.put(Sbol2Terms.ComponentDefinition.type, TYPE)
+			.put(Sbol2Terms.Model.roles, ROLE)
+			.put(Sbol2Terms.ComponentDefinition.hasComponent, COMPONENT)
+			.put(Sbol2Terms.ComponentDefinition.hasSequence, SEQUENCE)
+			.put(Sbol2Terms.ComponentDefinition.hasSequenceAnnotations, SEQUENCE_ANNOTATION)
+			.put(Sbol2Terms.ComponentDefinition.hasSequenceConstraints, SEQUENCE_CONSTRAINT)
+			.build();
+
+	static final Map<QName, Sbol2Property> SEQUENCE_CONSTRAINT_PROPERTIES = identified()
+			.put(Sbol2Terms.SequenceConstraint.restriction, RESTRICTION)
+			.put(Sbol2Terms.SequenceConstraint.hasSubject, SUBJECT)
+			.put(Sbol2Terms.SequenceConstraint.hasObject, OBJECT)
+			.build();
+
+	static final Map<QName, Sbol2Property> SEQUENCE_ANNOTATION_PROPERTIES = documented()
+			.put(Sbol2Terms.Location.Location, LOCATION)
+			.put(Sbol2Terms.SequenceAnnotation.hasComponent, COMPONENT)
+			.build();
+
+	static final Map<QName, Sbol2Property> RANGE_PROPERTIES = identified()
+			.put(Sbol2Terms.Range.start, START)
+			.put(Sbol2Terms.Range.end, END)
+			.put(Sbol2Terms.Range.orientation, ORIENTATION)
+			.build();
+
+	static final Map<QName, Sbol2Property> CUT_PROPERTIES = identified()
+			.put(Sbol2Terms.Cut.at, AT)
+			.put(Sbol2Terms.Cut.orientation, ORIENTATION)
+			.build();
+
+	static final Map<QName, Sbol2Property> GENERIC_LOCATION_PROPERTIES = identified()
+			.put(Sbol2Terms.GenericLocation.orientation, ORIENTATION)
+			.build();
+
+	static final Map<QName, Sbol2Property> COMPONENT_PROPERTIES = documented()
+			.put(Sbol2Terms.ComponentInstance.access, ACCESS)
+			.put(Sbol2Terms.Module.hasMapsTo, MAPS_TO)
+			.put(Sbol2Terms.ComponentInstance.hasComponentDefinition, DEFINITION)
+			.build();
+
+	static final Map<QName, Sbol2Property> GENERIC_TOP_LEVEL_PROPERTIES = documented().build();
+
+	static final Map<QName, Sbol2Property> MODEL_PROPERTIES = documented()
+			.put(Sbol2Terms.Model.source, SOURCE)
+			.put(Sbol2Terms.Model.language, LANGUAGE)
+			.put(Sbol2Terms.Model.framework, FRAMEWORK)
+			.build();
+
+	static final Map<QName, Sbol2Property> COLLECTION_PROPERTIES = documented()
+			.put(Sbol2Terms.Collection.hasMembers, MEMBER)
+			.build();
+
+	static final Map<QName, Sbol2Property> MODULE_DEFINITION_PROPERTIES = documented()
+			.put(Sbol2Terms.ModuleDefinition.roles, ROLE)
+			.put(Sbol2Terms.ModuleDefinition.hasModule, MODULE)
+			.put(Sbol2Terms.ModuleDefinition.hasInteractions, INTERACTION)
+			.put(Sbol2Terms.ModuleDefinition.hasfunctionalComponent, FUNCTIONAL_COMPONENT)
+			.put(Sbol2Terms.ModuleDefinition.hasModels, MODEL)
+			.build();
+
+	static final Map<QName, Sbol2Property> MODULE_PROPERTIES = documented()
+			.put(Sbol2Terms.Module.hasMapsTo, MAPS_TO)
+			.put(Sbol2Terms.Module.hasDefinition, DEFINITION)
+			.build();
+
+	static final Map<QName, Sbol2Property> MAPS_TO_PROPERTIES = identified()
+			.put(Sbol2Terms.MapsTo.refinement, REFINEMENT)
+			.put(Sbol2Terms.MapsTo.hasRemote, REMOTE)
+			.put(Sbol2Terms.MapsTo.hasLocal, LOCAL)
+			.build();
+
+	static final Map<QName, Sbol2Property> INTERACTION_PROPERTIES = documented()
+			.put(Sbol2Terms.Interaction.type, TYPE)
+			.put(Sbol2Terms.Interaction.hasParticipations, PARTICIPATION)
+			.build();
+
+	static final Map<QName, Sbol2Property> PARTICIPATION_PROPERTIES = identified()
+			.put(Sbol2Terms.Participation.role, ROLE)
+			.put(Sbol2Terms.Participation.hasParticipant, PARTICIPANT)
+			.build();
+
+	static final Map<QName, Sbol2Property> FUNCTIONAL_COMPONENT_PROPERTIES = documented()
+			.put(Sbol2Terms.ComponentInstance.access, ACCESS)
+			.put(Sbol2Terms.FunctionalComponent.direction, DIRECTION)
+			.put(Sbol2Terms.ComponentInstance.hasMapsTo, MAPS_TO)
+			.put(Sbol2Terms.ComponentInstance.hasComponentDefinition, DEFINITION)
+			.build();
+
+	static final Map<QName, Sbol2Property> SEQUENCE_PROPERTIES = documented()
+			.put(Sbol2Terms.Sequence.elements, ELEMENTS)
+			.put(Sbol2Terms.Sequence.encoding, ENCODING)
+			.build();
+
+	/**
+	 * The dispatch table of each SBOL class, by the qualified name of its type. GenericTopLevel has no
+	 * entry, since its type is chosen by the application.
+	 */
+	private static final Map<QName, Map<QName, Sbol2Property>> TABLES = new HashMap<>();
+	static {
+		TABLES.put(Sbol2Terms.ComponentDefinition.ComponentDefinition, COMPONENT_DEFINITION_PROPERTIES);
+		TABLES.put(Sbol2Terms.SequenceConstraint.SequenceConstraint, SEQUENCE_CONSTRAINT_PROPERTIES);
+		TABLES.put(Sbol2Terms.SequenceAnnotation.SequenceAnnotation, SEQUENCE_ANNOTATION_PROPERTIES);
+		TABLES.put(Sbol2Terms.Range.Range, RANGE_PROPERTIES);
+		TABLES.put(Sbol2Terms.Cut.Cut, CUT_PROPERTIES);
+		TABLES.put(Sbol2Terms.GenericLocation.GenericLocation, GENERIC_LOCATION_PROPERTIES);
+		TABLES.put(Sbol2Terms.Component.Component, COMPONENT_PROPERTIES);
+		TABLES.put(Sbol2Terms.Model.Model, MODEL_PROPERTIES);
+		TABLES.put(Sbol2Terms.Collection.Collection, COLLECTION_PROPERTIES);
+		TABLES.put(Sbol2Terms.ModuleDefinition.ModuleDefinition, MODULE_DEFINITION_PROPERTIES);
+		TABLES.put(Sbol2Terms.Module.Module, MODULE_PROPERTIES);
+		TABLES.put(Sbol2Terms.MapsTo.MapsTo, MAPS_TO_PROPERTIES);
+		TABLES.put(Sbol2Terms.Interaction.Interaction, INTERACTION_PROPERTIES);
+		TABLES.put(Sbol2Terms.Participation.Participation, PARTICIPATION_PROPERTIES);
+		TABLES.put(Sbol2Terms.FunctionalComponent.FunctionalComponent, FUNCTIONAL_COMPONENT_PROPERTIES);
+		TABLES.put(Sbol2Terms.Sequence.Sequence, SEQUENCE_PROPERTIES);
+	}
+
+	private static final Set<QName> TOP_LEVEL_TYPES = new HashSet<>(Arrays.asList(
+			Sbol2Terms.Collection.Collection,
+			Sbol2Terms.ComponentDefinition.ComponentDefinition,
+			Sbol2Terms.Model.Model,
+			Sbol2Terms.ModuleDefinition.ModuleDefinition,
+			Sbol2Terms.Sequence.Sequence));
+
+	/**
+	 * Returns the property the given name stands for in the given dispatch table.
+	 *
+	 * @param table
+	 * @param name
+	 * @return the property for the given name, or {@link #ANNOTATION} if the table does not contain it
+	 */
+	static Sbol2Property lookup(Map<QName, Sbol2Property> table, QName name) {
+		Sbol2Property property = table.get(name);
+		return property == null ? ANNOTATION : property;
+	}
+
+	/**
+	 * Tells whether the given property of an object of the given type holds a child of the object, such
+	 * as the SequenceAnnotations of a ComponentDefinition, rather than a reference to another object.
+	 *
+	 * @param type the type of the object
+	 * @param name the name of the property
+	 * @return {@code true} if the property holds a child
+	 */
+	static boolean isChild(QName type, QName name) {
+		Map<QName, Sbol2Property> table = TABLES.get(type);
+		if (table == null) {
+			return false;
+		}
+		switch (lookup(table, name)) {
+		case SEQUENCE_ANNOTATION:
+		case SEQUENCE_CONSTRAINT:
+		case LOCATION:
+		case MAPS_TO:
+		case MODULE:
+		case INTERACTION:
+		case FUNCTIONAL_COMPONENT:
+		case PARTICIPATION:
+			return true;
+		case COMPONENT:
+			// The component of a SequenceAnnotation refers to a Component of its ComponentDefinition.
+			return table == COMPONENT_DEFINITION_PROPERTIES;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Tells whether the given property of an object of the given type is kept as an Annotation, which is
+	 * every property of an object whose type is not an SBOL class.
+	 *
+	 * @param type the type of the object
+	 * @param name the name of the property
+	 * @return {@code true} if the property is an Annotation
+	 */
+	static boolean isAnnotation(QName type, QName name) {
+		Map<QName, Sbol2Property> table = TABLES.get(type);
+		return table == null || lookup(table, name) == ANNOTATION;
+	}
+
+	/**
+	 * Tells whether the given type is that of an SBOL top-level class other than GenericTopLevel.
+	 *
+	 * @param type
+	 * @return {@code true} if objects of the type are always top-levels
+	 */
+	static boolean isTopLevelType(QName type) {
+		return TOP_LEVEL_TYPES.contains(type);
+	}
+
+	/**
+	 * Starts a dispatch table holding the properties of Identified.
+	 */
+	private static TableBuilder identified() {
+		return new TableBuilder()
+				.put(Sbol2Terms.Identified.persistentIdentity, PERSISTENT_IDENTITY)
+				.put(Sbol2Terms.Identified.version, VERSION)
+				.put(Sbol2Terms.Documented.displayId, DISPLAY_ID)
+				.put(Sbol2Terms.Identified.wasDerivedFrom, WAS_DERIVED_FROM);
+	}
+
+	/**
+	 * Starts a dispatch table holding the properties of Documented.
+	 */
+	private static TableBuilder documented() {
+		return identified()
+				.put(Sbol2Terms.Documented.title, TITLE)
+				.put(Sbol2Terms.Documented.description, DESCRIPTION);
+	}
+
+	/**
+	 * Collects the name/property pairs of one dispatch table.
+	 */
+	private static final class TableBuilder {
+		private final Map<QName, Sbol2Property> table = new HashMap<>();
+
+		TableBuilder put(QName name, Sbol2Property property) {
+			table.put(name, property);
+			return this;
+		}
+
+		Map<QName, Sbol2Property> build() {
+			return Collections.unmodifiableMap(table);
+		}
+	}
+}
@@ -88,7 +88,7 @@ public class Sequence extends TopLevel{
 	 * @throws IllegalArgumentException if the given {@code elements} argument is {@code null}
 	 */
 	public void setElements(String elements) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (elements == null) {
 			throw new IllegalArgumentException("Sequence is required to have elements.");
 		}
@@ -117,7 +117,7 @@ public class Sequence extends TopLevel{
 	 * @throws IllegalArgumentException if the given {@code encoding} argument is {@code null}
 	 */
 	public void setEncoding(URI encoding) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (encoding == null) {
 			throw new IllegalArgumentException("Sequence is required to have an encoding.");
 		}
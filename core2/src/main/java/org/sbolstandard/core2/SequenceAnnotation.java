@@ -4,6 +4,7 @@ import static org.sbolstandard.core2.URIcompliance.createCompliantURI;
 import static org.sbolstandard.core2.URIcompliance.extractDisplayId;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,7 +35,7 @@ public class SequenceAnnotation extends Identified {
 	private SequenceAnnotation(SequenceAnnotation sequenceAnnotation) {
 		super(sequenceAnnotation);
 		this.locations = new HashMap<>();
-		for (Location location : sequenceAnnotation.getLocations()) {
+		for (Location location : sequenceAnnotation.getLocationsView()) {
 			addLocation(location.deepCopy());
 		}
 		if (sequenceAnnotation.isSetComponent()) {
@@ -166,7 +167,7 @@ public class SequenceAnnotation extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant.
 	 */	
 	public boolean removeLocation(Location location) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (locations.size()==1 && locations.containsValue(location)) {
 			throw new IllegalArgumentException("Sequence annotation " + this.getIdentity() + " must have at least one location.");
 		}
@@ -204,6 +205,16 @@ public class SequenceAnnotation extends Identified {
 		return new HashSet<>(locations.values());
 	}
 
+	/**
+	 * Returns a read-only view of the set of Location instances owned by this SequenceAnnotation object. Unlike
+	 * {@link #getLocations()}, this method does not copy the set, and later changes are visible through the view.
+	 * 
+	 * @return a read-only view of the set of Location instances owned by this SequenceAnnotation object.
+	 */
+	public Set<Location> getLocationsView() {
+		return new IdentifiedSetView<>(locations);
+	}
+
 	/**
 	 * Removes all entries of this SequenceAnnotation object's list of Location
 	 * instances. The set will be empty after this call returns.
@@ -215,7 +226,7 @@ public class SequenceAnnotation extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant  
 	 */
 	void clearLocations() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		Object[] valueSetArray = locations.values().toArray();
 		for (Object location : valueSetArray) {
 			removeLocation((Location)location);
@@ -345,7 +356,7 @@ public class SequenceAnnotation extends Identified {
 	 * list of Component instances.
 	 */
 	public void setComponent(String displayId) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		URI componentURI = URIcompliance.createCompliantURI(componentDefinition.getPersistentIdentity().toString(), 
 				displayId, componentDefinition.getVersion());
 		setComponent(componentURI);
@@ -365,12 +376,13 @@ public class SequenceAnnotation extends Identified {
 	 * list of Component instances.
 	 */
 	public void setComponent(URI componentURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (componentDefinition!=null) {
 			if (componentDefinition.getComponent(componentURI)==null) {
 				throw new IllegalArgumentException("Component '" + componentURI + "' does not exist.");
 			}
 		}
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, this.component, componentURI);
 		this.component = componentURI;
 	}
 	
@@ -384,10 +396,21 @@ public class SequenceAnnotation extends Identified {
 	 * @throws SBOLException if the associated SBOLDocument is not compliant
 	 */
 	public void unsetComponent() {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, component, null);
 		component = null;
 	}
 
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, Collections.singletonList(component));
+		}
+		else {
+			index.remove(this, Collections.singletonList(component));
+		}
+	}
+
 //	/**
 //	 * 
 //	 * @param identity an identity for the sequence annotation
@@ -611,6 +634,14 @@ public class SequenceAnnotation extends Identified {
 //		}
 //	}
 
+	@Override
+	protected void setSBOLDocument(SBOLDocument sbolDocument) {
+		super.setSBOLDocument(sbolDocument);
+		for (Location location : locations.values()) {
+			location.setSBOLDocument(sbolDocument);
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
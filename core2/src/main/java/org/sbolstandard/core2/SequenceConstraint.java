@@ -1,6 +1,7 @@
 package org.sbolstandard.core2;
 
 import java.net.URI;
+import java.util.Arrays;
 
 import static org.sbolstandard.core2.URIcompliance.*;
 
@@ -58,7 +59,7 @@ public class SequenceConstraint extends Identified {
 	 * @throws NullPointerException if the given {@code restriction} is {@code null}.
 	 */
 	public void setRestriction(RestrictionType restriction) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (restriction==null) {
 			throw new NullPointerException("Not a valid restriction type.");
 		}
@@ -104,7 +105,7 @@ public class SequenceConstraint extends Identified {
 	 * @throws IllegalArgumentException if the given {@code subjectURI} is {@code null}.
 	 */
 	public void setSubject(URI subjectURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (componentDefinition != null) {
 			if (componentDefinition.getComponent(subjectURI)==null) {
 				throw new IllegalArgumentException("Component '" + subjectURI + "' does not exist.");
@@ -116,6 +117,7 @@ public class SequenceConstraint extends Identified {
 		if (subjectURI==object) {
 			throw new IllegalArgumentException("Sequence constraint '" + this.getIdentity() + "' must have different subject and object.");
 		}
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, subject, subjectURI);
 		this.subject = subjectURI;
 	}
 
@@ -156,7 +158,7 @@ public class SequenceConstraint extends Identified {
 	 * @throws IllegalArgumentException if the given {@code objectURI} is {@code null}.
 	 */
 	public void setObject(URI objectURI) {
-		if (sbolDocument!=null) sbolDocument.checkReadOnly();
+		checkReadOnly();
 		if (componentDefinition != null) {
 			if (componentDefinition.getComponent(objectURI)==null) {
 				throw new IllegalArgumentException("Component '" + objectURI + "' does not exist.");
@@ -168,9 +170,20 @@ public class SequenceConstraint extends Identified {
 		if (objectURI==subject) {
 			throw new IllegalArgumentException("Sequence constraint '" + this.getIdentity() + "' must have different subject and object.");
 		}
+		if (sbolDocument!=null) sbolDocument.getReferenceIndex().replace(this, object, objectURI);
 		this.object = objectURI;
 	}
 
+	@Override
+	void indexReferences(ReferenceIndex index, boolean add) {
+		if (add) {
+			index.add(this, Arrays.asList(subject, object));
+		}
+		else {
+			index.remove(this, Arrays.asList(subject, object));
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -38,6 +38,12 @@ public abstract class TopLevel extends Identified {
 	 * the abbreviation for the GenericTopLevel type in URI
 	 */
 	public static final String GENERIC_TOP_LEVEL = "gen";
+
+	/**
+	 * The number of changes made to this object and its descendants, which tells {@link SBOLFragmentCache}
+	 * whether a fragment formatted from it is still current.
+	 */
+	private long changes = 0;
 		
 	TopLevel(URI identity) {
 		super(identity);
@@ -64,4 +70,12 @@ public abstract class TopLevel extends Identified {
 	 */
 	protected abstract boolean checkDescendantsURIcompliance();
 
+	void countChange() {
+		changes++;
+	}
+
+	long getChangeCount() {
+		return changes;
+	}
+
 }
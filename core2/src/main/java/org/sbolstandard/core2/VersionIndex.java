@@ -0,0 +1,155 @@
+package org.sbolstandard.core2;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the versions of the compliant top-levels of a document sorted per persistent identity, so that
+ * adding or removing a version and finding the latest version of a persistent identity take logarithmic
+ * time in the number of its versions.
+ * <p>
+ * Each version is parsed into a {@link ComparableVersion} once, when it is added. As with
+ * {@link Version#isFirstVersionNewer(String, String)}, a top-level without a version is newer than any
+ * with one. Of versions that compare equal, such as {@code 1} and {@code 1.0}, the one added first is
+ * taken to be the latest.
+ * <p>
+ * A concurrent index may be changed by several threads at the same time, provided the versions of each
+ * persistent identity are only added, removed, and listed while holding a lock chosen by that persistent
+ * identity.
+ *
+ * @version 2.0-beta
+ */
+final class VersionIndex {
+
+	private static final class Entry {
+		final URI persistentId;
+		final ComparableVersion version;
+		final long sequence;
+		final TopLevel topLevel;
+
+		Entry(URI persistentId, ComparableVersion version, long sequence, TopLevel topLevel) {
+			this.persistentId = persistentId;
+			this.version = version;
+			this.sequence = sequence;
+			this.topLevel = topLevel;
+		}
+	}
+
+	/**
+	 * Orders entries from oldest to latest version, and entries of equal versions from the last added to
+	 * the first added.
+	 */
+	private static final Comparator<Entry> ORDER = new Comparator<Entry>() {
+		@Override
+		public int compare(Entry e1, Entry e2) {
+			if (e1.version == null || e2.version == null) {
+				if (e1.version != null) {
+					return -1;
+				}
+				if (e2.version != null) {
+					return 1;
+				}
+			}
+			else {
+				int result = e1.version.compareTo(e2.version);
+				if (result != 0) {
+					return result;
+				}
+			}
+			return e1.sequence < e2.sequence ? 1 : e1.sequence > e2.sequence ? -1 : 0;
+		}
+	};
+
+	private final Map<URI, TreeSet<Entry>> versions;
+	private final Map<URI, Entry> entries;
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * @param concurrent whether the index may be changed by several threads at the same time
+	 */
+	VersionIndex(boolean concurrent) {
+		if (concurrent) {
+			versions = new ConcurrentHashMap<>();
+			entries = new ConcurrentHashMap<>();
+		}
+		else {
+			versions = new HashMap<>();
+			entries = new HashMap<>();
+		}
+	}
+
+	/**
+	 * Adds the given top-level as a version of the given persistent identity.
+	 *
+	 * @param persistentId
+	 * @param version the version of the top-level, or {@code null} if it has none
+	 * @param topLevel
+	 * @return the latest version of the given persistent identity
+	 */
+	TopLevel add(URI persistentId, String version, TopLevel topLevel) {
+		ComparableVersion parsed = version == null ? null : new ComparableVersion(version);
+		Entry entry = new Entry(persistentId, parsed, sequence.getAndIncrement(), topLevel);
+		TreeSet<Entry> set = versions.get(persistentId);
+		if (set == null) {
+			set = new TreeSet<>(ORDER);
+			versions.put(persistentId, set);
+		}
+		set.add(entry);
+		entries.put(topLevel.getIdentity(), entry);
+		return set.last().topLevel;
+	}
+
+	/**
+	 * @param identity
+	 * @return the persistent identity the top-level with the given identity was added under, or
+	 * {@code null} if it is not in this index
+	 */
+	URI getPersistentId(URI identity) {
+		Entry entry = entries.get(identity);
+		return entry == null ? null : entry.persistentId;
+	}
+
+	/**
+	 * Removes the top-level with the given identity.
+	 *
+	 * @param identity
+	 * @return the latest of the remaining versions of its persistent identity, or {@code null} if none remain
+	 * or the top-level is not in this index
+	 */
+	TopLevel remove(URI identity) {
+		Entry entry = entries.remove(identity);
+		if (entry == null) {
+			return null;
+		}
+		TreeSet<Entry> set = versions.get(entry.persistentId);
+		set.remove(entry);
+		if (set.isEmpty()) {
+			versions.remove(entry.persistentId);
+			return null;
+		}
+		return set.last().topLevel;
+	}
+
+	/**
+	 * @param persistentId
+	 * @return all versions of the given persistent identity from the oldest to the latest, which is empty if
+	 * there are none
+	 */
+	List<TopLevel> getVersions(URI persistentId) {
+		List<TopLevel> result = new ArrayList<>();
+		TreeSet<Entry> set = versions.get(persistentId);
+		if (set != null) {
+			for (Entry entry : set) {
+				result.add(entry.topLevel);
+			}
+		}
+		return result;
+	}
+}
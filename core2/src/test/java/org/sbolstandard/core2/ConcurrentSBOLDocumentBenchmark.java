@@ -0,0 +1,96 @@
+package org.sbolstandard.core2;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares the time taken to build a document of many small designs on one thread in an SBOLDocument
+ * with the time taken to build it on 1 to 32 threads in a ConcurrentSBOLDocument. Each design has a
+ * Sequence, a ComponentDefinition for a part using it, a ComponentDefinition for a device with a Component
+ * and a SequenceAnnotation for the part, and a ModuleDefinition with a FunctionalComponent for the device.
+ * <p>
+ * Run with the number of designs as the only argument.
+ */
+public class ConcurrentSBOLDocumentBenchmark {
+
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int ROUNDS = 5;
+	private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32 };
+	private static final String URI_PREFIX = "http://www.async.ece.utah.edu";
+
+	public static void main(String[] args) throws Throwable {
+		int designs = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			build(new SBOLDocument(), designs, 1);
+			build(new ConcurrentSBOLDocument(), designs, THREAD_COUNTS[THREAD_COUNTS.length - 1]);
+		}
+		long sequentialNanos = time(false, designs, 1);
+		System.out.printf("%-30s %8.2f ms%n", "SBOLDocument, 1 thread", sequentialNanos / 1e6);
+		for (int threads : THREAD_COUNTS) {
+			long nanos = time(true, designs, threads);
+			System.out.printf("%-30s %8.2f ms  %5.2fx%n", "ConcurrentSBOLDocument, " + threads +
+					(threads == 1 ? " thread" : " threads"), nanos / 1e6, (double) sequentialNanos / nanos);
+		}
+	}
+
+	private static long time(boolean concurrent, int designs, int threads) throws Throwable {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < ROUNDS; i++) {
+			SBOLDocument doc = concurrent ? new ConcurrentSBOLDocument() : new SBOLDocument();
+			long start = System.nanoTime();
+			build(doc, designs, threads);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return best;
+	}
+
+	private static void build(final SBOLDocument doc, final int designs, final int threads) throws Throwable {
+		doc.setDefaultURIprefix(URI_PREFIX);
+		final CountDownLatch start = new CountDownLatch(1);
+		final Throwable[] failures = new Throwable[threads];
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			final int worker = t;
+			workers[t] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for (int i = worker; i < designs; i += threads) {
+							addDesign(doc, i);
+						}
+					}
+					catch (Throwable e) {
+						failures[worker] = e;
+					}
+				}
+			};
+			workers[t].start();
+		}
+		start.countDown();
+		for (int t = 0; t < threads; t++) {
+			workers[t].join();
+			if (failures[t] != null) {
+				throw failures[t];
+			}
+		}
+	}
+
+	private static void addDesign(SBOLDocument doc, int i) {
+		Set<URI> types = new HashSet<>();
+		types.add(ComponentDefinition.DNA);
+		Sequence sequence = doc.createSequence("seq_" + i, "1.0", "atgcatgcatgc", Sequence.IUPAC_DNA);
+		ComponentDefinition part = doc.createComponentDefinition("part_" + i, "1.0", types);
+		part.addSequence(sequence);
+		ComponentDefinition device = doc.createComponentDefinition("device_" + i, "1.0", types);
+		Component component = device.createComponent("part", AccessType.PUBLIC, part.getIdentity());
+		SequenceAnnotation annotation = device.createSequenceAnnotation("anno", "range", 1, 12);
+		annotation.setComponent(component.getIdentity());
+		ModuleDefinition module = doc.createModuleDefinition("module_" + i, "1.0");
+		module.createFunctionalComponent("device", AccessType.PUBLIC, device.getIdentity(),
+				DirectionType.NONE);
+	}
+
+}
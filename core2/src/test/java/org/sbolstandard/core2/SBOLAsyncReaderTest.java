@@ -0,0 +1,49 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assume;
+
+/**
+ * Writes each expected document out as RDF and JSON files and reads them back in one batch,
+ * together with a missing file whose error must be reported without affecting the others.
+ */
+public class SBOLAsyncReaderTest extends SBOLAbstractTests {
+
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception {
+		Assume.assumeNotNull(expected);
+		File rdf = File.createTempFile("SBOLAsyncReaderTest", ".rdf");
+		File json = File.createTempFile("SBOLAsyncReaderTest", ".json");
+		File missing = new File(rdf.getPath() + ".missing");
+		try {
+			SBOLWriter.write(expected, rdf);
+			SBOLWriter.writeJSON(expected, json);
+
+			List<SBOLReadResult> results = SBOLReader.readAll(Arrays.asList(rdf, missing, json), new SBOLReaderOptions());
+			assertEquals(3, results.size());
+			assertTrue(results.get(0).isSuccessful());
+			assertTrue(results.get(0).getDocument().equals(expected));
+			assertFalse(results.get(1).isSuccessful());
+			assertNull(results.get(1).getDocument());
+			assertTrue(results.get(1).getError() instanceof FileNotFoundException);
+			assertTrue(results.get(2).isSuccessful());
+			assertTrue(results.get(2).getDocument().equals(expected));
+
+			assertTrue(SBOLReader.readAsync(rdf).get().equals(expected));
+		}
+		finally {
+			rdf.delete();
+			json.delete();
+		}
+	}
+
+}
@@ -0,0 +1,166 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperties;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.NamedProperty;
+import static uk.ac.ncl.intbio.core.datatree.Datatree.TopLevelDocument;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Test;
+
+import uk.ac.ncl.intbio.core.datatree.Literal;
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NamespaceBinding;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Checks the values that the binary format encodes specially, and that malformed input is rejected.
+ * Whole documents are round-tripped by {@link SBOLRoundTripTest}.
+ */
+public class SBOLBinaryTest {
+
+	private static final URI IDENTITY = URI.create("http://www.async.ece.utah.edu/seq/1.0");
+	private static final QName NOTE = new QName("http://www.myapp.org/", "note", "myapp");
+
+	@Test
+	public void testPackedElements() throws Exception {
+		for (String elements : Arrays.asList("", "a", "acg", "acgt", "tgcatgcat")) {
+			assertEquals(elements, roundTrip(Sbol2Terms.Sequence.elements, elements));
+		}
+	}
+
+	@Test
+	public void testUnpackableElements() throws Exception {
+		for (String elements : Arrays.asList("ACGT", "acgn", "acgu", "MKLV", "c1ccccc1")) {
+			assertEquals(elements, roundTrip(Sbol2Terms.Sequence.elements, elements));
+		}
+	}
+
+	@Test
+	public void testIntegers() throws Exception {
+		for (int i : new int[] { 0, 1, -1, 63, -64, 64, -65, 1 << 20, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+			assertEquals(i, roundTrip(Sbol2Terms.Range.start, i));
+		}
+	}
+
+	@Test
+	public void testLongStrings() throws Exception {
+		char[] chars = new char[BinaryFormat.MAX_SHARED_STRING_LENGTH + 1];
+		Arrays.fill(chars, 'x');
+		String text = new String(chars);
+		String shared = text.substring(1);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TopLevelDocument<QName> topLevel = write(out, NamedProperty(NOTE, text), NamedProperty(NOTE, text),
+				NamedProperty(NOTE, shared), NamedProperty(NOTE, shared));
+		assertTrue(out.size() > 3 * shared.length());
+		assertTrue(out.size() < 4 * shared.length());
+
+		List<NamedProperty<QName>> properties = read(out).getProperties();
+		for (int i = 0; i < properties.size(); i++) {
+			assertEquals(value(topLevel.getProperties().get(i)), value(properties.get(i)));
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testBadMagic() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out);
+		byte[] bytes = out.toByteArray();
+		bytes[0] = 'X';
+		new BinaryTopLevelReader(new ByteArrayInputStream(bytes));
+	}
+
+	@Test(expected = IOException.class)
+	public void testBadVersion() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out);
+		byte[] bytes = out.toByteArray();
+		bytes[BinaryFormat.MAGIC.length] = BinaryFormat.VERSION + 1;
+		SBOLReader.readBinary(new ByteArrayInputStream(bytes));
+	}
+
+	@Test(expected = IOException.class)
+	public void testMalformedVarint() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(BinaryFormat.MAGIC);
+		out.write(BinaryFormat.VERSION);
+		for (int i = 0; i < 5; i++) {
+			out.write(0x80);
+		}
+		out.write(0);
+		new BinaryTopLevelReader(new ByteArrayInputStream(out.toByteArray()));
+	}
+
+	@Test
+	public void testTruncated() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out, NamedProperty(Sbol2Terms.Sequence.elements, "acgtacgt"),
+				NamedProperty(Sbol2Terms.Sequence.encoding, Sequence.IUPAC_DNA));
+		byte[] bytes = out.toByteArray();
+		for (int length = 0; length < bytes.length; length++) {
+			try {
+				BinaryTopLevelReader reader = new BinaryTopLevelReader(
+						new ByteArrayInputStream(Arrays.copyOf(bytes, length)));
+				reader.read();
+				reader.read();
+			}
+			catch (IOException e) {
+				continue;
+			}
+			throw new AssertionError("Reading the first " + length + " bytes did not fail.");
+		}
+		BinaryTopLevelReader reader = new BinaryTopLevelReader(new ByteArrayInputStream(bytes));
+		reader.read();
+		assertNull(reader.read());
+	}
+
+	private static Object roundTrip(QName name, String value) throws IOException {
+		return roundTrip(NamedProperty(name, value));
+	}
+
+	private static Object roundTrip(QName name, int value) throws IOException {
+		return roundTrip(NamedProperty(name, value));
+	}
+
+	private static Object roundTrip(NamedProperty<QName> property) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out, property);
+		return value(read(out).getProperties().get(0));
+	}
+
+	@SafeVarargs
+	private static TopLevelDocument<QName> write(ByteArrayOutputStream out, NamedProperty<QName>... properties)
+			throws IOException {
+		TopLevelDocument<QName> topLevel = TopLevelDocument(Sbol2Terms.Sequence.Sequence, IDENTITY,
+				NamedProperties(properties));
+		BinaryTopLevelWriter writer = new BinaryTopLevelWriter(out);
+		writer.writeStart(Collections.<NamespaceBinding>emptyList());
+		writer.write(topLevel);
+		writer.writeEnd();
+		return topLevel;
+	}
+
+	private static TopLevelDocument<QName> read(ByteArrayOutputStream out) throws IOException {
+		BinaryTopLevelReader reader = new BinaryTopLevelReader(new ByteArrayInputStream(out.toByteArray()));
+		TopLevelDocument<QName> topLevel = reader.read();
+		assertNull(reader.read());
+		return topLevel;
+	}
+
+	private static Object value(NamedProperty<QName> property) {
+		return ((Literal<QName>) property.getValue()).getValue();
+	}
+
+}
@@ -0,0 +1,108 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link ByteChannelWriter} encodes characters the same way as a String does, across buffer
+ * boundaries, at the end of the input and with several writers open on one thread, and that the channel
+ * overloads of {@link SBOLWriter} write the same bytes as the OutputStream overloads.
+ */
+public class SBOLChannelWriterTest {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final String DNA_EMOJI = "\ud83e\uddec";
+
+	@Test
+	public void testSurrogatePairAcrossBuffers() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		while (builder.length() < 1024 * 1024) {
+			builder.append("caf\u00e9 ").append(DNA_EMOJI);
+		}
+		String text = builder.toString();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ByteChannelWriter writer = new ByteChannelWriter(Channels.newChannel(out), UTF8);
+		for (int i = 0; i < text.length(); i += 4093) {
+			writer.write(text, i, Math.min(4093, text.length() - i));
+		}
+		writer.close();
+		assertArrayEquals(text.getBytes(UTF8), out.toByteArray());
+	}
+
+	@Test
+	public void testDanglingHighSurrogate() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ByteChannelWriter writer = new ByteChannelWriter(Channels.newChannel(out), UTF8);
+		writer.write("ab\ud83e");
+		writer.flush();
+		assertEquals("ab", new String(out.toByteArray(), UTF8));
+		writer.close();
+		assertEquals("ab?", new String(out.toByteArray(), UTF8));
+	}
+
+	@Test
+	public void testWritersOnOneThread() throws Exception {
+		ByteArrayOutputStream first = new ByteArrayOutputStream();
+		ByteArrayOutputStream second = new ByteArrayOutputStream();
+		ByteChannelWriter firstWriter = new ByteChannelWriter(Channels.newChannel(first), UTF8);
+		firstWriter.write("first ");
+		ByteChannelWriter secondWriter = new ByteChannelWriter(Channels.newChannel(second), UTF8);
+		secondWriter.write("second");
+		firstWriter.write("writer");
+		secondWriter.close();
+		firstWriter.close();
+		assertEquals("first writer", new String(first.toByteArray(), UTF8));
+		assertEquals("second", new String(second.toByteArray(), UTF8));
+
+		ByteArrayOutputStream third = new ByteArrayOutputStream();
+		ByteChannelWriter thirdWriter = new ByteChannelWriter(Channels.newChannel(third), UTF8);
+		thirdWriter.write("third");
+		thirdWriter.close();
+		assertEquals("third", new String(third.toByteArray(), UTF8));
+	}
+
+	@Test(expected = IOException.class)
+	public void testWriteAfterClose() throws Exception {
+		ByteChannelWriter writer = new ByteChannelWriter(Channels.newChannel(new ByteArrayOutputStream()), UTF8);
+		writer.close();
+		writer.write("closed");
+	}
+
+	@Test
+	public void testChannelOverloads() throws Exception {
+		SBOLDocument document = new SBOLDocument();
+		document.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		ComponentDefinition promoter = document.createComponentDefinition("promoter", "",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		promoter.setDescription("caf\u00e9 " + DNA_EMOJI);
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		ByteArrayOutputStream channel = new ByteArrayOutputStream();
+		SBOLWriter.writeNTriples(document, stream);
+		SBOLWriter.writeNTriples(document, Channels.newChannel(channel));
+		assertArrayEquals(stream.toByteArray(), channel.toByteArray());
+
+		stream.reset();
+		channel.reset();
+		SBOLWriter.writeRDF(document, stream);
+		SBOLWriter.writeRDF(document, Channels.newChannel(channel));
+		assertArrayEquals(stream.toByteArray(), channel.toByteArray());
+
+		stream.reset();
+		channel.reset();
+		SBOLWriter.writeJSON(document, stream);
+		SBOLWriter.writeJSON(document, Channels.newChannel(channel));
+		assertArrayEquals(stream.toByteArray(), channel.toByteArray());
+	}
+
+}
@@ -0,0 +1,87 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+/**
+ * Writes a document out gzip-compressed in every format, both to files whose names end in {@code .gz} and
+ * to a compressed stream, and reads it back without telling the reader about the compression. Also checks
+ * that inputs too short to hold the gzip magic bytes are read as they are.
+ */
+public class SBOLCompressionTest {
+
+	@Test
+	public void testFiles() throws Exception {
+		SBOLDocument expected = createDocument();
+		File rdf = File.createTempFile("sbol", ".xml.gz");
+		File json = File.createTempFile("sbol", ".json.gz");
+		File ntriples = File.createTempFile("sbol", ".nt.gz");
+		File binary = File.createTempFile("sbol", ".sbolb.gz");
+		try {
+			SBOLWriter.writeRDF(expected, rdf);
+			SBOLWriter.writeJSON(expected, json);
+			SBOLWriter.writeNTriples(expected, ntriples);
+			SBOLWriter.writeBinary(expected, binary);
+			for (File file : new File[] { rdf, json, ntriples, binary }) {
+				assertTrue(file.getName(), SBOLReader.readAsync(file).get().equals(expected));
+			}
+		}
+		finally {
+			rdf.delete();
+			json.delete();
+			ntriples.delete();
+			binary.delete();
+		}
+	}
+
+	@Test
+	public void testStreams() throws Exception {
+		SBOLDocument expected = createDocument();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		GZIPOutputStream gzip = new GZIPOutputStream(out);
+		SBOLWriter.writeNTriples(expected, gzip);
+		gzip.close();
+		assertTrue(SBOLReader.readNTriples(new ByteArrayInputStream(out.toByteArray())).equals(expected));
+
+		out.reset();
+		gzip = new GZIPOutputStream(out);
+		SBOLWriter.writeBinary(expected, gzip);
+		gzip.close();
+		assertTrue(SBOLReader.readBinary(new ByteArrayInputStream(out.toByteArray())).equals(expected));
+
+		out.reset();
+		gzip = new GZIPOutputStream(out);
+		SBOLWriter.writeRDF(expected, gzip);
+		gzip.close();
+		assertTrue(SBOLReader.readRDF(new ByteArrayInputStream(out.toByteArray())).equals(expected));
+	}
+
+	@Test
+	public void testShortInputs() throws Exception {
+		for (byte[] input : new byte[][] { {}, { '\n' }, { '#' } }) {
+			SBOLDocument document = SBOLReader.readNTriples(new ByteArrayInputStream(input));
+			assertEquals(0, document.getComponentDefinitions().size());
+		}
+	}
+
+	private static SBOLDocument createDocument() {
+		SBOLDocument document = new SBOLDocument();
+		document.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		Sequence sequence = document.createSequence("seq", "1.0", "atgcatgcatgc", Sequence.IUPAC_DNA);
+		ComponentDefinition part = document.createComponentDefinition("part", "1.0",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		part.addSequence(sequence);
+		return document;
+	}
+
+}
@@ -0,0 +1,55 @@
+package org.sbolstandard.core2;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Test;
+
+/**
+ * Runs the {@link SBOLReaderTest} cases with RDF converted straight from the XML stream.
+ */
+public class SBOLDirectReaderTest extends SBOLReaderTest
+{
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception
+	{
+		SBOLReader.setDirectRDF(true);
+		try
+		{
+			super.runTest(fileName, expected, fileType);
+		}
+		finally
+		{
+			SBOLReader.setDirectRDF(false);
+		}
+	}
+
+	@Test(expected = SBOLException.class)
+	public void testCutWithoutAt() throws Exception
+	{
+		readLocation("<sbol:Cut rdf:about=\"http://www.async.ece.utah.edu/cd/anno/cut\"/>");
+	}
+
+	@Test(expected = SBOLException.class)
+	public void testUnknownLocation() throws Exception
+	{
+		readLocation("<sbol:MultiRange rdf:about=\"http://www.async.ece.utah.edu/cd/anno/multi\"/>");
+	}
+
+	private static void readLocation(String location) throws Exception
+	{
+		String rdf = "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\" "
+				+ "xmlns:sbol=\"http://sbols.org/v2#\">"
+				+ "<sbol:ComponentDefinition rdf:about=\"http://www.async.ece.utah.edu/cd\">"
+				+ "<sbol:type rdf:resource=\"http://www.biopax.org/release/biopax-level3.owl#DnaRegion\"/>"
+				+ "<sbol:sequenceAnnotation>"
+				+ "<sbol:SequenceAnnotation rdf:about=\"http://www.async.ece.utah.edu/cd/anno\">"
+				+ "<sbol:location>" + location + "</sbol:location>"
+				+ "</sbol:SequenceAnnotation>"
+				+ "</sbol:sequenceAnnotation>"
+				+ "</sbol:ComponentDefinition>"
+				+ "</rdf:RDF>";
+		SBOLReader.readRDF(new ByteArrayInputStream(rdf.getBytes("UTF-8")),
+				new SBOLReaderOptions().withDirectRDF(true));
+	}
+
+}
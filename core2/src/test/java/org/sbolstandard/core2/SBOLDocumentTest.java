@@ -1,6 +1,19 @@
 package org.sbolstandard.core2;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 
@@ -20,4 +33,216 @@ public class SBOLDocumentTest {
 //
 //	}
 
+	private static Set<URI> types() {
+		Set<URI> types = new HashSet<>();
+		types.add(ComponentDefinition.DNA);
+		return types;
+	}
+
+	@Test
+	public void testGetTopLevel() {
+		SBOLDocument doc = new SBOLDocument();
+		doc.setDefaultURIprefix(defaultURIprefix);
+		ComponentDefinition compDef = doc.createComponentDefinition(compDef1displayId, compDef1version, types());
+		Sequence sequence = doc.createSequence("IPTG_seq", "1.0", "acgt", Sequence.IUPAC_DNA);
+		assertSame(compDef, doc.getTopLevel(compDef.getIdentity()));
+		assertSame(compDef, doc.getTopLevel(compDef.getPersistentIdentity()));
+		assertSame(sequence, doc.getTopLevel(sequence.getIdentity()));
+
+		ComponentDefinition newer = doc.createComponentDefinition(compDef1displayId, "1.4", types());
+		assertSame(newer, doc.getTopLevel(compDef.getPersistentIdentity()));
+		doc.removeComponentDefinition(newer);
+		assertNull(doc.getTopLevel(newer.getIdentity()));
+		assertSame(compDef, doc.getTopLevel(compDef.getPersistentIdentity()));
+		doc.removeComponentDefinition(compDef);
+		assertNull(doc.getTopLevel(compDef.getIdentity()));
+		assertNull(doc.getTopLevel(compDef.getPersistentIdentity()));
+	}
+
+	@Test
+	public void testTopLevelVersions() {
+		SBOLDocument doc = new SBOLDocument();
+		doc.setDefaultURIprefix(defaultURIprefix);
+		ComponentDefinition v2 = doc.createComponentDefinition(compDef1displayId, "2", types());
+		ComponentDefinition v10 = doc.createComponentDefinition(compDef1displayId, "10", types());
+		ComponentDefinition v1 = doc.createComponentDefinition(compDef1displayId, "1.0", types());
+		ComponentDefinition v1beta = doc.createComponentDefinition(compDef1displayId, "1.0-beta", types());
+		URI persistentId = v1.getPersistentIdentity();
+		assertEquals(Arrays.<TopLevel>asList(v1beta, v1, v2, v10), doc.getTopLevelVersions(persistentId));
+		assertSame(v10, doc.getComponentDefinition(persistentId));
+
+		doc.removeComponentDefinition(v2);
+		assertSame(v10, doc.getTopLevel(persistentId));
+		doc.removeComponentDefinition(v10);
+		assertSame(v1, doc.getComponentDefinition(persistentId));
+		assertSame(v1, doc.getTopLevel(persistentId));
+		assertEquals(Arrays.<TopLevel>asList(v1beta, v1), doc.getTopLevelVersions(persistentId));
+		doc.removeComponentDefinition(v1);
+		doc.removeComponentDefinition(v1beta);
+		assertNull(doc.getComponentDefinition(persistentId));
+		assertEquals(0, doc.getTopLevelVersions(persistentId).size());
+	}
+
+	@Test
+	public void testConcurrentDocument() throws InterruptedException {
+		final SBOLDocument doc = new ConcurrentSBOLDocument();
+		doc.setDefaultURIprefix(defaultURIprefix);
+		final int threadCount = 8;
+		final int partCount = 100;
+		final CountDownLatch start = new CountDownLatch(1);
+		final AtomicInteger contestedAdds = new AtomicInteger();
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread[] threads = new Thread[threadCount];
+		for (int t = 0; t < threadCount; t++) {
+			final int thread = t;
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for (int i = 0; i < partCount; i++) {
+							Sequence sequence = doc.createSequence("seq_" + thread + "_" + i, "1.0", "acgt", 
+									Sequence.IUPAC_DNA);
+							ComponentDefinition part = doc.createComponentDefinition("part_" + thread + "_" + i, 
+									"1.0", types());
+							part.addSequence(sequence);
+						}
+						doc.createComponentDefinition(compDef1displayId, String.valueOf(thread + 1), types());
+						try {
+							if (thread % 2 == 0) {
+								doc.createSequence("contested", "1.0", "acgt", Sequence.IUPAC_DNA);
+							}
+							else {
+								doc.createModuleDefinition("contested", "1.0");
+							}
+							contestedAdds.incrementAndGet();
+						}
+						catch (IllegalArgumentException e) {
+							// Another thread added a top-level with the same identity first.
+						}
+					}
+					catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					}
+				}
+			};
+			threads[t].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertNull(failure.get());
+		assertEquals(1, contestedAdds.get());
+		assertEquals(threadCount * partCount + threadCount, doc.getComponentDefinitions().size());
+		assertEquals(threadCount * partCount + 1, doc.getSequences().size() + doc.getModuleDefinitions().size());
+		URI persistentId = URI.create(defaultURIprefix + "/" + compDef1displayId);
+		assertEquals(threadCount, doc.getTopLevelVersions(persistentId).size());
+		assertEquals(String.valueOf(threadCount), doc.getComponentDefinition(persistentId).getVersion());
+		for (int t = 0; t < threadCount; t++) {
+			URI sequence = URI.create(defaultURIprefix + "/seq_" + t + "_0/1.0");
+			assertEquals(1, doc.getReferrers(sequence).size());
+		}
+	}
+
+	@Test
+	public void testReferrers() {
+		SBOLDocument doc = new SBOLDocument();
+		doc.setDefaultURIprefix(defaultURIprefix);
+		doc.setComplete(true);
+		Sequence sequence = doc.createSequence("IPTG_seq", "1.0", "acgt", Sequence.IUPAC_DNA);
+		ComponentDefinition part = doc.createComponentDefinition("part", "1.0", types());
+		ComponentDefinition device = doc.createComponentDefinition(compDef1displayId, "1.0", types());
+		device.addSequence(sequence);
+		Component component = device.createComponent("part_component", AccessType.PUBLIC, part.getIdentity());
+		SequenceAnnotation annotation = device.createSequenceAnnotation("anno", "cut", 1);
+		annotation.setComponent(component.getIdentity());
+		Collection collection = doc.createCollection("parts", "1.0");
+		collection.addMember(part.getIdentity());
+
+		assertTrue(doc.getReferrers(sequence.getIdentity()).contains(device));
+		assertTrue(doc.getReferrers(part.getIdentity()).contains(component));
+		assertTrue(doc.getReferrers(part.getIdentity()).contains(collection));
+		assertTrue(doc.getReferrers(component.getIdentity()).contains(annotation));
+		try {
+			device.removeComponent(component);
+			fail("Removed a component in use by a sequence annotation");
+		}
+		catch (SBOLException e) {
+		}
+		try {
+			doc.removeSequence(sequence);
+			fail("Removed a sequence in use by a component definition");
+		}
+		catch (SBOLException e) {
+		}
+
+		annotation.unsetComponent();
+		assertTrue(device.removeComponent(component));
+		assertFalse(doc.getReferrers(part.getIdentity()).contains(component));
+		collection.removeMember(part.getIdentity());
+		assertTrue(doc.removeComponentDefinition(part));
+		assertTrue(doc.removeComponentDefinition(device));
+		assertTrue(doc.getReferrers(sequence.getIdentity()).isEmpty());
+		assertTrue(doc.removeSequence(sequence));
+	}
+
+	@Test
+	public void testSequenceURIsAreCopied() {
+		SBOLDocument doc = new SBOLDocument();
+		doc.setDefaultURIprefix(defaultURIprefix);
+		doc.setComplete(true);
+		Sequence sequence = doc.createSequence("IPTG_seq", "1.0", "acgt", Sequence.IUPAC_DNA);
+		ComponentDefinition device = doc.createComponentDefinition(compDef1displayId, "1.0", types());
+		device.getSequenceURIs().add(sequence.getIdentity());
+		assertTrue(device.getSequenceURIsView().isEmpty());
+		assertTrue(doc.getReferrers(sequence.getIdentity()).isEmpty());
+
+		device.addSequence(sequence);
+		device.getSequenceURIs().clear();
+		assertTrue(doc.getReferrers(sequence.getIdentity()).contains(device));
+		try {
+			doc.removeSequence(sequence);
+			fail("Removed a sequence in use by a component definition");
+		}
+		catch (SBOLException e) {
+		}
+	}
+
+	@Test
+	public void testViews() {
+		SBOLDocument doc = new SBOLDocument();
+		doc.setDefaultURIprefix(defaultURIprefix);
+		Set<ComponentDefinition> view = doc.getComponentDefinitionsView();
+		assertTrue(view.isEmpty());
+		ComponentDefinition v1 = doc.createComponentDefinition(compDef1displayId, "1.0", types());
+		ComponentDefinition v2 = doc.createComponentDefinition(compDef1displayId, "2.0", types());
+		assertEquals(2, view.size());
+		assertTrue(view.contains(v1));
+		assertTrue(view.contains(v2));
+		assertEquals(doc.getComponentDefinitions(), view);
+		try {
+			view.clear();
+			fail("Changed a read-only view");
+		}
+		catch (UnsupportedOperationException e) {
+		}
+		doc.removeComponentDefinition(v1);
+		assertEquals(1, view.size());
+		assertFalse(view.contains(v1));
+
+		Set<URI> types = v2.getTypesView();
+		v2.addType(ComponentDefinition.RNA);
+		assertTrue(types.contains(ComponentDefinition.RNA));
+		assertEquals(v2.getTypes(), types);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonCompliantIdentityInUseByOtherType() {
+		SBOLDocument doc = new SBOLDocument();
+		URI identity = URI.create("urn:example:IPTG");
+		doc.createComponentDefinition(identity, types());
+		doc.createSequence(identity, "acgt", Sequence.IUPAC_DNA);
+	}
+
 }
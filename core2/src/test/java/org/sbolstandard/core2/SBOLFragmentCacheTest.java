@@ -0,0 +1,83 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Writes each expected document twice through one {@link SBOLFragmentCache}, changing the name of one of
+ * its ComponentDefinitions in between, and checks that each write matches a write through an empty cache.
+ * Also checks that changing an object nested in a top-level, such as a Range or a MapsTo, causes the
+ * fragment of only that top-level to be formatted again.
+ */
+public class SBOLFragmentCacheTest extends SBOLAbstractTests {
+
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception {
+		Assume.assumeNotNull(expected);
+		SBOLFragmentCache cache = new SBOLFragmentCache();
+		byte[] first = writeRDF(expected, cache);
+		assertArrayEquals(writeRDF(expected, new SBOLFragmentCache()), first);
+		assertArrayEquals(first, writeRDF(expected, cache));
+		assertTrue(SBOLReader.readRDF(new ByteArrayInputStream(first)).equals(expected));
+
+		Assume.assumeFalse(expected.getComponentDefinitions().isEmpty());
+		expected.getComponentDefinitions().iterator().next().setName("changed");
+		byte[] second = writeRDF(expected, cache);
+		assertFalse(Arrays.equals(first, second));
+		assertArrayEquals(writeRDF(expected, new SBOLFragmentCache()), second);
+		assertTrue(SBOLReader.readRDF(new ByteArrayInputStream(second)).equals(expected));
+	}
+
+	@Test
+	public void testNestedChanges() throws Exception {
+		SBOLDocument doc = new SBOLDocument();
+		doc.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		ComponentDefinition part = doc.createComponentDefinition("part", "",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		SequenceAnnotation annotation = part.createSequenceAnnotation("anno", "range", 1, 12);
+		ModuleDefinition inner = doc.createModuleDefinition("inner", "");
+		inner.createFunctionalComponent("a", AccessType.PUBLIC, part.getIdentity(), DirectionType.IN);
+		FunctionalComponent b = inner.createFunctionalComponent("b", AccessType.PUBLIC, part.getIdentity(),
+				DirectionType.IN);
+		ModuleDefinition outer = doc.createModuleDefinition("outer", "");
+		outer.createFunctionalComponent("local", AccessType.PUBLIC, part.getIdentity(), DirectionType.NONE);
+		MapsTo mapsTo = outer.createModule("module", "inner", "").createMapsTo("mapsTo", RefinementType.USELOCAL,
+				"local", "a");
+
+		SBOLFragmentCache cache = new SBOLFragmentCache();
+		writeRDF(doc, cache);
+		assertNotNull(cache.get(SBOLWriter.Format.RDF, part));
+		assertNotNull(cache.get(SBOLWriter.Format.RDF, outer));
+
+		((Range) annotation.getLocation("range")).setStart(2);
+		assertNull(cache.get(SBOLWriter.Format.RDF, part));
+		assertNotNull(cache.get(SBOLWriter.Format.RDF, outer));
+		assertArrayEquals(writeRDF(doc, new SBOLFragmentCache()), writeRDF(doc, cache));
+		assertNotNull(cache.get(SBOLWriter.Format.RDF, part));
+
+		mapsTo.setRemote(b.getIdentity());
+		assertNull(cache.get(SBOLWriter.Format.RDF, outer));
+		assertNotNull(cache.get(SBOLWriter.Format.RDF, part));
+		assertNotNull(cache.get(SBOLWriter.Format.RDF, inner));
+		assertArrayEquals(writeRDF(doc, new SBOLFragmentCache()), writeRDF(doc, cache));
+	}
+
+	private static byte[] writeRDF(SBOLDocument doc, SBOLFragmentCache cache) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SBOLWriter.writeRDF(doc, out, cache);
+		return out.toByteArray();
+	}
+
+}
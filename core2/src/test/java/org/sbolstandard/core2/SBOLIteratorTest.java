@@ -0,0 +1,36 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+
+import org.junit.Assume;
+
+/**
+ * Writes each expected document out and reads it back one top-level at a time through
+ * {@link SBOLReader#iterate(java.io.InputStream)}, checking every top-level against the expected document.
+ */
+public class SBOLIteratorTest extends SBOLAbstractTests {
+
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception {
+		Assume.assumeNotNull(expected);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SBOLWriter.write(expected, out);
+
+		int count = 0;
+		Iterator<TopLevel> topLevels = SBOLReader.iterate(new ByteArrayInputStream(out.toByteArray()));
+		while (topLevels.hasNext()) {
+			TopLevel actual = topLevels.next();
+			assertTrue(actual.equals(expected.getTopLevel(actual.getIdentity())));
+			count++;
+		}
+		assertEquals(expected.getCollections().size() + expected.getComponentDefinitions().size()
+				+ expected.getGenericTopLevels().size() + expected.getModels().size()
+				+ expected.getModuleDefinitions().size() + expected.getSequences().size(), count);
+	}
+
+}
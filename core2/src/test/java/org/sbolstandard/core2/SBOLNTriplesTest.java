@@ -0,0 +1,203 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Test;
+
+import uk.ac.ncl.intbio.core.datatree.DocumentRoot;
+import uk.ac.ncl.intbio.core.datatree.Literal;
+import uk.ac.ncl.intbio.core.datatree.NamedProperty;
+import uk.ac.ncl.intbio.core.datatree.NestedDocument;
+import uk.ac.ncl.intbio.core.datatree.TopLevelDocument;
+
+/**
+ * Checks escapes, N-Quads graph labels, blank nodes and the nesting of subjects in N-Triples, also when
+ * the lines are shuffled.
+ * Whole documents are round-tripped by {@link SBOLRoundTripTest}.
+ */
+public class SBOLNTriplesTest {
+
+	private static final String TYPE = "<http://www.w3.org/1999/02/22-rdf-syntax-ns#type>";
+	private static final String TITLE = "<http://purl.org/dc/terms/title>";
+	private static final String GENERIC = "<http://www.myapp.org/terms#Datasheet>";
+	private static final String INFORMATION = "<http://www.myapp.org/terms#information>";
+	private static final String RATE = "<http://www.myapp.org/terms#rate>";
+
+	@Test
+	public void testLiteralEscapes() throws Exception {
+		SBOLDocument document = new SBOLDocument();
+		document.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		ComponentDefinition promoter = document.createComponentDefinition("promoter", "",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		promoter.setDescription("a \"quoted\" \\path\\\non two lines,\r\n\ttabbed, caf\u00e9 \ud83e\uddec");
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SBOLWriter.writeNTriples(document, out);
+		SBOLDocument read = SBOLReader.readNTriples(new ByteArrayInputStream(out.toByteArray()),
+				new SBOLReaderOptions());
+		assertEquals(promoter.getDescription(),
+				read.getComponentDefinition(promoter.getIdentity()).getDescription());
+	}
+
+	@Test
+	public void testReadEscapes() throws Exception {
+		List<TopLevelDocument<QName>> topLevels = read(
+				"<http://www.async.ece.utah.edu/gen\\u00E9ric> " + TYPE + " " + GENERIC + " .",
+				"<http://www.async.ece.utah.edu/gen\\u00E9ric> " + TITLE
+						+ " \"\\t\\b\\f\\'\\u00e9\\U0001F9EC\"@en .");
+		assertEquals(1, topLevels.size());
+		assertEquals(URI.create("http://www.async.ece.utah.edu/gen\u00e9ric"), topLevels.get(0).getIdentity());
+		assertEquals("\t\b\f'\u00e9\ud83e\uddec", value(topLevels.get(0).getProperties().get(0)));
+	}
+
+	@Test(expected = SBOLException.class)
+	public void testUnknownEscape() throws Exception {
+		read("<http://www.async.ece.utah.edu/generic> " + TYPE + " " + GENERIC + " .",
+				"<http://www.async.ece.utah.edu/generic> " + TITLE + " \"\\q\" .");
+	}
+
+	@Test
+	public void testNQuads() throws Exception {
+		List<TopLevelDocument<QName>> topLevels = read(
+				"<http://www.async.ece.utah.edu/generic> " + TYPE + " " + GENERIC + " <http://www.myapp.org/graph> .",
+				"<http://www.async.ece.utah.edu/generic> " + TITLE + " \"title\" _:graph .",
+				"<http://www.async.ece.utah.edu/generic> " + RATE
+						+ " \"1\"^^<http://www.w3.org/2001/XMLSchema#string> <http://www.myapp.org/graph> . # rate");
+		assertEquals(1, topLevels.size());
+		List<NamedProperty<QName>> properties = topLevels.get(0).getProperties();
+		assertEquals(2, properties.size());
+		assertEquals("title", value(properties.get(0)));
+		assertEquals("1", value(properties.get(1)));
+	}
+
+	@Test
+	public void testBlankNodes() throws Exception {
+		List<TopLevelDocument<QName>> topLevels = read(
+				"<http://www.async.ece.utah.edu/generic> " + TYPE + " " + GENERIC + " .",
+				"<http://www.async.ece.utah.edu/generic> " + INFORMATION + " _:info.",
+				"<http://www.async.ece.utah.edu/other> " + TYPE + " " + GENERIC + " .",
+				"",
+				"_:info " + RATE + " \"1\" .",
+				"_:info " + TYPE + " <http://www.myapp.org/terms#Information> .");
+		assertEquals(2, topLevels.size());
+		NestedDocument<QName> information = (NestedDocument<QName>) topLevels.get(0).getProperties().get(0).getValue();
+		assertNull(information.getIdentity());
+		assertEquals("Information", information.getType().getLocalPart());
+		assertEquals("1", value(information.getProperties().get(0)));
+	}
+
+	@Test
+	public void testAnnotationsReferringToTopLevels() throws Exception {
+		String myAppURI = "http://www.myapp.org/terms";
+		SBOLDocument document = new SBOLDocument();
+		document.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		document.setTypesInURIs(true);
+		document.addNamespace(URI.create(myAppURI), "myapp");
+
+		GenericTopLevel datasheet = document.createGenericTopLevel("datasheet1", "",
+				new QName(myAppURI, "Datasheet", "myapp"));
+		datasheet.createAnnotation(new QName(myAppURI, "transcriptionRate", "myapp"), "1");
+		ComponentDefinition device = document.createComponentDefinition("device", "",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		ComponentDefinition promoter = document.createComponentDefinition("promoter", "",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		Component component = device.createComponent("promoter", AccessType.PUBLIC, promoter.getIdentity());
+		promoter.createAnnotation(new QName(myAppURI, "datasheet", "myapp"), datasheet.getIdentity());
+		promoter.createAnnotation(new QName(myAppURI, "usedBy", "myapp"), component.getIdentity());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SBOLWriter.writeNTriples(document, out);
+		SBOLDocument read = SBOLReader.readNTriples(new ByteArrayInputStream(out.toByteArray()),
+				new SBOLReaderOptions());
+		assertEquals(1, read.getGenericTopLevels().size());
+		assertEquals(1, read.getComponentDefinition(device.getIdentity()).getComponents().size());
+		assertTrue(read.equals(document));
+	}
+
+	@Test
+	public void testShuffledLines() throws Exception {
+		String myAppURI = "http://www.myapp.org/terms";
+		SBOLDocument document = new SBOLDocument();
+		document.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		document.addNamespace(URI.create(myAppURI), "myapp");
+
+		GenericTopLevel datasheet = document.createGenericTopLevel("datasheet", "",
+				new QName(myAppURI, "Datasheet", "myapp"));
+		Sequence sequence = document.createSequence("seq", "", "atgcatgcatgc", Sequence.IUPAC_DNA);
+		ComponentDefinition part = document.createComponentDefinition("part", "",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		part.addSequence(sequence);
+		part.createAnnotation(new QName(myAppURI, "datasheet", "myapp"), datasheet.getIdentity());
+		ComponentDefinition device = document.createComponentDefinition("device", "",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		device.createComponent("first", AccessType.PUBLIC, part.getIdentity());
+		device.createComponent("second", AccessType.PUBLIC, part.getIdentity());
+		SequenceAnnotation annotation = device.createSequenceAnnotation("anno", "range", 1, 12);
+		annotation.setComponent("first");
+		device.createSequenceConstraint("constraint", RestrictionType.PRECEDES, "first", "second");
+		device.createAnnotation(new QName(myAppURI, "information", "myapp"),
+				new QName(myAppURI, "Information", "myapp"),
+				URI.create("http://www.async.ece.utah.edu/information"),
+				new ArrayList<Annotation>(Arrays.asList(
+						new Annotation(new QName(myAppURI, "rate", "myapp"), "1"),
+						new Annotation(new QName(myAppURI, "unit", "myapp"), "PoPS"))));
+
+		ModuleDefinition inner = document.createModuleDefinition("inner", "");
+		inner.createFunctionalComponent("part", AccessType.PUBLIC, part.getIdentity(), DirectionType.IN);
+		ModuleDefinition outer = document.createModuleDefinition("outer", "");
+		outer.createFunctionalComponent("part", AccessType.PUBLIC, part.getIdentity(), DirectionType.NONE);
+		Module module = outer.createModule("module", "inner", "");
+		module.createMapsTo("mapsTo", RefinementType.USELOCAL, "part", "part");
+		Interaction interaction = outer.createInteraction("interaction",
+				new HashSet<URI>(Arrays.asList(URI.create("http://identifiers.org/biomodels.sbo/SBO:0000169"))));
+		interaction.createParticipation("participation", "part");
+		Model model = document.createModel("model", "", URI.create("http://www.async.ece.utah.edu/model.xml"),
+				Model.SBML, URI.create("http://identifiers.org/biomodels.sbo/SBO:0000062"));
+		outer.addModel(model);
+		Collection collection = document.createCollection("collection", "");
+		collection.addMember(device.getIdentity());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SBOLWriter.writeNTriples(document, out);
+		List<String> lines = Arrays.asList(new String(out.toByteArray(), "UTF-8").split("\n"));
+		Collections.shuffle(lines, new Random(42));
+		StringBuilder shuffled = new StringBuilder();
+		for (String line : lines) {
+			shuffled.append(line).append('\n');
+		}
+		SBOLDocument read = SBOLReader.readNTriples(new ByteArrayInputStream(shuffled.toString().getBytes("UTF-8")),
+				new SBOLReaderOptions());
+		assertEquals(1, read.getGenericTopLevels().size());
+		assertTrue(read.equals(document));
+	}
+
+	private static List<TopLevelDocument<QName>> read(String... lines) throws Exception {
+		StringBuilder input = new StringBuilder();
+		for (String line : lines) {
+			input.append(line).append('\n');
+		}
+		DocumentRoot<QName> root = NTriplesReader.read(new BufferedReader(new StringReader(input.toString())), null);
+		return root.getTopLevelDocuments();
+	}
+
+	private static Object value(NamedProperty<QName> property) {
+		return ((Literal<QName>) property.getValue()).getValue();
+	}
+
+}
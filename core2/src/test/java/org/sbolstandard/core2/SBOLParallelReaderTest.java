@@ -0,0 +1,22 @@
+package org.sbolstandard.core2;
+
+/**
+ * Runs the {@link SBOLReaderTest} cases with top-level objects converted in parallel.
+ */
+public class SBOLParallelReaderTest extends SBOLReaderTest
+{
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception
+	{
+		SBOLReader.setParallel(true);
+		try
+		{
+			super.runTest(fileName, expected, fileType);
+		}
+		finally
+		{
+			SBOLReader.setParallel(false);
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+/**
+ * Checks that formatting top-level objects in parallel gives the same output as formatting them in turn,
+ * for documents small enough to be formatted in one batch and large enough to be split across tasks.
+ */
+public class SBOLParallelWriterTest {
+
+	@Test
+	public void testSingleTopLevel() throws Exception {
+		assertSameOutput(createDocument(1));
+	}
+
+	@Test
+	public void testManyTopLevels() throws Exception {
+		assertSameOutput(createDocument(500));
+	}
+
+	private static SBOLDocument createDocument(int designs) {
+		SBOLDocument document = new SBOLDocument();
+		document.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		for (int i = 0; i < designs; i++) {
+			Sequence sequence = document.createSequence("seq_" + i, "1.0", "atgcatgcatgc", Sequence.IUPAC_DNA);
+			ComponentDefinition part = document.createComponentDefinition("part_" + i, "1.0",
+					new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+			part.addSequence(sequence);
+		}
+		return document;
+	}
+
+	private static void assertSameOutput(SBOLDocument document) throws Exception {
+		ByteArrayOutputStream rdf = new ByteArrayOutputStream();
+		ByteArrayOutputStream json = new ByteArrayOutputStream();
+		ByteArrayOutputStream ntriples = new ByteArrayOutputStream();
+		SBOLWriter.writeRDF(document, rdf);
+		SBOLWriter.writeJSON(document, json);
+		SBOLWriter.writeNTriples(document, ntriples);
+
+		ByteArrayOutputStream parallelRDF = new ByteArrayOutputStream();
+		ByteArrayOutputStream parallelJSON = new ByteArrayOutputStream();
+		ByteArrayOutputStream parallelNTriples = new ByteArrayOutputStream();
+		SBOLWriter.setParallel(true);
+		try {
+			SBOLWriter.writeRDF(document, parallelRDF);
+			SBOLWriter.writeJSON(document, parallelJSON);
+			SBOLWriter.writeNTriples(document, parallelNTriples);
+		}
+		finally {
+			SBOLWriter.setParallel(false);
+		}
+
+		assertArrayEquals(rdf.toByteArray(), parallelRDF.toByteArray());
+		assertArrayEquals(json.toByteArray(), parallelJSON.toByteArray());
+		assertArrayEquals(ntriples.toByteArray(), parallelNTriples.toByteArray());
+	}
+
+}
@@ -0,0 +1,107 @@
+package org.sbolstandard.core2;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Compares the time taken to read the large {@code labhost_*.rdf} files through a buffered
+ * FileInputStream and through a memory-mapped file, and to read the same documents in the binary format.
+ * Then compares the time taken and the bytes allocated to read each {@code .rdf} file through the
+ * {@code DocumentRoot} tree and straight from the XML stream ({@link SBOLReaderOptions#withDirectRDF(boolean)}),
+ * along with the totals for all files.
+ * <p>
+ * Run with the path of the {@code test/data} directory as the only argument.
+ */
+public class SBOLReaderBenchmark {
+
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int ROUNDS = 10;
+	private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	public static void main(String[] args) throws Throwable {
+		File directory = new File(args.length > 0 ? args[0] : "src/test/resources/test/data");
+		SBOLReaderOptions buffered = new SBOLReaderOptions().withMemoryMapped(false);
+		SBOLReaderOptions mapped = new SBOLReaderOptions().withMemoryMapped(true);
+
+		for (File file : directory.listFiles()) {
+			if (!file.getName().startsWith("labhost_") || !file.getName().endsWith(".rdf"))
+				continue;
+			for (int i = 0; i < WARMUP_ROUNDS; i++) {
+				SBOLReader.readRDF(file, buffered);
+				SBOLReader.readRDF(file, mapped);
+			}
+			long bufferedNanos = time(file, buffered);
+			long mappedNanos = time(file, mapped);
+
+			File binary = File.createTempFile("benchmark", ".sbolb");
+			try {
+				SBOLWriter.writeBinary(SBOLReader.readRDF(file, buffered), binary);
+				for (int i = 0; i < WARMUP_ROUNDS; i++) {
+					SBOLReader.readBinary(binary, buffered);
+				}
+				long start = System.nanoTime();
+				for (int i = 0; i < ROUNDS; i++) {
+					SBOLReader.readBinary(binary, buffered);
+				}
+				long binaryNanos = System.nanoTime() - start;
+				System.out.printf("%-45s %9d bytes  buffered %8.2f ms  mapped %8.2f ms  binary (%d bytes) %8.2f ms%n",
+						file.getName(), file.length(), bufferedNanos / 1e6 / ROUNDS, mappedNanos / 1e6 / ROUNDS,
+						binary.length(), binaryNanos / 1e6 / ROUNDS);
+			}
+			finally {
+				binary.delete();
+			}
+		}
+
+		SBOLReaderOptions tree = buffered.withDirectRDF(false);
+		SBOLReaderOptions direct = buffered.withDirectRDF(true);
+		long treeNanos = 0;
+		long treeBytes = 0;
+		long directNanos = 0;
+		long directBytes = 0;
+		System.out.println();
+		for (File file : directory.listFiles()) {
+			if (!file.isFile() || !file.getName().endsWith(".rdf"))
+				continue;
+			for (int i = 0; i < WARMUP_ROUNDS; i++) {
+				SBOLReader.readRDF(file, tree);
+				SBOLReader.readRDF(file, direct);
+			}
+			long bytes = allocatedBytes();
+			long fileTreeNanos = time(file, tree);
+			long fileTreeBytes = allocatedBytes() - bytes;
+			bytes = allocatedBytes();
+			long fileDirectNanos = time(file, direct);
+			long fileDirectBytes = allocatedBytes() - bytes;
+			System.out.printf("%-45s tree %8.2f ms %11d bytes  direct %8.2f ms %11d bytes%n", file.getName(),
+					fileTreeNanos / 1e6 / ROUNDS, fileTreeBytes / ROUNDS,
+					fileDirectNanos / 1e6 / ROUNDS, fileDirectBytes / ROUNDS);
+			treeNanos += fileTreeNanos;
+			treeBytes += fileTreeBytes;
+			directNanos += fileDirectNanos;
+			directBytes += fileDirectBytes;
+		}
+		System.out.printf("%-45s tree %8.2f ms %11d bytes  direct %8.2f ms %11d bytes%n", "total",
+				treeNanos / 1e6 / ROUNDS, treeBytes / ROUNDS, directNanos / 1e6 / ROUNDS, directBytes / ROUNDS);
+		System.out.printf("direct reading: %.2fx throughput, %.2fx allocation%n",
+				(double) treeNanos / directNanos, (double) directBytes / treeBytes);
+	}
+
+	/**
+	 * @return the number of bytes allocated by the current thread so far
+	 */
+	private static long allocatedBytes() {
+		return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static long time(File file, SBOLReaderOptions options) throws Throwable {
+		long start = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			SBOLReader.readRDF(file, options);
+		}
+		return System.nanoTime() - start;
+	}
+
+}
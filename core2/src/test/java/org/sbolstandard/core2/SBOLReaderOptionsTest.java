@@ -0,0 +1,42 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+
+/**
+ * Runs the {@link SBOLReaderTest} cases through the read methods that take an {@link SBOLReaderOptions} argument,
+ * checking that the default options of {@link SBOLReader} are neither used nor changed.
+ */
+public class SBOLReaderOptionsTest extends SBOLAbstractTests
+{
+	private static final SBOLReaderOptions OPTIONS = new SBOLReaderOptions()
+			.withURIPrefix("http://www.async.ece.utah.edu")
+			.withParallel(true);
+
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception
+	{
+		InputStream resourceAsStream = SBOLReaderOptionsTest.class.getResourceAsStream(fileName);
+		if (resourceAsStream == null)
+			resourceAsStream = SBOLReaderOptionsTest.class.getResourceAsStream("/" + fileName);
+
+		assert resourceAsStream != null : "Failed to find test resource '" + fileName + "'";
+
+		SBOLReaderOptions defaults = SBOLReader.getDefaultOptions();
+		SBOLDocument actual;
+		if(fileType.equals("rdf"))
+			actual = SBOLReader.readRDF(resourceAsStream, OPTIONS);
+		else if (fileType.equals("json"))
+			actual = SBOLReader.readJSON(resourceAsStream, OPTIONS);
+		else if (fileType.equals("turtle"))
+			actual = SBOLReader.readTurtle(resourceAsStream, OPTIONS);
+		else
+			actual = SBOLReader.read(resourceAsStream, OPTIONS);
+
+		assertTrue(actual.equals(expected));
+		assertSame(defaults, SBOLReader.getDefaultOptions());
+	}
+
+}
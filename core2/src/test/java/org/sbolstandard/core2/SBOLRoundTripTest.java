@@ -0,0 +1,44 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Assume;
+
+/**
+ * Writes each expected document out in the formats other than RDF/XML and reads it back, both sequentially
+ * and with top-level objects converted in parallel. The edge cases of each format are covered by its own
+ * test class, such as {@link SBOLBinaryTest} and {@link SBOLNTriplesTest}.
+ */
+public class SBOLRoundTripTest extends SBOLAbstractTests {
+
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception {
+		Assume.assumeNotNull(expected);
+		SBOLReaderOptions options = new SBOLReaderOptions();
+
+		ByteArrayOutputStream json = new ByteArrayOutputStream();
+		SBOLWriter.writeJSON(expected, json);
+		assertTrue(SBOLReader.readJSON(new ByteArrayInputStream(json.toByteArray()), options).equals(expected));
+		assertTrue(SBOLReader.readJSON(new ByteArrayInputStream(json.toByteArray()), options.withParallel(true))
+				.equals(expected));
+
+		ByteArrayOutputStream binary = new ByteArrayOutputStream();
+		SBOLWriter.writeBinary(expected, binary);
+		assertTrue(SBOLReader.readBinary(new ByteArrayInputStream(binary.toByteArray()), options).equals(expected));
+		assertTrue(SBOLReader.readBinary(new ByteArrayInputStream(binary.toByteArray()), options.withParallel(true))
+				.equals(expected));
+		ByteArrayOutputStream rdf = new ByteArrayOutputStream();
+		SBOLWriter.writeRDF(expected, rdf);
+		assertTrue(binary.size() < rdf.size());
+
+		ByteArrayOutputStream ntriples = new ByteArrayOutputStream();
+		SBOLWriter.writeNTriples(expected, ntriples);
+		assertTrue(SBOLReader.readNTriples(new ByteArrayInputStream(ntriples.toByteArray()), options).equals(expected));
+		assertTrue(SBOLReader.readNTriples(new ByteArrayInputStream(ntriples.toByteArray()), options.withParallel(true))
+				.equals(expected));
+	}
+
+}
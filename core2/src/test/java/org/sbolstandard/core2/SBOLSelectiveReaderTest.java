@@ -0,0 +1,52 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Assume;
+
+/**
+ * Writes each expected document out and reads back only its ComponentDefinitions and ModuleDefinitions,
+ * through both the tree-based and the direct RDF reader, and reads back its Sequences without their elements.
+ */
+public class SBOLSelectiveReaderTest extends SBOLAbstractTests {
+
+	private static final SBOLReaderOptions OPTIONS = new SBOLReaderOptions()
+			.withTopLevelTypes(new HashSet<QName>(Arrays.asList(
+					Sbol2Terms.ComponentDefinition.ComponentDefinition,
+					Sbol2Terms.ModuleDefinition.ModuleDefinition)))
+			.withSkipSequenceElements(true);
+
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception {
+		Assume.assumeNotNull(expected);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SBOLWriter.write(expected, out);
+
+		for (SBOLReaderOptions options : Arrays.asList(OPTIONS, OPTIONS.withDirectRDF(true))) {
+			SBOLDocument actual = SBOLReader.readRDF(new ByteArrayInputStream(out.toByteArray()), options);
+			assertTrue(actual.getCollections().isEmpty());
+			assertTrue(actual.getModels().isEmpty());
+			assertTrue(actual.getSequences().isEmpty());
+			assertTrue(actual.getGenericTopLevels().isEmpty());
+			assertEquals(expected.getComponentDefinitions(), actual.getComponentDefinitions());
+			assertEquals(expected.getModuleDefinitions(), actual.getModuleDefinitions());
+		}
+
+		SBOLDocument actual = SBOLReader.readRDF(new ByteArrayInputStream(out.toByteArray()),
+				new SBOLReaderOptions().withSkipSequenceElements(true).withDirectRDF(true));
+		assertEquals(expected.getSequences().size(), actual.getSequences().size());
+		for (Sequence sequence : actual.getSequences()) {
+			assertEquals("", sequence.getElements());
+			assertEquals(expected.getSequence(sequence.getIdentity()).getEncoding(), sequence.getEncoding());
+		}
+	}
+
+}
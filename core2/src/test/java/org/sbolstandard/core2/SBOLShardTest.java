@@ -0,0 +1,110 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Splits each expected document into one shard per ComponentDefinition or other top-level object, in every
+ * format, and checks that all shards together read back as the document and that each shard on its own
+ * holds the Sequences that only its ComponentDefinitions refer to. Also checks that writing fewer shards
+ * over an earlier write deletes the shards left over from it.
+ */
+public class SBOLShardTest extends SBOLAbstractTests {
+
+	@Override
+	public void runTest(final String fileName, final SBOLDocument expected, String fileType) throws Exception {
+		Assume.assumeNotNull(expected);
+		File directory = File.createTempFile("sbol", "shards");
+		directory.delete();
+		directory.mkdir();
+		try {
+			SBOLShardOptions options = new SBOLShardOptions().withMaxSize(1).withGrouping(SBOLShardOptions.Grouping.TYPE);
+			checkShards(expected, SBOLWriter.writeRDFShards(expected, new File(directory, "rdf.manifest"), options),
+					new File(directory, "rdf.manifest"));
+			checkShards(expected, SBOLWriter.writeJSONShards(expected, new File(directory, "json.manifest"), options),
+					new File(directory, "json.manifest"));
+			checkShards(expected, SBOLWriter.writeNTriplesShards(expected, new File(directory, "nt.manifest"), options),
+					new File(directory, "nt.manifest"));
+		}
+		finally {
+			for (File file : directory.listFiles()) {
+				file.delete();
+			}
+			directory.delete();
+		}
+	}
+
+	@Test
+	public void testStaleShards() throws Exception {
+		SBOLDocument expected = new SBOLDocument();
+		expected.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		for (int i = 0; i < 3; i++) {
+			Sequence sequence = expected.createSequence("seq_" + i, "1.0", "atgcatgcatgc", Sequence.IUPAC_DNA);
+			ComponentDefinition part = expected.createComponentDefinition("part_" + i, "1.0",
+					new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+			part.addSequence(sequence);
+		}
+		File directory = File.createTempFile("sbol", "shards");
+		directory.delete();
+		directory.mkdir();
+		try {
+			File manifestFile = new File(directory, "nt.manifest");
+			assertEquals(3, SBOLWriter.writeNTriplesShards(expected, manifestFile,
+					new SBOLShardOptions().withMaxSize(1)).getShards().size());
+			assertTrue(new File(directory, "nt-2.nt").exists());
+			assertEquals(1, SBOLWriter.writeNTriplesShards(expected, manifestFile,
+					new SBOLShardOptions()).getShards().size());
+			assertFalse(new File(directory, "nt-1.nt").exists());
+			assertFalse(new File(directory, "nt-2.nt").exists());
+			assertTrue(SBOLReader.readShards(manifestFile).equals(expected));
+		}
+		finally {
+			for (File file : directory.listFiles()) {
+				file.delete();
+			}
+			directory.delete();
+		}
+	}
+
+	private static void checkShards(SBOLDocument expected, SBOLShardManifest written, File manifestFile)
+			throws Exception {
+		SBOLShardManifest manifest = SBOLShardManifest.read(manifestFile);
+		assertEquals(written.getShards().size(), manifest.getShards().size());
+		assertTrue(SBOLReader.readShards(manifestFile).equals(expected));
+
+		SBOLReaderOptions options = new SBOLReaderOptions().withValidate(false);
+		for (SBOLShardManifest.Shard shard : manifest.getShards()) {
+			SBOLDocument doc = SBOLReader.readShards(manifest, Collections.singletonList(shard), options);
+			for (ComponentDefinition componentDefinition : doc.getComponentDefinitions()) {
+				assertEquals("ComponentDefinition", shard.getGroup());
+				for (URI sequenceURI : componentDefinition.getSequenceURIs()) {
+					if (expected.getSequence(sequenceURI) != null && countReferences(expected, sequenceURI) == 1) {
+						assertNotNull(doc.getSequence(sequenceURI));
+					}
+				}
+			}
+		}
+	}
+
+	private static int countReferences(SBOLDocument doc, URI sequenceURI) {
+		int count = 0;
+		for (ComponentDefinition componentDefinition : doc.getComponentDefinitions()) {
+			if (componentDefinition.getSequenceURIs().contains(sequenceURI)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+}
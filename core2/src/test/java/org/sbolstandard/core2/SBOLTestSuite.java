@@ -14,7 +14,22 @@ import org.junit.runners.Suite.SuiteClasses;
 		{
 			//			SBOLGenerateFile.class,
 			SBOLReaderTest.class,
-			SBOLWriterTest.class
+			SBOLWriterTest.class,
+			SBOLIteratorTest.class,
+			SBOLParallelReaderTest.class,
+			SBOLDirectReaderTest.class,
+			SBOLReaderOptionsTest.class,
+			SBOLSelectiveReaderTest.class,
+			SBOLAsyncReaderTest.class,
+			SBOLParallelWriterTest.class,
+			SBOLNTriplesTest.class,
+			SBOLBinaryTest.class,
+			SBOLRoundTripTest.class,
+			SBOLFragmentCacheTest.class,
+			SBOLChannelWriterTest.class,
+			SBOLCompressionTest.class,
+			SBOLShardTest.class,
+			SBOLWriterOptionsTest.class
 			//			SBOLValidatorTest.class,
 			//			SBOLDuplicateObjectTest.class
 		}
@@ -0,0 +1,73 @@
+package org.sbolstandard.core2;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.channels.FileChannel;
+
+/**
+ * Compares the time taken to write the documents of the large {@code labhost_*.rdf} files in RDF format
+ * through {@link SBOLWriter#writeRDF(SBOLDocument, File)}, through a FileChannel, and without indentation
+ * or unused namespaces through {@link SBOLWriter#writeRDF(SBOLDocument, File, SBOLWriterOptions)}, along
+ * with the sizes of the indented and compact output.
+ * <p>
+ * Run with the path of the {@code test/data} directory as the only argument.
+ */
+public class SBOLWriterBenchmark {
+
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int ROUNDS = 10;
+	private static final SBOLWriterOptions COMPACT = new SBOLWriterOptions()
+			.withPretty(false)
+			.withMinimalNamespaces(true);
+
+	public static void main(String[] args) throws Throwable {
+		File directory = new File(args.length > 0 ? args[0] : "src/test/resources/test/data");
+		File output = File.createTempFile("benchmark", ".rdf");
+		try {
+			for (File file : directory.listFiles()) {
+				if (!file.getName().startsWith("labhost_") || !file.getName().endsWith(".rdf"))
+					continue;
+				SBOLDocument doc = SBOLReader.readRDF(file);
+				for (int i = 0; i < WARMUP_ROUNDS; i++) {
+					SBOLWriter.writeRDF(doc, output);
+					writeToChannel(doc, output);
+					SBOLWriter.writeRDF(doc, output, COMPACT);
+				}
+				long start = System.nanoTime();
+				for (int i = 0; i < ROUNDS; i++) {
+					SBOLWriter.writeRDF(doc, output);
+				}
+				long streamNanos = System.nanoTime() - start;
+				long prettySize = output.length();
+				start = System.nanoTime();
+				for (int i = 0; i < ROUNDS; i++) {
+					writeToChannel(doc, output);
+				}
+				long channelNanos = System.nanoTime() - start;
+				start = System.nanoTime();
+				for (int i = 0; i < ROUNDS; i++) {
+					SBOLWriter.writeRDF(doc, output, COMPACT);
+				}
+				long compactNanos = System.nanoTime() - start;
+				System.out.printf("%-45s %9d bytes  stream %8.2f ms  channel %8.2f ms  compact %9d bytes %8.2f ms%n",
+						file.getName(), prettySize, streamNanos / 1e6 / ROUNDS, channelNanos / 1e6 / ROUNDS,
+						output.length(), compactNanos / 1e6 / ROUNDS);
+			}
+		}
+		finally {
+			output.delete();
+		}
+	}
+
+	private static void writeToChannel(SBOLDocument doc, File output) throws Throwable {
+		FileOutputStream stream = new FileOutputStream(output);
+		try {
+			FileChannel channel = stream.getChannel();
+			SBOLWriter.writeRDF(doc, channel);
+		}
+		finally {
+			stream.close();
+		}
+	}
+
+}
@@ -0,0 +1,112 @@
+package org.sbolstandard.core2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Test;
+
+/**
+ * Writes a document through the write methods that take an {@link SBOLWriterOptions} argument, compact,
+ * with minimal namespaces and in UTF-16, checking that it reads back, that compact output is smaller than
+ * indented output, that minimal namespaces keep exactly those the document uses, and that the default
+ * options of {@link SBOLWriter} are neither used nor changed.
+ */
+public class SBOLWriterOptionsTest
+{
+	private static final SBOLWriterOptions COMPACT = new SBOLWriterOptions()
+			.withPretty(false)
+			.withMinimalNamespaces(true);
+
+	private static final String MY_APP = "http://www.myapp.org/terms#";
+	private static final String DATASHEETS = "http://www.datasheets.org/";
+	private static final String UNUSED = "http://www.unused.org/";
+
+	@Test
+	public void testCompact() throws Exception
+	{
+		SBOLDocument expected = createDocument();
+		SBOLWriterOptions defaults = SBOLWriter.getDefaultOptions();
+
+		ByteArrayOutputStream pretty = new ByteArrayOutputStream();
+		SBOLWriter.writeRDF(expected, pretty);
+		ByteArrayOutputStream compact = new ByteArrayOutputStream();
+		SBOLWriter.writeRDF(expected, compact, COMPACT);
+		assertTrue(SBOLReader.readRDF(new ByteArrayInputStream(compact.toByteArray())).equals(expected));
+		assertTrue(compact.size() < pretty.size());
+
+		ByteArrayOutputStream json = new ByteArrayOutputStream();
+		SBOLWriter.writeJSON(expected, json, COMPACT.withParallel(true));
+		assertTrue(SBOLReader.readJSON(new ByteArrayInputStream(json.toByteArray())).equals(expected));
+
+		ByteArrayOutputStream utf16 = new ByteArrayOutputStream();
+		SBOLWriter.writeRDF(expected, utf16, new SBOLWriterOptions().withCharset(Charset.forName("UTF-16")));
+		assertTrue(SBOLReader.readRDF(new ByteArrayInputStream(utf16.toByteArray())).equals(expected));
+
+		assertSame(defaults, SBOLWriter.getDefaultOptions());
+	}
+
+	@Test
+	public void testMinimalNamespaces() throws Exception
+	{
+		SBOLDocument document = createDocument();
+		assertEquals(new HashSet<String>(Arrays.asList("sbol", "dcterms", "prov", "rdf", "myapp", "datasheets", "unused")),
+				getDeclaredPrefixes(document, new SBOLWriterOptions()));
+		assertEquals(new HashSet<String>(Arrays.asList("sbol", "dcterms", "prov", "rdf", "myapp", "datasheets")),
+				getDeclaredPrefixes(document, COMPACT));
+	}
+
+	/**
+	 * Returns the prefixes declared ahead of the first statement of the N-Triples output, which are those
+	 * chosen by the given options.
+	 */
+	private static Set<String> getDeclaredPrefixes(SBOLDocument document, SBOLWriterOptions options) throws Exception
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		SBOLWriter.writeNTriples(document, out, options);
+		Set<String> prefixes = new HashSet<>();
+		for (String line : new String(out.toByteArray(), "UTF-8").split("\n"))
+		{
+			if (!line.startsWith("# @prefix "))
+				break;
+			prefixes.add(line.substring("# @prefix ".length(), line.indexOf(':')));
+		}
+		return prefixes;
+	}
+
+	/**
+	 * Creates a document whose annotations, on a top-level and on a child, and GenericTopLevel type use
+	 * namespaces other than those of SBOL, and which declares one namespace that nothing uses.
+	 */
+	private static SBOLDocument createDocument()
+	{
+		SBOLDocument document = new SBOLDocument();
+		document.setDefaultURIprefix("http://www.async.ece.utah.edu");
+		document.addNamespace(URI.create(MY_APP), "myapp");
+		document.addNamespace(URI.create(DATASHEETS), "datasheets");
+		document.addNamespace(URI.create(UNUSED), "unused");
+
+		document.createGenericTopLevel("datasheet", "", new QName(DATASHEETS, "Datasheet", "datasheets"));
+		ComponentDefinition device = document.createComponentDefinition("device", "",
+				new HashSet<URI>(Arrays.asList(ComponentDefinition.DNA)));
+		device.setDescription("A device");
+		SequenceAnnotation annotation = device.createSequenceAnnotation("anno", "range", 1, 12);
+		annotation.createAnnotation(new QName(MY_APP, "information", "myapp"),
+				new QName(MY_APP, "Information", "myapp"),
+				URI.create("http://www.async.ece.utah.edu/information"),
+				new ArrayList<Annotation>(Arrays.asList(new Annotation(new QName(MY_APP, "rate", "myapp"), "1"))));
+		return document;
+	}
+
+}